@@ -19,16 +19,26 @@
 
 package fr.nicolasgille.medialibrary;
 
+import fr.nicolasgille.medialibrary.utils.SmileHttpMessageConverter;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.builder.SpringApplicationBuilder;
 import org.springframework.boot.web.support.SpringBootServletInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurerAdapter;
+
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * Main controller of the MediaLibrary app.
  *
  * @author Nicolas GILLE
- * @version 1.1
+ * @version 1.4
  * @since IMedia-Library 1.0
  */
 @SpringBootApplication
@@ -49,6 +59,52 @@ public class MediaLibraryConfiguration extends SpringBootServletInitializer {
         return builder.sources(MediaLibraryConfiguration.class);
     }
 
+    /**
+     * Executor used by the home page to request all media types in parallel.
+     * <p>
+     * When all threads are busy and the queue is full, the request thread run the query itself,
+     * so the home page is slower but never fail because of the executor.
+     *
+     * @return An executor dedicated to the home page.
+     *
+     * @version 1.0
+     * @since 1.2
+     */
+    @Bean
+    public ThreadPoolTaskExecutor homePageExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(64);
+        executor.setThreadNamePrefix("home-page-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /**
+     * Configuration of Spring MVC who add the converter of Smile after the converters of Spring.
+     * <p>
+     * The converter of JSON stay the first one, so JSON is still returned to the clients who accept all types.
+     *
+     * The builder is looked up only by Spring MVC, the contexts without web layer don't configure Jackson.
+     *
+     * @param builder Builder of the ObjectMapper of JSON configured by Spring Boot.
+     *
+     * @return A configuration who add the converter of Smile.
+     *
+     * @version 1.1
+     * @since 1.3
+     */
+    @Bean
+    public WebMvcConfigurerAdapter smileConfigurer(ObjectProvider<Jackson2ObjectMapperBuilder> builder) {
+        return new WebMvcConfigurerAdapter() {
+            @Override
+            public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                converters.add(new SmileHttpMessageConverter(builder.getObject()));
+            }
+        };
+    }
+
     /**
      * Main of the application used to start app.
      *
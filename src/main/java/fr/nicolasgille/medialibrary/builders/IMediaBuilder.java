@@ -20,6 +20,7 @@ package fr.nicolasgille.medialibrary.builders;
 
 import fr.nicolasgille.medialibrary.models.IMedia;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -28,9 +29,11 @@ import java.util.List;
  * It can be build a media thanks to a <code>List</code> of String who represent all information needed to build the
  * media.
  * It can be extends in a future with new other entry type like Map or another object.
+ * <p>
+ * A media can be build from the fields of a parser too, as CharSequence views who are valid only during the build.
  *
  * @author Nicolas GILLE
- * @version 1.0
+ * @version 1.1
  * @since Media-Library 0.5
  */
 public interface IMediaBuilder {
@@ -46,4 +49,25 @@ public interface IMediaBuilder {
      * @since 1.0
      */
     public IMedia build(List<String> data);
+
+    /**
+     * Create a specific media from the fields of a record, who can be views on the buffer of a parser.
+     * <p>
+     * The fields are valid only during the call, so the builder must copy the values he keeps.
+     * By default, the fields are copied on Strings and the media is build by <code>build(List)</code>.
+     *
+     * @param fields Fields of the record, valid only during the call.
+     *
+     * @return The media entirely build.
+     *
+     * @version 1.0
+     * @since 1.1
+     */
+    default IMedia buildFields(List<? extends CharSequence> fields) {
+        List<String> data = new ArrayList<>(fields.size());
+        for (CharSequence field : fields) {
+            data.add(field.toString());
+        }
+        return this.build(data);
+    }
 }
@@ -22,6 +22,7 @@ import com.neovisionaries.i18n.LanguageCode;
 import fr.nicolasgille.medialibrary.models.common.company.Developer;
 import fr.nicolasgille.medialibrary.models.common.company.LabelRecords;
 import fr.nicolasgille.medialibrary.models.common.company.Publisher;
+import fr.nicolasgille.medialibrary.models.IMedia;
 import fr.nicolasgille.medialibrary.models.common.person.*;
 import fr.nicolasgille.medialibrary.models.components.BookFormat;
 import fr.nicolasgille.medialibrary.models.components.MediaSupport;
@@ -30,23 +31,135 @@ import fr.nicolasgille.medialibrary.models.components.genre.BookGenre;
 import fr.nicolasgille.medialibrary.models.components.genre.MusicGenre;
 import fr.nicolasgille.medialibrary.models.components.genre.VideoGameGenre;
 import fr.nicolasgille.medialibrary.models.components.genre.VideoGenre;
+import fr.nicolasgille.medialibrary.utils.EnumLookup;
 
-import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 
 /**
  * Abstract class where all methods to build set of Company or Person are implement.
+ * <p>
+ * The media are built from the fields of a record, who can be Strings or views on the buffer of a parser.
+ * The values of the enumerations are found on lookups computed once, and the lists of values are split and trimmed
+ * on their characters, without create a String for each value.
+ * <p>
+ * The persons and companies are interned on a PersonTable, so a builder return the same object for the same
+ * person on all media he build : a builder must be used for a single import, by a single thread.
  *
  * @author Nicolas GILLE
- * @version 1.1
+ * @version 1.5
  * @since Media-Library 0.5
  */
 public abstract class MediaBuilder implements IMediaBuilder {
 
     private final static String MISSING_ARGUMENTS = "MISSING_ARGUMENTS";
 
+    /**
+     * Format of the dates of the files, like <code>19/05/1999</code>.
+     * <p>
+     * A formatter is immutable and thread-safe, so a single instance is shared instead of a SimpleDateFormat by date.
+     * The day, the month and the year can be written with less digits, as accepted by the SimpleDateFormat used before.
+     *
+     * @since 1.4
+     */
+    private final static DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("d/M/y");
+
+    /**
+     * Genres of the videos by name.
+     *
+     * @since 1.2
+     */
+    private final static EnumLookup<VideoGenre> VIDEO_GENRES = new EnumLookup<>(VideoGenre.class, VideoGenre::getName);
+
+    /**
+     * Genres of the music albums by name.
+     *
+     * @since 1.2
+     */
+    private final static EnumLookup<MusicGenre> MUSIC_GENRES = new EnumLookup<>(MusicGenre.class, MusicGenre::getName);
+
+    /**
+     * Genres of the video games by name.
+     *
+     * @since 1.2
+     */
+    private final static EnumLookup<VideoGameGenre> VIDEO_GAME_GENRES =
+            new EnumLookup<>(VideoGameGenre.class, VideoGameGenre::getName);
+
+    /**
+     * Genres of the books by name.
+     *
+     * @since 1.2
+     */
+    private final static EnumLookup<BookGenre> BOOK_GENRES = new EnumLookup<>(BookGenre.class, BookGenre::getName);
+
+    /**
+     * Supports of the media by name, as named when the class is loaded.
+     *
+     * @since 1.2
+     */
+    private final static EnumLookup<MediaSupport> SUPPORTS =
+            new EnumLookup<>(MediaSupport.class, MediaSupport::getName);
+
+    /**
+     * Platforms of the video games by name.
+     *
+     * @since 1.2
+     */
+    private final static EnumLookup<VideoGamePlatform> PLATFORMS =
+            new EnumLookup<>(VideoGamePlatform.class, VideoGamePlatform::getName);
+
+    /**
+     * Languages by code, like <code>fr</code>.
+     *
+     * @since 1.2
+     */
+    private final static EnumLookup<LanguageCode> LANGUAGES = new EnumLookup<>(LanguageCode.class, LanguageCode::name);
+
+    /**
+     * Formats of the books by name.
+     *
+     * @since 1.2
+     */
+    private final static EnumLookup<BookFormat> BOOK_FORMATS = new EnumLookup<>(BookFormat.class, BookFormat::getName);
+
+    /**
+     * Persons and companies already built.
+     *
+     * @since 1.3
+     */
+    private final PersonTable persons = new PersonTable();
+
+    /**
+     * Create a specific media thanks to a list of string who contains all information needed for create the media.
+     *
+     * @param data A list of all data needed to build the object.
+     *
+     * @return The media entirely build.
+     *
+     * @version 1.0
+     * @since 1.2
+     */
+    @Override
+    public IMedia build(List<String> data) {
+        return this.buildFields(data);
+    }
+
+    /**
+     * Create a specific media from the fields of a record, who can be views on the buffer of a parser.
+     *
+     * @param data Fields of the record, valid only during the call.
+     *
+     * @return The media entirely build.
+     *
+     * @version 1.0
+     * @since 1.2
+     */
+    @Override
+    public abstract IMedia buildFields(List<? extends CharSequence> data);
+
     /**
      * Split a string and return the list of MediaGenre for the media.
      *
@@ -54,30 +167,11 @@ public abstract class MediaBuilder implements IMediaBuilder {
      *
      * @return An empty list if the genre not specified, or a list with all genres get from the string.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.1
      */
-    protected List<VideoGenre> buildGenreVideoList(String genres) {
-        // If argument is empty, return an empty ArrayList.
-        if (this.checkMissingArguments(genres)) {
-            return new ArrayList<>();
-        }
-
-        // Split genres to get one genre.
-        List<VideoGenre> genreList = new ArrayList<>();
-        String[] genresSplit = genres.split(",");
-
-        // Loop on each genre, media genre and check if the genre and the media genre is the same.
-        for (String s : genresSplit) {
-            for (VideoGenre mg : VideoGenre.values()) {
-                if (mg.getName()
-                      .equals(s.trim())) {
-                    genreList.add(mg);
-                }
-            }
-        }
-
-        return genreList;
+    protected List<VideoGenre> buildGenreVideoList(CharSequence genres) {
+        return this.buildEnumList(genres, VIDEO_GENRES);
     }
 
     /**
@@ -87,11 +181,11 @@ public abstract class MediaBuilder implements IMediaBuilder {
      *
      * @return True if the argument is indicate as missing. False in other case.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
-    protected boolean checkMissingArguments(String argument) {
-        return argument.equals(MISSING_ARGUMENTS);
+    protected boolean checkMissingArguments(CharSequence argument) {
+        return MISSING_ARGUMENTS.contentEquals(argument);
     }
 
     /**
@@ -101,30 +195,11 @@ public abstract class MediaBuilder implements IMediaBuilder {
      *
      * @return An empty list if the genre not specified, or a list with all genres get from the string.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.1
      */
-    protected List<MusicGenre> buildGenreMusicList(String genres) {
-        // If argument is empty, return an empty ArrayList.
-        if (this.checkMissingArguments(genres)) {
-            return new ArrayList<>();
-        }
-
-        // Split genres to get one genre.
-        List<MusicGenre> genreList = new ArrayList<>();
-        String[] genresSplit = genres.split(",");
-
-        // Loop on each genre, media genre and check if the genre and the media genre is the same.
-        for (String s : genresSplit) {
-            for (MusicGenre mg : MusicGenre.values()) {
-                if (mg.getName()
-                      .equals(s.trim())) {
-                    genreList.add(mg);
-                }
-            }
-        }
-
-        return genreList;
+    protected List<MusicGenre> buildGenreMusicList(CharSequence genres) {
+        return this.buildEnumList(genres, MUSIC_GENRES);
     }
 
     /**
@@ -134,30 +209,11 @@ public abstract class MediaBuilder implements IMediaBuilder {
      *
      * @return An empty list if the genre not specified, or a list with all genres get from the string.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.1
      */
-    protected List<VideoGameGenre> buildGenreVideoGameList(String genres) {
-        // If argument is empty, return an empty ArrayList.
-        if (this.checkMissingArguments(genres)) {
-            return new ArrayList<>();
-        }
-
-        // Split genres to get one genre.
-        List<VideoGameGenre> genreList = new ArrayList<>();
-        String[] genresSplit = genres.split(",");
-
-        // Loop on each genre, media genre and check if the genre and the media genre is the same.
-        for (String s : genresSplit) {
-            for (VideoGameGenre mg : VideoGameGenre.values()) {
-                if (mg.getName()
-                      .equals(s.trim())) {
-                    genreList.add(mg);
-                }
-            }
-        }
-
-        return genreList;
+    protected List<VideoGameGenre> buildGenreVideoGameList(CharSequence genres) {
+        return this.buildEnumList(genres, VIDEO_GAME_GENRES);
     }
 
     /**
@@ -167,30 +223,11 @@ public abstract class MediaBuilder implements IMediaBuilder {
      *
      * @return An empty list if the genre not specified, or a list with all genres get from the string.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.1
      */
-    protected List<BookGenre> buildGenreBookList(String genres) {
-        // If argument is empty, return an empty ArrayList.
-        if (this.checkMissingArguments(genres)) {
-            return new ArrayList<>();
-        }
-
-        // Split genres to get one genre.
-        List<BookGenre> genreList = new ArrayList<>();
-        String[] genresSplit = genres.split(",");
-
-        // Loop on each genre, media genre and check if the genre and the media genre is the same.
-        for (String s : genresSplit) {
-            for (BookGenre mg : BookGenre.values()) {
-                if (mg.getName()
-                      .equals(s.trim())) {
-                    genreList.add(mg);
-                }
-            }
-        }
-
-        return genreList;
+    protected List<BookGenre> buildGenreBookList(CharSequence genres) {
+        return this.buildEnumList(genres, BOOK_GENRES);
     }
 
     /**
@@ -200,30 +237,11 @@ public abstract class MediaBuilder implements IMediaBuilder {
      *
      * @return An empty list if the support not specified, or a list with all supports get from the string.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
-    protected List<MediaSupport> buildSupportList(String supports) {
-        // If argument is empty, return an empty ArrayList.
-        if (this.checkMissingArguments(supports)) {
-            return new ArrayList<>();
-        }
-
-        // Split supports to get one support.
-        List<MediaSupport> supportList = new ArrayList<>();
-        String[] supportsSplit = supports.split(",");
-
-        // Loop on each support, media support and check if the support and the media support is the same.
-        for (String s : supportsSplit) {
-            for (MediaSupport ms : MediaSupport.values()) {
-                if (ms.getName()
-                      .equals(s.trim())) {
-                    supportList.add(ms);
-                }
-            }
-        }
-
-        return supportList;
+    protected List<MediaSupport> buildSupportList(CharSequence supports) {
+        return this.buildEnumList(supports, SUPPORTS);
     }
 
     /**
@@ -233,30 +251,11 @@ public abstract class MediaBuilder implements IMediaBuilder {
      *
      * @return An empty list if the support not specified, or a list with all platforms get from the string.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
-    protected List<VideoGamePlatform> buildPlatformList(String platforms) {
-        // If argument is empty, return an empty ArrayList.
-        if (this.checkMissingArguments(platforms)) {
-            return new ArrayList<>();
-        }
-
-        // Split platforms to get one support.
-        List<VideoGamePlatform> platformList = new ArrayList<>();
-        String[] platformsSplit = platforms.split(",");
-
-        // Loop on each platform, video game platform and check if the platforms and the video game platform is the same.
-        for (String s : platformsSplit) {
-            for (VideoGamePlatform vgp : VideoGamePlatform.values()) {
-                if (vgp.getName()
-                       .equals(s.trim())) {
-                    platformList.add(vgp);
-                }
-            }
-        }
-
-        return platformList;
+    protected List<VideoGamePlatform> buildPlatformList(CharSequence platforms) {
+        return this.buildEnumList(platforms, PLATFORMS);
     }
 
     /**
@@ -267,30 +266,11 @@ public abstract class MediaBuilder implements IMediaBuilder {
      * @return An empty list if the languages/subtitles not specified, or a list with all languages/subtitles get from
      *         the string.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
-    protected List<LanguageCode> buildLanguageList(String languages) {
-        // If argument is empty, return an empty ArrayList.
-        if (this.checkMissingArguments(languages)) {
-            return new ArrayList<>();
-        }
-
-        // Split languages to get one language.
-        List<LanguageCode> languageCodes = new ArrayList<>();
-        String[] languagesSplit = languages.split(",");
-
-        // Loop on each language or subtitle, LanguageCode and check if the language/subtitle and the LanguageCode is the same.
-        for (String s : languagesSplit) {
-            for (LanguageCode lc : LanguageCode.values()) {
-                if (lc.name()
-                      .equals(s.trim())) {
-                    languageCodes.add(lc);
-                }
-            }
-        }
-
-        return languageCodes;
+    protected List<LanguageCode> buildLanguageList(CharSequence languages) {
+        return this.buildEnumList(languages, LANGUAGES);
     }
 
     /**
@@ -300,53 +280,43 @@ public abstract class MediaBuilder implements IMediaBuilder {
      *
      * @return The format of the book.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
-    protected BookFormat buildBookFormat(String format) {
+    protected BookFormat buildBookFormat(CharSequence format) {
         // If argument is empty, return a format not specified.
         if (this.checkMissingArguments(format)) {
             return BookFormat.UNSPECIFIED;
         }
 
-        // Loop on each format and compare with the format send on parameter
-        for (BookFormat bf : BookFormat.values()) {
-            if (bf.getName()
-                  .equals(format.trim())) {
-                return bf;
-            }
-        }
-
-        return BookFormat.UNSPECIFIED;
+        BookFormat bookFormat = BOOK_FORMATS.get(format);
+        return bookFormat == null ? BookFormat.UNSPECIFIED : bookFormat;
     }
 
     /**
-     * Transform the String representation of the date into a Calendar object.
+     * Transform the String representation of the date into a LocalDate object.
      * <p>
-     * The date follow this format : dd/mm/YYYY and must be transform into a Calendar object.
+     * The date follow this format : dd/mm/YYYY and is parsed by a formatter shared by all builders.
+     * A pending date is replaced by the current date.
      *
      * @param date String representation of the date at format.
      *
-     * @return An object Calendar which represent the date.
+     * @return An object LocalDate which represent the date.
      *
-     * @throws ParseException
-     * @version 1.0
+     * @throws IllegalArgumentException If the date doesn't follow the format, so the media is not built.
+     * @version 1.3
      * @since 1.0
      */
-    protected Calendar buildDate(String date) {
-        if (date.equals("pending")) {
-            return Calendar.getInstance();
+    protected LocalDate buildDate(CharSequence date) {
+        if ("pending".contentEquals(date)) {
+            return LocalDate.now();
         }
 
-        DateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
-        Calendar calendar = Calendar.getInstance();
         try {
-            calendar.setTime(dateFormat.parse(date));
-        } catch (ParseException e) {
-            e.printStackTrace();
+            return LocalDate.parse(date, DATE_FORMAT);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("The date " + date + " doesn't follow the format dd/mm/YYYY.", e);
         }
-
-        return calendar;
     }
 
     /**
@@ -356,39 +326,16 @@ public abstract class MediaBuilder implements IMediaBuilder {
      *
      * @return A set of Actor composed by all actors present on the string.
      *
-     * @version 1.0.1
+     * @version 1.1
      * @since 1.0
      */
-    protected Set<Actor> buildActorSet(String persons) {
+    protected Set<Actor> buildActorSet(CharSequence persons) {
         // If argument is empty, return an empty ArrayList.
         if (this.checkMissingArguments(persons)) {
             return new HashSet<>();
         }
 
-        // Split persons to get one person.
-        Set<Actor> personSet = new HashSet<>();
-        String[] personsSplit = persons.split(",");
-
-        // Loop on each persons, split first and last name and added it on HashSet.
-        for (String s : personsSplit) {
-            String[] personName = s.trim()
-                                   .split(" ");
-            // If personName is equal 2, so the person have only one first name and one last name.
-            if (personName.length == 2) {
-                personSet.add(new Actor(personName[0], personName[1]));
-            } else if (personName.length == 1) {
-                personSet.add(new Actor(personName[0], ""));
-            } else {
-                // In other case, he can be have two first name or composed last name.
-                if (personName[1].matches("^[A-Za-z]\\.")) {
-                    personSet.add(new Actor(personName[0], personName[1] + " " + personName[2]));
-                } else {
-                    personSet.add(new Actor(personName[0] + " " + personName[1], personName[2]));
-                }
-            }
-        }
-
-        return personSet;
+        return this.persons.persons(Actor.class, persons, Actor::new);
     }
 
     /**
@@ -398,39 +345,16 @@ public abstract class MediaBuilder implements IMediaBuilder {
      *
      * @return A set of Authors composed by all authors present on the string.
      *
-     * @version 1.0.1
+     * @version 1.1
      * @since 1.0
      */
-    protected Set<Author> buildAuthorSet(String persons) {
+    protected Set<Author> buildAuthorSet(CharSequence persons) {
         // If argument is empty, return an empty ArrayList.
         if (this.checkMissingArguments(persons)) {
             return new HashSet<>();
         }
 
-        // Split persons to get one person.
-        Set<Author> personSet = new HashSet<>();
-        String[] personsSplit = persons.split(",");
-
-        // Loop on each persons, split first and last name and added it on HashSet.
-        for (String s : personsSplit) {
-            String[] personName = s.trim()
-                                   .split(" ");
-            // If personName is equal 2, so the person have only one first name and one last name.
-            if (personName.length == 2) {
-                personSet.add(new Author(personName[0], personName[1]));
-            } else if (personName.length == 1) {
-                personSet.add(new Author(personName[0], ""));
-            } else {
-                // In other case, he can be have two first name or composed last name.
-                if (personName[1].matches("^[A-Za-z]\\.")) {
-                    personSet.add(new Author(personName[0], personName[1] + " " + personName[2]));
-                } else {
-                    personSet.add(new Author(personName[0] + " " + personName[1], personName[2]));
-                }
-            }
-        }
-
-        return personSet;
+        return this.persons.persons(Author.class, persons, Author::new);
     }
 
     /**
@@ -440,39 +364,16 @@ public abstract class MediaBuilder implements IMediaBuilder {
      *
      * @return A set of Director composed by all directors present on the string.
      *
-     * @version 1.0.1
+     * @version 1.1
      * @since 1.0
      */
-    protected Set<Director> buildDirectorSet(String persons) {
+    protected Set<Director> buildDirectorSet(CharSequence persons) {
         // If argument is empty, return an empty ArrayList.
         if (this.checkMissingArguments(persons)) {
             return new HashSet<>();
         }
 
-        // Split persons to get one person.
-        Set<Director> personSet = new HashSet<>();
-        String[] personsSplit = persons.split(",");
-
-        // Loop on each persons, split first and last name and added it on HashSet.
-        for (String s : personsSplit) {
-            String[] personName = s.trim()
-                                   .split(" ");
-            // If personName is equal 2, so the person have only one first name and one last name.
-            if (personName.length == 2) {
-                personSet.add(new Director(personName[0], personName[1]));
-            } else if (personName.length == 1) {
-                personSet.add(new Director(personName[0], ""));
-            } else {
-                // In other case, he can be have two first name or composed last name.
-                if (personName[1].matches("^[A-Za-z]\\.")) {
-                    personSet.add(new Director(personName[0], personName[1] + " " + personName[2]));
-                } else {
-                    personSet.add(new Director(personName[0] + " " + personName[1], personName[2]));
-                }
-            }
-        }
-
-        return personSet;
+        return this.persons.persons(Director.class, persons, Director::new);
     }
 
     /**
@@ -482,39 +383,16 @@ public abstract class MediaBuilder implements IMediaBuilder {
      *
      * @return A set of Illustrator composed by all illustrators present on the string.
      *
-     * @version 1.0.1
+     * @version 1.1
      * @since 1.0
      */
-    protected Set<Illustrator> buildIllustratorSet(String persons) {
+    protected Set<Illustrator> buildIllustratorSet(CharSequence persons) {
         // If argument is empty, return an empty ArrayList.
         if (this.checkMissingArguments(persons)) {
             return new HashSet<>();
         }
 
-        // Split persons to get one person.
-        Set<Illustrator> personSet = new HashSet<>();
-        String[] personsSplit = persons.split(",");
-
-        // Loop on each persons, split first and last name and added it on HashSet.
-        for (String s : personsSplit) {
-            String[] personName = s.trim()
-                                   .split(" ");
-            // If personName is equal 2, so the person have only one first name and one last name.
-            if (personName.length == 2) {
-                personSet.add(new Illustrator(personName[0], personName[1]));
-            } else if (personName.length == 1) {
-                personSet.add(new Illustrator(personName[0], ""));
-            } else {
-                // In other case, he can be have two first name or composed last name.
-                if (personName[1].matches("^[A-Za-z]\\.")) {
-                    personSet.add(new Illustrator(personName[0], personName[1] + " " + personName[2]));
-                } else {
-                    personSet.add(new Illustrator(personName[0] + " " + personName[1], personName[2]));
-                }
-            }
-        }
-
-        return personSet;
+        return this.persons.persons(Illustrator.class, persons, Illustrator::new);
     }
 
     /**
@@ -524,39 +402,16 @@ public abstract class MediaBuilder implements IMediaBuilder {
      *
      * @return A set of Producer composed by all producers present on the string.
      *
-     * @version 1.0.1
+     * @version 1.1
      * @since 1.0
      */
-    protected Set<Producer> buildProducerSet(String persons) {
+    protected Set<Producer> buildProducerSet(CharSequence persons) {
         // If argument is empty, return an empty ArrayList.
         if (this.checkMissingArguments(persons)) {
             return new HashSet<>();
         }
 
-        // Split persons to get one person.
-        Set<Producer> personSet = new HashSet<>();
-        String[] personsSplit = persons.split(",");
-
-        // Loop on each persons, split first and last name and added it on HashSet.
-        for (String s : personsSplit) {
-            String[] personName = s.trim()
-                                   .split(" ");
-            // If personName is equal 2, so the person have only one first name and one last name.
-            if (personName.length == 2) {
-                personSet.add(new Producer(personName[0], personName[1]));
-            } else if (personName.length == 1) {
-                personSet.add(new Producer(personName[0], ""));
-            } else {
-                // In other case, he can be have two first name or composed last name.
-                if (personName[1].matches("^[A-Za-z]\\.")) {
-                    personSet.add(new Producer(personName[0], personName[1] + " " + personName[2]));
-                } else {
-                    personSet.add(new Producer(personName[0] + " " + personName[1], personName[2]));
-                }
-            }
-        }
-
-        return personSet;
+        return this.persons.persons(Producer.class, persons, Producer::new);
     }
 
     /**
@@ -566,39 +421,16 @@ public abstract class MediaBuilder implements IMediaBuilder {
      *
      * @return A set of Singer composed by all singers present on the string.
      *
-     * @version 1.0.1
+     * @version 1.1
      * @since 1.0
      */
-    protected Set<Singer> buildSingerSet(String persons) {
+    protected Set<Singer> buildSingerSet(CharSequence persons) {
         // If argument is empty, return an empty ArrayList.
         if (this.checkMissingArguments(persons)) {
             return new HashSet<>();
         }
 
-        // Split persons to get one person.
-        Set<Singer> personSet = new HashSet<>();
-        String[] personsSplit = persons.split(",");
-
-        // Loop on each persons, split first and last name and added it on HashSet.
-        for (String s : personsSplit) {
-            String[] personName = s.trim()
-                                   .split(" ");
-            // If personName is equal 2, so the person have only one first name and one last name.
-            if (personName.length == 2) {
-                personSet.add(new Singer(personName[0], personName[1]));
-            } else if (personName.length == 1) {
-                personSet.add(new Singer(personName[0], ""));
-            } else {
-                // In other case, he can be have two first name or composed last name.
-                if (personName[1].matches("^[A-Za-z]\\.")) {
-                    personSet.add(new Singer(personName[0], personName[1] + " " + personName[2]));
-                } else {
-                    personSet.add(new Singer(personName[0] + " " + personName[1], personName[2]));
-                }
-            }
-        }
-
-        return personSet;
+        return this.persons.persons(Singer.class, persons, Singer::new);
     }
 
     /**
@@ -608,25 +440,16 @@ public abstract class MediaBuilder implements IMediaBuilder {
      *
      * @return A set of Developer composed by all developers present on the string.
      *
-     * @version 1.0
+     * @version 1.2
      * @since 1.0
      */
-    protected Set<Developer> buildDeveloperSet(String companies) {
+    protected Set<Developer> buildDeveloperSet(CharSequence companies) {
         // If argument is empty, return an empty ArrayList.
         if (this.checkMissingArguments(companies)) {
             return new HashSet<>();
         }
 
-        // Split  to get one person.
-        Set<Developer> companiesSet = new HashSet<>();
-        String[] companiesSplit = companies.split(",");
-
-        // Loop on each companies, split first and last name and added it on HashSet.
-        for (String s : companiesSplit) {
-            companiesSet.add(new Developer(s.trim()));
-        }
-
-        return companiesSet;
+        return this.persons.companies(Developer.class, companies, Developer::new);
     }
 
     /**
@@ -636,25 +459,16 @@ public abstract class MediaBuilder implements IMediaBuilder {
      *
      * @return A set of Label Records composed by all label records present on the string.
      *
-     * @version 1.0
+     * @version 1.2
      * @since 1.0
      */
-    protected Set<LabelRecords> buildLabelRecordsSet(String companies) {
+    protected Set<LabelRecords> buildLabelRecordsSet(CharSequence companies) {
         // If argument is empty, return an empty ArrayList.
         if (this.checkMissingArguments(companies)) {
             return new HashSet<>();
         }
 
-        // Split  to get one person.
-        Set<LabelRecords> companiesSet = new HashSet<>();
-        String[] companiesSplit = companies.split(",");
-
-        // Loop on each companies, split first and last name and added it on HashSet.
-        for (String s : companiesSplit) {
-            companiesSet.add(new LabelRecords(s.trim()));
-        }
-
-        return companiesSet;
+        return this.persons.companies(LabelRecords.class, companies, LabelRecords::new);
     }
 
     /**
@@ -664,24 +478,52 @@ public abstract class MediaBuilder implements IMediaBuilder {
      *
      * @return A set of Publisher composed by all publishers present on the string.
      *
-     * @version 1.0
+     * @version 1.2
      * @since 1.0
      */
-    protected Set<Publisher> buildPublisherSet(String companies) {
+    protected Set<Publisher> buildPublisherSet(CharSequence companies) {
         // If argument is empty, return an empty ArrayList.
         if (this.checkMissingArguments(companies)) {
             return new HashSet<>();
         }
 
-        // Split  to get one person.
-        Set<Publisher> companiesSet = new HashSet<>();
-        String[] companiesSplit = companies.split(",");
+        return this.persons.companies(Publisher.class, companies, Publisher::new);
+    }
 
-        // Loop on each companies, split first and last name and added it on HashSet.
-        for (String s : companiesSplit) {
-            companiesSet.add(new Publisher(s.trim()));
+    /**
+     * Split a list of names separated by commas and return the values of an enumeration who have these names.
+     * <p>
+     * The names are found on the characters of the list, without create a String, and the names unknown are
+     * ignored.
+     *
+     * @param names Names of the values, separated by commas.
+     * @param lookup Lookup of the values of the enumeration by name.
+     * @param <E> Type of the enumeration.
+     *
+     * @return An empty list if the names are not specified, or a list with all values found.
+     *
+     * @version 1.0
+     * @since 1.2
+     */
+    private <E extends Enum<E>> List<E> buildEnumList(CharSequence names, EnumLookup<E> lookup) {
+        List<E> values = new ArrayList<>();
+        // If argument is empty, return an empty ArrayList.
+        if (this.checkMissingArguments(names)) {
+            return values;
         }
 
-        return companiesSet;
+        int length = names.length();
+        for (int start = 0; start <= length; ) {
+            int end = start;
+            while (end < length && names.charAt(end) != ',') {
+                end++;
+            }
+            E value = lookup.get(names, start, end);
+            if (value != null) {
+                values.add(value);
+            }
+            start = end + 1;
+        }
+        return values;
     }
 }
@@ -0,0 +1,265 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package fr.nicolasgille.medialibrary.builders;
+
+/**
+ * Tokenizer of a list of names of persons or companies, like <code>Keanu Reeves, Laurence Fishburne</code>.
+ * <p>
+ * The names are separated by commas and the whitespace around them is ignored, as well as the empty names.
+ * The name of a person is split in first name and last name on his spaces :
+ * <ul>
+ * <li>A single word is a first name without last name.</li>
+ * <li>Two words are a first name and a last name.</li>
+ * <li>With three words, the second word is the beginning of the last name if it's an initial like
+ * <code>J.</code>, else the end of the first name. The next words are ignored.</li>
+ * </ul>
+ * The tokenizer only move on the characters of the list and return the positions of each part, without regular
+ * expression, array or String, so the caller create a String only for the names he doesn't know yet.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+public class NameTokenizer {
+
+    /**
+     * List of names at tokenize.
+     *
+     * @since 1.0
+     */
+    private final CharSequence names;
+
+    /**
+     * Position where the next name start.
+     *
+     * @since 1.0
+     */
+    private int next;
+
+    /**
+     * Position of the first character of the current name.
+     *
+     * @since 1.0
+     */
+    private int start;
+
+    /**
+     * Position after the last character of the current name.
+     *
+     * @since 1.0
+     */
+    private int end;
+
+    /**
+     * Position after the first name of the current name.
+     *
+     * @since 1.0
+     */
+    private int firstNameEnd;
+
+    /**
+     * Position of the last name of the current name.
+     *
+     * @since 1.0
+     */
+    private int lastNameStart;
+
+    /**
+     * Position after the last name of the current name.
+     *
+     * @since 1.0
+     */
+    private int lastNameEnd;
+
+    /**
+     * Constructor of a tokenizer.
+     *
+     * @param names List of names separated by commas.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public NameTokenizer(CharSequence names) {
+        this.names = names;
+    }
+
+    /**
+     * Move to the next name of the list.
+     *
+     * @return True if a name has been found, false at the end of the list.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public boolean next() {
+        int length = this.names.length();
+        while (this.next <= length) {
+            int comma = this.indexOf(',', this.next, length);
+            this.start = this.next;
+            this.end = comma;
+            this.next = comma + 1;
+            while (this.start < this.end && this.names.charAt(this.start) <= ' ') {
+                this.start++;
+            }
+            while (this.end > this.start && this.names.charAt(this.end - 1) <= ' ') {
+                this.end--;
+            }
+            if (this.start < this.end) {
+                this.split();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Return the position of the first character of the current name.
+     *
+     * @return The position of the name on the list.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public int getStart() {
+        return start;
+    }
+
+    /**
+     * Return the position after the last character of the current name.
+     *
+     * @return The position after the name on the list.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public int getEnd() {
+        return end;
+    }
+
+    /**
+     * Return the position after the first name of the current name, if the name is the name of a person.
+     *
+     * @return The position after the first name on the list.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public int getFirstNameEnd() {
+        return firstNameEnd;
+    }
+
+    /**
+     * Return the position of the last name of the current name, if the name is the name of a person.
+     *
+     * @return The position of the last name on the list, equal to his end if the person has no last name.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public int getLastNameStart() {
+        return lastNameStart;
+    }
+
+    /**
+     * Return the position after the last name of the current name, if the name is the name of a person.
+     *
+     * @return The position after the last name on the list.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public int getLastNameEnd() {
+        return lastNameEnd;
+    }
+
+    /**
+     * Split the current name in first name and last name.
+     * <p>
+     * The words are separated by a single space, so each part is a range of the list.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    private void split() {
+        int first = this.indexOf(' ', this.start, this.end);
+        if (first == this.end) {
+            this.firstNameEnd = this.end;
+            this.lastNameStart = this.end;
+            this.lastNameEnd = this.end;
+            return;
+        }
+
+        int second = this.indexOf(' ', first + 1, this.end);
+        if (second == this.end) {
+            this.firstNameEnd = first;
+            this.lastNameStart = first + 1;
+            this.lastNameEnd = this.end;
+            return;
+        }
+
+        this.lastNameEnd = this.indexOf(' ', second + 1, this.end);
+        if (this.isInitial(first + 1, second)) {
+            this.firstNameEnd = first;
+            this.lastNameStart = first + 1;
+        } else {
+            this.firstNameEnd = second;
+            this.lastNameStart = second + 1;
+        }
+    }
+
+    /**
+     * Check if a word is an initial, a letter followed by a dot.
+     *
+     * @param from Position of the word.
+     * @param to Position after the word.
+     *
+     * @return True if the word is an initial.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    private boolean isInitial(int from, int to) {
+        if (to - from != 2 || this.names.charAt(from + 1) != '.') {
+            return false;
+        }
+        char c = this.names.charAt(from);
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    /**
+     * Return the position of a character on a range of the list.
+     *
+     * @param c Character at search.
+     * @param from Position where the search start.
+     * @param to Position where the search end.
+     *
+     * @return The position of the character, or <code>to</code> if the character is absent.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    private int indexOf(char c, int from, int to) {
+        int i = from;
+        while (i < to && this.names.charAt(i) != c) {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package fr.nicolasgille.medialibrary.builders;
+
+import fr.nicolasgille.medialibrary.models.common.company.ICompany;
+import fr.nicolasgille.medialibrary.models.common.person.IPerson;
+import fr.nicolasgille.medialibrary.utils.EnumLookup;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Intern table of the persons and companies built from the lists of names of the media.
+ * <p>
+ * Each person or company is created once by type and name, then the same object is returned each time his name is
+ * read again : a person credited on several media of an import is a single object, resolved once against the
+ * Database.
+ * The names are searched on the list in place, like the names of an {@link EnumLookup}, so a String is created only
+ * for the names who are not on the table yet.
+ * The table is not thread-safe and grow with the names read, so it must be used for a single import.
+ *
+ * @author Nicolas GILLE
+ * @version 1.1
+ * @since Media-Library 1.1
+ */
+public class PersonTable {
+
+    /**
+     * Persons and companies created, by type and by name as written on the lists.
+     *
+     * @since 1.0
+     */
+    private final Map<Class<?>, Names> entities = new HashMap<>();
+
+    /**
+     * Return the persons of a list of names.
+     *
+     * @param type Type of the persons, like <code>Actor.class</code>.
+     * @param names Names of the persons, separated by commas.
+     * @param constructor Constructor of a person from his first name and last name.
+     * @param <T> Type of the persons.
+     *
+     * @return The persons of the list, in the order of the list.
+     *
+     * @version 1.1
+     * @since 1.0
+     */
+    public <T extends IPerson> Set<T> persons(Class<T> type, CharSequence names,
+                                              BiFunction<String, String, T> constructor) {
+        Names interned = this.entities.computeIfAbsent(type, t -> new Names());
+        Set<T> persons = new LinkedHashSet<>();
+        NameTokenizer tokenizer = new NameTokenizer(names);
+        while (tokenizer.next()) {
+            int start = tokenizer.getStart();
+            int end = tokenizer.getEnd();
+            T person = type.cast(interned.get(names, start, end));
+            if (person == null) {
+                person = constructor.apply(names.subSequence(start, tokenizer.getFirstNameEnd()).toString(),
+                                           names.subSequence(tokenizer.getLastNameStart(),
+                                                             tokenizer.getLastNameEnd()).toString());
+                interned.put(names.subSequence(start, end).toString(), person);
+            }
+            persons.add(person);
+        }
+        return persons;
+    }
+
+    /**
+     * Return the companies of a list of names.
+     *
+     * @param type Type of the companies, like <code>Publisher.class</code>.
+     * @param names Names of the companies, separated by commas.
+     * @param constructor Constructor of a company from his name.
+     * @param <T> Type of the companies.
+     *
+     * @return The companies of the list, in the order of the list.
+     *
+     * @version 1.1
+     * @since 1.0
+     */
+    public <T extends ICompany> Set<T> companies(Class<T> type, CharSequence names,
+                                                 Function<String, T> constructor) {
+        Names interned = this.entities.computeIfAbsent(type, t -> new Names());
+        Set<T> companies = new LinkedHashSet<>();
+        NameTokenizer tokenizer = new NameTokenizer(names);
+        while (tokenizer.next()) {
+            int start = tokenizer.getStart();
+            int end = tokenizer.getEnd();
+            T company = type.cast(interned.get(names, start, end));
+            if (company == null) {
+                String name = names.subSequence(start, end).toString();
+                company = constructor.apply(name);
+                interned.put(name, company);
+            }
+            companies.add(company);
+        }
+        return companies;
+    }
+
+    /**
+     * Hash table with open addressing of the persons or companies of a type, searched with a range of characters.
+     *
+     * @author Nicolas GILLE
+     * @version 1.0
+     * @since Media-Library 1.1
+     */
+    private static class Names {
+
+        /**
+         * Names of the entities, at the position of their hash, or null for the free positions.
+         *
+         * @since 1.0
+         */
+        private String[] names = new String[16];
+
+        /**
+         * Entities, at the same position as their name.
+         *
+         * @since 1.0
+         */
+        private Object[] values = new Object[16];
+
+        /**
+         * Number of entities on the table.
+         *
+         * @since 1.0
+         */
+        private int size;
+
+        /**
+         * Return the entity of a name written on a range of characters.
+         *
+         * @param text Characters who contains the name.
+         * @param start Position of the first character of the name.
+         * @param end Position after the last character of the name.
+         *
+         * @return The entity of the name, or null if no entity has this name.
+         *
+         * @version 1.0
+         * @since 1.0
+         */
+        private Object get(CharSequence text, int start, int end) {
+            int mask = this.names.length - 1;
+            for (int i = EnumLookup.hash(text, start, end) & mask; this.names[i] != null; i = (i + 1) & mask) {
+                if (EnumLookup.equals(this.names[i], text, start, end)) {
+                    return this.values[i];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Add the entity of a name who is not on the table.
+         * <p>
+         * The table is doubled when it becomes half full, so a search stop quickly on a free position.
+         *
+         * @param name Name of the entity.
+         * @param value Entity of the name.
+         *
+         * @version 1.0
+         * @since 1.0
+         */
+        private void put(String name, Object value) {
+            if (2 * (this.size + 1) > this.names.length) {
+                String[] names = this.names;
+                Object[] values = this.values;
+                this.names = new String[names.length << 1];
+                this.values = new Object[names.length << 1];
+                for (int i = 0; i < names.length; i++) {
+                    if (names[i] != null) {
+                        this.insert(names[i], values[i]);
+                    }
+                }
+            }
+            this.insert(name, value);
+            this.size++;
+        }
+
+        /**
+         * Write an entity at the first free position from the hash of his name.
+         *
+         * @param name Name of the entity.
+         * @param value Entity of the name.
+         *
+         * @version 1.0
+         * @since 1.0
+         */
+        private void insert(String name, Object value) {
+            int mask = this.names.length - 1;
+            int i = EnumLookup.hash(name, 0, name.length()) & mask;
+            while (this.names[i] != null) {
+                i = (i + 1) & mask;
+            }
+            this.names[i] = name;
+            this.values[i] = value;
+        }
+    }
+}
@@ -28,7 +28,7 @@ import fr.nicolasgille.medialibrary.models.components.BookFormat;
 import fr.nicolasgille.medialibrary.models.components.MediaSupport;
 import fr.nicolasgille.medialibrary.models.components.genre.BookGenre;
 
-import java.util.Calendar;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
 
@@ -36,36 +36,36 @@ import java.util.Set;
  * Implementation of the interface IMediaBuilder used to build Book media.
  *
  * @author Nicolas GILLE
- * @version 1.0
+ * @version 1.2
  * @since Media-Library 0.5
  */
 public class ComicBuilder extends MediaBuilder {
 
     /**
-     * Create a specific media thanks to a list of string who contains all information needed for create the media.
+     * Create a specific media from the fields of a record who contains all information needed for create the media.
      *
-     * @param data A list of all data needed to build the object.
+     * @param data Fields of the record, who can be views on the buffer of a parser valid only during the call.
      *
      * @return The media entirely build.
      *
-     * @version 1.0
-     * @since 1.0
+     * @version 1.1
+     * @since 1.1
      */
     @Override
-    public IMedia build(List<String> data) {
-        String title = this.checkMissingArguments(data.get(0)) ? "" : data.get(0);
-        String originalTitle = this.checkMissingArguments(data.get(1)) ? "" : data.get(1);
-        String synopsis = this.checkMissingArguments(data.get(2)) ? "" : data.get(2);
-        Calendar releaseDate = this.buildDate(data.get(3));
+    public IMedia buildFields(List<? extends CharSequence> data) {
+        String title = this.checkMissingArguments(data.get(0)) ? "" : data.get(0).toString();
+        String originalTitle = this.checkMissingArguments(data.get(1)) ? "" : data.get(1).toString();
+        String synopsis = this.checkMissingArguments(data.get(2)) ? "" : data.get(2).toString();
+        LocalDate releaseDate = this.buildDate(data.get(3));
         List<BookGenre> genres = this.buildGenreBookList(data.get(4));
         List<MediaSupport> supports = this.buildSupportList(data.get(5));
-        String isbn = this.checkMissingArguments(data.get(6)) ? "" : data.get(6);
-        int nbPages = Integer.parseInt(data.get(7));
+        String isbn = this.checkMissingArguments(data.get(6)) ? "" : data.get(6).toString();
+        int nbPages = Integer.parseInt(data.get(7).toString());
         Set<Author> authors = this.buildAuthorSet(data.get(8));
         Set<Publisher> publishers = this.buildPublisherSet(data.get(9));
         BookFormat format = this.buildBookFormat(data.get(10));
-        int volumes = Integer.parseInt(data.get(11));
-        int currentVolume = Integer.parseInt(data.get(12));
+        int volumes = Integer.parseInt(data.get(11).toString());
+        int currentVolume = Integer.parseInt(data.get(12).toString());
         Set<Illustrator> illustrators = this.buildIllustratorSet(data.get(13));
 
         return new Comic(title, originalTitle, synopsis, releaseDate, nbPages, isbn, authors, publishers,
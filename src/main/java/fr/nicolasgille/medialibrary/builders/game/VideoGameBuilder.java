@@ -28,7 +28,7 @@ import fr.nicolasgille.medialibrary.models.components.VideoGamePlatform;
 import fr.nicolasgille.medialibrary.models.components.genre.VideoGameGenre;
 import fr.nicolasgille.medialibrary.models.game.VideoGame;
 
-import java.util.Calendar;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
 
@@ -36,30 +36,30 @@ import java.util.Set;
  * Implementation of the interface IMediaBuilder used to build VideoGame media.
  *
  * @author Nicolas GILLE
- * @version 1.0
+ * @version 1.2
  * @since Media-Library 0.5
  */
 public class VideoGameBuilder extends MediaBuilder {
 
     /**
-     * Create a specific media thanks to a list of string who contains all information needed for create the media.
+     * Create a specific media from the fields of a record who contains all information needed for create the media.
      *
-     * @param data A list of all data needed to build the object.
+     * @param data Fields of the record, who can be views on the buffer of a parser valid only during the call.
      *
      * @return The media entirely build.
      *
-     * @version 1.0
-     * @since 1.0
+     * @version 1.1
+     * @since 1.1
      */
     @Override
-    public IMedia build(List<String> data) {
-        String title = this.checkMissingArguments(data.get(0)) ? "" : data.get(0);
-        String originalTitle = this.checkMissingArguments(data.get(1)) ? "" : data.get(1);
-        String synopsis = this.checkMissingArguments(data.get(2)) ? "" : data.get(2);
-        Calendar releaseDate = this.buildDate(data.get(3));
+    public IMedia buildFields(List<? extends CharSequence> data) {
+        String title = this.checkMissingArguments(data.get(0)) ? "" : data.get(0).toString();
+        String originalTitle = this.checkMissingArguments(data.get(1)) ? "" : data.get(1).toString();
+        String synopsis = this.checkMissingArguments(data.get(2)) ? "" : data.get(2).toString();
+        LocalDate releaseDate = this.buildDate(data.get(3));
         List<VideoGameGenre> genres = this.buildGenreVideoGameList(data.get(4));
         List<MediaSupport> supports = this.buildSupportList(data.get(5));
-        boolean multiplayers = Boolean.parseBoolean(data.get(6));
+        boolean multiplayers = Boolean.parseBoolean(data.get(6).toString());
         List<LanguageCode> languages = this.buildLanguageList(data.get(7));
         Set<Developer> developers = this.buildDeveloperSet(data.get(8));
         Set<Publisher> publishers = this.buildPublisherSet(data.get(9));
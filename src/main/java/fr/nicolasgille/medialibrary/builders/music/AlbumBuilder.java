@@ -26,7 +26,7 @@ import fr.nicolasgille.medialibrary.models.components.MediaSupport;
 import fr.nicolasgille.medialibrary.models.components.genre.MusicGenre;
 import fr.nicolasgille.medialibrary.models.music.Album;
 
-import java.util.Calendar;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
 
@@ -34,30 +34,30 @@ import java.util.Set;
  * Implementation of the interface IMediaBuilder used to build Album media.
  *
  * @author Nicolas GILLE
- * @version 1.0
+ * @version 1.2
  * @since Media-Library 0.5
  */
 public class AlbumBuilder extends MediaBuilder {
 
     /**
-     * Create a specific media thanks to a list of string who contains all information needed for create the media.
+     * Create a specific media from the fields of a record who contains all information needed for create the media.
      *
-     * @param data A list of all data needed to build the object.
+     * @param data Fields of the record, who can be views on the buffer of a parser valid only during the call.
      *
      * @return The media entirely build.
      *
-     * @version 1.0
-     * @since 1.0
+     * @version 1.1
+     * @since 1.1
      */
     @Override
-    public IMedia build(List<String> data) {
-        String title = this.checkMissingArguments(data.get(0)) ? "" : data.get(0);
-        String tracks = this.checkMissingArguments(data.get(1)) ? "" : data.get(1);
-        Calendar releaseDate = this.buildDate(data.get(2));
+    public IMedia buildFields(List<? extends CharSequence> data) {
+        String title = this.checkMissingArguments(data.get(0)) ? "" : data.get(0).toString();
+        String tracks = this.checkMissingArguments(data.get(1)) ? "" : data.get(1).toString();
+        LocalDate releaseDate = this.buildDate(data.get(2));
         List<MusicGenre> genres = this.buildGenreMusicList(data.get(3));
         List<MediaSupport> supports = this.buildSupportList(data.get(4));
-        double length = this.checkMissingArguments(data.get(5)) ? -1 : Double.parseDouble(data.get(5));
-        int nbTracks = this.checkMissingArguments(data.get(6)) ? 0 : Integer.parseInt(data.get(6));
+        double length = this.checkMissingArguments(data.get(5)) ? -1 : Double.parseDouble(data.get(5).toString());
+        int nbTracks = this.checkMissingArguments(data.get(6)) ? 0 : Integer.parseInt(data.get(6).toString());
         Set<LabelRecords> labelRecords = this.buildLabelRecordsSet(data.get(7));
         Set<Singer> singers = this.buildSingerSet(data.get(8));
 
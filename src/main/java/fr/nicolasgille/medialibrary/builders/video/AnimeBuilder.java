@@ -27,7 +27,7 @@ import fr.nicolasgille.medialibrary.models.components.MediaSupport;
 import fr.nicolasgille.medialibrary.models.components.genre.VideoGenre;
 import fr.nicolasgille.medialibrary.models.video.Anime;
 
-import java.util.Calendar;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
 
@@ -35,37 +35,37 @@ import java.util.Set;
  * Implementation of the interface IMediaBuilder used to build Anime media.
  *
  * @author Nicolas GILLE
- * @version 1.0
+ * @version 1.2
  * @since Media-Library 0.5
  */
 public class AnimeBuilder extends MediaBuilder {
 
     /**
-     * Create a specific media thanks to a list of string who contains all information needed for create the media.
+     * Create a specific media from the fields of a record who contains all information needed for create the media.
      *
-     * @param data A list of all data needed to build the object.
+     * @param data Fields of the record, who can be views on the buffer of a parser valid only during the call.
      *
      * @return The media entirely build.
      *
-     * @version 1.0
-     * @since 1.0
+     * @version 1.1
+     * @since 1.1
      */
     @Override
-    public IMedia build(List<String> data) {
-        String title = this.checkMissingArguments(data.get(0)) ? "" : data.get(0);
-        String originalTitle = this.checkMissingArguments(data.get(1)) ? "" : data.get(1);
-        String synopsis = this.checkMissingArguments(data.get(2)) ? "" : data.get(2);
+    public IMedia buildFields(List<? extends CharSequence> data) {
+        String title = this.checkMissingArguments(data.get(0)) ? "" : data.get(0).toString();
+        String originalTitle = this.checkMissingArguments(data.get(1)) ? "" : data.get(1).toString();
+        String synopsis = this.checkMissingArguments(data.get(2)) ? "" : data.get(2).toString();
         List<VideoGenre> genres = this.buildGenreVideoList(data.get(3));
         List<MediaSupport> supports = this.buildSupportList(data.get(4));
         List<LanguageCode> languages = this.buildLanguageList(data.get(5));
         List<LanguageCode> subtitles = this.buildLanguageList(data.get(6));
-        Calendar releaseDate = this.buildDate(data.get(7));
-        Calendar endDate = this.buildDate(data.get(8));
-        int nbSeasons = Integer.parseInt(data.get(9));
-        int currentSeason = Integer.parseInt(data.get(10));
-        int nbEpisodes = Integer.parseInt(data.get(11));
-        int nbMaxEpisodes = Integer.parseInt(data.get(12));
-        int averageTime = Integer.parseInt(data.get(13));
+        LocalDate releaseDate = this.buildDate(data.get(7));
+        LocalDate endDate = this.buildDate(data.get(8));
+        int nbSeasons = Integer.parseInt(data.get(9).toString());
+        int currentSeason = Integer.parseInt(data.get(10).toString());
+        int nbEpisodes = Integer.parseInt(data.get(11).toString());
+        int nbMaxEpisodes = Integer.parseInt(data.get(12).toString());
+        int averageTime = Integer.parseInt(data.get(13).toString());
         Set<Director> directors = this.buildDirectorSet(data.get(14));
         Set<Producer> producers = this.buildProducerSet(data.get(15));
 
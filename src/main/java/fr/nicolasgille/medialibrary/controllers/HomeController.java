@@ -19,40 +19,36 @@
 package fr.nicolasgille.medialibrary.controllers;
 
 import fr.nicolasgille.medialibrary.controllers.video.AnimeController;
+import fr.nicolasgille.medialibrary.models.MediaSummary;
 import fr.nicolasgille.medialibrary.models.components.MediaSupport;
-import fr.nicolasgille.medialibrary.repositories.book.BookRepository;
-import fr.nicolasgille.medialibrary.repositories.book.ComicRepository;
-import fr.nicolasgille.medialibrary.repositories.game.VideoGameRepository;
-import fr.nicolasgille.medialibrary.repositories.music.AlbumRepository;
-import fr.nicolasgille.medialibrary.repositories.video.AnimeRepository;
-import fr.nicolasgille.medialibrary.repositories.video.CartoonRepository;
-import fr.nicolasgille.medialibrary.repositories.video.MovieRepository;
-import fr.nicolasgille.medialibrary.repositories.video.SeriesRepository;
+import fr.nicolasgille.medialibrary.search.TitleTrie;
+import fr.nicolasgille.medialibrary.services.HomePageService;
+import fr.nicolasgille.medialibrary.services.MediaSearchService;
+import fr.nicolasgille.medialibrary.utils.SmileHttpMessageConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * HomeController class.
  *
  * @author Nicolas GILLE
- * @version 1.0
+ * @version 1.5
  * @since Media-Library 1.1
  */
 @RestController
 @RequestMapping(value = "/",
-                produces = MediaType.APPLICATION_JSON_VALUE)
+                produces = {MediaType.APPLICATION_JSON_VALUE, SmileHttpMessageConverter.APPLICATION_SMILE_VALUE})
 public class HomeController {
 
     /**
@@ -70,123 +66,45 @@ public class HomeController {
     private final static String ENCODING = "UTF-8";
 
     /**
-     * @since 1.0
-     */
-    @Autowired
-    private AnimeRepository animesRepository;
-
-    /**
-     * @since 1.0
-     */
-    @Autowired
-    private CartoonRepository cartoonsRepository;
-
-    /**
-     * @since 1.0
-     */
-    @Autowired
-    private MovieRepository moviesRepository;
-
-    /**
-     * @since 1.0
-     */
-    @Autowired
-    private SeriesRepository seriesRepository;
-
-    /**
-     * @since 1.0
-     */
-    @Autowired
-    private BookRepository booksRepository;
-
-    /**
-     * @since 1.0
-     */
-    @Autowired
-    private ComicRepository comicsRepository;
-
-    /**
-     * @since 1.0
+     * Service who build the content of the home page.
+     *
+     * @since 1.2
      */
     @Autowired
-    private VideoGameRepository videoGamesRepository;
+    private HomePageService homePageService;
 
     /**
-     * @since 1.0
+     * Service used to complete the titles of all media types.
+     *
+     * @since 1.3
      */
     @Autowired
-    private AlbumRepository albumsRepository;
+    private MediaSearchService mediaSearchService;
 
     /**
-     * Return home page with all media present on Library.
+     * Return home page with the last media added on Library for each media type.
+     * <p>
+     * The content is serialized once by the HomePageService and kept in memory until a media is written,
+     * so most of the reads don't request the Database.
+     * With <code>view=summary</code>, only the identifier, title, date of release and type of the media are returned.
+     * The content is assembled from fragments of JSON, so the home page is returned only as JSON.
      *
-     * @return Return an instance of ResponseEntity who contains
+     * @param view <code>summary</code> to return the summaries of the media.
      *
-     * @version 1.0
+     * @return Return an instance of ResponseEntity who contains the last media of each media type.
+     *
+     * @version 2.3
      * @since 1.0
      */
     @RequestMapping(value = "/home/",
-                    method = RequestMethod.GET)
-    public ResponseEntity<?> getHomePage() {
-        // Instantiate a Map with key as name of the media type and value as List of specific media.
-        Map<String, List> homeContent = new HashMap<>();
-        String[] mediaName = {
-                "animes",
-                "cartoons",
-                "movies",
-                "series",
-                "books",
-                "comics",
-                "musics",
-                "video-games",
-                };
-
-        // Loop on each media type and get all media.
-        List<?> media = null;
-        for (int i = 0; i < mediaName.length; ++i) {
-            media = new ArrayList<>();
-            switch (i) {
-                case 0:
-                    media = animesRepository.findAll();
-                    break;
-
-                case 1:
-                    media = cartoonsRepository.findAll();
-                    break;
-
-                case 2:
-                    media = moviesRepository.findAll();
-                    break;
-
-                case 3:
-                    media = seriesRepository.findAll();
-                    break;
-
-                case 4:
-                    media = booksRepository.findAll();
-                    break;
-
-                case 5:
-                    media = comicsRepository.findAll();
-                    break;
-
-                case 6:
-                    media = albumsRepository.findAll();
-                    break;
-
-                case 7:
-                    media = videoGamesRepository.findAll();
-                    break;
-            }
-
-            if (media.size() > 10) {
-                homeContent.put(mediaName[i], media.subList(media.size() - 10, media.size()));
-            } else {
-                homeContent.put(mediaName[i], media.subList(0, media.size()));
-            }
-        }
-
-        return new ResponseEntity<Map>(homeContent, HttpStatus.OK);
+                    method = RequestMethod.GET,
+                    produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> getHomePage(@RequestParam(name = "view", required = false) String view) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON_UTF8);
+        byte[] homePage = MediaSummary.isRequested(view) ? homePageService.getSummaryHomePage()
+                                                         : homePageService.getHomePage();
+        return new ResponseEntity<byte[]>(homePage, headers, HttpStatus.OK);
     }
 
     /**
@@ -202,4 +120,31 @@ public class HomeController {
     public ResponseEntity<?> getMediaSupport() {
         return new ResponseEntity<>(MediaSupport.values(), HttpStatus.OK);
     }
+
+    /**
+     * Complete the beginning of a title typed by the user with the titles of all media types.
+     * <p>
+     * The completions are read from a prefix tree in memory, updated on each write of a media,
+     * so this method never request the Database.
+     * If no title begin with the prefix, this method return an HTTP 204 : No Content.
+     *
+     * @param prefix Beginning of the title typed by the user.
+     * @param limit Maximum number of completions at return, 10 at most.
+     *
+     * @return A ResponseEntity with the identifier, the title and the type of each media found.
+     *
+     * @version 1.0
+     * @since 1.3
+     */
+    @RequestMapping(value = "/media/autocomplete",
+                    method = RequestMethod.GET)
+    public ResponseEntity<?> autocomplete(@RequestParam(name = "prefix") String prefix,
+                                          @RequestParam(name = "limit", required = false) Integer limit) {
+        List<TitleTrie.Completion> completions = mediaSearchService.autocomplete(
+                prefix, limit == null ? MediaSearchService.AUTOCOMPLETE_LIMIT : limit);
+        if (completions.isEmpty()) {
+            return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
+        }
+        return new ResponseEntity<List<TitleTrie.Completion>>(completions, HttpStatus.OK);
+    }
 }
@@ -0,0 +1,216 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.controllers;
+
+import fr.nicolasgille.medialibrary.exceptions.MediaException;
+import fr.nicolasgille.medialibrary.models.Media;
+import fr.nicolasgille.medialibrary.models.MediaSummary;
+import fr.nicolasgille.medialibrary.repositories.MediaRepository;
+import fr.nicolasgille.medialibrary.services.EntityTagService;
+import fr.nicolasgille.medialibrary.services.MediaFacetService;
+import fr.nicolasgille.medialibrary.services.MediaSearchService;
+import fr.nicolasgille.medialibrary.utils.SmileHttpMessageConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Controller used to search the media of all types at once.
+ * <p>
+ * All media are stored on the table <code>media</code>, so a user who don't know the type of a media can find it
+ * with a single query or a single search on the index, instead of a request on each controller of media.
+ * The facets of all media can be counted too, to display the number of media of each value of a filter.
+ *
+ * @author Nicolas GILLE
+ * @version 1.5
+ * @since Media-Library 1.1
+ */
+@RestController
+@RequestMapping(value = "/",
+                produces = {MediaType.APPLICATION_JSON_VALUE, SmileHttpMessageConverter.APPLICATION_SMILE_VALUE})
+public class MediaController {
+
+    /**
+     * Logger to get information during some process.
+     *
+     * @since 1.0
+     */
+    static final Logger logger = LoggerFactory.getLogger(MediaController.class);
+
+    /**
+     * Repository of all media.
+     *
+     * @since 1.0
+     */
+    @Autowired
+    private MediaRepository mediaRepository;
+
+    /**
+     * Service used to search the media by full text.
+     *
+     * @since 1.0
+     */
+    @Autowired
+    private MediaSearchService mediaSearchService;
+
+    /**
+     * Service used to count the media of each facet.
+     *
+     * @since 1.1
+     */
+    @Autowired
+    private MediaFacetService mediaFacetService;
+
+    /**
+     * Service used to answer the conditional requests from the versions of the media.
+     *
+     * @since 1.3
+     */
+    @Autowired
+    private EntityTagService entityTagService;
+
+    /**
+     * Search the media of all types by title.
+     * <p>
+     * The media found are grouped by type, with the value of the column <code>media_type</code> as key,
+     * and ordered by relevance on each type.
+     * If no media is found, this method return an HTTP 204 : No Content.
+     * With <code>fuzzy=true</code>, the titles close to the title searched are returned, the most similar first.
+     * With <code>view=summary</code>, only the summaries of the media found are returned.
+     *
+     * @param title Title of the media at search.
+     * @param fuzzy True to search the titles similar to the title, to find them despite typos.
+     * @param view <code>summary</code> to return the summaries of the media.
+     *
+     * @return A ResponseEntity with the media found grouped by type, or an error HTTP 204 : No Content.
+     *
+     * @version 1.1
+     * @since 1.0
+     */
+    @RequestMapping(value = "/media/search",
+                    method = RequestMethod.GET)
+    public ResponseEntity<?> search(@RequestParam(name = "title") String title,
+                                    @RequestParam(name = "fuzzy", required = false, defaultValue = "false")
+                                            boolean fuzzy,
+                                    @RequestParam(name = "view", required = false) String view) {
+        logger.info("Fetching Media with title {}", title);
+        if (MediaSummary.isRequested(view)) {
+            List<MediaSummary> summaries = mediaSearchService.searchSummaries(title, fuzzy, Media.class,
+                    mediaRepository::findSummariesByIdIn, mediaRepository::findSummariesByTitleContaining);
+            if (summaries.isEmpty()) {
+                return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
+            }
+
+            Map<String, List<MediaSummary>> summariesByType = new LinkedHashMap<>();
+            for (MediaSummary summary : summaries) {
+                summariesByType.computeIfAbsent(summary.getType(), type -> new ArrayList<>()).add(summary);
+            }
+            return new ResponseEntity<Map<String, List<MediaSummary>>>(summariesByType, HttpStatus.OK);
+        }
+
+        List<Media> media = mediaSearchService.search(title, fuzzy, Media.class, mediaRepository::findAll,
+                                                      mediaRepository::findByTitleIgnoreCaseContaining);
+        if (media.isEmpty()) {
+            return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
+        }
+
+        Map<String, List<Media>> mediaByType = new LinkedHashMap<>();
+        for (Media m : media) {
+            mediaByType.computeIfAbsent(MediaSearchService.discriminator(m.getClass()), type -> new ArrayList<>())
+                       .add(m);
+        }
+        return new ResponseEntity<Map<String, List<Media>>>(mediaByType, HttpStatus.OK);
+    }
+
+    /**
+     * Count the media of each value of each facet.
+     * <p>
+     * The values can be selected on each facet with the name of the facet as parameter, like
+     * <code>type=movie&amp;videoGenre=ACTION,DRAMA&amp;support=DVD</code> : the values of a facet are combined with OR
+     * and the facets with AND.
+     * The response contains the number of media who match the selection as <code>total</code> and, for each facet,
+     * the number of media of each value who match the selection of the other facets as <code>facets</code>.
+     * The counts are computed from the facets in memory, so this method never request the Database.
+     * While the facets are indexed at startup, the request receive an HTTP 503 : Service Unavailable.
+     *
+     * @param filters Parameters of the request, with the values selected on each facet.
+     *
+     * @return A ResponseEntity with the number of media found and the counts of each facet.
+     *
+     * @version 1.1
+     * @since 1.1
+     */
+    @RequestMapping(value = "/media/facets",
+                    method = RequestMethod.GET)
+    public ResponseEntity<?> getFacets(@RequestParam MultiValueMap<String, String> filters) {
+        if (!mediaFacetService.isReady()) {
+            logger.error("Facets not ready yet");
+            return new ResponseEntity<Object>(new MediaException("The facets are being indexed, retry later."),
+                                              HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        return new ResponseEntity<Map<String, Object>>(mediaFacetService.facets(filters), HttpStatus.OK);
+    }
+
+    /**
+     * Return a media by his identifier, whatever his type.
+     * <p>
+     * The response contains the version of the media on the header <code>ETag</code> and the date of his last
+     * modification on <code>Last-Modified</code> : if the media has not been modified since, a request with them on
+     * <code>If-None-Match</code> or <code>If-Modified-Since</code> receive an HTTP 304 : Not Modified
+     * without the media read.
+     *
+     * @param id Identifier of the media on Database.
+     * @param request Request of the client, with the tag of the media already read on <code>If-None-Match</code>.
+     *
+     * @return A ResponseEntity with the media found, or an error HTTP 404 : Not Found.
+     *
+     * @version 1.1
+     * @since 1.0
+     */
+    @RequestMapping(value = "/media/{id}",
+                    method = RequestMethod.GET)
+    public ResponseEntity<?> getMediaById(@PathVariable(value = "id") long id, WebRequest request) {
+        logger.info("Fetching Media with id {}", id);
+        if (entityTagService.checkNotModified(request, Media.class, id)) {
+            return null;
+        }
+        Media media = mediaRepository.findOne(id);
+        if (media == null) {
+            logger.error("Media with id {} not found.", id);
+            return new ResponseEntity<Object>(new MediaException("Media with id " + id + " not found."),
+                                              HttpStatus.NOT_FOUND);
+        }
+        return new ResponseEntity<Media>(media, HttpStatus.OK);
+    }
+}
@@ -18,30 +18,46 @@
 
 package fr.nicolasgille.medialibrary.controllers.book;
 
+import fr.nicolasgille.medialibrary.builders.book.BookBuilder;
 import fr.nicolasgille.medialibrary.exceptions.book.BookException;
+import fr.nicolasgille.medialibrary.models.MediaSummary;
 import fr.nicolasgille.medialibrary.models.book.Book;
 import fr.nicolasgille.medialibrary.models.common.company.Publisher;
 import fr.nicolasgille.medialibrary.models.common.person.Author;
 import fr.nicolasgille.medialibrary.models.components.BookFormat;
 import fr.nicolasgille.medialibrary.models.components.genre.BookGenre;
 import fr.nicolasgille.medialibrary.repositories.book.BookRepository;
-import fr.nicolasgille.medialibrary.repositories.common.company.PublisherRepository;
-import fr.nicolasgille.medialibrary.repositories.common.person.AuthorRepository;
+import fr.nicolasgille.medialibrary.services.BatchCreateService;
+import fr.nicolasgille.medialibrary.services.EntityTagService;
+import fr.nicolasgille.medialibrary.services.HomePageService;
+import fr.nicolasgille.medialibrary.services.ImportService;
+import fr.nicolasgille.medialibrary.services.MediaFacetService;
+import fr.nicolasgille.medialibrary.services.MediaSearchService;
+import fr.nicolasgille.medialibrary.services.NdjsonExportService;
+import fr.nicolasgille.medialibrary.services.PersonResolver;
+import fr.nicolasgille.medialibrary.utils.MediaLog;
+import fr.nicolasgille.medialibrary.utils.PageCursor;
+import fr.nicolasgille.medialibrary.utils.SmileHttpMessageConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 
 /**
  * Controller of the app to interact with books present on Media-Library.
@@ -50,12 +66,12 @@ import java.util.Set;
  * You can add you own method of research if you would have a new research type of book.
  *
  * @author Nicolas GILLE
- * @version 1.1.1
+ * @version 1.15
  * @since Media-Library 0.4
  */
 @RestController
 @RequestMapping(value = "/",
-                produces = MediaType.APPLICATION_JSON_VALUE)
+                produces = {MediaType.APPLICATION_JSON_VALUE, SmileHttpMessageConverter.APPLICATION_SMILE_VALUE})
 public class BookController {
 
     /**
@@ -81,41 +97,168 @@ public class BookController {
     private BookRepository bookRepository;
 
     /**
-     * Repository used to interact with authors present on the service.
+     * Service used to export all books as newline delimited JSON.
      *
-     * @since 1.0
+     * @since 1.2
      */
     @Autowired
-    private AuthorRepository authorRepository;
+    private NdjsonExportService ndjsonExportService;
 
     /**
-     * Repository used to interact with publishers present on the service.
+     * Service who build the content of the home page, invalidated on each write.
      *
-     * @since 1.0
+     * @since 1.3
+     */
+    @Autowired
+    private HomePageService homePageService;
+
+    /**
+     * Service used to search the books by full text, updated on each write.
+     *
+     * @since 1.4
+     */
+    @Autowired
+    private MediaSearchService mediaSearchService;
+
+    /**
+     * Service used to filter the books on their facets, updated on each write.
+     *
+     * @since 1.6
+     */
+    @Autowired
+    private MediaFacetService mediaFacetService;
+
+    /**
+     * Service used to find or create the persons and companies of the books with a few queries.
+     *
+     * @since 1.8
+     */
+    @Autowired
+    private PersonResolver personResolver;
+
+    /**
+     * Service used to create several books with a single request.
+     *
+     * @since 1.9
+     */
+    @Autowired
+    private BatchCreateService batchCreateService;
+
+    /**
+     * Service used to import the books of a CSV or TSV file.
+     *
+     * @since 1.10
+     */
+    @Autowired
+    private ImportService importService;
+
+    /**
+     * Service used to answer the conditional requests from the versions of the books.
+     *
+     * @since 1.12
      */
     @Autowired
-    private PublisherRepository publisherRepository;
+    private EntityTagService entityTagService;
 
     /**
      * Return all books found on Database.
      * <p>
      * This method return a ResponseEntity object who contains a list of books found on the Database.
      * If the database is empty, this method return an error HTTP 204 : No Content.
-     * This method can call only by GET request and take nothing parameter to work.
+     * This method can call only by GET request.
+     * The result is paginated on the identifier : the response contains at most <code>limit</code> elements and the
+     * header <code>X-Next-Cursor</code> contains the cursor at send as <code>after</code> to get the next page.
+     * The books can be filtered on their facets, like <code>bookGenre=ACTION&amp;support=PAPER</code> :
+     * the values of a facet are combined with OR and the facets with AND.
+     * While the facets are indexed at startup, a filtered request receive an HTTP 503 : Service Unavailable.
+     * With <code>view=summary</code>, only the identifier, title, date of release and type of the books
+     * are read and returned.
+     * The response contains the tag of the list on the header <code>ETag</code> : if no book has been created,
+     * updated or deleted since, a request with this tag on <code>If-None-Match</code> receive an HTTP 304 : Not
+     * Modified without the books read.
+     *
+     * @param after Cursor of the previous page, or nothing to get the first page.
+     * @param limit Maximum number of elements on the page.
+     * @param view <code>summary</code> to return the summaries of the books.
+     * @param filters Parameters of the request, with the values selected on each facet.
+     * @param request Request of the client, with the tag of the list already read on <code>If-None-Match</code>.
      *
      * @return A ResponseEntity with all books found on Database, or an error HTTP 204 : No Content.
      *
-     * @version 1.0
+     * @version 2.4
      * @since 1.0
      */
     @RequestMapping(value = "/books/",
                     method = RequestMethod.GET)
-    public ResponseEntity getAll() {
-        List<Book> books = bookRepository.findAll();
+    public ResponseEntity getAll(@RequestParam(name = "after", required = false) String after,
+                                 @RequestParam(name = "limit", required = false) Integer limit,
+                                 @RequestParam(name = "view", required = false) String view,
+                                 @RequestParam MultiValueMap<String, String> filters,
+                                 WebRequest request) {
+        long lastId = PageCursor.decode(after);
+        if (lastId == PageCursor.INVALID_CURSOR) {
+            logger.error("Invalid cursor {}", after);
+            return new ResponseEntity<Object>(new BookException("Invalid cursor " + after),
+                                              HttpStatus.BAD_REQUEST);
+        }
+
+        if (mediaFacetService.isFiltered(filters) && !mediaFacetService.isReady()) {
+            logger.error("Facets not ready yet");
+            return new ResponseEntity<Object>(new BookException("The facets are being indexed, retry later."),
+                                              HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        if (entityTagService.checkNotModified(request, Book.class)) {
+            return null;
+        }
+
+        if (MediaSummary.isRequested(view)) {
+            List<MediaSummary> summaries;
+            if (mediaFacetService.isFiltered(filters)) {
+                summaries = mediaFacetService.pageSummaries(Book.class, filters, lastId, limit,
+                                                            bookRepository::findSummariesByIdIn);
+            } else {
+                summaries = bookRepository.findSummariesByIdGreaterThan(lastId, PageCursor.pageable(limit));
+            }
+            if (summaries.isEmpty()) {
+                return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
+            }
+            HttpHeaders headers = PageCursor.nextPageHeaders(summaries, limit, MediaSummary::getId);
+            return new ResponseEntity<List<MediaSummary>>(summaries, headers, HttpStatus.OK);
+        }
+
+        List<Book> books;
+        if (mediaFacetService.isFiltered(filters)) {
+            books = mediaFacetService.page(Book.class, filters, lastId, limit, bookRepository::findAll);
+        } else {
+            books = bookRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageCursor.pageable(limit));
+        }
         if (books.isEmpty()) {
             return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
         }
-        return new ResponseEntity<List<Book>>(books, HttpStatus.OK);
+        HttpHeaders headers = PageCursor.nextPageHeaders(books, limit, Book::getId);
+        return new ResponseEntity<List<Book>>(books, headers, HttpStatus.OK);
+    }
+
+    /**
+     * Export all books found on Database as newline delimited JSON.
+     * <p>
+     * This method is selected when the client accept <code>application/x-ndjson</code>.
+     * The books are streamed from the Database and written one by one on the response,
+     * so the memory used by the export doesn't depend on the number of books.
+     * If the database is empty, this method return an error HTTP 204 : No Content.
+     *
+     * @param response Response where the books are written.
+     *
+     * @throws IOException If the response can't be written.
+     * @version 1.0
+     * @since 1.2
+     */
+    @RequestMapping(value = "/books/",
+                    method = RequestMethod.GET,
+                    produces = NdjsonExportService.APPLICATION_NDJSON_VALUE)
+    public void export(HttpServletResponse response) throws IOException {
+        ndjsonExportService.export(response, bookRepository::streamAll);
     }
 
     /**
@@ -128,23 +271,37 @@ public class BookController {
      * parameter the title of the book at research.
      * The title is encoded in <code>UTF8</code> to avoid problems with specials characters and it decoded before used
      * on search process.
+     * <p>
+     * With <code>fuzzy=true</code>, the titles close to the title searched are returned, the most similar first.
+     * With <code>view=summary</code>, only the summaries of the books found are returned.
      *
      * @param titleEncoded Title of the book encoded to search on Database.
+     * @param fuzzy True to search the titles similar to the title, to find them despite typos.
+     * @param view <code>summary</code> to return the summaries of the books.
      *
      * @return A ResponseEntity with the all books found on Database, or an error HTTP 204 : No Content.
      *
      * @throws UnsupportedEncodingException The method throw an <code>UnsupportedEncodingException</code> when a
      *         problem occurred during title decoding.
-     * @version 1.0.1
+     * @version 1.3
      * @since 1.0
      */
     @RequestMapping(value = "/books/search/title/{title}",
                     method = RequestMethod.GET)
-    public ResponseEntity<?> getBooksByTitle(@PathVariable(value = "title") String titleEncoded)
+    public ResponseEntity<?> getBooksByTitle(
+            @PathVariable(value = "title") String titleEncoded,
+            @RequestParam(name = "fuzzy", required = false, defaultValue = "false") boolean fuzzy,
+            @RequestParam(name = "view", required = false) String view)
             throws UnsupportedEncodingException {
         String title = URLDecoder.decode(titleEncoded, BookController.ENCODING);
         logger.info("Fetching Book with title {}", title);
-        List<Book> books = bookRepository.findByTitleIgnoreCaseContaining(title);
+        if (MediaSummary.isRequested(view)) {
+            List<MediaSummary> summaries = mediaSearchService.searchSummaries(title, fuzzy, Book.class,
+                    bookRepository::findSummariesByIdIn, bookRepository::findSummariesByTitleContaining);
+            return new ResponseEntity<List<MediaSummary>>(summaries, HttpStatus.OK);
+        }
+        List<Book> books = mediaSearchService.search(title, fuzzy, Book.class, bookRepository::findAll,
+                                                     bookRepository::findByTitleIgnoreCaseContaining);
         if (books == null) {
             logger.error("Book(s) with title {} not found.", title);
             return new ResponseEntity<Object>(new BookException("Book(s) with title " + title + " not found."),
@@ -161,17 +318,25 @@ public class BookController {
      * In other case, this method return the book found in body response and the success code HTTP 200.
      * This method is call only by the method HTTP <em>GET</em>, and it's necessary to passed on
      * parameter the identifier of the book at research.
+     * The response contains the version of the book on the header <code>ETag</code> and the date of his last
+     * modification on <code>Last-Modified</code> : if the book has not been modified since, a request with them on
+     * <code>If-None-Match</code> or <code>If-Modified-Since</code> receive an HTTP 304 : Not Modified
+     * without the book read.
      *
      * @param id Identifier of the Book on Database.
+     * @param request Request of the client, with the tag of the book already read on <code>If-None-Match</code>.
      *
      * @return A ResponseEntity with the book found on Database, or an error HTTP 204 : No Content.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.1
      */
     @RequestMapping(value = "/books/search/id/{id}")
-    public ResponseEntity<?> getBookById(@PathVariable(value = "id") long id) {
+    public ResponseEntity<?> getBookById(@PathVariable(value = "id") long id, WebRequest request) {
         logger.info("Fetching Book with id {}", id);
+        if (entityTagService.checkNotModified(request, Book.class, id)) {
+            return null;
+        }
         Book book = bookRepository.findOne(id);
         if (book == null) {
             logger.error("Book with id {} not found.", id);
@@ -194,14 +359,12 @@ public class BookController {
      *
      * @return A ResponseEntity with the book added, or an error HTTP 409 : CONFLICT.
      *
-     * @version 1.0
+     * @version 1.3
      * @since 1.0
      */
     @RequestMapping(value = "/books/",
                     method = RequestMethod.POST)
     public ResponseEntity<?> create(@RequestBody Book book, UriComponentsBuilder uriBuilder) {
-        logger.info("Created book : {}", book);
-
         // Check if the book already exist on database.
         Book bookExist = bookRepository.findByTitleAndReleaseDate(book.getTitle(), book.getReleaseDate());
         if (bookExist != null) {
@@ -211,40 +374,15 @@ public class BookController {
                     HttpStatus.CONFLICT);
         }
 
-        // Check if the author are present on Database or not.
-        Set<Author> authorsOnBook = book.getAuthors();
-        Set<Author> authors = new HashSet<Author>();
-        for (Author a : authorsOnBook) {
-            Author authorExist = authorRepository.findByFirstNameAndLastName(a.getFirstName(), a.getLastName());
-            // If the author is not present on Database, it add on it.
-            if (authorExist == null) {
-                logger.info("Created author : {}", a);
-                authorRepository.save(a);
-                authors.add(a);
-            } else {
-                logger.info("Added author {} already present on persistent system", authorExist);
-                authors.add(authorExist);
-            }
-        }
-        book.setAuthors(authors);
-
-        // Check if the publisher are present on Database or not.
-        Set<Publisher> publishersOnBook = book.getPublishers();
-        Set<Publisher> publishers = new HashSet<Publisher>();
-        for (Publisher p : publishersOnBook) {
-            Publisher publisherExist = publisherRepository.findByName(p.getName());
-            // If the publisher is not present on Database, it add on it.
-            if (publisherExist == null) {
-                logger.info("Created publisher : {}", p);
-                publisherRepository.save(p);
-                publishers.add(p);
-            } else {
-                logger.info("Added publisher {} already present on persistent system", publisherExist);
-                publishers.add(publisherExist);
-            }
-        }
-        book.setPublishers(publishers);
+        // Use the authors stored on Database, the missing ones are created.
+        book.setAuthors(personResolver.persons(Author.class, book.getAuthors()));
+
+        // Use the publishers stored on Database, the missing ones are created.
+        book.setPublishers(personResolver.companies(Publisher.class, book.getPublishers()));
         bookRepository.save(book);
+        logger.info("Created book : {}", MediaLog.of(logger, book));
+        homePageService.invalidate(HomePageService.BOOKS);
+        mediaSearchService.index(book);
 
         HttpHeaders header = new HttpHeaders();
         header.setLocation(uriBuilder.path("/media-library/books/search/id/{id}")
@@ -253,6 +391,57 @@ public class BookController {
         return new ResponseEntity<String>(header, HttpStatus.CREATED);
     }
 
+    /**
+     * Add several books on the Database with a single request.
+     * <p>
+     * The body contains a JSON array of books or one book by line, read one at a time, and the books are
+     * committed by chunks.
+     * The response contains the result of each book : created, or HTTP 409 : CONFLICT if already present.
+     *
+     * @param request Request with the books at insert on the body.
+     * @param response Response where the results are written.
+     *
+     * @throws IOException If the body can't be read or the response can't be written.
+     * @version 1.1
+     * @since 1.9
+     */
+    @RequestMapping(value = "/books/batch",
+                    method = RequestMethod.POST,
+                    consumes = {MediaType.APPLICATION_JSON_VALUE, NdjsonExportService.APPLICATION_NDJSON_VALUE})
+    public void createBatch(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        logger.info("Creating books by batch");
+        batchCreateService.create(request.getInputStream(), response, Book.class, bookRepository, this::exists,
+                                  BookController::key, this::resolve, HomePageService.BOOKS);
+    }
+
+    /**
+     * Import the books of a CSV or TSV file sent on the body of the request.
+     * <p>
+     * Each record of the file is a book, with the columns read by the BookBuilder.
+     * The file is parsed, the books built and saved by chunks at the same time, and the books already
+     * present on the Database are ignored.
+     *
+     * @param request Request with the file at import on the body.
+     *
+     * @return A ResponseEntity with the number of books read, created and already present, and the records
+     *         who can't be imported.
+     *
+     * @throws IOException If the body can't be read.
+     * @version 1.0
+     * @since 1.10
+     */
+    @RequestMapping(value = "/books/import",
+                    method = RequestMethod.POST,
+                    consumes = {ImportService.TEXT_CSV_VALUE, ImportService.TEXT_TSV_VALUE})
+    public ResponseEntity<?> importFile(HttpServletRequest request) throws IOException {
+        logger.info("Importing books from a file");
+        Map<String, Object> report = importService.importFile(request.getInputStream(), request.getContentType(),
+                                                              new BookBuilder(), Book.class, bookRepository,
+                                                              this::exists, BookController::key, this::resolve,
+                                                              HomePageService.BOOKS);
+        return new ResponseEntity<Map<String, Object>>(report, HttpStatus.OK);
+    }
+
     /**
      * Update a book present on the Database.
      * <p>
@@ -260,18 +449,22 @@ public class BookController {
      * It the book is not found, the method return an error with the HTTP code 404.
      * In other case, it update the information about the book and return in the body the book update
      * can use to check if the modification are succeeded and the HTTP code 200.
+     * If the header <code>If-Match</code> doesn't contain the tag of the current version of the book,
+     * or if the book is updated by another request at the same time, the method return an error
+     * HTTP 412 : PRECONDITION FAILED. The response contains the tag of the new version on <code>ETag</code>.
      *
      * @param id Id of the book on Database.
      * @param book Book with new content at update.
+     * @param request Request of the client, with the tag of the book read on <code>If-Match</code>.
      *
      * @return A ResponseEntity with all books found on Database, or an error HTTP 404 : NOT FOUND.
      *
-     * @version 1.0
+     * @version 1.4
      * @since 1.0
      */
     @RequestMapping(value = "/books/{id}",
                     method = RequestMethod.PUT)
-    public ResponseEntity<?> update(@PathVariable("id") long id, @RequestBody Book book) {
+    public ResponseEntity<?> update(@PathVariable("id") long id, @RequestBody Book book, WebRequest request) {
         logger.info("Updating Book with id {}", id);
 
         Book bookAtUpdate = bookRepository.findOne(id);
@@ -281,44 +474,36 @@ public class BookController {
                                               HttpStatus.NOT_FOUND);
         }
 
-        // Check if the author are present on Database or not.
-        Set<Author> authorsOnBook = book.getAuthors();
-        Set<Author> authors = new HashSet<Author>();
-        for (Author a : authorsOnBook) {
-            Author authorExist = authorRepository.findByFirstNameAndLastName(a.getFirstName(), a.getLastName());
-            // If the author is not present on Database, it add on it.
-            if (authorExist == null) {
-                logger.info("Created author : {}", a);
-                authorRepository.save(a);
-                authors.add(a);
-            } else {
-                logger.info("Added author {} already present on persistent system", authorExist);
-                authors.add(authorExist);
-            }
+        if (!entityTagService.matches(request, bookAtUpdate)) {
+            logger.error("Unable to update. Book with id {} has been modified", id);
+            return new ResponseEntity<Object>(
+                    new BookException("Unable to update. Book with id " + id + " has been modified"),
+                    HttpStatus.PRECONDITION_FAILED);
         }
-        book.setAuthors(authors);
-
-        // Check if the publisher are present on Database or not.
-        Set<Publisher> publishersOnBook = book.getPublishers();
-        Set<Publisher> publishers = new HashSet<Publisher>();
-        for (Publisher p : publishersOnBook) {
-            Publisher publisherExist = publisherRepository.findByName(p.getName());
-            // If the publisher is not present on Database, it add on it.
-            if (publisherExist == null) {
-                logger.info("Created publisher : {}", p);
-                publisherRepository.save(p);
-                publishers.add(p);
-            } else {
-                logger.info("Added publisher {} already present on persistent system", publisherExist);
-                publishers.add(publisherExist);
-            }
-        }
-        book.setPublishers(publishers);
+
+        // Use the authors stored on Database, the missing ones are created.
+        book.setAuthors(personResolver.persons(Author.class, book.getAuthors()));
+
+        // Use the publishers stored on Database, the missing ones are created.
+        book.setPublishers(personResolver.companies(Publisher.class, book.getPublishers()));
 
         // Copy content of the book receive on request body on the book retrieve from the database.
+        long version = bookAtUpdate.getVersion();
         bookAtUpdate = new Book(book);
-        bookRepository.save(bookAtUpdate);
-        return new ResponseEntity<Object>(bookAtUpdate, HttpStatus.OK);
+        bookAtUpdate.setId(id);
+        bookAtUpdate.setVersion(version);
+        try {
+            bookAtUpdate = bookRepository.save(bookAtUpdate);
+        } catch (OptimisticLockingFailureException e) {
+            logger.error("Unable to update. Book with id {} has been modified during the update", id);
+            return new ResponseEntity<Object>(
+                    new BookException("Unable to update. Book with id " + id + " has been modified"),
+                    HttpStatus.PRECONDITION_FAILED);
+        }
+        homePageService.invalidate(HomePageService.BOOKS);
+        mediaSearchService.index(bookAtUpdate);
+        HttpHeaders headers = EntityTagService.headers(request, bookAtUpdate.getVersion());
+        return new ResponseEntity<Object>(bookAtUpdate, headers, HttpStatus.OK);
     }
 
     /**
@@ -333,7 +518,7 @@ public class BookController {
      *
      * @return A ResponseEntity with all books found on Database, or an error HTTP 404 : NOT_FOUND.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
     @RequestMapping(value = "/books/{id}",
@@ -349,6 +534,8 @@ public class BookController {
         }
 
         bookRepository.delete(book);
+        homePageService.invalidate(HomePageService.BOOKS);
+        mediaSearchService.remove(book.getId());
         return new ResponseEntity<Object>(book, HttpStatus.OK);
     }
 
@@ -379,4 +566,46 @@ public class BookController {
     public ResponseEntity<?> getBookFormat() {
         return new ResponseEntity<>(BookFormat.values(), HttpStatus.OK);
     }
+
+    /**
+     * Check if a book is already present on the Database.
+     *
+     * @param book Book at check.
+     *
+     * @return True if the book is already present on the Database.
+     *
+     * @version 1.0
+     * @since 1.10
+     */
+    private boolean exists(Book book) {
+        return bookRepository.findByTitleAndReleaseDate(book.getTitle(), book.getReleaseDate()) != null;
+    }
+
+    /**
+     * Key of a book, the fields checked by {@link #exists(Book)} compared between the books of a chunk.
+     *
+     * @param book Book at check.
+     *
+     * @return The title and release date of the book.
+     *
+     * @version 1.0
+     * @since 1.15
+     */
+    private static List<Object> key(Book book) {
+        return BatchCreateService.key(book.getTitle(), book.getReleaseDate());
+    }
+
+    /**
+     * Replace the persons and companies of several books by the persons and companies stored on the Database,
+     * the missing ones are created.
+     *
+     * @param books Books at complete.
+     *
+     * @version 1.0
+     * @since 1.10
+     */
+    private void resolve(List<Book> books) {
+        personResolver.persons(Author.class, books, Book::getAuthors, Book::setAuthors);
+        personResolver.companies(Publisher.class, books, Book::getPublishers, Book::setPublishers);
+    }
 }
@@ -18,7 +18,9 @@
 
 package fr.nicolasgille.medialibrary.controllers.book;
 
+import fr.nicolasgille.medialibrary.builders.book.ComicBuilder;
 import fr.nicolasgille.medialibrary.exceptions.book.ComicException;
+import fr.nicolasgille.medialibrary.models.MediaSummary;
 import fr.nicolasgille.medialibrary.models.book.Comic;
 import fr.nicolasgille.medialibrary.models.common.company.Publisher;
 import fr.nicolasgille.medialibrary.models.common.person.Author;
@@ -26,24 +28,37 @@ import fr.nicolasgille.medialibrary.models.common.person.Illustrator;
 import fr.nicolasgille.medialibrary.models.components.BookFormat;
 import fr.nicolasgille.medialibrary.models.components.genre.BookGenre;
 import fr.nicolasgille.medialibrary.repositories.book.ComicRepository;
-import fr.nicolasgille.medialibrary.repositories.common.company.PublisherRepository;
-import fr.nicolasgille.medialibrary.repositories.common.person.AuthorRepository;
-import fr.nicolasgille.medialibrary.repositories.common.person.IllustratorRepository;
+import fr.nicolasgille.medialibrary.services.BatchCreateService;
+import fr.nicolasgille.medialibrary.services.EntityTagService;
+import fr.nicolasgille.medialibrary.services.HomePageService;
+import fr.nicolasgille.medialibrary.services.ImportService;
+import fr.nicolasgille.medialibrary.services.MediaFacetService;
+import fr.nicolasgille.medialibrary.services.MediaSearchService;
+import fr.nicolasgille.medialibrary.services.NdjsonExportService;
+import fr.nicolasgille.medialibrary.services.PersonResolver;
+import fr.nicolasgille.medialibrary.utils.MediaLog;
+import fr.nicolasgille.medialibrary.utils.PageCursor;
+import fr.nicolasgille.medialibrary.utils.SmileHttpMessageConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 
 /**
  * Controller of the app to interact with comics present on Media-Library.
@@ -52,12 +67,12 @@ import java.util.Set;
  * You can add you own method of research if you would have a new research type of comic.
  *
  * @author Nicolas GILLE
- * @version 1.2
+ * @version 1.16
  * @since Media-Library 0.4
  */
 @RestController
 @RequestMapping(value = "/",
-                produces = MediaType.APPLICATION_JSON_VALUE)
+                produces = {MediaType.APPLICATION_JSON_VALUE, SmileHttpMessageConverter.APPLICATION_SMILE_VALUE})
 public class ComicController {
 
     /**
@@ -83,49 +98,168 @@ public class ComicController {
     private ComicRepository comicRepository;
 
     /**
-     * Repository used to interact with authors present on the service.
+     * Service used to export all comics as newline delimited JSON.
      *
-     * @since 1.0
+     * @since 1.3
      */
     @Autowired
-    private AuthorRepository authorRepository;
+    private NdjsonExportService ndjsonExportService;
 
     /**
-     * Repository used to interact with publishers present on the service.
+     * Service who build the content of the home page, invalidated on each write.
      *
-     * @since 1.0
+     * @since 1.4
      */
     @Autowired
-    private PublisherRepository publisherRepository;
+    private HomePageService homePageService;
 
     /**
-     * Repository used to interact with illustrators present on the service.
+     * Service used to search the comics by full text, updated on each write.
      *
-     * @since 1.0
+     * @since 1.5
+     */
+    @Autowired
+    private MediaSearchService mediaSearchService;
+
+    /**
+     * Service used to filter the comics on their facets, updated on each write.
+     *
+     * @since 1.7
+     */
+    @Autowired
+    private MediaFacetService mediaFacetService;
+
+    /**
+     * Service used to find or create the persons and companies of the comics with a few queries.
+     *
+     * @since 1.9
+     */
+    @Autowired
+    private PersonResolver personResolver;
+
+    /**
+     * Service used to create several comics with a single request.
+     *
+     * @since 1.10
+     */
+    @Autowired
+    private BatchCreateService batchCreateService;
+
+    /**
+     * Service used to import the comics of a CSV or TSV file.
+     *
+     * @since 1.11
+     */
+    @Autowired
+    private ImportService importService;
+
+    /**
+     * Service used to answer the conditional requests from the versions of the comics.
+     *
+     * @since 1.13
      */
     @Autowired
-    private IllustratorRepository illustratorRepository;
+    private EntityTagService entityTagService;
 
     /**
      * Return all comics found on Database.
      * <p>
      * This method return a ResponseEntity object who contains a list of comics found on the Database.
      * If the database is empty, this method return an error HTTP 204 : No Content.
-     * This method can call only by GET request and take nothing parameter to work.
+     * This method can call only by GET request.
+     * The result is paginated on the identifier : the response contains at most <code>limit</code> elements and the
+     * header <code>X-Next-Cursor</code> contains the cursor at send as <code>after</code> to get the next page.
+     * The comics can be filtered on their facets, like <code>bookGenre=ACTION&amp;support=PAPER</code> :
+     * the values of a facet are combined with OR and the facets with AND.
+     * While the facets are indexed at startup, a filtered request receive an HTTP 503 : Service Unavailable.
+     * With <code>view=summary</code>, only the identifier, title, date of release and type of the comics
+     * are read and returned.
+     * The response contains the tag of the list on the header <code>ETag</code> : if no comic has been created,
+     * updated or deleted since, a request with this tag on <code>If-None-Match</code> receive an HTTP 304 : Not
+     * Modified without the comics read.
+     *
+     * @param after Cursor of the previous page, or nothing to get the first page.
+     * @param limit Maximum number of elements on the page.
+     * @param view <code>summary</code> to return the summaries of the comics.
+     * @param filters Parameters of the request, with the values selected on each facet.
+     * @param request Request of the client, with the tag of the list already read on <code>If-None-Match</code>.
      *
      * @return A ResponseEntity with all comics found on Database, or an error HTTP 204 : No Content.
      *
-     * @version 1.0
+     * @version 2.4
      * @since 1.0
      */
     @RequestMapping(value = "/comics/",
                     method = RequestMethod.GET)
-    public ResponseEntity getAll() {
-        List<Comic> comics = comicRepository.findAll();
+    public ResponseEntity getAll(@RequestParam(name = "after", required = false) String after,
+                                 @RequestParam(name = "limit", required = false) Integer limit,
+                                 @RequestParam(name = "view", required = false) String view,
+                                 @RequestParam MultiValueMap<String, String> filters,
+                                 WebRequest request) {
+        long lastId = PageCursor.decode(after);
+        if (lastId == PageCursor.INVALID_CURSOR) {
+            logger.error("Invalid cursor {}", after);
+            return new ResponseEntity<Object>(new ComicException("Invalid cursor " + after),
+                                              HttpStatus.BAD_REQUEST);
+        }
+
+        if (mediaFacetService.isFiltered(filters) && !mediaFacetService.isReady()) {
+            logger.error("Facets not ready yet");
+            return new ResponseEntity<Object>(new ComicException("The facets are being indexed, retry later."),
+                                              HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        if (entityTagService.checkNotModified(request, Comic.class)) {
+            return null;
+        }
+
+        if (MediaSummary.isRequested(view)) {
+            List<MediaSummary> summaries;
+            if (mediaFacetService.isFiltered(filters)) {
+                summaries = mediaFacetService.pageSummaries(Comic.class, filters, lastId, limit,
+                                                            comicRepository::findSummariesByIdIn);
+            } else {
+                summaries = comicRepository.findSummariesByIdGreaterThan(lastId, PageCursor.pageable(limit));
+            }
+            if (summaries.isEmpty()) {
+                return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
+            }
+            HttpHeaders headers = PageCursor.nextPageHeaders(summaries, limit, MediaSummary::getId);
+            return new ResponseEntity<List<MediaSummary>>(summaries, headers, HttpStatus.OK);
+        }
+
+        List<Comic> comics;
+        if (mediaFacetService.isFiltered(filters)) {
+            comics = mediaFacetService.page(Comic.class, filters, lastId, limit, comicRepository::findAll);
+        } else {
+            comics = comicRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageCursor.pageable(limit));
+        }
         if (comics.isEmpty()) {
             return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
         }
-        return new ResponseEntity<List<Comic>>(comics, HttpStatus.OK);
+        HttpHeaders headers = PageCursor.nextPageHeaders(comics, limit, Comic::getId);
+        return new ResponseEntity<List<Comic>>(comics, headers, HttpStatus.OK);
+    }
+
+    /**
+     * Export all comics found on Database as newline delimited JSON.
+     * <p>
+     * This method is selected when the client accept <code>application/x-ndjson</code>.
+     * The comics are streamed from the Database and written one by one on the response,
+     * so the memory used by the export doesn't depend on the number of comics.
+     * If the database is empty, this method return an error HTTP 204 : No Content.
+     *
+     * @param response Response where the comics are written.
+     *
+     * @throws IOException If the response can't be written.
+     * @version 1.0
+     * @since 1.3
+     */
+    @RequestMapping(value = "/comics/",
+                    method = RequestMethod.GET,
+                    produces = NdjsonExportService.APPLICATION_NDJSON_VALUE)
+    public void export(HttpServletResponse response) throws IOException {
+        ndjsonExportService.export(response, comicRepository::streamAll);
     }
 
     /**
@@ -134,23 +268,37 @@ public class ComicController {
      * This method return a ResponseEntity object who contains a list of comics found on the Database.
      * If the database is empty, this method return an error HTTP 204 : No Content.
      * This method can call only by GET request and take nothing parameter to work.
+     * <p>
+     * With <code>fuzzy=true</code>, the titles close to the title searched are returned, the most similar first.
+     * With <code>view=summary</code>, only the summaries of the comics found are returned.
      *
      * @param titleEncoded Title of the comic encoded to search on Database.
+     * @param fuzzy True to search the titles similar to the title, to find them despite typos.
+     * @param view <code>summary</code> to return the summaries of the comics.
      *
      * @return A ResponseEntity with all comics found on Database, or an error HTTP 204 : No Content.
      *
      * @throws UnsupportedEncodingException The method throw an <code>UnsupportedEncodingException</code> when a
      *         problem occurred during title decoding.
-     * @version 1.0
+     * @version 1.3
      * @since 1.0
      */
     @RequestMapping(value = "/comics/search/title/{title}",
                     method = RequestMethod.GET)
-    public ResponseEntity<?> getComicsByTitle(@PathVariable(value = "title") String titleEncoded)
+    public ResponseEntity<?> getComicsByTitle(
+            @PathVariable(value = "title") String titleEncoded,
+            @RequestParam(name = "fuzzy", required = false, defaultValue = "false") boolean fuzzy,
+            @RequestParam(name = "view", required = false) String view)
             throws UnsupportedEncodingException {
         String title = URLDecoder.decode(titleEncoded, ComicController.ENCODING);
         logger.info("Fetching Comic with title {}", title);
-        List<Comic> comics = comicRepository.findByTitleIgnoreCaseContaining(title);
+        if (MediaSummary.isRequested(view)) {
+            List<MediaSummary> summaries = mediaSearchService.searchSummaries(title, fuzzy, Comic.class,
+                    comicRepository::findSummariesByIdIn, comicRepository::findSummariesByTitleContaining);
+            return new ResponseEntity<List<MediaSummary>>(summaries, HttpStatus.OK);
+        }
+        List<Comic> comics = mediaSearchService.search(title, fuzzy, Comic.class, comicRepository::findAll,
+                                                       comicRepository::findByTitleIgnoreCaseContaining);
         if (comics == null) {
             logger.error("Comic(s) with title {} not found.", title);
             return new ResponseEntity<Object>(new ComicException("Comic(s) with title " + title + " not found."),
@@ -206,17 +354,25 @@ public class ComicController {
      * In other case, this method return the comic found in body response and the success code HTTP 200.
      * This method is call only by the method HTTP <em>GET</em>, and it's necessary to passed on
      * parameter the identifier of the comic at research.
+     * The response contains the version of the comic on the header <code>ETag</code> and the date of his last
+     * modification on <code>Last-Modified</code> : if the comic has not been modified since, a request with them on
+     * <code>If-None-Match</code> or <code>If-Modified-Since</code> receive an HTTP 304 : Not Modified
+     * without the comic read.
      *
      * @param id Identifier of the Comic on Database.
+     * @param request Request of the client, with the tag of the comic already read on <code>If-None-Match</code>.
      *
      * @return A ResponseEntity with the comic found on Database, or an error HTTP 204 : No Content.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.1
      */
     @RequestMapping(value = "/comics/search/id/{id}")
-    public ResponseEntity<?> getComicById(@PathVariable(value = "id") long id) {
+    public ResponseEntity<?> getComicById(@PathVariable(value = "id") long id, WebRequest request) {
         logger.info("Fetching Comic with id {}", id);
+        if (entityTagService.checkNotModified(request, Comic.class, id)) {
+            return null;
+        }
         Comic comic = comicRepository.findOne(id);
         if (comic == null) {
             logger.error("Comic with id {} not found.", id);
@@ -239,14 +395,12 @@ public class ComicController {
      *
      * @return A ResponseEntity with the comic added, or an error HTTP 409 : CONFLICT.
      *
-     * @version 1.0
+     * @version 1.3
      * @since 1.0
      */
     @RequestMapping(value = "/comics/",
                     method = RequestMethod.POST)
     public ResponseEntity<?> create(@RequestBody Comic comic, UriComponentsBuilder uriBuilder) {
-        logger.info("Created comic : {}", comic);
-
         // Check if the comic already exist on database.
         Comic comicExist =
                 comicRepository.findByTitleIgnoreCaseAndCurrentVolume(comic.getTitle(), comic.getCurrentVolume());
@@ -257,58 +411,18 @@ public class ComicController {
                     HttpStatus.CONFLICT);
         }
 
-        // Check if the author are present on Database or not.
-        Set<Author> authorsOnComic = comic.getAuthors();
-        Set<Author> authors = new HashSet<Author>();
-        for (Author a : authorsOnComic) {
-            Author authorExist = authorRepository.findByFirstNameAndLastName(a.getFirstName(), a.getLastName());
-            // If the author is not present on Database, it add on it.
-            if (authorExist == null) {
-                logger.info("Created author : {}", a);
-                authorRepository.save(a);
-                authors.add(a);
-            } else {
-                logger.info("Added author {} already present on persistent system", authorExist);
-                authors.add(authorExist);
-            }
-        }
-        comic.setAuthors(authors);
-
-        // Check if the publisher are present on Database or not.
-        Set<Publisher> publishersOnComic = comic.getPublishers();
-        Set<Publisher> publishers = new HashSet<Publisher>();
-        for (Publisher p : publishersOnComic) {
-            Publisher publisherExist = publisherRepository.findByName(p.getName());
-            // If the publisher is not present on Database, it add on it.
-            if (publisherExist == null) {
-                logger.info("Created publisher : {}", p);
-                publisherRepository.save(p);
-                publishers.add(p);
-            } else {
-                logger.info("Added publisher {} already present on persistent system", publisherExist);
-                publishers.add(publisherExist);
-            }
-        }
-        comic.setPublishers(publishers);
-
-        // Check if the illustrator are present on Database or not.
-        Set<Illustrator> illustratorsOnComic = comic.getIllustrators();
-        Set<Illustrator> illustrators = new HashSet<Illustrator>();
-        for (Illustrator a : illustratorsOnComic) {
-            Illustrator illustratorExist =
-                    illustratorRepository.findByFirstNameAndLastName(a.getFirstName(), a.getLastName());
-            // If the illustrator is not present on Database, it add on it.
-            if (illustratorExist == null) {
-                logger.info("Created illustrator : {}", a);
-                illustratorRepository.save(a);
-                illustrators.add(a);
-            } else {
-                logger.info("Added illustrator {} already present on persistent system", illustratorExist);
-                illustrators.add(illustratorExist);
-            }
-        }
-        comic.setIllustrators(illustrators);
+        // Use the authors stored on Database, the missing ones are created.
+        comic.setAuthors(personResolver.persons(Author.class, comic.getAuthors()));
+
+        // Use the publishers stored on Database, the missing ones are created.
+        comic.setPublishers(personResolver.companies(Publisher.class, comic.getPublishers()));
+
+        // Use the illustrators stored on Database, the missing ones are created.
+        comic.setIllustrators(personResolver.persons(Illustrator.class, comic.getIllustrators()));
         comicRepository.save(comic);
+        logger.info("Created comic : {}", MediaLog.of(logger, comic));
+        homePageService.invalidate(HomePageService.COMICS);
+        mediaSearchService.index(comic);
 
         HttpHeaders header = new HttpHeaders();
         header.setLocation(uriBuilder.path("/media-library/comics/search/id/{id}")
@@ -317,6 +431,57 @@ public class ComicController {
         return new ResponseEntity<String>(header, HttpStatus.CREATED);
     }
 
+    /**
+     * Add several comics on the Database with a single request.
+     * <p>
+     * The body contains a JSON array of comics or one comic by line, read one at a time, and the comics are
+     * committed by chunks.
+     * The response contains the result of each comic : created, or HTTP 409 : CONFLICT if already present.
+     *
+     * @param request Request with the comics at insert on the body.
+     * @param response Response where the results are written.
+     *
+     * @throws IOException If the body can't be read or the response can't be written.
+     * @version 1.1
+     * @since 1.10
+     */
+    @RequestMapping(value = "/comics/batch",
+                    method = RequestMethod.POST,
+                    consumes = {MediaType.APPLICATION_JSON_VALUE, NdjsonExportService.APPLICATION_NDJSON_VALUE})
+    public void createBatch(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        logger.info("Creating comics by batch");
+        batchCreateService.create(request.getInputStream(), response, Comic.class, comicRepository, this::exists,
+                                  ComicController::key, this::resolve, HomePageService.COMICS);
+    }
+
+    /**
+     * Import the comics of a CSV or TSV file sent on the body of the request.
+     * <p>
+     * Each record of the file is a comic, with the columns read by the ComicBuilder.
+     * The file is parsed, the comics built and saved by chunks at the same time, and the comics already
+     * present on the Database are ignored.
+     *
+     * @param request Request with the file at import on the body.
+     *
+     * @return A ResponseEntity with the number of comics read, created and already present, and the records
+     *         who can't be imported.
+     *
+     * @throws IOException If the body can't be read.
+     * @version 1.0
+     * @since 1.11
+     */
+    @RequestMapping(value = "/comics/import",
+                    method = RequestMethod.POST,
+                    consumes = {ImportService.TEXT_CSV_VALUE, ImportService.TEXT_TSV_VALUE})
+    public ResponseEntity<?> importFile(HttpServletRequest request) throws IOException {
+        logger.info("Importing comics from a file");
+        Map<String, Object> report = importService.importFile(request.getInputStream(), request.getContentType(),
+                                                              new ComicBuilder(), Comic.class, comicRepository,
+                                                              this::exists, ComicController::key, this::resolve,
+                                                              HomePageService.COMICS);
+        return new ResponseEntity<Map<String, Object>>(report, HttpStatus.OK);
+    }
+
     /**
      * Update a comic present on the Database.
      * <p>
@@ -324,18 +489,22 @@ public class ComicController {
      * It the comic is not found, the method return an error with the HTTP code 404.
      * In other case, it update the information about the comic and return in the body the comic update
      * can use to check if the modification are succeeded and the HTTP code 200.
+     * If the header <code>If-Match</code> doesn't contain the tag of the current version of the comic,
+     * or if the comic is updated by another request at the same time, the method return an error
+     * HTTP 412 : PRECONDITION FAILED. The response contains the tag of the new version on <code>ETag</code>.
      *
      * @param id Id of the comic on Database.
      * @param comic Comic with new content at update.
+     * @param request Request of the client, with the tag of the comic read on <code>If-Match</code>.
      *
      * @return A ResponseEntity with all comics found on Database, or an error HTTP 404 : NOT FOUND.
      *
-     * @version 1.0
+     * @version 1.4
      * @since 1.0
      */
     @RequestMapping(value = "/comics/{id}",
                     method = RequestMethod.PUT)
-    public ResponseEntity<?> update(@PathVariable("id") long id, @RequestBody Comic comic) {
+    public ResponseEntity<?> update(@PathVariable("id") long id, @RequestBody Comic comic, WebRequest request) {
         logger.info("Updating Comic with id {}", id);
 
         Comic comicAtUpdate = comicRepository.findOne(id);
@@ -345,62 +514,39 @@ public class ComicController {
                     new ComicException("Unable to update. Comic with id " + id + " not found"), HttpStatus.NOT_FOUND);
         }
 
-        // Check if the author are present on Database or not.
-        Set<Author> authorsOnComic = comic.getAuthors();
-        Set<Author> authors = new HashSet<Author>();
-        for (Author a : authorsOnComic) {
-            Author authorExist = authorRepository.findByFirstNameAndLastName(a.getFirstName(), a.getLastName());
-            // If the author is not present on Database, it add on it.
-            if (authorExist == null) {
-                logger.info("Created author : {}", a);
-                authorRepository.save(a);
-                authors.add(a);
-            } else {
-                logger.info("Added author {} already present on persistent system", authorExist);
-                authors.add(authorExist);
-            }
-        }
-        comic.setAuthors(authors);
-
-        // Check if the publisher are present on Database or not.
-        Set<Publisher> publishersOnComic = comic.getPublishers();
-        Set<Publisher> publishers = new HashSet<Publisher>();
-        for (Publisher p : publishersOnComic) {
-            Publisher publisherExist = publisherRepository.findByName(p.getName());
-            // If the publisher is not present on Database, it add on it.
-            if (publisherExist == null) {
-                logger.info("Created publisher : {}", p);
-                publisherRepository.save(p);
-                publishers.add(p);
-            } else {
-                logger.info("Added publisher {} already present on persistent system", publisherExist);
-                publishers.add(publisherExist);
-            }
-        }
-        comic.setPublishers(publishers);
-
-        // Check if the illustrator are present on Database or not.
-        Set<Illustrator> illustratorsOnComic = comic.getIllustrators();
-        Set<Illustrator> illustrators = new HashSet<Illustrator>();
-        for (Illustrator a : illustratorsOnComic) {
-            Illustrator illustratorExist =
-                    illustratorRepository.findByFirstNameAndLastName(a.getFirstName(), a.getLastName());
-            // If the illustrator is not present on Database, it add on it.
-            if (illustratorExist == null) {
-                logger.info("Created illustrator : {}", a);
-                illustratorRepository.save(a);
-                illustrators.add(a);
-            } else {
-                logger.info("Added illustrator {} already present on persistent system", illustratorExist);
-                illustrators.add(illustratorExist);
-            }
+        if (!entityTagService.matches(request, comicAtUpdate)) {
+            logger.error("Unable to update. Comic with id {} has been modified", id);
+            return new ResponseEntity<Object>(
+                    new ComicException("Unable to update. Comic with id " + id + " has been modified"),
+                    HttpStatus.PRECONDITION_FAILED);
         }
-        comic.setIllustrators(illustrators);
+
+        // Use the authors stored on Database, the missing ones are created.
+        comic.setAuthors(personResolver.persons(Author.class, comic.getAuthors()));
+
+        // Use the publishers stored on Database, the missing ones are created.
+        comic.setPublishers(personResolver.companies(Publisher.class, comic.getPublishers()));
+
+        // Use the illustrators stored on Database, the missing ones are created.
+        comic.setIllustrators(personResolver.persons(Illustrator.class, comic.getIllustrators()));
 
         // Copy content of the comic receive on request body on the comic retrieve from the database.
+        long version = comicAtUpdate.getVersion();
         comicAtUpdate = new Comic(comic);
-        comicRepository.save(comicAtUpdate);
-        return new ResponseEntity<Object>(comicAtUpdate, HttpStatus.OK);
+        comicAtUpdate.setId(id);
+        comicAtUpdate.setVersion(version);
+        try {
+            comicAtUpdate = comicRepository.save(comicAtUpdate);
+        } catch (OptimisticLockingFailureException e) {
+            logger.error("Unable to update. Comic with id {} has been modified during the update", id);
+            return new ResponseEntity<Object>(
+                    new ComicException("Unable to update. Comic with id " + id + " has been modified"),
+                    HttpStatus.PRECONDITION_FAILED);
+        }
+        homePageService.invalidate(HomePageService.COMICS);
+        mediaSearchService.index(comicAtUpdate);
+        HttpHeaders headers = EntityTagService.headers(request, comicAtUpdate.getVersion());
+        return new ResponseEntity<Object>(comicAtUpdate, headers, HttpStatus.OK);
     }
 
     /**
@@ -415,7 +561,7 @@ public class ComicController {
      *
      * @return A ResponseEntity with all comics found on Database, or an error HTTP 404 : NOT_FOUND.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
     @RequestMapping(value = "/comics/{id}",
@@ -431,6 +577,8 @@ public class ComicController {
         }
 
         comicRepository.delete(comic);
+        homePageService.invalidate(HomePageService.COMICS);
+        mediaSearchService.remove(comic.getId());
         return new ResponseEntity<Object>(comic, HttpStatus.OK);
     }
 
@@ -461,4 +609,48 @@ public class ComicController {
     public ResponseEntity<?> getBookFormat() {
         return new ResponseEntity<>(BookFormat.values(), HttpStatus.OK);
     }
+
+    /**
+     * Check if a comic is already present on the Database.
+     *
+     * @param comic Comic at check.
+     *
+     * @return True if the comic is already present on the Database.
+     *
+     * @version 1.0
+     * @since 1.11
+     */
+    private boolean exists(Comic comic) {
+        return comicRepository.findByTitleIgnoreCaseAndCurrentVolume(comic.getTitle(),
+                                                                     comic.getCurrentVolume()) != null;
+    }
+
+    /**
+     * Key of a comic, the fields checked by {@link #exists(Comic)} compared between the comics of a chunk.
+     *
+     * @param comic Comic at check.
+     *
+     * @return The title and current volume of the comic.
+     *
+     * @version 1.0
+     * @since 1.16
+     */
+    private static List<Object> key(Comic comic) {
+        return BatchCreateService.key(comic.getTitle(), comic.getCurrentVolume());
+    }
+
+    /**
+     * Replace the persons and companies of several comics by the persons and companies stored on the Database,
+     * the missing ones are created.
+     *
+     * @param comics Comics at complete.
+     *
+     * @version 1.0
+     * @since 1.11
+     */
+    private void resolve(List<Comic> comics) {
+        personResolver.persons(Author.class, comics, Comic::getAuthors, Comic::setAuthors);
+        personResolver.companies(Publisher.class, comics, Comic::getPublishers, Comic::setPublishers);
+        personResolver.persons(Illustrator.class, comics, Comic::getIllustrators, Comic::setIllustrators);
+    }
 }
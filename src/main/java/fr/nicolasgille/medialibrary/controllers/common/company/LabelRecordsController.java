@@ -21,16 +21,22 @@ package fr.nicolasgille.medialibrary.controllers.common.company;
 import fr.nicolasgille.medialibrary.exceptions.common.company.LabelRecordsException;
 import fr.nicolasgille.medialibrary.models.common.company.LabelRecords;
 import fr.nicolasgille.medialibrary.repositories.common.company.LabelRecordsRepository;
+import fr.nicolasgille.medialibrary.services.EntityTagService;
+import fr.nicolasgille.medialibrary.utils.PageCursor;
+import fr.nicolasgille.medialibrary.utils.SmileHttpMessageConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
@@ -44,12 +50,12 @@ import java.util.List;
  * You can add your own method to search or interact with label records if you like.
  *
  * @author Nicolas GILLE
- * @version 1.0
+ * @version 1.2
  * @since Media-Library 0.1
  */
 @RestController
 @RequestMapping(value = "/",
-                produces = MediaType.APPLICATION_JSON_VALUE)
+                produces = {MediaType.APPLICATION_JSON_VALUE, SmileHttpMessageConverter.APPLICATION_SMILE_VALUE})
 public class LabelRecordsController {
 
     /**
@@ -74,25 +80,56 @@ public class LabelRecordsController {
     @Autowired
     private LabelRecordsRepository labelRecordsRepository;
 
+    /**
+     * Service used to answer the conditional requests from the versions of the label records.
+     *
+     * @since 1.1
+     */
+    @Autowired
+    private EntityTagService entityTagService;
+
     /**
      * Get all label records from the database.
      * <p>
      * If the database is empty, it return a response with the following code HTTP : 204.
      * In other case, it return all label records present on database.
+     * The result is paginated on the identifier : the response contains at most <code>limit</code> elements and the
+     * header <code>X-Next-Cursor</code> contains the cursor at send as <code>after</code> to get the next page.
+     * The response contains the tag of the list on the header <code>ETag</code> : if no label records has been created
+     * or updated since, a request with this tag on <code>If-None-Match</code> receive an HTTP 304 : Not Modified.
+     *
+     * @param after Cursor of the previous page, or nothing to get the first page.
+     * @param limit Maximum number of elements on the page.
+     * @param request Request of the client, with the tag of the list already read on <code>If-None-Match</code>.
      *
      * @return A list of all label records present on persistent system or an error HTTP : NO_CONTENT.
      *
-     * @version 1.0
+     * @version 2.1
      * @since 1.0
      */
     @RequestMapping(value = "/label-records/",
                     method = RequestMethod.GET)
-    public ResponseEntity getAll() {
-        List<LabelRecords> labelRecordss = labelRecordsRepository.findAll();
+    public ResponseEntity getAll(@RequestParam(name = "after", required = false) String after,
+                                 @RequestParam(name = "limit", required = false) Integer limit,
+                                 WebRequest request) {
+        long lastId = PageCursor.decode(after);
+        if (lastId == PageCursor.INVALID_CURSOR) {
+            logger.error("Invalid cursor {}", after);
+            return new ResponseEntity<Object>(new LabelRecordsException("Invalid cursor " + after),
+                                              HttpStatus.BAD_REQUEST);
+        }
+
+        if (entityTagService.checkNotModified(request, LabelRecords.class)) {
+            return null;
+        }
+
+        List<LabelRecords> labelRecordss =
+                labelRecordsRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageCursor.pageable(limit));
         if (labelRecordss.isEmpty()) {
             return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
         }
-        return new ResponseEntity<List<LabelRecords>>(labelRecordss, HttpStatus.OK);
+        HttpHeaders headers = PageCursor.nextPageHeaders(labelRecordss, limit, LabelRecords::getId);
+        return new ResponseEntity<List<LabelRecords>>(labelRecordss, headers, HttpStatus.OK);
     }
 
     /**
@@ -103,17 +140,24 @@ public class LabelRecordsController {
      * In the other case, the method return a response with the HTTP code 204.
      * The name of the label records must passed on the url after the last "/ and encoded in UTF-8 to decoded on the
      * search method.
+     * The response contains the version of the label records on the header <code>ETag</code> and the date of his
+     * last modification on <code>Last-Modified</code>, a request with them on <code>If-None-Match</code> or
+     * <code>If-Modified-Since</code> receive an HTTP 304 : Not Modified if the label records has not been modified
+     * since.
      *
      * @param nameEncoded Name of the label records encoding in UTF8.
+     * @param request Request of the client, with the tag of the label records already read on
+     *                <code>If-None-Match</code>.
      *
      * @return A ResponseEntity with the label records found on Database, or an error HTTP 204 : No Content.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
     @RequestMapping(value = "/search/label-records/{name}",
                     method = RequestMethod.GET)
-    public ResponseEntity<?> getLabelRecordsByName(@PathVariable(value = "name") String nameEncoded)
+    public ResponseEntity<?> getLabelRecordsByName(@PathVariable(value = "name") String nameEncoded,
+                                                   WebRequest request)
             throws UnsupportedEncodingException {
         String name = URLDecoder.decode(nameEncoded, LabelRecordsController.ENCODING);
         logger.info("Fetching LabelRecords named {}", name);
@@ -124,6 +168,9 @@ public class LabelRecordsController {
                     new LabelRecordsException("LabelRecords named " + name + "  not found on Database"),
                     HttpStatus.NO_CONTENT);
         }
+        if (entityTagService.checkNotModified(request, labelRecords)) {
+            return null;
+        }
         return new ResponseEntity<LabelRecords>(labelRecords, HttpStatus.OK);
     }
 }
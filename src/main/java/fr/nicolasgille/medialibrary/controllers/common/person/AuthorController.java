@@ -21,9 +21,13 @@ package fr.nicolasgille.medialibrary.controllers.common.person;
 import fr.nicolasgille.medialibrary.exceptions.common.person.AuthorException;
 import fr.nicolasgille.medialibrary.models.common.person.Author;
 import fr.nicolasgille.medialibrary.repositories.common.person.AuthorRepository;
+import fr.nicolasgille.medialibrary.services.EntityTagService;
+import fr.nicolasgille.medialibrary.utils.PageCursor;
+import fr.nicolasgille.medialibrary.utils.SmileHttpMessageConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -31,6 +35,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
@@ -44,12 +49,12 @@ import java.util.List;
  * You can add your own method to search or interact with author if you like.
  *
  * @author Nicolas GILLE
- * @version 1.0
+ * @version 1.2
  * @since Media-Library 0.4
  */
 @RestController
 @RequestMapping(value = "/",
-                produces = MediaType.APPLICATION_JSON_VALUE)
+                produces = {MediaType.APPLICATION_JSON_VALUE, SmileHttpMessageConverter.APPLICATION_SMILE_VALUE})
 public class AuthorController {
 
     /**
@@ -74,25 +79,55 @@ public class AuthorController {
     @Autowired
     private AuthorRepository authorRepository;
 
+    /**
+     * Service used to answer the conditional requests from the versions of the authors.
+     *
+     * @since 1.1
+     */
+    @Autowired
+    private EntityTagService entityTagService;
+
     /**
      * Get all authors from the database.
      * <p>
      * If the database is empty, it return a response with the following code HTTP : 204.
      * In other case, it return all authors present on database.
+     * The result is paginated on the identifier : the response contains at most <code>limit</code> elements and the
+     * header <code>X-Next-Cursor</code> contains the cursor at send as <code>after</code> to get the next page.
+     * The response contains the tag of the list on the header <code>ETag</code> : if no author has been created
+     * or updated since, a request with this tag on <code>If-None-Match</code> receive an HTTP 304 : Not Modified.
+     *
+     * @param after Cursor of the previous page, or nothing to get the first page.
+     * @param limit Maximum number of elements on the page.
+     * @param request Request of the client, with the tag of the list already read on <code>If-None-Match</code>.
      *
      * @return A list of all authors present on persistent system or an error HTTP : NO_CONTENT.
      *
-     * @version 1.0
+     * @version 2.1
      * @since 1.0
      */
     @RequestMapping(value = "/authors/",
                     method = RequestMethod.GET)
-    public ResponseEntity getAll() {
-        List<Author> authors = authorRepository.findAll();
+    public ResponseEntity getAll(@RequestParam(name = "after", required = false) String after,
+                                 @RequestParam(name = "limit", required = false) Integer limit,
+                                 WebRequest request) {
+        long lastId = PageCursor.decode(after);
+        if (lastId == PageCursor.INVALID_CURSOR) {
+            logger.error("Invalid cursor {}", after);
+            return new ResponseEntity<Object>(new AuthorException("Invalid cursor " + after),
+                                              HttpStatus.BAD_REQUEST);
+        }
+
+        if (entityTagService.checkNotModified(request, Author.class)) {
+            return null;
+        }
+
+        List<Author> authors = authorRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageCursor.pageable(limit));
         if (authors.isEmpty()) {
             return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
         }
-        return new ResponseEntity<List<Author>>(authors, HttpStatus.OK);
+        HttpHeaders headers = PageCursor.nextPageHeaders(authors, limit, Author::getId);
+        return new ResponseEntity<List<Author>>(authors, headers, HttpStatus.OK);
     }
 
     /**
@@ -104,19 +139,24 @@ public class AuthorController {
      * The first name and the last name must encoded in UTF-8 to avoid problems with special characters,
      * and must present as parameter of the url like the following format :
      * <code>/media-library/search/authors?fname=XXX&lname=YYY</code>
+     * The response contains the version of the author on the header <code>ETag</code> and the date of his last
+     * modification on <code>Last-Modified</code>, a request with them on <code>If-None-Match</code> or
+     * <code>If-Modified-Since</code> receive an HTTP 304 : Not Modified if the author has not been modified since.
      *
      * @param fNameEncoded First name of the author encoding in UTF8.
      * @param lNameEncoded Last name of the author encoding in UTF8.
+     * @param request Request of the client, with the tag of the author already read on <code>If-None-Match</code>.
      *
      * @return A ResponseEntity with the author found on Database, or an error HTTP 204 : No Content.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
     @RequestMapping(value = "/search/authors",
                     method = RequestMethod.GET)
     public ResponseEntity<?> getAuthorByFirstNameAndLastName(@RequestParam(name = "fname") String fNameEncoded,
-                                                             @RequestParam(name = "lname") String lNameEncoded)
+                                                             @RequestParam(name = "lname") String lNameEncoded,
+                                                             WebRequest request)
             throws UnsupportedEncodingException {
         String fName = URLDecoder.decode(fNameEncoded, AuthorController.ENCODING);
         String lName = URLDecoder.decode(lNameEncoded, AuthorController.ENCODING);
@@ -128,6 +168,9 @@ public class AuthorController {
                     new AuthorException("Author named " + fName + " " + lName + " not found on Database"),
                     HttpStatus.NO_CONTENT);
         }
+        if (entityTagService.checkNotModified(request, author)) {
+            return null;
+        }
         return new ResponseEntity<Author>(author, HttpStatus.OK);
     }
 }
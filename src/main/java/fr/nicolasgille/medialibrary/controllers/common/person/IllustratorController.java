@@ -21,9 +21,13 @@ package fr.nicolasgille.medialibrary.controllers.common.person;
 import fr.nicolasgille.medialibrary.exceptions.common.person.IllustratorException;
 import fr.nicolasgille.medialibrary.models.common.person.Illustrator;
 import fr.nicolasgille.medialibrary.repositories.common.person.IllustratorRepository;
+import fr.nicolasgille.medialibrary.services.EntityTagService;
+import fr.nicolasgille.medialibrary.utils.PageCursor;
+import fr.nicolasgille.medialibrary.utils.SmileHttpMessageConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -31,6 +35,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
@@ -44,12 +49,12 @@ import java.util.List;
  * You can add your own method to search or interact with illustrator if you like.
  *
  * @author Nicolas GILLE
- * @version 1.0
+ * @version 1.2
  * @since Media-Library 0.4
  */
 @RestController
 @RequestMapping(value = "/",
-                produces = MediaType.APPLICATION_JSON_VALUE)
+                produces = {MediaType.APPLICATION_JSON_VALUE, SmileHttpMessageConverter.APPLICATION_SMILE_VALUE})
 public class IllustratorController {
 
     /**
@@ -74,6 +79,14 @@ public class IllustratorController {
     @Autowired
     private IllustratorRepository illustratorRepository;
 
+    /**
+     * Service used to answer the conditional requests from the versions of the illustrators.
+     *
+     * @since 1.1
+     */
+    @Autowired
+    private EntityTagService entityTagService;
+
     /**
      * Return an illustrator by his first name and his last name.
      * <p>
@@ -83,20 +96,43 @@ public class IllustratorController {
      * The first name and the last name must encoded in UTF-8 to avoid problems with special characters,
      * and must present as parameter of the url like the following format :
      * <code>/media-library/search/illustrator?fname=XXX&lname=YYY</code>
+     * The result is paginated on the identifier : the response contains at most <code>limit</code> elements and the
+     * header <code>X-Next-Cursor</code> contains the cursor at send as <code>after</code> to get the next page.
+     * The response contains the tag of the list on the header <code>ETag</code> : if no illustrator has been created
+     * or updated since, a request with this tag on <code>If-None-Match</code> receive an HTTP 304 : Not Modified.
+     *
+     * @param after Cursor of the previous page, or nothing to get the first page.
+     * @param limit Maximum number of elements on the page.
+     * @param request Request of the client, with the tag of the list already read on <code>If-None-Match</code>.
      *
      * @return A list of all illustrators present on persistent system or an error HTTP : NO_CONTENT.
      *
-     * @version 1.0
+     * @version 2.1
      * @since 1.0
      */
     @RequestMapping(value = "/illustrators/",
                     method = RequestMethod.GET)
-    public ResponseEntity getAll() {
-        List<Illustrator> illustrators = illustratorRepository.findAll();
+    public ResponseEntity getAll(@RequestParam(name = "after", required = false) String after,
+                                 @RequestParam(name = "limit", required = false) Integer limit,
+                                 WebRequest request) {
+        long lastId = PageCursor.decode(after);
+        if (lastId == PageCursor.INVALID_CURSOR) {
+            logger.error("Invalid cursor {}", after);
+            return new ResponseEntity<Object>(new IllustratorException("Invalid cursor " + after),
+                                              HttpStatus.BAD_REQUEST);
+        }
+
+        if (entityTagService.checkNotModified(request, Illustrator.class)) {
+            return null;
+        }
+
+        List<Illustrator> illustrators =
+                illustratorRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageCursor.pageable(limit));
         if (illustrators.isEmpty()) {
             return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
         }
-        return new ResponseEntity<List<Illustrator>>(illustrators, HttpStatus.OK);
+        HttpHeaders headers = PageCursor.nextPageHeaders(illustrators, limit, Illustrator::getId);
+        return new ResponseEntity<List<Illustrator>>(illustrators, headers, HttpStatus.OK);
     }
 
     /**
@@ -108,19 +144,24 @@ public class IllustratorController {
      * The first name and the last name must encoded in UTF-8 to avoid problems with special characters,
      * and must present as parameter of the url like the following format :
      * <code>/media-library/search/illustrators?fname=XXX&lname=YYY</code>
+     * The response contains the version of the illustrator on the header <code>ETag</code> and the date of his last
+     * modification on <code>Last-Modified</code>, a request with them on <code>If-None-Match</code> or
+     * <code>If-Modified-Since</code> receive an HTTP 304 : Not Modified if the illustrator has not been modified since.
      *
      * @param fNameEncoded First name of the illustrator encoding in UTF8.
      * @param lNameEncoded Last name of the illustrator encoding in UTF8.
+     * @param request Request of the client, with the tag of the illustrator already read on <code>If-None-Match</code>.
      *
      * @return A ResponseEntity with the illustrator found on Database, or an error HTTP 204 : No Content.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
     @RequestMapping(value = "/search/illustrators",
                     method = RequestMethod.GET)
     public ResponseEntity<?> getIllustratorByFirstNameAndLastName(@RequestParam(name = "fname") String fNameEncoded,
-                                                                  @RequestParam(name = "lname") String lNameEncoded)
+                                                                  @RequestParam(name = "lname") String lNameEncoded,
+                                                                  WebRequest request)
             throws UnsupportedEncodingException {
         String fName = URLDecoder.decode(fNameEncoded, IllustratorController.ENCODING);
         String lName = URLDecoder.decode(lNameEncoded, IllustratorController.ENCODING);
@@ -132,6 +173,9 @@ public class IllustratorController {
                     new IllustratorException("Illustrator named " + fName + " " + lName + " not found on Database"),
                     HttpStatus.NO_CONTENT);
         }
+        if (entityTagService.checkNotModified(request, illustrator)) {
+            return null;
+        }
         return new ResponseEntity<Illustrator>(illustrator, HttpStatus.OK);
     }
 }
@@ -21,9 +21,13 @@ package fr.nicolasgille.medialibrary.controllers.common.person;
 import fr.nicolasgille.medialibrary.exceptions.common.person.ProducerException;
 import fr.nicolasgille.medialibrary.models.common.person.Producer;
 import fr.nicolasgille.medialibrary.repositories.common.person.ProducerRepository;
+import fr.nicolasgille.medialibrary.services.EntityTagService;
+import fr.nicolasgille.medialibrary.utils.PageCursor;
+import fr.nicolasgille.medialibrary.utils.SmileHttpMessageConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -31,6 +35,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
@@ -44,12 +49,12 @@ import java.util.List;
  * You can add your own method to search or interact with producer if you like.
  *
  * @author Nicolas GILLE
- * @version 1.0
+ * @version 1.2
  * @since Media-Library 0.1
  */
 @RestController
 @RequestMapping(value = "/",
-                produces = MediaType.APPLICATION_JSON_VALUE)
+                produces = {MediaType.APPLICATION_JSON_VALUE, SmileHttpMessageConverter.APPLICATION_SMILE_VALUE})
 public class ProducerController {
 
     /**
@@ -74,25 +79,56 @@ public class ProducerController {
     @Autowired
     private ProducerRepository producerRepository;
 
+    /**
+     * Service used to answer the conditional requests from the versions of the producers.
+     *
+     * @since 1.1
+     */
+    @Autowired
+    private EntityTagService entityTagService;
+
     /**
      * Get all producers from the database.
      * <p>
      * If the database is empty, it return a response with the following code HTTP : 204.
      * In other case, it return all producers present on database.
+     * The result is paginated on the identifier : the response contains at most <code>limit</code> elements and the
+     * header <code>X-Next-Cursor</code> contains the cursor at send as <code>after</code> to get the next page.
+     * The response contains the tag of the list on the header <code>ETag</code> : if no producer has been created
+     * or updated since, a request with this tag on <code>If-None-Match</code> receive an HTTP 304 : Not Modified.
+     *
+     * @param after Cursor of the previous page, or nothing to get the first page.
+     * @param limit Maximum number of elements on the page.
+     * @param request Request of the client, with the tag of the list already read on <code>If-None-Match</code>.
      *
      * @return A list of all producers present on persistent system or an error HTTP : NO_CONTENT.
      *
-     * @version 1.0
+     * @version 2.1
      * @since 1.0
      */
     @RequestMapping(value = "/producers/",
                     method = RequestMethod.GET)
-    public ResponseEntity getAll() {
-        List<Producer> producers = producerRepository.findAll();
+    public ResponseEntity getAll(@RequestParam(name = "after", required = false) String after,
+                                 @RequestParam(name = "limit", required = false) Integer limit,
+                                 WebRequest request) {
+        long lastId = PageCursor.decode(after);
+        if (lastId == PageCursor.INVALID_CURSOR) {
+            logger.error("Invalid cursor {}", after);
+            return new ResponseEntity<Object>(new ProducerException("Invalid cursor " + after),
+                                              HttpStatus.BAD_REQUEST);
+        }
+
+        if (entityTagService.checkNotModified(request, Producer.class)) {
+            return null;
+        }
+
+        List<Producer> producers =
+                producerRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageCursor.pageable(limit));
         if (producers.isEmpty()) {
             return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
         }
-        return new ResponseEntity<List<Producer>>(producers, HttpStatus.OK);
+        HttpHeaders headers = PageCursor.nextPageHeaders(producers, limit, Producer::getId);
+        return new ResponseEntity<List<Producer>>(producers, headers, HttpStatus.OK);
     }
 
     /**
@@ -104,19 +140,24 @@ public class ProducerController {
      * The first name and the last name must encoded in UTF-8 to avoid problems with special characters,
      * and must present as parameter of the url like the following format :
      * <code>/media-library/search/producers?fname=XXX&lname=YYY</code>
+     * The response contains the version of the producer on the header <code>ETag</code> and the date of his last
+     * modification on <code>Last-Modified</code>, a request with them on <code>If-None-Match</code> or
+     * <code>If-Modified-Since</code> receive an HTTP 304 : Not Modified if the producer has not been modified since.
      *
      * @param fNameEncoded First name of the producer encoding in UTF8.
      * @param lNameEncoded Last name of the producer encoding in UTF8.
+     * @param request Request of the client, with the tag of the producer already read on <code>If-None-Match</code>.
      *
      * @return A ResponseEntity with the producer found on Database, or an error HTTP 204 : No Content.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
     @RequestMapping(value = "/search/producers",
                     method = RequestMethod.GET)
     public ResponseEntity<?> getProducerByFirstNameAndLastName(@RequestParam(name = "fname") String fNameEncoded,
-                                                               @RequestParam(name = "lname") String lNameEncoded)
+                                                               @RequestParam(name = "lname") String lNameEncoded,
+                                                               WebRequest request)
             throws UnsupportedEncodingException {
         String fName = URLDecoder.decode(fNameEncoded, ProducerController.ENCODING);
         String lName = URLDecoder.decode(lNameEncoded, ProducerController.ENCODING);
@@ -128,6 +169,9 @@ public class ProducerController {
                     new ProducerException("Producer named " + fName + " " + lName + " not found on Database"),
                     HttpStatus.NO_CONTENT);
         }
+        if (entityTagService.checkNotModified(request, producer)) {
+            return null;
+        }
         return new ResponseEntity<Producer>(producer, HttpStatus.OK);
     }
 }
@@ -18,30 +18,46 @@
 
 package fr.nicolasgille.medialibrary.controllers.game;
 
+import fr.nicolasgille.medialibrary.builders.game.VideoGameBuilder;
 import fr.nicolasgille.medialibrary.exceptions.game.VideoGameException;
+import fr.nicolasgille.medialibrary.models.MediaSummary;
 import fr.nicolasgille.medialibrary.models.common.company.Developer;
 import fr.nicolasgille.medialibrary.models.common.company.Publisher;
 import fr.nicolasgille.medialibrary.models.components.VideoGamePlatform;
 import fr.nicolasgille.medialibrary.models.components.genre.VideoGameGenre;
 import fr.nicolasgille.medialibrary.models.game.VideoGame;
-import fr.nicolasgille.medialibrary.repositories.common.company.DeveloperRepository;
-import fr.nicolasgille.medialibrary.repositories.common.company.PublisherRepository;
 import fr.nicolasgille.medialibrary.repositories.game.VideoGameRepository;
+import fr.nicolasgille.medialibrary.services.BatchCreateService;
+import fr.nicolasgille.medialibrary.services.EntityTagService;
+import fr.nicolasgille.medialibrary.services.HomePageService;
+import fr.nicolasgille.medialibrary.services.ImportService;
+import fr.nicolasgille.medialibrary.services.MediaFacetService;
+import fr.nicolasgille.medialibrary.services.MediaSearchService;
+import fr.nicolasgille.medialibrary.services.NdjsonExportService;
+import fr.nicolasgille.medialibrary.services.PersonResolver;
+import fr.nicolasgille.medialibrary.utils.MediaLog;
+import fr.nicolasgille.medialibrary.utils.PageCursor;
+import fr.nicolasgille.medialibrary.utils.SmileHttpMessageConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 
 /**
  * Controller of the app to interact with video games present on Media-Library.
@@ -50,12 +66,12 @@ import java.util.Set;
  * You can add you own method of research if you would have a new research type of video game.
  *
  * @author Nicolas GILLE
- * @version 1.1
+ * @version 1.15
  * @since Media-Library 0.4
  */
 @RestController
 @RequestMapping(value = "/",
-                produces = MediaType.APPLICATION_JSON_VALUE)
+                produces = {MediaType.APPLICATION_JSON_VALUE, SmileHttpMessageConverter.APPLICATION_SMILE_VALUE})
 public class VideoGameController {
 
     /**
@@ -81,41 +97,168 @@ public class VideoGameController {
     private VideoGameRepository videoGameRepository;
 
     /**
-     * Repository used to interact with developers present on the service.
+     * Service used to export all video games as newline delimited JSON.
      *
-     * @since 1.0
+     * @since 1.2
      */
     @Autowired
-    private DeveloperRepository developerRepository;
+    private NdjsonExportService ndjsonExportService;
 
     /**
-     * Repository used to interact with publishers present on the service.
+     * Service who build the content of the home page, invalidated on each write.
      *
-     * @since 1.0
+     * @since 1.3
+     */
+    @Autowired
+    private HomePageService homePageService;
+
+    /**
+     * Service used to search the video games by full text, updated on each write.
+     *
+     * @since 1.4
+     */
+    @Autowired
+    private MediaSearchService mediaSearchService;
+
+    /**
+     * Service used to filter the video games on their facets, updated on each write.
+     *
+     * @since 1.6
      */
     @Autowired
-    private PublisherRepository publisherRepository;
+    private MediaFacetService mediaFacetService;
+
+    /**
+     * Service used to find or create the companies of the video games with a few queries.
+     *
+     * @since 1.8
+     */
+    @Autowired
+    private PersonResolver personResolver;
+
+    /**
+     * Service used to create several video games with a single request.
+     *
+     * @since 1.9
+     */
+    @Autowired
+    private BatchCreateService batchCreateService;
+
+    /**
+     * Service used to import the video games of a CSV or TSV file.
+     *
+     * @since 1.10
+     */
+    @Autowired
+    private ImportService importService;
+
+    /**
+     * Service used to answer the conditional requests from the versions of the video games.
+     *
+     * @since 1.12
+     */
+    @Autowired
+    private EntityTagService entityTagService;
 
     /**
      * Return all videoGames found on Database.
      * <p>
      * This method return a ResponseEntity object who contains a list of videoGames found on the Database.
      * If the database is empty, this method return an error HTTP 204 : No Content.
-     * This method can call only by GET request and take nothing parameter to work.
+     * This method can call only by GET request.
+     * The result is paginated on the identifier : the response contains at most <code>limit</code> elements and the
+     * header <code>X-Next-Cursor</code> contains the cursor at send as <code>after</code> to get the next page.
+     * The video games can be filtered on their facets, like <code>platform=NES,SNES&amp;videoGameGenre=ACTION</code> :
+     * the values of a facet are combined with OR and the facets with AND.
+     * While the facets are indexed at startup, a filtered request receive an HTTP 503 : Service Unavailable.
+     * With <code>view=summary</code>, only the identifier, title, date of release and type of the video games
+     * are read and returned.
+     * The response contains the tag of the list on the header <code>ETag</code> : if no video game has been created,
+     * updated or deleted since, a request with this tag on <code>If-None-Match</code> receive an HTTP 304 : Not
+     * Modified without the video games read.
+     *
+     * @param after Cursor of the previous page, or nothing to get the first page.
+     * @param limit Maximum number of elements on the page.
+     * @param view <code>summary</code> to return the summaries of the video games.
+     * @param filters Parameters of the request, with the values selected on each facet.
+     * @param request Request of the client, with the tag of the list already read on <code>If-None-Match</code>.
      *
      * @return A ResponseEntity with all videoGames found on Database, or an error HTTP 204 : No Content.
      *
-     * @version 1.0
+     * @version 2.4
      * @since 1.0
      */
     @RequestMapping(value = "/video-games/",
                     method = RequestMethod.GET)
-    public ResponseEntity getAll() {
-        List<VideoGame> videoGames = videoGameRepository.findAll();
+    public ResponseEntity getAll(@RequestParam(name = "after", required = false) String after,
+                                 @RequestParam(name = "limit", required = false) Integer limit,
+                                 @RequestParam(name = "view", required = false) String view,
+                                 @RequestParam MultiValueMap<String, String> filters,
+                                 WebRequest request) {
+        long lastId = PageCursor.decode(after);
+        if (lastId == PageCursor.INVALID_CURSOR) {
+            logger.error("Invalid cursor {}", after);
+            return new ResponseEntity<Object>(new VideoGameException("Invalid cursor " + after),
+                                              HttpStatus.BAD_REQUEST);
+        }
+
+        if (mediaFacetService.isFiltered(filters) && !mediaFacetService.isReady()) {
+            logger.error("Facets not ready yet");
+            return new ResponseEntity<Object>(new VideoGameException("The facets are being indexed, retry later."),
+                                              HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        if (entityTagService.checkNotModified(request, VideoGame.class)) {
+            return null;
+        }
+
+        if (MediaSummary.isRequested(view)) {
+            List<MediaSummary> summaries;
+            if (mediaFacetService.isFiltered(filters)) {
+                summaries = mediaFacetService.pageSummaries(VideoGame.class, filters, lastId, limit,
+                                                            videoGameRepository::findSummariesByIdIn);
+            } else {
+                summaries = videoGameRepository.findSummariesByIdGreaterThan(lastId, PageCursor.pageable(limit));
+            }
+            if (summaries.isEmpty()) {
+                return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
+            }
+            HttpHeaders headers = PageCursor.nextPageHeaders(summaries, limit, MediaSummary::getId);
+            return new ResponseEntity<List<MediaSummary>>(summaries, headers, HttpStatus.OK);
+        }
+
+        List<VideoGame> videoGames;
+        if (mediaFacetService.isFiltered(filters)) {
+            videoGames = mediaFacetService.page(VideoGame.class, filters, lastId, limit, videoGameRepository::findAll);
+        } else {
+            videoGames = videoGameRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageCursor.pageable(limit));
+        }
         if (videoGames.isEmpty()) {
             return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
         }
-        return new ResponseEntity<List<VideoGame>>(videoGames, HttpStatus.OK);
+        HttpHeaders headers = PageCursor.nextPageHeaders(videoGames, limit, VideoGame::getId);
+        return new ResponseEntity<List<VideoGame>>(videoGames, headers, HttpStatus.OK);
+    }
+
+    /**
+     * Export all video games found on Database as newline delimited JSON.
+     * <p>
+     * This method is selected when the client accept <code>application/x-ndjson</code>.
+     * The video games are streamed from the Database and written one by one on the response,
+     * so the memory used by the export doesn't depend on the number of video games.
+     * If the database is empty, this method return an error HTTP 204 : No Content.
+     *
+     * @param response Response where the video games are written.
+     *
+     * @throws IOException If the response can't be written.
+     * @version 1.0
+     * @since 1.2
+     */
+    @RequestMapping(value = "/video-games/",
+                    method = RequestMethod.GET,
+                    produces = NdjsonExportService.APPLICATION_NDJSON_VALUE)
+    public void export(HttpServletResponse response) throws IOException {
+        ndjsonExportService.export(response, videoGameRepository::streamAll);
     }
 
     /**
@@ -128,23 +271,38 @@ public class VideoGameController {
      * parameter the title of the video game at research.
      * The title is encoded in <code>UTF8</code> to avoid problems with specials characters and it decoded before used
      * on search process.
+     * <p>
+     * With <code>fuzzy=true</code>, the titles close to the title searched are returned, the most similar first.
+     * With <code>view=summary</code>, only the summaries of the video games found are returned.
      *
      * @param titleEncoded Title of the videoGame encoded to search on Database.
+     * @param fuzzy True to search the titles similar to the title, to find them despite typos.
+     * @param view <code>summary</code> to return the summaries of the video games.
      *
      * @return A ResponseEntity with the videoGame found on Database, or an error HTTP 204 : No Content.
      *
      * @throws UnsupportedEncodingException The method throw an <code>UnsupportedEncodingException</code> when a
      *         problem occurred during title decoding.
-     * @version 1.0.1
+     * @version 1.3
      * @since 1.0
      */
     @RequestMapping(value = "/video-games/search/title/{title}",
                     method = RequestMethod.GET)
-    public ResponseEntity<?> getVideoGameByTitle(@PathVariable(value = "title") String titleEncoded)
+    public ResponseEntity<?> getVideoGameByTitle(
+            @PathVariable(value = "title") String titleEncoded,
+            @RequestParam(name = "fuzzy", required = false, defaultValue = "false") boolean fuzzy,
+            @RequestParam(name = "view", required = false) String view)
             throws UnsupportedEncodingException {
         String title = URLDecoder.decode(titleEncoded, VideoGameController.ENCODING);
         logger.info("Fetching VideoGame with title {}", title);
-        List<VideoGame> videoGames = videoGameRepository.findByTitleIgnoreCaseContaining(title);
+        if (MediaSummary.isRequested(view)) {
+            List<MediaSummary> summaries = mediaSearchService.searchSummaries(title, fuzzy, VideoGame.class,
+                    videoGameRepository::findSummariesByIdIn, videoGameRepository::findSummariesByTitleContaining);
+            return new ResponseEntity<List<MediaSummary>>(summaries, HttpStatus.OK);
+        }
+        List<VideoGame> videoGames = mediaSearchService.search(title, fuzzy, VideoGame.class,
+                                                               videoGameRepository::findAll,
+                                                               videoGameRepository::findByTitleIgnoreCaseContaining);
         if (videoGames == null) {
             logger.error("VideoGame with title {} not found.", title);
             return new ResponseEntity<Object>(new VideoGameException("VideoGame with title " + title + " not found."),
@@ -161,17 +319,25 @@ public class VideoGameController {
      * In other case, this method return the video game found in body response and the success code HTTP 200.
      * This method is call only by the method HTTP <em>GET</em>, and it's necessary to passed on
      * parameter the identifier of the video game at research.
+     * The response contains the version of the video game on the header <code>ETag</code> and the date of his last
+     * modification on <code>Last-Modified</code> : if the video game has not been modified since, a request with them
+     * on <code>If-None-Match</code> or <code>If-Modified-Since</code> receive an HTTP 304 : Not Modified
+     * without the video game read.
      *
      * @param id Identifier of the Series on Database.
+     * @param request Request of the client, with the tag of the video game already read on <code>If-None-Match</code>.
      *
      * @return A ResponseEntity with the video game found on Database, or an error HTTP 204 : No Content.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.1
      */
     @RequestMapping(value = "/video-games/search/id/{id}")
-    public ResponseEntity<?> getVideoGameById(@PathVariable(value = "id") long id) {
+    public ResponseEntity<?> getVideoGameById(@PathVariable(value = "id") long id, WebRequest request) {
         logger.info("Fetching Video Game with id {}", id);
+        if (entityTagService.checkNotModified(request, VideoGame.class, id)) {
+            return null;
+        }
         VideoGame videoGame = videoGameRepository.findOne(id);
         if (videoGame == null) {
             logger.error("Video Game with id {} not found.", id);
@@ -194,14 +360,12 @@ public class VideoGameController {
      *
      * @return A ResponseEntity with the videoGame added, or an error HTTP 409 : CONFLICT.
      *
-     * @version 1.0.1
+     * @version 1.3
      * @since 1.0
      */
     @RequestMapping(value = "/video-games/",
                     method = RequestMethod.POST)
     public ResponseEntity<?> create(@RequestBody VideoGame videoGame, UriComponentsBuilder uriBuilder) {
-        logger.info("Created videoGame : {}", videoGame);
-
         // Check if the videoGame already exist on database.
         VideoGame videoGameExist = videoGameRepository.findByTitleIgnoreCaseAndReleaseDate(videoGame.getTitle(),
                                                                                            videoGame.getReleaseDate());
@@ -211,40 +375,15 @@ public class VideoGameController {
                     "Unable to create. The videoGame " + videoGame.getTitle() + " already exist"), HttpStatus.CONFLICT);
         }
 
-        // Check if the developer are present on Database or not.
-        Set<Developer> developersOnVideoGame = videoGame.getDevelopers();
-        Set<Developer> developers = new HashSet<Developer>();
-        for (Developer d : developersOnVideoGame) {
-            Developer developerExist = developerRepository.findByName(d.getName());
-            // If the developer is not present on Database, it add on it.
-            if (developerExist == null) {
-                logger.info("Created developer : {}", d);
-                developerRepository.save(d);
-                developers.add(d);
-            } else {
-                logger.info("Added developer {} already present on persistent system", developerExist);
-                developers.add(developerExist);
-            }
-        }
-        videoGame.setDevelopers(developers);
-
-        // Check if the publisher are present on Database or not.
-        Set<Publisher> publishersOnVideoGame = videoGame.getPublishers();
-        Set<Publisher> publishers = new HashSet<Publisher>();
-        for (Publisher d : publishersOnVideoGame) {
-            Publisher publisherExist = publisherRepository.findByName(d.getName());
-            // If the publisher is not present on Database, it add on it.
-            if (publisherExist == null) {
-                logger.info("Created publisher : {}", d);
-                publisherRepository.save(d);
-                publishers.add(d);
-            } else {
-                logger.info("Added publisher {} already present on persistent system", publisherExist);
-                publishers.add(publisherExist);
-            }
-        }
-        videoGame.setPublishers(publishers);
+        // Use the developers stored on Database, the missing ones are created.
+        videoGame.setDevelopers(personResolver.companies(Developer.class, videoGame.getDevelopers()));
+
+        // Use the publishers stored on Database, the missing ones are created.
+        videoGame.setPublishers(personResolver.companies(Publisher.class, videoGame.getPublishers()));
         videoGameRepository.save(videoGame);
+        logger.info("Created videoGame : {}", MediaLog.of(logger, videoGame));
+        homePageService.invalidate(HomePageService.VIDEO_GAMES);
+        mediaSearchService.index(videoGame);
 
         HttpHeaders header = new HttpHeaders();
         header.setLocation(uriBuilder.path("/media-library/video-games/search/id/{id}")
@@ -253,6 +392,59 @@ public class VideoGameController {
         return new ResponseEntity<String>(header, HttpStatus.CREATED);
     }
 
+    /**
+     * Add several video games on the Database with a single request.
+     * <p>
+     * The body contains a JSON array of video games or one video game by line, read one at a time,
+     * and the video games are committed by chunks.
+     * The response contains the result of each video game : created, or HTTP 409 : CONFLICT if already present.
+     *
+     * @param request Request with the video games at insert on the body.
+     * @param response Response where the results are written.
+     *
+     * @throws IOException If the body can't be read or the response can't be written.
+     * @version 1.1
+     * @since 1.9
+     */
+    @RequestMapping(value = "/video-games/batch",
+                    method = RequestMethod.POST,
+                    consumes = {MediaType.APPLICATION_JSON_VALUE, NdjsonExportService.APPLICATION_NDJSON_VALUE})
+    public void createBatch(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        logger.info("Creating video games by batch");
+        batchCreateService.create(request.getInputStream(), response, VideoGame.class, videoGameRepository,
+                                  this::exists, VideoGameController::key, this::resolve,
+                                  HomePageService.VIDEO_GAMES);
+    }
+
+    /**
+     * Import the video games of a CSV or TSV file sent on the body of the request.
+     * <p>
+     * Each record of the file is a video game, with the columns read by the VideoGameBuilder.
+     * The file is parsed, the video games built and saved by chunks at the same time, and the video games already
+     * present on the Database are ignored.
+     *
+     * @param request Request with the file at import on the body.
+     *
+     * @return A ResponseEntity with the number of video games read, created and already present, and the records
+     *         who can't be imported.
+     *
+     * @throws IOException If the body can't be read.
+     * @version 1.0
+     * @since 1.10
+     */
+    @RequestMapping(value = "/video-games/import",
+                    method = RequestMethod.POST,
+                    consumes = {ImportService.TEXT_CSV_VALUE, ImportService.TEXT_TSV_VALUE})
+    public ResponseEntity<?> importFile(HttpServletRequest request) throws IOException {
+        logger.info("Importing video games from a file");
+        Map<String, Object> report = importService.importFile(request.getInputStream(), request.getContentType(),
+                                                              new VideoGameBuilder(), VideoGame.class,
+                                                              videoGameRepository, this::exists,
+                                                              VideoGameController::key, this::resolve,
+                                                              HomePageService.VIDEO_GAMES);
+        return new ResponseEntity<Map<String, Object>>(report, HttpStatus.OK);
+    }
+
     /**
      * Update a video game present on the Database.
      * <p>
@@ -260,18 +452,22 @@ public class VideoGameController {
      * It the video game is not found, the method return an error with the HTTP code 404.
      * In other case, it update the information about the video game and return in the body the video game update
      * can use to check if the modification are succeeded and the HTTP code 200.
+     * If the header <code>If-Match</code> doesn't contain the tag of the current version of the video game,
+     * or if the video game is updated by another request at the same time, the method return an error
+     * HTTP 412 : PRECONDITION FAILED. The response contains the tag of the new version on <code>ETag</code>.
      *
      * @param id Id of the videoGame on Database.
      * @param videoGame VideoGame with new content at update.
+     * @param request Request of the client, with the tag of the video game read on <code>If-Match</code>.
      *
      * @return A ResponseEntity with all videoGames found on Database, or an error HTTP 404 : NOT FOUND.
      *
-     * @version 1.0
+     * @version 1.4
      * @since 1.0
      */
     @RequestMapping(value = "/video-games/{id}",
                     method = RequestMethod.PUT)
-    public ResponseEntity<?> update(@PathVariable("id") long id, @RequestBody VideoGame videoGame) {
+    public ResponseEntity<?> update(@PathVariable("id") long id, @RequestBody VideoGame videoGame, WebRequest request) {
         logger.info("Updating VideoGame with id {}", id);
 
         VideoGame videoGameAtUpdate = videoGameRepository.findOne(id);
@@ -282,44 +478,36 @@ public class VideoGameController {
                     HttpStatus.NOT_FOUND);
         }
 
-        // Check if the developer are present on Database or not.
-        Set<Developer> developersOnVideoGame = videoGame.getDevelopers();
-        Set<Developer> developers = new HashSet<Developer>();
-        for (Developer d : developersOnVideoGame) {
-            Developer developerExist = developerRepository.findByName(d.getName());
-            // If the developer is not present on Database, it add on it.
-            if (developerExist == null) {
-                logger.info("Created developer : {}", d);
-                developerRepository.save(d);
-                developers.add(d);
-            } else {
-                logger.info("Added developer {} already present on persistent system", developerExist);
-                developers.add(developerExist);
-            }
-        }
-        videoGame.setDevelopers(developers);
-
-        // Check if the publisher are present on Database or not.
-        Set<Publisher> publishersOnVideoGame = videoGame.getPublishers();
-        Set<Publisher> publishers = new HashSet<Publisher>();
-        for (Publisher d : publishersOnVideoGame) {
-            Publisher publisherExist = publisherRepository.findByName(d.getName());
-            // If the publisher is not present on Database, it add on it.
-            if (publisherExist == null) {
-                logger.info("Created publisher : {}", d);
-                publisherRepository.save(d);
-                publishers.add(d);
-            } else {
-                logger.info("Added publisher {} already present on persistent system", publisherExist);
-                publishers.add(publisherExist);
-            }
+        if (!entityTagService.matches(request, videoGameAtUpdate)) {
+            logger.error("Unable to update. Video game with id {} has been modified", id);
+            return new ResponseEntity<Object>(
+                    new VideoGameException("Unable to update. Video game with id " + id + " has been modified"),
+                    HttpStatus.PRECONDITION_FAILED);
         }
-        videoGame.setPublishers(publishers);
+
+        // Use the developers stored on Database, the missing ones are created.
+        videoGame.setDevelopers(personResolver.companies(Developer.class, videoGame.getDevelopers()));
+
+        // Use the publishers stored on Database, the missing ones are created.
+        videoGame.setPublishers(personResolver.companies(Publisher.class, videoGame.getPublishers()));
 
         // Copy content of the videoGame receive on request body on the videoGame retrieve from the database.
+        long version = videoGameAtUpdate.getVersion();
         videoGameAtUpdate = new VideoGame(videoGame);
-        videoGameRepository.save(videoGameAtUpdate);
-        return new ResponseEntity<Object>(videoGameAtUpdate, HttpStatus.OK);
+        videoGameAtUpdate.setId(id);
+        videoGameAtUpdate.setVersion(version);
+        try {
+            videoGameAtUpdate = videoGameRepository.save(videoGameAtUpdate);
+        } catch (OptimisticLockingFailureException e) {
+            logger.error("Unable to update. Video game with id {} has been modified during the update", id);
+            return new ResponseEntity<Object>(
+                    new VideoGameException("Unable to update. Video game with id " + id + " has been modified"),
+                    HttpStatus.PRECONDITION_FAILED);
+        }
+        homePageService.invalidate(HomePageService.VIDEO_GAMES);
+        mediaSearchService.index(videoGameAtUpdate);
+        HttpHeaders headers = EntityTagService.headers(request, videoGameAtUpdate.getVersion());
+        return new ResponseEntity<Object>(videoGameAtUpdate, headers, HttpStatus.OK);
     }
 
     /**
@@ -335,7 +523,7 @@ public class VideoGameController {
      *
      * @return A ResponseEntity with all videoGames found on Database, or an error HTTP 404 : NOT_FOUND.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
     @RequestMapping(value = "/video-games/{id}",
@@ -352,10 +540,11 @@ public class VideoGameController {
         }
 
         videoGameRepository.delete(videoGame);
+        homePageService.invalidate(HomePageService.VIDEO_GAMES);
+        mediaSearchService.remove(videoGame.getId());
         return new ResponseEntity<Object>(videoGame, HttpStatus.OK);
     }
 
-
     /**
      * Get all video genres present on Media Library.
      *
@@ -383,4 +572,48 @@ public class VideoGameController {
     public ResponseEntity<?> getVideoGamePlatform() {
         return new ResponseEntity<>(VideoGamePlatform.values(), HttpStatus.OK);
     }
+
+    /**
+     * Check if a video game is already present on the Database.
+     *
+     * @param videoGame Video game at check.
+     *
+     * @return True if the video game is already present on the Database.
+     *
+     * @version 1.0
+     * @since 1.10
+     */
+    private boolean exists(VideoGame videoGame) {
+        return videoGameRepository.findByTitleIgnoreCaseAndReleaseDate(videoGame.getTitle(),
+                                                                       videoGame.getReleaseDate()) != null;
+    }
+
+    /**
+     * Key of a video game, the fields checked by {@link #exists(VideoGame)} compared between the video games of a
+     * chunk.
+     *
+     * @param videoGame Video game at check.
+     *
+     * @return The title and release date of the video game.
+     *
+     * @version 1.0
+     * @since 1.15
+     */
+    private static List<Object> key(VideoGame videoGame) {
+        return BatchCreateService.key(videoGame.getTitle(), videoGame.getReleaseDate());
+    }
+
+    /**
+     * Replace the companies of several video games by the companies stored on the Database,
+     * the missing ones are created.
+     *
+     * @param videoGames Video games at complete.
+     *
+     * @version 1.0
+     * @since 1.10
+     */
+    private void resolve(List<VideoGame> videoGames) {
+        personResolver.companies(Developer.class, videoGames, VideoGame::getDevelopers, VideoGame::setDevelopers);
+        personResolver.companies(Publisher.class, videoGames, VideoGame::getPublishers, VideoGame::setPublishers);
+    }
 }
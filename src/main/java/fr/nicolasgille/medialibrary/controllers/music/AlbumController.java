@@ -18,29 +18,45 @@
 
 package fr.nicolasgille.medialibrary.controllers.music;
 
+import fr.nicolasgille.medialibrary.builders.music.AlbumBuilder;
 import fr.nicolasgille.medialibrary.exceptions.music.AlbumException;
+import fr.nicolasgille.medialibrary.models.MediaSummary;
 import fr.nicolasgille.medialibrary.models.common.company.LabelRecords;
 import fr.nicolasgille.medialibrary.models.common.person.Singer;
 import fr.nicolasgille.medialibrary.models.components.genre.MusicGenre;
 import fr.nicolasgille.medialibrary.models.music.Album;
-import fr.nicolasgille.medialibrary.repositories.common.company.LabelRecordsRepository;
-import fr.nicolasgille.medialibrary.repositories.common.person.SingerRepository;
 import fr.nicolasgille.medialibrary.repositories.music.AlbumRepository;
+import fr.nicolasgille.medialibrary.services.BatchCreateService;
+import fr.nicolasgille.medialibrary.services.EntityTagService;
+import fr.nicolasgille.medialibrary.services.HomePageService;
+import fr.nicolasgille.medialibrary.services.ImportService;
+import fr.nicolasgille.medialibrary.services.MediaFacetService;
+import fr.nicolasgille.medialibrary.services.MediaSearchService;
+import fr.nicolasgille.medialibrary.services.NdjsonExportService;
+import fr.nicolasgille.medialibrary.services.PersonResolver;
+import fr.nicolasgille.medialibrary.utils.MediaLog;
+import fr.nicolasgille.medialibrary.utils.PageCursor;
+import fr.nicolasgille.medialibrary.utils.SmileHttpMessageConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 
 /**
  * Controller of the app to interact with music albums present on Media-Library.
@@ -49,12 +65,12 @@ import java.util.Set;
  * You can add you own method of research if you would have a new research type of music album.
  *
  * @author Nicolas GILLE
- * @version 1.1
+ * @version 1.15
  * @since Media-Library 0.4
  */
 @RestController
 @RequestMapping(value = "/",
-                produces = MediaType.APPLICATION_JSON_VALUE)
+                produces = {MediaType.APPLICATION_JSON_VALUE, SmileHttpMessageConverter.APPLICATION_SMILE_VALUE})
 public class AlbumController {
 
     /**
@@ -80,41 +96,168 @@ public class AlbumController {
     private AlbumRepository albumRepository;
 
     /**
-     * Repository used to interact with label records present on the service.
+     * Service used to export all albums as newline delimited JSON.
      *
-     * @since 1.0
+     * @since 1.2
      */
     @Autowired
-    private LabelRecordsRepository labelRecordsRepository;
+    private NdjsonExportService ndjsonExportService;
 
     /**
-     * Repository used to interact with singers present on the service.
+     * Service who build the content of the home page, invalidated on each write.
      *
-     * @since 1.0
+     * @since 1.3
+     */
+    @Autowired
+    private HomePageService homePageService;
+
+    /**
+     * Service used to search the albums by full text, updated on each write.
+     *
+     * @since 1.4
+     */
+    @Autowired
+    private MediaSearchService mediaSearchService;
+
+    /**
+     * Service used to filter the albums on their facets, updated on each write.
+     *
+     * @since 1.6
      */
     @Autowired
-    private SingerRepository singerRepository;
+    private MediaFacetService mediaFacetService;
+
+    /**
+     * Service used to find or create the persons and companies of the albums with a few queries.
+     *
+     * @since 1.8
+     */
+    @Autowired
+    private PersonResolver personResolver;
+
+    /**
+     * Service used to create several albums with a single request.
+     *
+     * @since 1.9
+     */
+    @Autowired
+    private BatchCreateService batchCreateService;
+
+    /**
+     * Service used to import the albums of a CSV or TSV file.
+     *
+     * @since 1.10
+     */
+    @Autowired
+    private ImportService importService;
+
+    /**
+     * Service used to answer the conditional requests from the versions of the albums.
+     *
+     * @since 1.12
+     */
+    @Autowired
+    private EntityTagService entityTagService;
 
     /**
      * Return all albums found on Database.
      * <p>
      * This method return a ResponseEntity object who contains a list of albums found on the Database.
      * If the database is empty, this method return an error HTTP 204 : No Content.
-     * This method can call only by GET request and take nothing parameter to work.
+     * This method can call only by GET request.
+     * The result is paginated on the identifier : the response contains at most <code>limit</code> elements and the
+     * header <code>X-Next-Cursor</code> contains the cursor at send as <code>after</code> to get the next page.
+     * The albums can be filtered on their facets, like <code>musicGenre=BALLAD&amp;support=CD,VYNIL</code> :
+     * the values of a facet are combined with OR and the facets with AND.
+     * While the facets are indexed at startup, a filtered request receive an HTTP 503 : Service Unavailable.
+     * With <code>view=summary</code>, only the identifier, title, date of release and type of the albums
+     * are read and returned.
+     * The response contains the tag of the list on the header <code>ETag</code> : if no album has been created,
+     * updated or deleted since, a request with this tag on <code>If-None-Match</code> receive an HTTP 304 : Not
+     * Modified without the albums read.
+     *
+     * @param after Cursor of the previous page, or nothing to get the first page.
+     * @param limit Maximum number of elements on the page.
+     * @param view <code>summary</code> to return the summaries of the albums.
+     * @param filters Parameters of the request, with the values selected on each facet.
+     * @param request Request of the client, with the tag of the list already read on <code>If-None-Match</code>.
      *
      * @return A ResponseEntity with all albums found on Database, or an error HTTP 204 : No Content.
      *
-     * @version 1.0
+     * @version 2.4
      * @since 1.0
      */
     @RequestMapping(value = "/musics/",
                     method = RequestMethod.GET)
-    public ResponseEntity getAll() {
-        List<Album> albums = albumRepository.findAll();
+    public ResponseEntity getAll(@RequestParam(name = "after", required = false) String after,
+                                 @RequestParam(name = "limit", required = false) Integer limit,
+                                 @RequestParam(name = "view", required = false) String view,
+                                 @RequestParam MultiValueMap<String, String> filters,
+                                 WebRequest request) {
+        long lastId = PageCursor.decode(after);
+        if (lastId == PageCursor.INVALID_CURSOR) {
+            logger.error("Invalid cursor {}", after);
+            return new ResponseEntity<Object>(new AlbumException("Invalid cursor " + after),
+                                              HttpStatus.BAD_REQUEST);
+        }
+
+        if (mediaFacetService.isFiltered(filters) && !mediaFacetService.isReady()) {
+            logger.error("Facets not ready yet");
+            return new ResponseEntity<Object>(new AlbumException("The facets are being indexed, retry later."),
+                                              HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        if (entityTagService.checkNotModified(request, Album.class)) {
+            return null;
+        }
+
+        if (MediaSummary.isRequested(view)) {
+            List<MediaSummary> summaries;
+            if (mediaFacetService.isFiltered(filters)) {
+                summaries = mediaFacetService.pageSummaries(Album.class, filters, lastId, limit,
+                                                            albumRepository::findSummariesByIdIn);
+            } else {
+                summaries = albumRepository.findSummariesByIdGreaterThan(lastId, PageCursor.pageable(limit));
+            }
+            if (summaries.isEmpty()) {
+                return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
+            }
+            HttpHeaders headers = PageCursor.nextPageHeaders(summaries, limit, MediaSummary::getId);
+            return new ResponseEntity<List<MediaSummary>>(summaries, headers, HttpStatus.OK);
+        }
+
+        List<Album> albums;
+        if (mediaFacetService.isFiltered(filters)) {
+            albums = mediaFacetService.page(Album.class, filters, lastId, limit, albumRepository::findAll);
+        } else {
+            albums = albumRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageCursor.pageable(limit));
+        }
         if (albums.isEmpty()) {
             return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
         }
-        return new ResponseEntity<List<Album>>(albums, HttpStatus.OK);
+        HttpHeaders headers = PageCursor.nextPageHeaders(albums, limit, Album::getId);
+        return new ResponseEntity<List<Album>>(albums, headers, HttpStatus.OK);
+    }
+
+    /**
+     * Export all albums found on Database as newline delimited JSON.
+     * <p>
+     * This method is selected when the client accept <code>application/x-ndjson</code>.
+     * The albums are streamed from the Database and written one by one on the response,
+     * so the memory used by the export doesn't depend on the number of albums.
+     * If the database is empty, this method return an error HTTP 204 : No Content.
+     *
+     * @param response Response where the albums are written.
+     *
+     * @throws IOException If the response can't be written.
+     * @version 1.0
+     * @since 1.2
+     */
+    @RequestMapping(value = "/musics/",
+                    method = RequestMethod.GET,
+                    produces = NdjsonExportService.APPLICATION_NDJSON_VALUE)
+    public void export(HttpServletResponse response) throws IOException {
+        ndjsonExportService.export(response, albumRepository::streamAll);
     }
 
     /**
@@ -127,23 +270,37 @@ public class AlbumController {
      * parameter the title of the music album at research.
      * The title is encoded in <code>UTF8</code> to avoid problems with specials characters and it decoded before used
      * on search process.
+     * <p>
+     * With <code>fuzzy=true</code>, the titles close to the title searched are returned, the most similar first.
+     * With <code>view=summary</code>, only the summaries of the albums found are returned.
      *
      * @param titleEncoded Title of the album encoded to search on Database.
+     * @param fuzzy True to search the titles similar to the title, to find them despite typos.
+     * @param view <code>summary</code> to return the summaries of the albums.
      *
      * @return A ResponseEntity with the album found on Database, or an error HTTP 204 : No Content.
      *
      * @throws UnsupportedEncodingException The method throw an <code>UnsupportedEncodingException</code> when a
      *         problem occurred during title decoding.
-     * @version 1.0
+     * @version 1.3
      * @since 1.0
      */
     @RequestMapping(value = "/musics/search/title/{title}",
                     method = RequestMethod.GET)
-    public ResponseEntity<?> getAlbumByTitle(@PathVariable(value = "title") String titleEncoded)
+    public ResponseEntity<?> getAlbumByTitle(
+            @PathVariable(value = "title") String titleEncoded,
+            @RequestParam(name = "fuzzy", required = false, defaultValue = "false") boolean fuzzy,
+            @RequestParam(name = "view", required = false) String view)
             throws UnsupportedEncodingException {
         String title = URLDecoder.decode(titleEncoded, AlbumController.ENCODING);
         logger.info("Fetching Album with title {}", title);
-        List<Album> albums = albumRepository.findByTitleIgnoreCaseContaining(title);
+        if (MediaSummary.isRequested(view)) {
+            List<MediaSummary> summaries = mediaSearchService.searchSummaries(title, fuzzy, Album.class,
+                    albumRepository::findSummariesByIdIn, albumRepository::findSummariesByTitleContaining);
+            return new ResponseEntity<List<MediaSummary>>(summaries, HttpStatus.OK);
+        }
+        List<Album> albums = mediaSearchService.search(title, fuzzy, Album.class, albumRepository::findAll,
+                                                       albumRepository::findByTitleIgnoreCaseContaining);
         if (albums == null) {
             logger.error("Album with title {} not found.", title);
             return new ResponseEntity<Object>(new AlbumException("Album with title " + title + " not found."),
@@ -160,17 +317,25 @@ public class AlbumController {
      * In other case, this method return the music album found in body response and the success code HTTP 200.
      * This method is call only by the method HTTP <em>GET</em>, and it's necessary to passed on
      * parameter the identifier of the music album at research.
+     * The response contains the version of the album on the header <code>ETag</code> and the date of his last
+     * modification on <code>Last-Modified</code> : if the album has not been modified since, a request with them on
+     * <code>If-None-Match</code> or <code>If-Modified-Since</code> receive an HTTP 304 : Not Modified
+     * without the album read.
      *
      * @param id Identifier of the Album on Database.
+     * @param request Request of the client, with the tag of the album already read on <code>If-None-Match</code>.
      *
      * @return A ResponseEntity with the album found on Database, or an error HTTP 204 : No Content.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.1
      */
     @RequestMapping(value = "/musics/search/id/{id}")
-    public ResponseEntity<?> getAlbumById(@PathVariable(value = "id") long id) {
+    public ResponseEntity<?> getAlbumById(@PathVariable(value = "id") long id, WebRequest request) {
         logger.info("Fetching Album with id {}", id);
+        if (entityTagService.checkNotModified(request, Album.class, id)) {
+            return null;
+        }
         Album album = albumRepository.findOne(id);
         if (album == null) {
             logger.error("Album with id {} not found.", id);
@@ -193,14 +358,12 @@ public class AlbumController {
      *
      * @return A ResponseEntity with the album added, or an error HTTP 409 : CONFLICT.
      *
-     * @version 1.0
+     * @version 1.3
      * @since 1.0
      */
     @RequestMapping(value = "/musics/",
                     method = RequestMethod.POST)
     public ResponseEntity<?> create(@RequestBody Album album, UriComponentsBuilder uriBuilder) {
-        logger.info("Created album : {}", album);
-
         // Check if the album already exist on database.
         Album albumExist = albumRepository.findByTitleAndNbTracksAndLength(album.getTitle(), album.getNbTracks(),
                                                                            album.getLength());
@@ -211,40 +374,15 @@ public class AlbumController {
                     HttpStatus.CONFLICT);
         }
 
-        // Check if the developer are present on Database or not.
-        Set<LabelRecords> developersOnAlbum = album.getLabelRecords();
-        Set<LabelRecords> developers = new HashSet<LabelRecords>();
-        for (LabelRecords d : developersOnAlbum) {
-            LabelRecords developerExist = labelRecordsRepository.findByName(d.getName());
-            // If the developer is not present on Database, it add on it.
-            if (developerExist == null) {
-                logger.info("Created developer : {}", d);
-                labelRecordsRepository.save(d);
-                developers.add(d);
-            } else {
-                logger.info("Added developer {} already present on persistent system", developerExist);
-                developers.add(developerExist);
-            }
-        }
-        album.setLabelRecords(developers);
-
-        // Check if the singer are present on Database or not.
-        Set<Singer> singersOnComic = album.getSingers();
-        Set<Singer> singers = new HashSet<Singer>();
-        for (Singer s : singersOnComic) {
-            Singer singerExist = singerRepository.findByFirstNameAndLastName(s.getFirstName(), s.getLastName());
-            // If the singer is not present on Database, it add on it.
-            if (singerExist == null) {
-                logger.info("Created singer : {}", s);
-                singerRepository.save(s);
-                singers.add(s);
-            } else {
-                logger.info("Added singer {} already present on persistent system", singerExist);
-                singers.add(singerExist);
-            }
-        }
-        album.setSingers(singers);
+        // Use the label records stored on Database, the missing ones are created.
+        album.setLabelRecords(personResolver.companies(LabelRecords.class, album.getLabelRecords()));
+
+        // Use the singers stored on Database, the missing ones are created.
+        album.setSingers(personResolver.persons(Singer.class, album.getSingers()));
         albumRepository.save(album);
+        logger.info("Created album : {}", MediaLog.of(logger, album));
+        homePageService.invalidate(HomePageService.MUSICS);
+        mediaSearchService.index(album);
 
         HttpHeaders header = new HttpHeaders();
         header.setLocation(uriBuilder.path("/media-library/musics/search/id/{id}")
@@ -253,6 +391,57 @@ public class AlbumController {
         return new ResponseEntity<String>(header, HttpStatus.CREATED);
     }
 
+    /**
+     * Add several albums on the Database with a single request.
+     * <p>
+     * The body contains a JSON array of albums or one album by line, read one at a time, and the albums are
+     * committed by chunks.
+     * The response contains the result of each album : created, or HTTP 409 : CONFLICT if already present.
+     *
+     * @param request Request with the albums at insert on the body.
+     * @param response Response where the results are written.
+     *
+     * @throws IOException If the body can't be read or the response can't be written.
+     * @version 1.1
+     * @since 1.9
+     */
+    @RequestMapping(value = "/musics/batch",
+                    method = RequestMethod.POST,
+                    consumes = {MediaType.APPLICATION_JSON_VALUE, NdjsonExportService.APPLICATION_NDJSON_VALUE})
+    public void createBatch(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        logger.info("Creating albums by batch");
+        batchCreateService.create(request.getInputStream(), response, Album.class, albumRepository, this::exists,
+                                  AlbumController::key, this::resolve, HomePageService.MUSICS);
+    }
+
+    /**
+     * Import the albums of a CSV or TSV file sent on the body of the request.
+     * <p>
+     * Each record of the file is an album, with the columns read by the AlbumBuilder.
+     * The file is parsed, the albums built and saved by chunks at the same time, and the albums already
+     * present on the Database are ignored.
+     *
+     * @param request Request with the file at import on the body.
+     *
+     * @return A ResponseEntity with the number of albums read, created and already present, and the records
+     *         who can't be imported.
+     *
+     * @throws IOException If the body can't be read.
+     * @version 1.0
+     * @since 1.10
+     */
+    @RequestMapping(value = "/musics/import",
+                    method = RequestMethod.POST,
+                    consumes = {ImportService.TEXT_CSV_VALUE, ImportService.TEXT_TSV_VALUE})
+    public ResponseEntity<?> importFile(HttpServletRequest request) throws IOException {
+        logger.info("Importing albums from a file");
+        Map<String, Object> report = importService.importFile(request.getInputStream(), request.getContentType(),
+                                                              new AlbumBuilder(), Album.class, albumRepository,
+                                                              this::exists, AlbumController::key, this::resolve,
+                                                              HomePageService.MUSICS);
+        return new ResponseEntity<Map<String, Object>>(report, HttpStatus.OK);
+    }
+
     /**
      * Update a album present on the Database.
      * <p>
@@ -260,18 +449,22 @@ public class AlbumController {
      * It the music album is not found, the method return an error with the HTTP code 404.
      * In other case, it update the information about the music album and return in the body the music album update
      * can use to check if the modification are succeeded and the HTTP code 200.
+     * If the header <code>If-Match</code> doesn't contain the tag of the current version of the album,
+     * or if the album is updated by another request at the same time, the method return an error
+     * HTTP 412 : PRECONDITION FAILED. The response contains the tag of the new version on <code>ETag</code>.
      *
      * @param id Id of the album on Database.
      * @param album Album with new content at update.
+     * @param request Request of the client, with the tag of the album read on <code>If-Match</code>.
      *
      * @return A ResponseEntity with all albums found on Database, or an error HTTP 404 : NOT FOUND.
      *
-     * @version 1.0
+     * @version 1.4
      * @since 1.0
      */
     @RequestMapping(value = "/musics/{id}",
                     method = RequestMethod.PUT)
-    public ResponseEntity<?> update(@PathVariable("id") long id, @RequestBody Album album) {
+    public ResponseEntity<?> update(@PathVariable("id") long id, @RequestBody Album album, WebRequest request) {
         logger.info("Updating Album with id {}", id);
 
         Album albumAtUpdate = albumRepository.findOne(id);
@@ -281,44 +474,36 @@ public class AlbumController {
                     new AlbumException("Unable to update. Album with id " + id + " not found"), HttpStatus.NOT_FOUND);
         }
 
-        // Check if the developer are present on Database or not.
-        Set<LabelRecords> developersOnAlbum = album.getLabelRecords();
-        Set<LabelRecords> developers = new HashSet<LabelRecords>();
-        for (LabelRecords d : developersOnAlbum) {
-            LabelRecords developerExist = labelRecordsRepository.findByName(d.getName());
-            // If the developer is not present on Database, it add on it.
-            if (developerExist == null) {
-                logger.info("Created developer : {}", d);
-                labelRecordsRepository.save(d);
-                developers.add(d);
-            } else {
-                logger.info("Added developer {} already present on persistent system", developerExist);
-                developers.add(developerExist);
-            }
-        }
-        album.setLabelRecords(developers);
-
-        // Check if the singer are present on Database or not.
-        Set<Singer> singersOnComic = album.getSingers();
-        Set<Singer> singers = new HashSet<Singer>();
-        for (Singer s : singersOnComic) {
-            Singer singerExist = singerRepository.findByFirstNameAndLastName(s.getFirstName(), s.getLastName());
-            // If the singer is not present on Database, it add on it.
-            if (singerExist == null) {
-                logger.info("Created singer : {}", s);
-                singerRepository.save(s);
-                singers.add(s);
-            } else {
-                logger.info("Added singer {} already present on persistent system", singerExist);
-                singers.add(singerExist);
-            }
+        if (!entityTagService.matches(request, albumAtUpdate)) {
+            logger.error("Unable to update. Album with id {} has been modified", id);
+            return new ResponseEntity<Object>(
+                    new AlbumException("Unable to update. Album with id " + id + " has been modified"),
+                    HttpStatus.PRECONDITION_FAILED);
         }
-        album.setSingers(singers);
+
+        // Use the label records stored on Database, the missing ones are created.
+        album.setLabelRecords(personResolver.companies(LabelRecords.class, album.getLabelRecords()));
+
+        // Use the singers stored on Database, the missing ones are created.
+        album.setSingers(personResolver.persons(Singer.class, album.getSingers()));
 
         // Copy content of the album receive on request body on the album retrieve from the database.
+        long version = albumAtUpdate.getVersion();
         albumAtUpdate = new Album(album);
-        albumRepository.save(albumAtUpdate);
-        return new ResponseEntity<Object>(albumAtUpdate, HttpStatus.OK);
+        albumAtUpdate.setId(id);
+        albumAtUpdate.setVersion(version);
+        try {
+            albumAtUpdate = albumRepository.save(albumAtUpdate);
+        } catch (OptimisticLockingFailureException e) {
+            logger.error("Unable to update. Album with id {} has been modified during the update", id);
+            return new ResponseEntity<Object>(
+                    new AlbumException("Unable to update. Album with id " + id + " has been modified"),
+                    HttpStatus.PRECONDITION_FAILED);
+        }
+        homePageService.invalidate(HomePageService.MUSICS);
+        mediaSearchService.index(albumAtUpdate);
+        HttpHeaders headers = EntityTagService.headers(request, albumAtUpdate.getVersion());
+        return new ResponseEntity<Object>(albumAtUpdate, headers, HttpStatus.OK);
     }
 
     /**
@@ -334,7 +519,7 @@ public class AlbumController {
      *
      * @return A ResponseEntity with all albums found on Database, or an error HTTP 404 : NOT_FOUND.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
     @RequestMapping(value = "/musics/{id}",
@@ -350,6 +535,8 @@ public class AlbumController {
         }
 
         albumRepository.delete(album);
+        homePageService.invalidate(HomePageService.MUSICS);
+        mediaSearchService.remove(album.getId());
         return new ResponseEntity<Object>(album, HttpStatus.OK);
     }
 
@@ -366,4 +553,47 @@ public class AlbumController {
     public ResponseEntity<?> getMediaGenre() {
         return new ResponseEntity<>(MusicGenre.values(), HttpStatus.OK);
     }
+
+    /**
+     * Check if an album is already present on the Database.
+     *
+     * @param album Album at check.
+     *
+     * @return True if the album is already present on the Database.
+     *
+     * @version 1.0
+     * @since 1.10
+     */
+    private boolean exists(Album album) {
+        return albumRepository.findByTitleAndNbTracksAndLength(album.getTitle(), album.getNbTracks(),
+                                                               album.getLength()) != null;
+    }
+
+    /**
+     * Key of an album, the fields checked by {@link #exists(Album)} compared between the albums of a chunk.
+     *
+     * @param album Album at check.
+     *
+     * @return The title, number of tracks and length of the album.
+     *
+     * @version 1.0
+     * @since 1.15
+     */
+    private static List<Object> key(Album album) {
+        return BatchCreateService.key(album.getTitle(), album.getNbTracks(), album.getLength());
+    }
+
+    /**
+     * Replace the persons and companies of several albums by the persons and companies stored on the Database,
+     * the missing ones are created.
+     *
+     * @param albums Albums at complete.
+     *
+     * @version 1.0
+     * @since 1.10
+     */
+    private void resolve(List<Album> albums) {
+        personResolver.companies(LabelRecords.class, albums, Album::getLabelRecords, Album::setLabelRecords);
+        personResolver.persons(Singer.class, albums, Album::getSingers, Album::setSingers);
+    }
 }
@@ -18,29 +18,45 @@
 
 package fr.nicolasgille.medialibrary.controllers.video;
 
+import fr.nicolasgille.medialibrary.builders.video.AnimeBuilder;
 import fr.nicolasgille.medialibrary.exceptions.video.AnimeException;
+import fr.nicolasgille.medialibrary.models.MediaSummary;
 import fr.nicolasgille.medialibrary.models.common.person.Director;
 import fr.nicolasgille.medialibrary.models.common.person.Producer;
 import fr.nicolasgille.medialibrary.models.components.genre.VideoGenre;
 import fr.nicolasgille.medialibrary.models.video.Anime;
-import fr.nicolasgille.medialibrary.repositories.common.person.DirectorRepository;
-import fr.nicolasgille.medialibrary.repositories.common.person.ProducerRepository;
 import fr.nicolasgille.medialibrary.repositories.video.AnimeRepository;
+import fr.nicolasgille.medialibrary.services.BatchCreateService;
+import fr.nicolasgille.medialibrary.services.EntityTagService;
+import fr.nicolasgille.medialibrary.services.HomePageService;
+import fr.nicolasgille.medialibrary.services.ImportService;
+import fr.nicolasgille.medialibrary.services.MediaFacetService;
+import fr.nicolasgille.medialibrary.services.MediaSearchService;
+import fr.nicolasgille.medialibrary.services.NdjsonExportService;
+import fr.nicolasgille.medialibrary.services.PersonResolver;
+import fr.nicolasgille.medialibrary.utils.MediaLog;
+import fr.nicolasgille.medialibrary.utils.PageCursor;
+import fr.nicolasgille.medialibrary.utils.SmileHttpMessageConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 
 /**
  * Controller of the app to interact with anime present on Media-Library.
@@ -49,12 +65,12 @@ import java.util.Set;
  * You can add you own method of research if you would have a new research type of anime.
  *
  * @author Nicolas GILLE
- * @version 1.2
+ * @version 1.16
  * @since Media-Library 0.2
  */
 @RestController
 @RequestMapping(value = "/",
-                produces = MediaType.APPLICATION_JSON_VALUE)
+                produces = {MediaType.APPLICATION_JSON_VALUE, SmileHttpMessageConverter.APPLICATION_SMILE_VALUE})
 public class AnimeController {
 
     /**
@@ -80,41 +96,168 @@ public class AnimeController {
     private AnimeRepository animesRepository;
 
     /**
-     * Repository used to interact with producers present on the service.
+     * Service used to export all animes as newline delimited JSON.
      *
-     * @since 1.0
+     * @since 1.3
      */
     @Autowired
-    private ProducerRepository producerRepository;
+    private NdjsonExportService ndjsonExportService;
 
     /**
-     * Repository used to interact with directors present on the service.
+     * Service who build the content of the home page, invalidated on each write.
      *
-     * @since 1.0
+     * @since 1.4
+     */
+    @Autowired
+    private HomePageService homePageService;
+
+    /**
+     * Service used to search the animes by full text, updated on each write.
+     *
+     * @since 1.5
+     */
+    @Autowired
+    private MediaSearchService mediaSearchService;
+
+    /**
+     * Service used to filter the animes on their facets, updated on each write.
+     *
+     * @since 1.7
+     */
+    @Autowired
+    private MediaFacetService mediaFacetService;
+
+    /**
+     * Service used to find or create the persons of the animes with a few queries.
+     *
+     * @since 1.9
+     */
+    @Autowired
+    private PersonResolver personResolver;
+
+    /**
+     * Service used to create several animes with a single request.
+     *
+     * @since 1.10
+     */
+    @Autowired
+    private BatchCreateService batchCreateService;
+
+    /**
+     * Service used to import the animes of a CSV or TSV file.
+     *
+     * @since 1.11
+     */
+    @Autowired
+    private ImportService importService;
+
+    /**
+     * Service used to answer the conditional requests from the versions of the animes.
+     *
+     * @since 1.13
      */
     @Autowired
-    private DirectorRepository directorRepository;
+    private EntityTagService entityTagService;
 
     /**
      * Return all animes found on Database.
      * <p>
      * This method return a ResponseEntity object who contains a list of animes found on the Database.
      * If the database is empty, this method return an error HTTP 204 : No Content.
-     * This method can call only by GET request and take nothing parameter to work.
+     * This method can call only by GET request.
+     * The result is paginated on the identifier : the response contains at most <code>limit</code> elements and the
+     * header <code>X-Next-Cursor</code> contains the cursor at send as <code>after</code> to get the next page.
+     * The animes can be filtered on their facets, like <code>videoGenre=ACTION&amp;support=DVD,BLU_RAY</code> :
+     * the values of a facet are combined with OR and the facets with AND.
+     * While the facets are indexed at startup, a filtered request receive an HTTP 503 : Service Unavailable.
+     * With <code>view=summary</code>, only the identifier, title, date of release and type of the animes
+     * are read and returned.
+     * The response contains the tag of the list on the header <code>ETag</code> : if no anime has been created,
+     * updated or deleted since, a request with this tag on <code>If-None-Match</code> receive an HTTP 304 : Not
+     * Modified without the animes read.
+     *
+     * @param after Cursor of the previous page, or nothing to get the first page.
+     * @param limit Maximum number of elements on the page.
+     * @param view <code>summary</code> to return the summaries of the animes.
+     * @param filters Parameters of the request, with the values selected on each facet.
+     * @param request Request of the client, with the tag of the list already read on <code>If-None-Match</code>.
      *
      * @return A ResponseEntity with all animes found on Database, or an error HTTP 204 : No Content.
      *
-     * @version 1.0
+     * @version 2.4
      * @since 1.0
      */
     @RequestMapping(value = "/animes/",
                     method = RequestMethod.GET)
-    public ResponseEntity<?> getAll() {
-        List<Anime> animes = animesRepository.findAll();
+    public ResponseEntity<?> getAll(@RequestParam(name = "after", required = false) String after,
+                                    @RequestParam(name = "limit", required = false) Integer limit,
+                                    @RequestParam(name = "view", required = false) String view,
+                                    @RequestParam MultiValueMap<String, String> filters,
+                                    WebRequest request) {
+        long lastId = PageCursor.decode(after);
+        if (lastId == PageCursor.INVALID_CURSOR) {
+            logger.error("Invalid cursor {}", after);
+            return new ResponseEntity<Object>(new AnimeException("Invalid cursor " + after),
+                                              HttpStatus.BAD_REQUEST);
+        }
+
+        if (mediaFacetService.isFiltered(filters) && !mediaFacetService.isReady()) {
+            logger.error("Facets not ready yet");
+            return new ResponseEntity<Object>(new AnimeException("The facets are being indexed, retry later."),
+                                              HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        if (entityTagService.checkNotModified(request, Anime.class)) {
+            return null;
+        }
+
+        if (MediaSummary.isRequested(view)) {
+            List<MediaSummary> summaries;
+            if (mediaFacetService.isFiltered(filters)) {
+                summaries = mediaFacetService.pageSummaries(Anime.class, filters, lastId, limit,
+                                                            animesRepository::findSummariesByIdIn);
+            } else {
+                summaries = animesRepository.findSummariesByIdGreaterThan(lastId, PageCursor.pageable(limit));
+            }
+            if (summaries.isEmpty()) {
+                return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
+            }
+            HttpHeaders headers = PageCursor.nextPageHeaders(summaries, limit, MediaSummary::getId);
+            return new ResponseEntity<List<MediaSummary>>(summaries, headers, HttpStatus.OK);
+        }
+
+        List<Anime> animes;
+        if (mediaFacetService.isFiltered(filters)) {
+            animes = mediaFacetService.page(Anime.class, filters, lastId, limit, animesRepository::findAll);
+        } else {
+            animes = animesRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageCursor.pageable(limit));
+        }
         if (animes.isEmpty()) {
             return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
         }
-        return new ResponseEntity<List<Anime>>(animes, HttpStatus.OK);
+        HttpHeaders headers = PageCursor.nextPageHeaders(animes, limit, Anime::getId);
+        return new ResponseEntity<List<Anime>>(animes, headers, HttpStatus.OK);
+    }
+
+    /**
+     * Export all animes found on Database as newline delimited JSON.
+     * <p>
+     * This method is selected when the client accept <code>application/x-ndjson</code>.
+     * The animes are streamed from the Database and written one by one on the response,
+     * so the memory used by the export doesn't depend on the number of animes.
+     * If the database is empty, this method return an error HTTP 204 : No Content.
+     *
+     * @param response Response where the animes are written.
+     *
+     * @throws IOException If the response can't be written.
+     * @version 1.0
+     * @since 1.3
+     */
+    @RequestMapping(value = "/animes/",
+                    method = RequestMethod.GET,
+                    produces = NdjsonExportService.APPLICATION_NDJSON_VALUE)
+    public void export(HttpServletResponse response) throws IOException {
+        ndjsonExportService.export(response, animesRepository::streamAll);
     }
 
     /**
@@ -127,23 +270,37 @@ public class AnimeController {
      * parameter the title of the anime at research.
      * The title is encoded in <code>UTF8</code> to avoid problems with specials characters and it decoded before used
      * on search process.
+     * <p>
+     * With <code>fuzzy=true</code>, the titles close to the title searched are returned, the most similar first.
+     * With <code>view=summary</code>, only the summaries of the animes found are returned.
      *
      * @param titleEncoded Title of the animes encoded to search on Database.
+     * @param fuzzy True to search the titles similar to the title, to find them despite typos.
+     * @param view <code>summary</code> to return the summaries of the animes.
      *
      * @return A ResponseEntity with the anime found on Database, or an error HTTP 204 : No Content.
      *
      * @throws UnsupportedEncodingException The method throw an <code>UnsupportedEncodingException</code> when a
      *         problem occurred during title decoding.
-     * @version 1.0
+     * @version 1.3
      * @since 1.2
      */
     @RequestMapping(value = "/animes/search/title/{title}",
                     method = RequestMethod.GET)
-    public ResponseEntity<?> getAnimesByTitle(@PathVariable(value = "title") String titleEncoded)
+    public ResponseEntity<?> getAnimesByTitle(
+            @PathVariable(value = "title") String titleEncoded,
+            @RequestParam(name = "fuzzy", required = false, defaultValue = "false") boolean fuzzy,
+            @RequestParam(name = "view", required = false) String view)
             throws UnsupportedEncodingException {
         String title = URLDecoder.decode(titleEncoded, AnimeController.ENCODING);
         logger.info("Fetching Anime with title {}", title);
-        List<Anime> animes = animesRepository.findByTitleIgnoreCaseContaining(title);
+        if (MediaSummary.isRequested(view)) {
+            List<MediaSummary> summaries = mediaSearchService.searchSummaries(title, fuzzy, Anime.class,
+                    animesRepository::findSummariesByIdIn, animesRepository::findSummariesByTitleContaining);
+            return new ResponseEntity<List<MediaSummary>>(summaries, HttpStatus.OK);
+        }
+        List<Anime> animes = mediaSearchService.search(title, fuzzy, Anime.class, animesRepository::findAll,
+                                                       animesRepository::findByTitleIgnoreCaseContaining);
         if (animes == null) {
             logger.error("Anime with title {} not found.", title);
             return new ResponseEntity<Object>(new AnimeException("Anime with title " + title + " not found."),
@@ -197,17 +354,25 @@ public class AnimeController {
      * In other case, this method return the anime found in body response and the success code HTTP 200.
      * This method is call only by the method HTTP <em>GET</em>, and it's necessary to passed on
      * parameter the identifier of the anime at research.
+     * The response contains the version of the anime on the header <code>ETag</code> and the date of his last
+     * modification on <code>Last-Modified</code> : if the anime has not been modified since, a request with them on
+     * <code>If-None-Match</code> or <code>If-Modified-Since</code> receive an HTTP 304 : Not Modified
+     * without the anime read.
      *
      * @param id Identifier of the Anime on Database.
+     * @param request Request of the client, with the tag of the anime already read on <code>If-None-Match</code>.
      *
      * @return A ResponseEntity with the anime found on Database, or an error HTTP 204 : No Content.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.1
      */
     @RequestMapping(value = "/animes/search/id/{id}")
-    public ResponseEntity<?> getAnimeById(@PathVariable(value = "id") long id) {
+    public ResponseEntity<?> getAnimeById(@PathVariable(value = "id") long id, WebRequest request) {
         logger.info("Fetching Anime with id {}", id);
+        if (entityTagService.checkNotModified(request, Anime.class, id)) {
+            return null;
+        }
         Anime anime = animesRepository.findOne(id);
         if (anime == null) {
             logger.error("Anime with id {} not found.", id);
@@ -230,14 +395,12 @@ public class AnimeController {
      *
      * @return A ResponseEntity with the anime added, or an error HTTP 409 : CONFLICT.
      *
-     * @version 1.1
+     * @version 1.4
      * @since 1.0
      */
     @RequestMapping(value = "/animes/",
                     method = RequestMethod.POST)
     public ResponseEntity<?> create(@RequestBody Anime anime, UriComponentsBuilder uriBuilder) {
-        logger.info("Created anime : {}", anime);
-
         // Check if the anime already exist on database.
         Anime animeExist = animesRepository.findByTitleAndCurrentSeason(anime.getTitle(), anime.getCurrentSeason());
         if (animeExist != null) {
@@ -247,40 +410,15 @@ public class AnimeController {
                     HttpStatus.CONFLICT);
         }
 
-        // Check if the producers are present on Database or not.
-        Set<Producer> producersOnAnime = anime.getProducers();
-        Set<Producer> producers = new HashSet<Producer>();
-        for (Producer p : producersOnAnime) {
-            Producer producerExist = producerRepository.findByFirstNameAndLastName(p.getFirstName(), p.getLastName());
-            // If the producer is not present on Database, he add on it.
-            if (producerExist == null) {
-                logger.info("Created producer : {}", p);
-                producerRepository.save(p);
-                producers.add(p);
-            } else {
-                logger.info("Added producer {} already present on persistent system.", producerExist);
-                producers.add(producerExist);
-            }
-        }
-        anime.setProducers(producers);
-
-        // Check if the directors are present on Database or not.
-        Set<Director> directorOnAnime = anime.getDirectors();
-        Set<Director> directors = new HashSet<Director>();
-        for (Director d : directorOnAnime) {
-            Director directorExist = directorRepository.findByFirstNameAndLastName(d.getFirstName(), d.getLastName());
-            // If the director is not present on Database, he add on it.
-            if (directorExist == null) {
-                logger.info("Created director : {}", d);
-                directorRepository.save(d);
-                directors.add(d);
-            } else {
-                logger.info("Added director {} already present on persistent system.", directorExist);
-                directors.add(directorExist);
-            }
-        }
-        anime.setDirectors(directors);
+        // Use the producers stored on Database, the missing ones are created.
+        anime.setProducers(personResolver.persons(Producer.class, anime.getProducers()));
+
+        // Use the directors stored on Database, the missing ones are created.
+        anime.setDirectors(personResolver.persons(Director.class, anime.getDirectors()));
         animesRepository.save(anime);
+        logger.info("Created anime : {}", MediaLog.of(logger, anime));
+        homePageService.invalidate(HomePageService.ANIMES);
+        mediaSearchService.index(anime);
 
         HttpHeaders header = new HttpHeaders();
         header.setLocation(uriBuilder.path("/media-library/animes/search/id/{id}")
@@ -289,6 +427,57 @@ public class AnimeController {
         return new ResponseEntity<String>(header, HttpStatus.CREATED);
     }
 
+    /**
+     * Add several animes on the Database with a single request.
+     * <p>
+     * The body contains a JSON array of animes or one anime by line, read one at a time, and the animes are
+     * committed by chunks.
+     * The response contains the result of each anime : created, or HTTP 409 : CONFLICT if already present.
+     *
+     * @param request Request with the animes at insert on the body.
+     * @param response Response where the results are written.
+     *
+     * @throws IOException If the body can't be read or the response can't be written.
+     * @version 1.1
+     * @since 1.10
+     */
+    @RequestMapping(value = "/animes/batch",
+                    method = RequestMethod.POST,
+                    consumes = {MediaType.APPLICATION_JSON_VALUE, NdjsonExportService.APPLICATION_NDJSON_VALUE})
+    public void createBatch(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        logger.info("Creating animes by batch");
+        batchCreateService.create(request.getInputStream(), response, Anime.class, animesRepository, this::exists,
+                                  AnimeController::key, this::resolve, HomePageService.ANIMES);
+    }
+
+    /**
+     * Import the animes of a CSV or TSV file sent on the body of the request.
+     * <p>
+     * Each record of the file is an anime, with the columns read by the AnimeBuilder.
+     * The file is parsed, the animes built and saved by chunks at the same time, and the animes already
+     * present on the Database are ignored.
+     *
+     * @param request Request with the file at import on the body.
+     *
+     * @return A ResponseEntity with the number of animes read, created and already present, and the records
+     *         who can't be imported.
+     *
+     * @throws IOException If the body can't be read.
+     * @version 1.0
+     * @since 1.11
+     */
+    @RequestMapping(value = "/animes/import",
+                    method = RequestMethod.POST,
+                    consumes = {ImportService.TEXT_CSV_VALUE, ImportService.TEXT_TSV_VALUE})
+    public ResponseEntity<?> importFile(HttpServletRequest request) throws IOException {
+        logger.info("Importing animes from a file");
+        Map<String, Object> report = importService.importFile(request.getInputStream(), request.getContentType(),
+                                                              new AnimeBuilder(), Anime.class, animesRepository,
+                                                              this::exists, AnimeController::key, this::resolve,
+                                                              HomePageService.ANIMES);
+        return new ResponseEntity<Map<String, Object>>(report, HttpStatus.OK);
+    }
+
     /**
      * Update an anime present on the Database.
      * <p>
@@ -296,18 +485,22 @@ public class AnimeController {
      * It the anime is not found, the method return an error with the HTTP code 404.
      * In other case, it update the information about the anime and return in the body the anime update
      * can use to check if the modification are succeeded and the HTTP code 200.
+     * If the header <code>If-Match</code> doesn't contain the tag of the current version of the anime,
+     * or if the anime is updated by another request at the same time, the method return an error
+     * HTTP 412 : PRECONDITION FAILED. The response contains the tag of the new version on <code>ETag</code>.
      *
      * @param id Id of the anime on Database.
      * @param anime Anime with new content at update.
+     * @param request Request of the client, with the tag of the anime read on <code>If-Match</code>.
      *
      * @return A ResponseEntity with all anime found on Database, or an error HTTP 404 : NOT FOUND.
      *
-     * @version 1.0
+     * @version 1.4
      * @since 1.0
      */
     @RequestMapping(value = "/animes/{id}",
                     method = RequestMethod.PUT)
-    public ResponseEntity<?> update(@PathVariable("id") long id, @RequestBody Anime anime) {
+    public ResponseEntity<?> update(@PathVariable("id") long id, @RequestBody Anime anime, WebRequest request) {
         logger.info("Updating Anime with id {}", id);
 
         Anime animeAtUpdate = animesRepository.findOne(id);
@@ -317,44 +510,36 @@ public class AnimeController {
                     new AnimeException("Unable to update. Anime with id " + id + " not found"), HttpStatus.NOT_FOUND);
         }
 
-        // Check if the producers are present on Database or not.
-        Set<Producer> producersOnAnime = anime.getProducers();
-        Set<Producer> producers = new HashSet<Producer>();
-        for (Producer p : producersOnAnime) {
-            Producer producerExist = producerRepository.findByFirstNameAndLastName(p.getFirstName(), p.getLastName());
-            // If the producer is not present on Database, he add on it.
-            if (producerExist == null) {
-                logger.info("Created producer : {}", p);
-                producerRepository.save(p);
-                producers.add(p);
-            } else {
-                logger.info("Added producer {} already present on persistent system.", producerExist);
-                producers.add(producerExist);
-            }
-        }
-        anime.setProducers(producers);
-
-        // Check if the directors are present on Database or not.
-        Set<Director> directorOnAnime = anime.getDirectors();
-        Set<Director> directors = new HashSet<Director>();
-        for (Director d : directorOnAnime) {
-            Director directorExist = directorRepository.findByFirstNameAndLastName(d.getFirstName(), d.getLastName());
-            // If the director is not present on Database, he add on it.
-            if (directorExist == null) {
-                logger.info("Created director : {}", d);
-                directorRepository.save(d);
-                directors.add(d);
-            } else {
-                logger.info("Added director {} already present on persistent system.", directorExist);
-                directors.add(directorExist);
-            }
+        if (!entityTagService.matches(request, animeAtUpdate)) {
+            logger.error("Unable to update. Anime with id {} has been modified", id);
+            return new ResponseEntity<Object>(
+                    new AnimeException("Unable to update. Anime with id " + id + " has been modified"),
+                    HttpStatus.PRECONDITION_FAILED);
         }
-        anime.setDirectors(directors);
+
+        // Use the producers stored on Database, the missing ones are created.
+        anime.setProducers(personResolver.persons(Producer.class, anime.getProducers()));
+
+        // Use the directors stored on Database, the missing ones are created.
+        anime.setDirectors(personResolver.persons(Director.class, anime.getDirectors()));
 
         // Copy content of the anime receive on request body on the anime retrieve from the database.
+        long version = animeAtUpdate.getVersion();
         animeAtUpdate = new Anime(anime);
-        animesRepository.save(animeAtUpdate);
-        return new ResponseEntity<Object>(animeAtUpdate, HttpStatus.OK);
+        animeAtUpdate.setId(id);
+        animeAtUpdate.setVersion(version);
+        try {
+            animeAtUpdate = animesRepository.save(animeAtUpdate);
+        } catch (OptimisticLockingFailureException e) {
+            logger.error("Unable to update. Anime with id {} has been modified during the update", id);
+            return new ResponseEntity<Object>(
+                    new AnimeException("Unable to update. Anime with id " + id + " has been modified"),
+                    HttpStatus.PRECONDITION_FAILED);
+        }
+        homePageService.invalidate(HomePageService.ANIMES);
+        mediaSearchService.index(animeAtUpdate);
+        HttpHeaders headers = EntityTagService.headers(request, animeAtUpdate.getVersion());
+        return new ResponseEntity<Object>(animeAtUpdate, headers, HttpStatus.OK);
     }
 
     /**
@@ -369,7 +554,7 @@ public class AnimeController {
      *
      * @return A ResponseEntity with all anime found on Database, or an error HTTP 404 : NOT_FOUND.
      *
-     * @version 2.0
+     * @version 2.1
      * @since 1.0
      */
     @RequestMapping(value = "/animes/{id}",
@@ -385,6 +570,8 @@ public class AnimeController {
         }
 
         animesRepository.delete(anime);
+        homePageService.invalidate(HomePageService.ANIMES);
+        mediaSearchService.remove(anime.getId());
         return new ResponseEntity<Object>(anime, HttpStatus.OK);
     }
 
@@ -401,4 +588,45 @@ public class AnimeController {
     public ResponseEntity<?> getMediaGenre() {
         return new ResponseEntity<>(VideoGenre.values(), HttpStatus.OK);
     }
+
+    /**
+     * Check if an anime is already present on the Database.
+     *
+     * @param anime Anime at check.
+     *
+     * @return True if the anime is already present on the Database.
+     *
+     * @version 1.0
+     * @since 1.11
+     */
+    private boolean exists(Anime anime) {
+        return animesRepository.findByTitleAndCurrentSeason(anime.getTitle(), anime.getCurrentSeason()) != null;
+    }
+
+    /**
+     * Key of an anime, the fields checked by {@link #exists(Anime)} compared between the animes of a chunk.
+     *
+     * @param anime Anime at check.
+     *
+     * @return The title and current season of the anime.
+     *
+     * @version 1.0
+     * @since 1.16
+     */
+    private static List<Object> key(Anime anime) {
+        return BatchCreateService.key(anime.getTitle(), anime.getCurrentSeason());
+    }
+
+    /**
+     * Replace the persons of several animes by the persons stored on the Database, the missing ones are created.
+     *
+     * @param animes Animes at complete.
+     *
+     * @version 1.0
+     * @since 1.11
+     */
+    private void resolve(List<Anime> animes) {
+        personResolver.persons(Producer.class, animes, Anime::getProducers, Anime::setProducers);
+        personResolver.persons(Director.class, animes, Anime::getDirectors, Anime::setDirectors);
+    }
 }
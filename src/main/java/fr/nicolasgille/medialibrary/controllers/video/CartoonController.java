@@ -18,29 +18,45 @@
 
 package fr.nicolasgille.medialibrary.controllers.video;
 
+import fr.nicolasgille.medialibrary.builders.video.CartoonBuilder;
 import fr.nicolasgille.medialibrary.exceptions.video.CartoonException;
+import fr.nicolasgille.medialibrary.models.MediaSummary;
 import fr.nicolasgille.medialibrary.models.common.person.Director;
 import fr.nicolasgille.medialibrary.models.common.person.Producer;
 import fr.nicolasgille.medialibrary.models.components.genre.VideoGenre;
 import fr.nicolasgille.medialibrary.models.video.Cartoon;
-import fr.nicolasgille.medialibrary.repositories.common.person.DirectorRepository;
-import fr.nicolasgille.medialibrary.repositories.common.person.ProducerRepository;
 import fr.nicolasgille.medialibrary.repositories.video.CartoonRepository;
+import fr.nicolasgille.medialibrary.services.BatchCreateService;
+import fr.nicolasgille.medialibrary.services.EntityTagService;
+import fr.nicolasgille.medialibrary.services.HomePageService;
+import fr.nicolasgille.medialibrary.services.ImportService;
+import fr.nicolasgille.medialibrary.services.MediaFacetService;
+import fr.nicolasgille.medialibrary.services.MediaSearchService;
+import fr.nicolasgille.medialibrary.services.NdjsonExportService;
+import fr.nicolasgille.medialibrary.services.PersonResolver;
+import fr.nicolasgille.medialibrary.utils.MediaLog;
+import fr.nicolasgille.medialibrary.utils.PageCursor;
+import fr.nicolasgille.medialibrary.utils.SmileHttpMessageConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 
 /**
  * Controller of the app to interact with cartoons present on Media-Library.
@@ -49,12 +65,12 @@ import java.util.Set;
  * You can add you own method of research if you would have a new research type of cartoon.
  *
  * @author Nicolas GILLE
- * @version 1.1.1
+ * @version 1.15
  * @since Media-Library 0.3
  */
 @RestController
 @RequestMapping(value = "/",
-                produces = MediaType.APPLICATION_JSON_VALUE)
+                produces = {MediaType.APPLICATION_JSON_VALUE, SmileHttpMessageConverter.APPLICATION_SMILE_VALUE})
 public class CartoonController {
 
     /**
@@ -80,41 +96,168 @@ public class CartoonController {
     private CartoonRepository cartoonRepository;
 
     /**
-     * Repository used to interact with producers present on the service.
+     * Service used to export all cartoons as newline delimited JSON.
      *
-     * @since 1.0
+     * @since 1.2
      */
     @Autowired
-    private ProducerRepository producerRepository;
+    private NdjsonExportService ndjsonExportService;
 
     /**
-     * Repository used to interact with directors present on the service.
+     * Service who build the content of the home page, invalidated on each write.
      *
-     * @since 1.0
+     * @since 1.3
+     */
+    @Autowired
+    private HomePageService homePageService;
+
+    /**
+     * Service used to search the cartoons by full text, updated on each write.
+     *
+     * @since 1.4
+     */
+    @Autowired
+    private MediaSearchService mediaSearchService;
+
+    /**
+     * Service used to filter the cartoons on their facets, updated on each write.
+     *
+     * @since 1.6
      */
     @Autowired
-    private DirectorRepository directorRepository;
+    private MediaFacetService mediaFacetService;
+
+    /**
+     * Service used to find or create the persons of the cartoons with a few queries.
+     *
+     * @since 1.8
+     */
+    @Autowired
+    private PersonResolver personResolver;
+
+    /**
+     * Service used to create several cartoons with a single request.
+     *
+     * @since 1.9
+     */
+    @Autowired
+    private BatchCreateService batchCreateService;
+
+    /**
+     * Service used to import the cartoons of a CSV or TSV file.
+     *
+     * @since 1.10
+     */
+    @Autowired
+    private ImportService importService;
+
+    /**
+     * Service used to answer the conditional requests from the versions of the cartoons.
+     *
+     * @since 1.12
+     */
+    @Autowired
+    private EntityTagService entityTagService;
 
     /**
      * Return all cartoons found on Database.
      * <p>
      * This method return a ResponseEntity object who contains a list of cartoons found on the Database.
      * If the database is empty, this method return an error HTTP 204 : No Content.
-     * This method can call only by GET request and take nothing parameter to work.
+     * This method can call only by GET request.
+     * The result is paginated on the identifier : the response contains at most <code>limit</code> elements and the
+     * header <code>X-Next-Cursor</code> contains the cursor at send as <code>after</code> to get the next page.
+     * The cartoons can be filtered on their facets, like <code>videoGenre=ACTION&amp;support=DVD,BLU_RAY</code> :
+     * the values of a facet are combined with OR and the facets with AND.
+     * While the facets are indexed at startup, a filtered request receive an HTTP 503 : Service Unavailable.
+     * With <code>view=summary</code>, only the identifier, title, date of release and type of the cartoons
+     * are read and returned.
+     * The response contains the tag of the list on the header <code>ETag</code> : if no cartoon has been created,
+     * updated or deleted since, a request with this tag on <code>If-None-Match</code> receive an HTTP 304 : Not
+     * Modified without the cartoons read.
+     *
+     * @param after Cursor of the previous page, or nothing to get the first page.
+     * @param limit Maximum number of elements on the page.
+     * @param view <code>summary</code> to return the summaries of the cartoons.
+     * @param filters Parameters of the request, with the values selected on each facet.
+     * @param request Request of the client, with the tag of the list already read on <code>If-None-Match</code>.
      *
      * @return A ResponseEntity with all cartoons found on Database, or an error HTTP 204 : No Content.
      *
-     * @version 1.0
+     * @version 2.4
      * @since 1.0
      */
     @RequestMapping(value = "/cartoons/",
                     method = RequestMethod.GET)
-    public ResponseEntity getAll() {
-        List<Cartoon> cartoons = cartoonRepository.findAll();
+    public ResponseEntity getAll(@RequestParam(name = "after", required = false) String after,
+                                 @RequestParam(name = "limit", required = false) Integer limit,
+                                 @RequestParam(name = "view", required = false) String view,
+                                 @RequestParam MultiValueMap<String, String> filters,
+                                 WebRequest request) {
+        long lastId = PageCursor.decode(after);
+        if (lastId == PageCursor.INVALID_CURSOR) {
+            logger.error("Invalid cursor {}", after);
+            return new ResponseEntity<Object>(new CartoonException("Invalid cursor " + after),
+                                              HttpStatus.BAD_REQUEST);
+        }
+
+        if (mediaFacetService.isFiltered(filters) && !mediaFacetService.isReady()) {
+            logger.error("Facets not ready yet");
+            return new ResponseEntity<Object>(new CartoonException("The facets are being indexed, retry later."),
+                                              HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        if (entityTagService.checkNotModified(request, Cartoon.class)) {
+            return null;
+        }
+
+        if (MediaSummary.isRequested(view)) {
+            List<MediaSummary> summaries;
+            if (mediaFacetService.isFiltered(filters)) {
+                summaries = mediaFacetService.pageSummaries(Cartoon.class, filters, lastId, limit,
+                                                            cartoonRepository::findSummariesByIdIn);
+            } else {
+                summaries = cartoonRepository.findSummariesByIdGreaterThan(lastId, PageCursor.pageable(limit));
+            }
+            if (summaries.isEmpty()) {
+                return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
+            }
+            HttpHeaders headers = PageCursor.nextPageHeaders(summaries, limit, MediaSummary::getId);
+            return new ResponseEntity<List<MediaSummary>>(summaries, headers, HttpStatus.OK);
+        }
+
+        List<Cartoon> cartoons;
+        if (mediaFacetService.isFiltered(filters)) {
+            cartoons = mediaFacetService.page(Cartoon.class, filters, lastId, limit, cartoonRepository::findAll);
+        } else {
+            cartoons = cartoonRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageCursor.pageable(limit));
+        }
         if (cartoons.isEmpty()) {
             return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
         }
-        return new ResponseEntity<List<Cartoon>>(cartoons, HttpStatus.OK);
+        HttpHeaders headers = PageCursor.nextPageHeaders(cartoons, limit, Cartoon::getId);
+        return new ResponseEntity<List<Cartoon>>(cartoons, headers, HttpStatus.OK);
+    }
+
+    /**
+     * Export all cartoons found on Database as newline delimited JSON.
+     * <p>
+     * This method is selected when the client accept <code>application/x-ndjson</code>.
+     * The cartoons are streamed from the Database and written one by one on the response,
+     * so the memory used by the export doesn't depend on the number of cartoons.
+     * If the database is empty, this method return an error HTTP 204 : No Content.
+     *
+     * @param response Response where the cartoons are written.
+     *
+     * @throws IOException If the response can't be written.
+     * @version 1.0
+     * @since 1.2
+     */
+    @RequestMapping(value = "/cartoons/",
+                    method = RequestMethod.GET,
+                    produces = NdjsonExportService.APPLICATION_NDJSON_VALUE)
+    public void export(HttpServletResponse response) throws IOException {
+        ndjsonExportService.export(response, cartoonRepository::streamAll);
     }
 
     /**
@@ -127,23 +270,37 @@ public class CartoonController {
      * parameter the title of the cartoon at research.
      * The title is encoded in <code>UTF8</code> to avoid problems with specials characters and it decoded before used
      * on search process.
+     * <p>
+     * With <code>fuzzy=true</code>, the titles close to the title searched are returned, the most similar first.
+     * With <code>view=summary</code>, only the summaries of the cartoons found are returned.
      *
      * @param titleEncoded Title of the cartoon encoded to search on Database.
+     * @param fuzzy True to search the titles similar to the title, to find them despite typos.
+     * @param view <code>summary</code> to return the summaries of the cartoons.
      *
      * @return A ResponseEntity with the cartoon found on Database, or an error HTTP 204 : No Content.
      *
      * @throws UnsupportedEncodingException The method throw an <code>UnsupportedEncodingException</code> when a
      *         problem occurred during title decoding.
-     * @version 1.0.1
+     * @version 1.3
      * @since 1.0
      */
     @RequestMapping(value = "/cartoons/search/title/{title}",
                     method = RequestMethod.GET)
-    public ResponseEntity<?> getCartoonByTitle(@PathVariable(value = "title") String titleEncoded)
+    public ResponseEntity<?> getCartoonByTitle(
+            @PathVariable(value = "title") String titleEncoded,
+            @RequestParam(name = "fuzzy", required = false, defaultValue = "false") boolean fuzzy,
+            @RequestParam(name = "view", required = false) String view)
             throws UnsupportedEncodingException {
         String title = URLDecoder.decode(titleEncoded, CartoonController.ENCODING);
         logger.info("Fetching Cartoon with title {}", title);
-        List<Cartoon> cartoons = cartoonRepository.findByTitleIgnoreCaseContaining(title);
+        if (MediaSummary.isRequested(view)) {
+            List<MediaSummary> summaries = mediaSearchService.searchSummaries(title, fuzzy, Cartoon.class,
+                    cartoonRepository::findSummariesByIdIn, cartoonRepository::findSummariesByTitleContaining);
+            return new ResponseEntity<List<MediaSummary>>(summaries, HttpStatus.OK);
+        }
+        List<Cartoon> cartoons = mediaSearchService.search(title, fuzzy, Cartoon.class, cartoonRepository::findAll,
+                                                           cartoonRepository::findByTitleIgnoreCaseContaining);
         if (cartoons == null) {
             logger.error("Cartoon with title {} not found.", title);
             return new ResponseEntity<Object>(new CartoonException("Cartoon with title " + title + " not found."),
@@ -160,17 +317,25 @@ public class CartoonController {
      * In other case, this method return the cartoon found in body response and the success code HTTP 200.
      * This method is call only by the method HTTP <em>GET</em>, and it's necessary to passed on
      * parameter the identifier of the cartoon at research.
+     * The response contains the version of the cartoon on the header <code>ETag</code> and the date of his last
+     * modification on <code>Last-Modified</code> : if the cartoon has not been modified since, a request with them on
+     * <code>If-None-Match</code> or <code>If-Modified-Since</code> receive an HTTP 304 : Not Modified
+     * without the cartoon read.
      *
      * @param id Identifier of the cartoon on Database.
+     * @param request Request of the client, with the tag of the cartoon already read on <code>If-None-Match</code>.
      *
      * @return A ResponseEntity with the cartoon found on Database, or an error HTTP 204 : No Content.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.1
      */
     @RequestMapping(value = "/cartoons/search/id/{id}")
-    public ResponseEntity<?> getCartoonById(@PathVariable(value = "id") long id) {
+    public ResponseEntity<?> getCartoonById(@PathVariable(value = "id") long id, WebRequest request) {
         logger.info("Fetching Cartoon with id {}", id);
+        if (entityTagService.checkNotModified(request, Cartoon.class, id)) {
+            return null;
+        }
         Cartoon cartoon = cartoonRepository.findOne(id);
         if (cartoon == null) {
             logger.error("Cartoon with id {} not found.", id);
@@ -193,14 +358,12 @@ public class CartoonController {
      *
      * @return A ResponseEntity with the cartoon added, or an error HTTP 409 : CONFLICT.
      *
-     * @version 1.1
+     * @version 1.4
      * @since 1.0
      */
     @RequestMapping(value = "/cartoons/",
                     method = RequestMethod.POST)
     public ResponseEntity<?> create(@RequestBody Cartoon cartoon, UriComponentsBuilder uriBuilder) {
-        logger.info("Created cartoon : {}", cartoon);
-
         // Check if the series already exist on database.
         Cartoon cartoonExist =
                 cartoonRepository.findByTitleAndRuntimeAndReleaseDate(cartoon.getTitle(), cartoon.getRuntime(),
@@ -212,40 +375,15 @@ public class CartoonController {
                     HttpStatus.CONFLICT);
         }
 
-        // Check if the producers are present on Database or not.
-        Set<Producer> producersOnMovie = cartoon.getProducers();
-        Set<Producer> producers = new HashSet<Producer>();
-        for (Producer p : producersOnMovie) {
-            Producer producerExist = producerRepository.findByFirstNameAndLastName(p.getFirstName(), p.getLastName());
-            // If the producer is not present on Database, he add on it.
-            if (producerExist == null) {
-                logger.info("Created producer : {}", p);
-                producerRepository.save(p);
-                producers.add(p);
-            } else {
-                logger.info("Added producer {} already present on persistent system.", producerExist);
-                producers.add(producerExist);
-            }
-        }
-        cartoon.setProducers(producers);
-
-        // Check if the directors are present on Database or not.
-        Set<Director> directorOnMovie = cartoon.getDirectors();
-        Set<Director> directors = new HashSet<Director>();
-        for (Director d : directorOnMovie) {
-            Director directorExist = directorRepository.findByFirstNameAndLastName(d.getFirstName(), d.getLastName());
-            // If the director is not present on Database, he add on it.
-            if (directorExist == null) {
-                logger.info("Created director : {}", d);
-                directorRepository.save(d);
-                directors.add(d);
-            } else {
-                logger.info("Added director {} already present on persistent system.", directorExist);
-                directors.add(directorExist);
-            }
-        }
-        cartoon.setDirectors(directors);
+        // Use the producers stored on Database, the missing ones are created.
+        cartoon.setProducers(personResolver.persons(Producer.class, cartoon.getProducers()));
+
+        // Use the directors stored on Database, the missing ones are created.
+        cartoon.setDirectors(personResolver.persons(Director.class, cartoon.getDirectors()));
         cartoonRepository.save(cartoon);
+        logger.info("Created cartoon : {}", MediaLog.of(logger, cartoon));
+        homePageService.invalidate(HomePageService.CARTOONS);
+        mediaSearchService.index(cartoon);
 
         HttpHeaders header = new HttpHeaders();
         header.setLocation(uriBuilder.path("/media-library/cartoons/search/id/{id}")
@@ -254,6 +392,57 @@ public class CartoonController {
         return new ResponseEntity<String>(header, HttpStatus.CREATED);
     }
 
+    /**
+     * Add several cartoons on the Database with a single request.
+     * <p>
+     * The body contains a JSON array of cartoons or one cartoon by line, read one at a time, and the cartoons are
+     * committed by chunks.
+     * The response contains the result of each cartoon : created, or HTTP 409 : CONFLICT if already present.
+     *
+     * @param request Request with the cartoons at insert on the body.
+     * @param response Response where the results are written.
+     *
+     * @throws IOException If the body can't be read or the response can't be written.
+     * @version 1.1
+     * @since 1.9
+     */
+    @RequestMapping(value = "/cartoons/batch",
+                    method = RequestMethod.POST,
+                    consumes = {MediaType.APPLICATION_JSON_VALUE, NdjsonExportService.APPLICATION_NDJSON_VALUE})
+    public void createBatch(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        logger.info("Creating cartoons by batch");
+        batchCreateService.create(request.getInputStream(), response, Cartoon.class, cartoonRepository, this::exists,
+                                  CartoonController::key, this::resolve, HomePageService.CARTOONS);
+    }
+
+    /**
+     * Import the cartoons of a CSV or TSV file sent on the body of the request.
+     * <p>
+     * Each record of the file is a cartoon, with the columns read by the CartoonBuilder.
+     * The file is parsed, the cartoons built and saved by chunks at the same time, and the cartoons already
+     * present on the Database are ignored.
+     *
+     * @param request Request with the file at import on the body.
+     *
+     * @return A ResponseEntity with the number of cartoons read, created and already present, and the records
+     *         who can't be imported.
+     *
+     * @throws IOException If the body can't be read.
+     * @version 1.0
+     * @since 1.10
+     */
+    @RequestMapping(value = "/cartoons/import",
+                    method = RequestMethod.POST,
+                    consumes = {ImportService.TEXT_CSV_VALUE, ImportService.TEXT_TSV_VALUE})
+    public ResponseEntity<?> importFile(HttpServletRequest request) throws IOException {
+        logger.info("Importing cartoons from a file");
+        Map<String, Object> report = importService.importFile(request.getInputStream(), request.getContentType(),
+                                                              new CartoonBuilder(), Cartoon.class, cartoonRepository,
+                                                              this::exists, CartoonController::key, this::resolve,
+                                                              HomePageService.CARTOONS);
+        return new ResponseEntity<Map<String, Object>>(report, HttpStatus.OK);
+    }
+
     /**
      * Update a cartoon present on the Database.
      * <p>
@@ -261,18 +450,22 @@ public class CartoonController {
      * It the cartoon is not found, the method return an error with the HTTP code 404.
      * In other case, it update the information about the cartoon and return in the body the cartoon update
      * can use to check if the modification are succeeded and the HTTP code 200.
+     * If the header <code>If-Match</code> doesn't contain the tag of the current version of the cartoon,
+     * or if the cartoon is updated by another request at the same time, the method return an error
+     * HTTP 412 : PRECONDITION FAILED. The response contains the tag of the new version on <code>ETag</code>.
      *
      * @param id Id of the cartoon on Database.
      * @param cartoon Cartoon with new content at update.
+     * @param request Request of the client, with the tag of the cartoon read on <code>If-Match</code>.
      *
      * @return A ResponseEntity with all cartoon found on Database, or an error HTTP 404 : NOT FOUND.
      *
-     * @version 1.0
+     * @version 1.4
      * @since 1.0
      */
     @RequestMapping(value = "/cartoons/{id}",
                     method = RequestMethod.PUT)
-    public ResponseEntity<?> update(@PathVariable("id") long id, @RequestBody Cartoon cartoon) {
+    public ResponseEntity<?> update(@PathVariable("id") long id, @RequestBody Cartoon cartoon, WebRequest request) {
         logger.info("Updating Cartoon with id {}", id);
 
         Cartoon cartoonAtUpdate = cartoonRepository.findOne(id);
@@ -283,44 +476,36 @@ public class CartoonController {
                     HttpStatus.NOT_FOUND);
         }
 
-        // Check if the producers are present on Database or not.
-        Set<Producer> producersOnMovie = cartoon.getProducers();
-        Set<Producer> producers = new HashSet<Producer>();
-        for (Producer p : producersOnMovie) {
-            Producer producerExist = producerRepository.findByFirstNameAndLastName(p.getFirstName(), p.getLastName());
-            // If the producer is not present on Database, he add on it.
-            if (producerExist == null) {
-                logger.info("Created producer : {}", p);
-                producerRepository.save(p);
-                producers.add(p);
-            } else {
-                logger.info("Added producer {} already present on persistent system.", producerExist);
-                producers.add(producerExist);
-            }
-        }
-        cartoon.setProducers(producers);
-
-        // Check if the directors are present on Database or not.
-        Set<Director> directorOnMovie = cartoon.getDirectors();
-        Set<Director> directors = new HashSet<Director>();
-        for (Director d : directorOnMovie) {
-            Director directorExist = directorRepository.findByFirstNameAndLastName(d.getFirstName(), d.getLastName());
-            // If the director is not present on Database, he add on it.
-            if (directorExist == null) {
-                logger.info("Created director : {}", d);
-                directorRepository.save(d);
-                directors.add(d);
-            } else {
-                logger.info("Added director {} already present on persistent system.", directorExist);
-                directors.add(directorExist);
-            }
+        if (!entityTagService.matches(request, cartoonAtUpdate)) {
+            logger.error("Unable to update. Cartoon with id {} has been modified", id);
+            return new ResponseEntity<Object>(
+                    new CartoonException("Unable to update. Cartoon with id " + id + " has been modified"),
+                    HttpStatus.PRECONDITION_FAILED);
         }
-        cartoon.setDirectors(directors);
+
+        // Use the producers stored on Database, the missing ones are created.
+        cartoon.setProducers(personResolver.persons(Producer.class, cartoon.getProducers()));
+
+        // Use the directors stored on Database, the missing ones are created.
+        cartoon.setDirectors(personResolver.persons(Director.class, cartoon.getDirectors()));
 
         // Copy content of the cartoon receive on request body on the cartoon retrieve from the database.
+        long version = cartoonAtUpdate.getVersion();
         cartoonAtUpdate = new Cartoon(cartoon);
-        cartoonRepository.save(cartoonAtUpdate);
-        return new ResponseEntity<Object>(cartoonAtUpdate, HttpStatus.OK);
+        cartoonAtUpdate.setId(id);
+        cartoonAtUpdate.setVersion(version);
+        try {
+            cartoonAtUpdate = cartoonRepository.save(cartoonAtUpdate);
+        } catch (OptimisticLockingFailureException e) {
+            logger.error("Unable to update. Cartoon with id {} has been modified during the update", id);
+            return new ResponseEntity<Object>(
+                    new CartoonException("Unable to update. Cartoon with id " + id + " has been modified"),
+                    HttpStatus.PRECONDITION_FAILED);
+        }
+        homePageService.invalidate(HomePageService.CARTOONS);
+        mediaSearchService.index(cartoonAtUpdate);
+        HttpHeaders headers = EntityTagService.headers(request, cartoonAtUpdate.getVersion());
+        return new ResponseEntity<Object>(cartoonAtUpdate, headers, HttpStatus.OK);
     }
 
     /**
@@ -335,7 +520,7 @@ public class CartoonController {
      *
      * @return A ResponseEntity with all cartoon found on Database, or an error HTTP 404 : NOT_FOUND.
      *
-     * @version 2.0
+     * @version 2.1
      * @since 1.0
      */
     @RequestMapping(value = "/cartoons/{id}",
@@ -352,6 +537,8 @@ public class CartoonController {
         }
 
         cartoonRepository.delete(cartoon);
+        homePageService.invalidate(HomePageService.CARTOONS);
+        mediaSearchService.remove(cartoon.getId());
         return new ResponseEntity<Object>(cartoon, HttpStatus.OK);
     }
 
@@ -368,4 +555,46 @@ public class CartoonController {
     public ResponseEntity<?> getMediaGenre() {
         return new ResponseEntity<>(VideoGenre.values(), HttpStatus.OK);
     }
+
+    /**
+     * Check if a cartoon is already present on the Database.
+     *
+     * @param cartoon Cartoon at check.
+     *
+     * @return True if the cartoon is already present on the Database.
+     *
+     * @version 1.0
+     * @since 1.10
+     */
+    private boolean exists(Cartoon cartoon) {
+        return cartoonRepository.findByTitleAndRuntimeAndReleaseDate(cartoon.getTitle(), cartoon.getRuntime(),
+                                                                     cartoon.getReleaseDate()) != null;
+    }
+
+    /**
+     * Key of a cartoon, the fields checked by {@link #exists(Cartoon)} compared between the cartoons of a chunk.
+     *
+     * @param cartoon Cartoon at check.
+     *
+     * @return The title, runtime and release date of the cartoon.
+     *
+     * @version 1.0
+     * @since 1.15
+     */
+    private static List<Object> key(Cartoon cartoon) {
+        return BatchCreateService.key(cartoon.getTitle(), cartoon.getRuntime(), cartoon.getReleaseDate());
+    }
+
+    /**
+     * Replace the persons of several cartoons by the persons stored on the Database, the missing ones are created.
+     *
+     * @param cartoons Cartoons at complete.
+     *
+     * @version 1.0
+     * @since 1.10
+     */
+    private void resolve(List<Cartoon> cartoons) {
+        personResolver.persons(Producer.class, cartoons, Cartoon::getProducers, Cartoon::setProducers);
+        personResolver.persons(Director.class, cartoons, Cartoon::getDirectors, Cartoon::setDirectors);
+    }
 }
@@ -18,31 +18,46 @@
 
 package fr.nicolasgille.medialibrary.controllers.video;
 
+import fr.nicolasgille.medialibrary.builders.video.MovieBuilder;
 import fr.nicolasgille.medialibrary.exceptions.video.MovieException;
+import fr.nicolasgille.medialibrary.models.MediaSummary;
 import fr.nicolasgille.medialibrary.models.common.person.Actor;
 import fr.nicolasgille.medialibrary.models.common.person.Director;
 import fr.nicolasgille.medialibrary.models.common.person.Producer;
 import fr.nicolasgille.medialibrary.models.components.genre.VideoGenre;
 import fr.nicolasgille.medialibrary.models.video.Movie;
-import fr.nicolasgille.medialibrary.repositories.common.person.ActorRepository;
-import fr.nicolasgille.medialibrary.repositories.common.person.DirectorRepository;
-import fr.nicolasgille.medialibrary.repositories.common.person.ProducerRepository;
 import fr.nicolasgille.medialibrary.repositories.video.MovieRepository;
+import fr.nicolasgille.medialibrary.services.BatchCreateService;
+import fr.nicolasgille.medialibrary.services.EntityTagService;
+import fr.nicolasgille.medialibrary.services.HomePageService;
+import fr.nicolasgille.medialibrary.services.ImportService;
+import fr.nicolasgille.medialibrary.services.MediaFacetService;
+import fr.nicolasgille.medialibrary.services.MediaSearchService;
+import fr.nicolasgille.medialibrary.services.NdjsonExportService;
+import fr.nicolasgille.medialibrary.services.PersonResolver;
+import fr.nicolasgille.medialibrary.utils.MediaLog;
+import fr.nicolasgille.medialibrary.utils.PageCursor;
+import fr.nicolasgille.medialibrary.utils.SmileHttpMessageConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 
 /**
  * Controller of the app to interact with movies present on Media-Library.
@@ -51,12 +66,12 @@ import java.util.Set;
  * You can add you own method of research if you would have a new research type of movie.
  *
  * @author Nicolas GILLE
- * @version 2.2.1
+ * @version 2.16
  * @since Media-Library 0.1
  */
 @RestController
 @RequestMapping(value = "/",
-                produces = MediaType.APPLICATION_JSON_VALUE)
+                produces = {MediaType.APPLICATION_JSON_VALUE, SmileHttpMessageConverter.APPLICATION_SMILE_VALUE})
 public class MovieController {
 
     /**
@@ -82,49 +97,168 @@ public class MovieController {
     private MovieRepository movieRepository;
 
     /**
-     * Repository used to interact with actors present on the service.
+     * Service used to export all movies as newline delimited JSON.
      *
-     * @since 2.1
+     * @since 2.3
      */
     @Autowired
-    private ActorRepository actorRepository;
+    private NdjsonExportService ndjsonExportService;
 
     /**
-     * Repository used to interact with producers present on the service.
+     * Service who build the content of the home page, invalidated on each write.
      *
-     * @since 2.1
+     * @since 2.4
      */
     @Autowired
-    private ProducerRepository producerRepository;
+    private HomePageService homePageService;
 
     /**
-     * Repository used to interact with directors present on the service.
+     * Service used to search the movies by full text, updated on each write.
      *
-     * @since 2.1
+     * @since 2.5
+     */
+    @Autowired
+    private MediaSearchService mediaSearchService;
+
+    /**
+     * Service used to filter the movies on their facets, updated on each write.
+     *
+     * @since 2.7
      */
     @Autowired
-    private DirectorRepository directorRepository;
+    private MediaFacetService mediaFacetService;
+
+    /**
+     * Service used to find or create the persons of the movies with a few queries.
+     *
+     * @since 2.9
+     */
+    @Autowired
+    private PersonResolver personResolver;
+
+    /**
+     * Service used to create several movies with a single request.
+     *
+     * @since 2.10
+     */
+    @Autowired
+    private BatchCreateService batchCreateService;
+
+    /**
+     * Service used to import the movies of a CSV or TSV file.
+     *
+     * @since 2.11
+     */
+    @Autowired
+    private ImportService importService;
+
+    /**
+     * Service used to answer the conditional requests from the versions of the movies.
+     *
+     * @since 2.13
+     */
+    @Autowired
+    private EntityTagService entityTagService;
 
     /**
      * Return all movies found on Database.
      * <p>
      * This method return a ResponseEntity object who contains a list of movies found on the Database.
      * If the database is empty, this method return an error HTTP 204 : No Content.
-     * This method can call only by GET request and take nothing parameter to work.
+     * This method can call only by GET request.
+     * The result is paginated on the identifier : the response contains at most <code>limit</code> elements and the
+     * header <code>X-Next-Cursor</code> contains the cursor at send as <code>after</code> to get the next page.
+     * The movies can be filtered on their facets, like <code>videoGenre=ACTION&amp;support=DVD,BLU_RAY</code> :
+     * the values of a facet are combined with OR and the facets with AND.
+     * While the facets are indexed at startup, a filtered request receive an HTTP 503 : Service Unavailable.
+     * With <code>view=summary</code>, only the identifier, title, date of release and type of the movies
+     * are read and returned.
+     * The response contains the tag of the list on the header <code>ETag</code> : if no movie has been created,
+     * updated or deleted since, a request with this tag on <code>If-None-Match</code> receive an HTTP 304 : Not
+     * Modified without the movies read.
+     *
+     * @param after Cursor of the previous page, or nothing to get the first page.
+     * @param limit Maximum number of elements on the page.
+     * @param view <code>summary</code> to return the summaries of the movies.
+     * @param filters Parameters of the request, with the values selected on each facet.
+     * @param request Request of the client, with the tag of the list already read on <code>If-None-Match</code>.
      *
      * @return A ResponseEntity with all movies found on Database, or an error HTTP 204 : No Content.
      *
-     * @version 2.0
+     * @version 3.4
      * @since 1.0
      */
     @RequestMapping(value = "/movies/",
                     method = RequestMethod.GET)
-    public ResponseEntity getAll() {
-        List<Movie> movies = movieRepository.findAll();
+    public ResponseEntity getAll(@RequestParam(name = "after", required = false) String after,
+                                 @RequestParam(name = "limit", required = false) Integer limit,
+                                 @RequestParam(name = "view", required = false) String view,
+                                 @RequestParam MultiValueMap<String, String> filters,
+                                 WebRequest request) {
+        long lastId = PageCursor.decode(after);
+        if (lastId == PageCursor.INVALID_CURSOR) {
+            logger.error("Invalid cursor {}", after);
+            return new ResponseEntity<Object>(new MovieException("Invalid cursor " + after),
+                                              HttpStatus.BAD_REQUEST);
+        }
+
+        if (mediaFacetService.isFiltered(filters) && !mediaFacetService.isReady()) {
+            logger.error("Facets not ready yet");
+            return new ResponseEntity<Object>(new MovieException("The facets are being indexed, retry later."),
+                                              HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        if (entityTagService.checkNotModified(request, Movie.class)) {
+            return null;
+        }
+
+        if (MediaSummary.isRequested(view)) {
+            List<MediaSummary> summaries;
+            if (mediaFacetService.isFiltered(filters)) {
+                summaries = mediaFacetService.pageSummaries(Movie.class, filters, lastId, limit,
+                                                            movieRepository::findSummariesByIdIn);
+            } else {
+                summaries = movieRepository.findSummariesByIdGreaterThan(lastId, PageCursor.pageable(limit));
+            }
+            if (summaries.isEmpty()) {
+                return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
+            }
+            HttpHeaders headers = PageCursor.nextPageHeaders(summaries, limit, MediaSummary::getId);
+            return new ResponseEntity<List<MediaSummary>>(summaries, headers, HttpStatus.OK);
+        }
+
+        List<Movie> movies;
+        if (mediaFacetService.isFiltered(filters)) {
+            movies = mediaFacetService.page(Movie.class, filters, lastId, limit, movieRepository::findAll);
+        } else {
+            movies = movieRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageCursor.pageable(limit));
+        }
         if (movies.isEmpty()) {
             return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
         }
-        return new ResponseEntity<List<Movie>>(movies, HttpStatus.OK);
+        HttpHeaders headers = PageCursor.nextPageHeaders(movies, limit, Movie::getId);
+        return new ResponseEntity<List<Movie>>(movies, headers, HttpStatus.OK);
+    }
+
+    /**
+     * Export all movies found on Database as newline delimited JSON.
+     * <p>
+     * This method is selected when the client accept <code>application/x-ndjson</code>.
+     * The movies are streamed from the Database and written one by one on the response,
+     * so the memory used by the export doesn't depend on the number of movies.
+     * If the database is empty, this method return an error HTTP 204 : No Content.
+     *
+     * @param response Response where the movies are written.
+     *
+     * @throws IOException If the response can't be written.
+     * @version 1.0
+     * @since 2.3
+     */
+    @RequestMapping(value = "/movies/",
+                    method = RequestMethod.GET,
+                    produces = NdjsonExportService.APPLICATION_NDJSON_VALUE)
+    public void export(HttpServletResponse response) throws IOException {
+        ndjsonExportService.export(response, movieRepository::streamAll);
     }
 
     /**
@@ -137,23 +271,37 @@ public class MovieController {
      * parameter the title of the movie at research.
      * The title is encoded in <code>UTF8</code> to avoid problems with specials characters and it decoded before used
      * on search process.
+     * <p>
+     * With <code>fuzzy=true</code>, the titles close to the title searched are returned, the most similar first.
+     * With <code>view=summary</code>, only the summaries of the movies found are returned.
      *
      * @param titleEncoded Title of the movie encoded to search on Database.
+     * @param fuzzy True to search the titles similar to the title, to find them despite typos.
+     * @param view <code>summary</code> to return the summaries of the movies.
      *
      * @return A ResponseEntity with the movie found on Database, or an error HTTP 204 : No Content.
      *
      * @throws UnsupportedEncodingException The method throw an <code>UnsupportedEncodingException</code> when a
      *         problem occurred during title decoding.
-     * @version 2.1.1
+     * @version 2.4
      * @since 1.0
      */
     @RequestMapping(value = "/movies/search/title/{title}",
                     method = RequestMethod.GET)
-    public ResponseEntity<?> getMovieByTitle(@PathVariable(value = "title") String titleEncoded)
+    public ResponseEntity<?> getMovieByTitle(
+            @PathVariable(value = "title") String titleEncoded,
+            @RequestParam(name = "fuzzy", required = false, defaultValue = "false") boolean fuzzy,
+            @RequestParam(name = "view", required = false) String view)
             throws UnsupportedEncodingException {
         String title = URLDecoder.decode(titleEncoded, MovieController.ENCODING);
         logger.info("Fetching Movie with title {}", title);
-        List<Movie> movies = movieRepository.findByTitleIgnoreCaseContaining(title);
+        if (MediaSummary.isRequested(view)) {
+            List<MediaSummary> summaries = mediaSearchService.searchSummaries(title, fuzzy, Movie.class,
+                    movieRepository::findSummariesByIdIn, movieRepository::findSummariesByTitleContaining);
+            return new ResponseEntity<List<MediaSummary>>(summaries, HttpStatus.OK);
+        }
+        List<Movie> movies = mediaSearchService.search(title, fuzzy, Movie.class, movieRepository::findAll,
+                                                       movieRepository::findByTitleIgnoreCaseContaining);
         if (movies == null) {
             logger.error("Movie with title {} not found.", title);
             return new ResponseEntity<Object>(new MovieException("Movie with title " + title + " not found."),
@@ -170,17 +318,25 @@ public class MovieController {
      * In other case, this method return the movie found in body response and the success code HTTP 200.
      * This method is call only by the method HTTP <em>GET</em>, and it's necessary to passed on
      * parameter the identifier of the movie at research.
+     * The response contains the version of the movie on the header <code>ETag</code> and the date of his last
+     * modification on <code>Last-Modified</code> : if the movie has not been modified since, a request with them on
+     * <code>If-None-Match</code> or <code>If-Modified-Since</code> receive an HTTP 304 : Not Modified
+     * without the movie read.
      *
      * @param id Identifier of the movie on Database.
+     * @param request Request of the client, with the tag of the movie already read on <code>If-None-Match</code>.
      *
      * @return A ResponseEntity with the movie found on Database, or an error HTTP 204 : No Content.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 2.2
      */
     @RequestMapping(value = "/movies/search/id/{id}")
-    public ResponseEntity<?> getMovieById(@PathVariable(value = "id") long id) {
+    public ResponseEntity<?> getMovieById(@PathVariable(value = "id") long id, WebRequest request) {
         logger.info("Fetching Movies with id {}", id);
+        if (entityTagService.checkNotModified(request, Movie.class, id)) {
+            return null;
+        }
         Movie movie = movieRepository.findOne(id);
         if (movie == null) {
             logger.error("Movie with id {} not found.", id);
@@ -203,14 +359,12 @@ public class MovieController {
      *
      * @return A ResponseEntity with the movie added, or an error HTTP 409 : CONFLICT.
      *
-     * @version 2.1
+     * @version 2.4
      * @since 1.0
      */
     @RequestMapping(value = "/movies/",
                     method = RequestMethod.POST)
     public ResponseEntity<?> create(@RequestBody Movie movie, UriComponentsBuilder uriBuilder) {
-        logger.info("Created movie : {}", movie);
-
         // Check if the movie already exist on database.
         Movie movieExist = movieRepository.findByTitleAndRuntimeAndReleaseDate(movie.getTitle(), movie.getRuntime(),
                                                                                movie.getReleaseDate());
@@ -221,57 +375,18 @@ public class MovieController {
                     HttpStatus.CONFLICT);
         }
 
-        // Check if the actors are present on Database or not.
-        Set<Actor> actorsOnMovie = movie.getMainActors();
-        Set<Actor> mainActors = new HashSet<Actor>();
-        for (Actor a : actorsOnMovie) {
-            Actor actorExist = actorRepository.findByFirstNameAndLastName(a.getFirstName(), a.getLastName());
-            // If the actor is not present on Database, he add on it.
-            if (actorExist == null) {
-                logger.info("Created actor : {}", a);
-                actorRepository.save(a);
-                mainActors.add(a);
-            } else {
-                logger.info("Added actor {} already present on persistent system", actorExist);
-                mainActors.add(actorExist);
-            }
-        }
-        movie.setMainActors(mainActors);
-
-        // Check if the producers are present on Database or not.
-        Set<Producer> producersOnMovie = movie.getProducers();
-        Set<Producer> producers = new HashSet<Producer>();
-        for (Producer p : producersOnMovie) {
-            Producer producerExist = producerRepository.findByFirstNameAndLastName(p.getFirstName(), p.getLastName());
-            // If the producer is not present on Database, he add on it.
-            if (producerExist == null) {
-                logger.info("Created producer : {}", p);
-                producerRepository.save(p);
-                producers.add(p);
-            } else {
-                logger.info("Added producer {} already present on persistent system.", producerExist);
-                producers.add(producerExist);
-            }
-        }
-        movie.setProducers(producers);
-
-        // Check if the directors are present on Database or not.
-        Set<Director> directorOnMovie = movie.getDirectors();
-        Set<Director> directors = new HashSet<Director>();
-        for (Director d : directorOnMovie) {
-            Director directorExist = directorRepository.findByFirstNameAndLastName(d.getFirstName(), d.getLastName());
-            // If the director is not present on Database, he add on it.
-            if (directorExist == null) {
-                logger.info("Created director : {}", d);
-                directorRepository.save(d);
-                directors.add(d);
-            } else {
-                logger.info("Added director {} already present on persistent system.", directorExist);
-                directors.add(directorExist);
-            }
-        }
-        movie.setDirectors(directors);
+        // Use the main actors stored on Database, the missing ones are created.
+        movie.setMainActors(personResolver.persons(Actor.class, movie.getMainActors()));
+
+        // Use the producers stored on Database, the missing ones are created.
+        movie.setProducers(personResolver.persons(Producer.class, movie.getProducers()));
+
+        // Use the directors stored on Database, the missing ones are created.
+        movie.setDirectors(personResolver.persons(Director.class, movie.getDirectors()));
         movieRepository.save(movie);
+        logger.info("Created movie : {}", MediaLog.of(logger, movie));
+        homePageService.invalidate(HomePageService.MOVIES);
+        mediaSearchService.index(movie);
 
         HttpHeaders header = new HttpHeaders();
         header.setLocation(uriBuilder.path("/media-library/movies/search/id/{id}")
@@ -280,6 +395,57 @@ public class MovieController {
         return new ResponseEntity<String>(header, HttpStatus.CREATED);
     }
 
+    /**
+     * Add several movies on the Database with a single request.
+     * <p>
+     * The body contains a JSON array of movies or one movie by line, read one at a time, and the movies are
+     * committed by chunks.
+     * The response contains the result of each movie : created, or HTTP 409 : CONFLICT if already present.
+     *
+     * @param request Request with the movies at insert on the body.
+     * @param response Response where the results are written.
+     *
+     * @throws IOException If the body can't be read or the response can't be written.
+     * @version 1.1
+     * @since 2.10
+     */
+    @RequestMapping(value = "/movies/batch",
+                    method = RequestMethod.POST,
+                    consumes = {MediaType.APPLICATION_JSON_VALUE, NdjsonExportService.APPLICATION_NDJSON_VALUE})
+    public void createBatch(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        logger.info("Creating movies by batch");
+        batchCreateService.create(request.getInputStream(), response, Movie.class, movieRepository, this::exists,
+                                  MovieController::key, this::resolve, HomePageService.MOVIES);
+    }
+
+    /**
+     * Import the movies of a CSV or TSV file sent on the body of the request.
+     * <p>
+     * Each record of the file is a movie, with the columns read by the MovieBuilder.
+     * The file is parsed, the movies built and saved by chunks at the same time, and the movies already
+     * present on the Database are ignored.
+     *
+     * @param request Request with the file at import on the body.
+     *
+     * @return A ResponseEntity with the number of movies read, created and already present, and the records
+     *         who can't be imported.
+     *
+     * @throws IOException If the body can't be read.
+     * @version 1.0
+     * @since 2.11
+     */
+    @RequestMapping(value = "/movies/import",
+                    method = RequestMethod.POST,
+                    consumes = {ImportService.TEXT_CSV_VALUE, ImportService.TEXT_TSV_VALUE})
+    public ResponseEntity<?> importFile(HttpServletRequest request) throws IOException {
+        logger.info("Importing movies from a file");
+        Map<String, Object> report = importService.importFile(request.getInputStream(), request.getContentType(),
+                                                              new MovieBuilder(), Movie.class, movieRepository,
+                                                              this::exists, MovieController::key, this::resolve,
+                                                              HomePageService.MOVIES);
+        return new ResponseEntity<Map<String, Object>>(report, HttpStatus.OK);
+    }
+
     /**
      * Update a movie present on the Database.
      * <p>
@@ -287,18 +453,22 @@ public class MovieController {
      * It the movie is not found, the method return an error with the HTTP code 404.
      * In other case, it update the information about the movie and return in the body the movie update
      * can use to check if the modification are succeeded and the HTTP code 200.
+     * If the header <code>If-Match</code> doesn't contain the tag of the current version of the movie,
+     * or if the movie is updated by another request at the same time, the method return an error
+     * HTTP 412 : PRECONDITION FAILED. The response contains the tag of the new version on <code>ETag</code>.
      *
      * @param id Id of the movie on Database.
      * @param movie Movie with new content at update.
+     * @param request Request of the client, with the tag of the movie read on <code>If-Match</code>.
      *
      * @return A ResponseEntity with all movies found on Database, or an error HTTP 404 : NOT FOUND.
      *
-     * @version 2.0
+     * @version 2.4
      * @since 1.0
      */
     @RequestMapping(value = "/movies/{id}",
                     method = RequestMethod.PUT)
-    public ResponseEntity<?> update(@PathVariable("id") long id, @RequestBody Movie movie) {
+    public ResponseEntity<?> update(@PathVariable("id") long id, @RequestBody Movie movie, WebRequest request) {
         logger.info("Updating Movie with id {}", id);
 
         Movie movieAtUpdate = movieRepository.findOne(id);
@@ -308,61 +478,39 @@ public class MovieController {
                     new MovieException("Unable to update. Movie with id " + id + " not found"), HttpStatus.NOT_FOUND);
         }
 
-        // Check if the actor are present on Database or not.
-        Set<Actor> actorsOnMovie = movie.getMainActors();
-        Set<Actor> mainActors = new HashSet<Actor>();
-        for (Actor a : actorsOnMovie) {
-            Actor actorExist = actorRepository.findByFirstNameAndLastName(a.getFirstName(), a.getLastName());
-            // If the actor is not present on Database, it add on it.
-            if (actorExist == null) {
-                logger.info("Created actor : {}", a);
-                actorRepository.save(a);
-                mainActors.add(a);
-            } else {
-                logger.info("Added actor {} already present on persistent system", actorExist);
-                mainActors.add(actorExist);
-            }
-        }
-        movie.setMainActors(mainActors);
-
-        // Check if the producers are present on Database or not.
-        Set<Producer> producersOnMovie = movie.getProducers();
-        Set<Producer> producers = new HashSet<Producer>();
-        for (Producer p : producersOnMovie) {
-            Producer producerExist = producerRepository.findByFirstNameAndLastName(p.getFirstName(), p.getLastName());
-            // If the producer is not present on Database, he add on it.
-            if (producerExist == null) {
-                logger.info("Created producer : {}", p);
-                producerRepository.save(p);
-                producers.add(p);
-            } else {
-                logger.info("Added producer {} already present on persistent system.", producerExist);
-                producers.add(producerExist);
-            }
-        }
-        movie.setProducers(producers);
-
-        // Check if the directors are present on Database or not.
-        Set<Director> directorOnMovie = movie.getDirectors();
-        Set<Director> directors = new HashSet<Director>();
-        for (Director d : directorOnMovie) {
-            Director directorExist = directorRepository.findByFirstNameAndLastName(d.getFirstName(), d.getLastName());
-            // If the director is not present on Database, he add on it.
-            if (directorExist == null) {
-                logger.info("Created director : {}", d);
-                directorRepository.save(d);
-                directors.add(d);
-            } else {
-                logger.info("Added director {} already present on persistent system.", directorExist);
-                directors.add(directorExist);
-            }
+        if (!entityTagService.matches(request, movieAtUpdate)) {
+            logger.error("Unable to update. Movie with id {} has been modified", id);
+            return new ResponseEntity<Object>(
+                    new MovieException("Unable to update. Movie with id " + id + " has been modified"),
+                    HttpStatus.PRECONDITION_FAILED);
         }
-        movie.setDirectors(directors);
+
+        // Use the main actors stored on Database, the missing ones are created.
+        movie.setMainActors(personResolver.persons(Actor.class, movie.getMainActors()));
+
+        // Use the producers stored on Database, the missing ones are created.
+        movie.setProducers(personResolver.persons(Producer.class, movie.getProducers()));
+
+        // Use the directors stored on Database, the missing ones are created.
+        movie.setDirectors(personResolver.persons(Director.class, movie.getDirectors()));
 
         // Copy content of the movie receive on request body on the movie retrieve from the database.
+        long version = movieAtUpdate.getVersion();
         movieAtUpdate = new Movie(movie);
-        movieRepository.save(movieAtUpdate);
-        return new ResponseEntity<Object>(movieAtUpdate, HttpStatus.OK);
+        movieAtUpdate.setId(id);
+        movieAtUpdate.setVersion(version);
+        try {
+            movieAtUpdate = movieRepository.save(movieAtUpdate);
+        } catch (OptimisticLockingFailureException e) {
+            logger.error("Unable to update. Movie with id {} has been modified during the update", id);
+            return new ResponseEntity<Object>(
+                    new MovieException("Unable to update. Movie with id " + id + " has been modified"),
+                    HttpStatus.PRECONDITION_FAILED);
+        }
+        homePageService.invalidate(HomePageService.MOVIES);
+        mediaSearchService.index(movieAtUpdate);
+        HttpHeaders headers = EntityTagService.headers(request, movieAtUpdate.getVersion());
+        return new ResponseEntity<Object>(movieAtUpdate, headers, HttpStatus.OK);
     }
 
     /**
@@ -377,7 +525,7 @@ public class MovieController {
      *
      * @return A ResponseEntity with all movies found on Database, or an error HTTP 404 : NOT_FOUND.
      *
-     * @version 2.0
+     * @version 2.1
      * @since 1.0
      */
     @RequestMapping(value = "/movies/{id}",
@@ -393,6 +541,8 @@ public class MovieController {
         }
 
         movieRepository.delete(movie);
+        homePageService.invalidate(HomePageService.MOVIES);
+        mediaSearchService.remove(movie.getId());
         return new ResponseEntity<Object>(movie, HttpStatus.OK);
     }
 
@@ -409,4 +559,47 @@ public class MovieController {
     public ResponseEntity<?> getMediaGenre() {
         return new ResponseEntity<>(VideoGenre.values(), HttpStatus.OK);
     }
+
+    /**
+     * Check if a movie is already present on the Database.
+     *
+     * @param movie Movie at check.
+     *
+     * @return True if the movie is already present on the Database.
+     *
+     * @version 1.0
+     * @since 2.11
+     */
+    private boolean exists(Movie movie) {
+        return movieRepository.findByTitleAndRuntimeAndReleaseDate(movie.getTitle(), movie.getRuntime(),
+                                                                   movie.getReleaseDate()) != null;
+    }
+
+    /**
+     * Key of a movie, the fields checked by {@link #exists(Movie)} compared between the movies of a chunk.
+     *
+     * @param movie Movie at check.
+     *
+     * @return The title, runtime and release date of the movie.
+     *
+     * @version 1.0
+     * @since 2.16
+     */
+    private static List<Object> key(Movie movie) {
+        return BatchCreateService.key(movie.getTitle(), movie.getRuntime(), movie.getReleaseDate());
+    }
+
+    /**
+     * Replace the persons of several movies by the persons stored on the Database, the missing ones are created.
+     *
+     * @param movies Movies at complete.
+     *
+     * @version 1.0
+     * @since 2.11
+     */
+    private void resolve(List<Movie> movies) {
+        personResolver.persons(Actor.class, movies, Movie::getMainActors, Movie::setMainActors);
+        personResolver.persons(Producer.class, movies, Movie::getProducers, Movie::setProducers);
+        personResolver.persons(Director.class, movies, Movie::getDirectors, Movie::setDirectors);
+    }
 }
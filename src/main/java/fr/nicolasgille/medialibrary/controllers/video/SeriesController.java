@@ -18,31 +18,46 @@
 
 package fr.nicolasgille.medialibrary.controllers.video;
 
+import fr.nicolasgille.medialibrary.builders.video.SeriesBuilder;
 import fr.nicolasgille.medialibrary.exceptions.video.SeriesException;
+import fr.nicolasgille.medialibrary.models.MediaSummary;
 import fr.nicolasgille.medialibrary.models.common.person.Actor;
 import fr.nicolasgille.medialibrary.models.common.person.Director;
 import fr.nicolasgille.medialibrary.models.common.person.Producer;
 import fr.nicolasgille.medialibrary.models.components.genre.VideoGenre;
 import fr.nicolasgille.medialibrary.models.video.Series;
-import fr.nicolasgille.medialibrary.repositories.common.person.ActorRepository;
-import fr.nicolasgille.medialibrary.repositories.common.person.DirectorRepository;
-import fr.nicolasgille.medialibrary.repositories.common.person.ProducerRepository;
 import fr.nicolasgille.medialibrary.repositories.video.SeriesRepository;
+import fr.nicolasgille.medialibrary.services.BatchCreateService;
+import fr.nicolasgille.medialibrary.services.EntityTagService;
+import fr.nicolasgille.medialibrary.services.HomePageService;
+import fr.nicolasgille.medialibrary.services.ImportService;
+import fr.nicolasgille.medialibrary.services.MediaFacetService;
+import fr.nicolasgille.medialibrary.services.MediaSearchService;
+import fr.nicolasgille.medialibrary.services.NdjsonExportService;
+import fr.nicolasgille.medialibrary.services.PersonResolver;
+import fr.nicolasgille.medialibrary.utils.MediaLog;
+import fr.nicolasgille.medialibrary.utils.PageCursor;
+import fr.nicolasgille.medialibrary.utils.SmileHttpMessageConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 
 /**
  * Controller of the app to interact with series present on Media-Library.
@@ -51,12 +66,12 @@ import java.util.Set;
  * You can add you own method of research if you would have a new research type of series.
  *
  * @author Nicolas GILLE
- * @version 1.2
+ * @version 1.16
  * @since Media-Library 0.2
  */
 @RestController
 @RequestMapping(value = "/",
-                produces = MediaType.APPLICATION_JSON_VALUE)
+                produces = {MediaType.APPLICATION_JSON_VALUE, SmileHttpMessageConverter.APPLICATION_SMILE_VALUE})
 public class SeriesController {
 
     /**
@@ -82,49 +97,168 @@ public class SeriesController {
     private SeriesRepository seriesRepository;
 
     /**
-     * Repository used to interact with actors present on the service.
+     * Service used to export all series as newline delimited JSON.
      *
-     * @since 1.0
+     * @since 1.3
      */
     @Autowired
-    private ActorRepository actorRepository;
+    private NdjsonExportService ndjsonExportService;
 
     /**
-     * Repository used to interact with producers present on the service.
+     * Service who build the content of the home page, invalidated on each write.
      *
-     * @since 1.0
+     * @since 1.4
      */
     @Autowired
-    private ProducerRepository producerRepository;
+    private HomePageService homePageService;
 
     /**
-     * Repository used to interact with directors present on the service.
+     * Service used to search the series by full text, updated on each write.
      *
-     * @since 1.0
+     * @since 1.5
      */
     @Autowired
-    private DirectorRepository directorRepository;
+    private MediaSearchService mediaSearchService;
+
+    /**
+     * Service used to filter the series on their facets, updated on each write.
+     *
+     * @since 1.7
+     */
+    @Autowired
+    private MediaFacetService mediaFacetService;
+
+    /**
+     * Service used to find or create the persons of the series with a few queries.
+     *
+     * @since 1.9
+     */
+    @Autowired
+    private PersonResolver personResolver;
+
+    /**
+     * Service used to create several series with a single request.
+     *
+     * @since 1.10
+     */
+    @Autowired
+    private BatchCreateService batchCreateService;
+
+    /**
+     * Service used to import the series of a CSV or TSV file.
+     *
+     * @since 1.11
+     */
+    @Autowired
+    private ImportService importService;
+
+    /**
+     * Service used to answer the conditional requests from the versions of the series.
+     *
+     * @since 1.13
+     */
+    @Autowired
+    private EntityTagService entityTagService;
 
     /**
      * Return all series found on Database.
      * <p>
      * This method return a ResponseEntity object who contains a list of series found on the Database.
      * If the database is empty, this method return an error HTTP 204 : No Content.
-     * This method can call only by GET request and take nothing parameter to work.
+     * This method can call only by GET request.
+     * The result is paginated on the identifier : the response contains at most <code>limit</code> elements and the
+     * header <code>X-Next-Cursor</code> contains the cursor at send as <code>after</code> to get the next page.
+     * The series can be filtered on their facets, like <code>videoGenre=ACTION&amp;support=DVD,BLU_RAY</code> :
+     * the values of a facet are combined with OR and the facets with AND.
+     * While the facets are indexed at startup, a filtered request receive an HTTP 503 : Service Unavailable.
+     * With <code>view=summary</code>, only the identifier, title, date of release and type of the series
+     * are read and returned.
+     * The response contains the tag of the list on the header <code>ETag</code> : if no series has been created,
+     * updated or deleted since, a request with this tag on <code>If-None-Match</code> receive an HTTP 304 : Not
+     * Modified without the series read.
+     *
+     * @param after Cursor of the previous page, or nothing to get the first page.
+     * @param limit Maximum number of elements on the page.
+     * @param view <code>summary</code> to return the summaries of the series.
+     * @param filters Parameters of the request, with the values selected on each facet.
+     * @param request Request of the client, with the tag of the list already read on <code>If-None-Match</code>.
      *
      * @return A ResponseEntity with all series found on Database, or an error HTTP 204 : No Content.
      *
-     * @version 1.0
+     * @version 2.4
      * @since 1.0
      */
     @RequestMapping(value = "/series/",
                     method = RequestMethod.GET)
-    public ResponseEntity getAll() {
-        List<Series> series = seriesRepository.findAll();
+    public ResponseEntity getAll(@RequestParam(name = "after", required = false) String after,
+                                 @RequestParam(name = "limit", required = false) Integer limit,
+                                 @RequestParam(name = "view", required = false) String view,
+                                 @RequestParam MultiValueMap<String, String> filters,
+                                 WebRequest request) {
+        long lastId = PageCursor.decode(after);
+        if (lastId == PageCursor.INVALID_CURSOR) {
+            logger.error("Invalid cursor {}", after);
+            return new ResponseEntity<Object>(new SeriesException("Invalid cursor " + after),
+                                              HttpStatus.BAD_REQUEST);
+        }
+
+        if (mediaFacetService.isFiltered(filters) && !mediaFacetService.isReady()) {
+            logger.error("Facets not ready yet");
+            return new ResponseEntity<Object>(new SeriesException("The facets are being indexed, retry later."),
+                                              HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        if (entityTagService.checkNotModified(request, Series.class)) {
+            return null;
+        }
+
+        if (MediaSummary.isRequested(view)) {
+            List<MediaSummary> summaries;
+            if (mediaFacetService.isFiltered(filters)) {
+                summaries = mediaFacetService.pageSummaries(Series.class, filters, lastId, limit,
+                                                            seriesRepository::findSummariesByIdIn);
+            } else {
+                summaries = seriesRepository.findSummariesByIdGreaterThan(lastId, PageCursor.pageable(limit));
+            }
+            if (summaries.isEmpty()) {
+                return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
+            }
+            HttpHeaders headers = PageCursor.nextPageHeaders(summaries, limit, MediaSummary::getId);
+            return new ResponseEntity<List<MediaSummary>>(summaries, headers, HttpStatus.OK);
+        }
+
+        List<Series> series;
+        if (mediaFacetService.isFiltered(filters)) {
+            series = mediaFacetService.page(Series.class, filters, lastId, limit, seriesRepository::findAll);
+        } else {
+            series = seriesRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageCursor.pageable(limit));
+        }
         if (series.isEmpty()) {
             return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
         }
-        return new ResponseEntity<List<Series>>(series, HttpStatus.OK);
+        HttpHeaders headers = PageCursor.nextPageHeaders(series, limit, Series::getId);
+        return new ResponseEntity<List<Series>>(series, headers, HttpStatus.OK);
+    }
+
+    /**
+     * Export all series found on Database as newline delimited JSON.
+     * <p>
+     * This method is selected when the client accept <code>application/x-ndjson</code>.
+     * The series are streamed from the Database and written one by one on the response,
+     * so the memory used by the export doesn't depend on the number of series.
+     * If the database is empty, this method return an error HTTP 204 : No Content.
+     *
+     * @param response Response where the series are written.
+     *
+     * @throws IOException If the response can't be written.
+     * @version 1.0
+     * @since 1.3
+     */
+    @RequestMapping(value = "/series/",
+                    method = RequestMethod.GET,
+                    produces = NdjsonExportService.APPLICATION_NDJSON_VALUE)
+    public void export(HttpServletResponse response) throws IOException {
+        ndjsonExportService.export(response, seriesRepository::streamAll);
     }
 
     /**
@@ -133,23 +267,37 @@ public class SeriesController {
      * This method return a ResponseEntity object who contains a list of series found on the Database.
      * If the database is empty, this method return an error HTTP 204 : No Content.
      * This method can call only by GET request and take nothing parameter to work.
+     * <p>
+     * With <code>fuzzy=true</code>, the titles close to the title searched are returned, the most similar first.
+     * With <code>view=summary</code>, only the summaries of the series found are returned.
      *
      * @param titleEncoded Title of the series encoded to search on Database.
+     * @param fuzzy True to search the titles similar to the title, to find them despite typos.
+     * @param view <code>summary</code> to return the summaries of the series.
      *
      * @return A ResponseEntity with the series found on Database, or an error HTTP 204 : No Content.
      *
      * @throws UnsupportedEncodingException The method throw an <code>UnsupportedEncodingException</code> when a
      *         problem occurred during title decoding.
-     * @version 1.0
+     * @version 1.3
      * @since 1.0
      */
     @RequestMapping(value = "/series/search/title/{title}",
                     method = RequestMethod.GET)
-    public ResponseEntity getSeriesByTitle(@PathVariable(value = "title") String titleEncoded)
+    public ResponseEntity getSeriesByTitle(
+            @PathVariable(value = "title") String titleEncoded,
+            @RequestParam(name = "fuzzy", required = false, defaultValue = "false") boolean fuzzy,
+            @RequestParam(name = "view", required = false) String view)
             throws UnsupportedEncodingException {
         String title = URLDecoder.decode(titleEncoded, SeriesController.ENCODING);
         logger.info("Fetching Series with title {}", title);
-        List<Series> series = seriesRepository.findByTitleIgnoreCaseContaining(title);
+        if (MediaSummary.isRequested(view)) {
+            List<MediaSummary> summaries = mediaSearchService.searchSummaries(title, fuzzy, Series.class,
+                    seriesRepository::findSummariesByIdIn, seriesRepository::findSummariesByTitleContaining);
+            return new ResponseEntity<List<MediaSummary>>(summaries, HttpStatus.OK);
+        }
+        List<Series> series = mediaSearchService.search(title, fuzzy, Series.class, seriesRepository::findAll,
+                                                        seriesRepository::findByTitleIgnoreCaseContaining);
         if (series == null) {
             logger.error("Series with title {} not found.", title);
             return new ResponseEntity<Object>(new SeriesException("Series with title " + title + " not found."),
@@ -203,17 +351,25 @@ public class SeriesController {
      * In other case, this method return the series found in body response and the success code HTTP 200.
      * This method is call only by the method HTTP <em>GET</em>, and it's necessary to passed on
      * parameter the identifier of the series at research.
+     * The response contains the version of the series on the header <code>ETag</code> and the date of his last
+     * modification on <code>Last-Modified</code> : if the series has not been modified since, a request with them on
+     * <code>If-None-Match</code> or <code>If-Modified-Since</code> receive an HTTP 304 : Not Modified
+     * without the series read.
      *
      * @param id Identifier of the Series on Database.
+     * @param request Request of the client, with the tag of the series already read on <code>If-None-Match</code>.
      *
      * @return A ResponseEntity with the series found on Database, or an error HTTP 204 : No Content.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.1
      */
     @RequestMapping(value = "/series/search/id/{id}")
-    public ResponseEntity<?> getSeriesById(@PathVariable(value = "id") long id) {
+    public ResponseEntity<?> getSeriesById(@PathVariable(value = "id") long id, WebRequest request) {
         logger.info("Fetching Series with id {}", id);
+        if (entityTagService.checkNotModified(request, Series.class, id)) {
+            return null;
+        }
         Series series = seriesRepository.findOne(id);
         if (series == null) {
             logger.error("Series with id {} not found.", id);
@@ -236,14 +392,12 @@ public class SeriesController {
      *
      * @return A ResponseEntity with the series added, or an error HTTP 409 : CONFLICT.
      *
-     * @version 1.1
+     * @version 1.4
      * @since 1.0
      */
     @RequestMapping(value = "/series/",
                     method = RequestMethod.POST)
     public ResponseEntity<?> create(@RequestBody Series series, UriComponentsBuilder uriBuilder) {
-        logger.info("Created series : {}", series);
-
         // Check if the series already exist on database.
         Series seriesExist = seriesRepository.findByTitleAndCurrentSeason(series.getTitle(), series.getCurrentSeason());
         if (seriesExist != null) {
@@ -253,57 +407,18 @@ public class SeriesController {
                     HttpStatus.CONFLICT);
         }
 
-        // Check if the actors are present on Database or not.
-        Set<Actor> actorsOnSeries = series.getMainActors();
-        Set<Actor> mainActors = new HashSet<Actor>();
-        for (Actor a : actorsOnSeries) {
-            Actor actorExist = actorRepository.findByFirstNameAndLastName(a.getFirstName(), a.getLastName());
-            // If the actor is not present on Database, he add on it.
-            if (actorExist == null) {
-                logger.info("Created actor : {}", a);
-                actorRepository.save(a);
-                mainActors.add(a);
-            } else {
-                logger.info("Added actor {} already present on persistent system", actorExist);
-                mainActors.add(actorExist);
-            }
-        }
-        series.setMainActors(mainActors);
-
-        // Check if the producers are present on Database or not.
-        Set<Producer> producersOnSeries = series.getProducers();
-        Set<Producer> producers = new HashSet<Producer>();
-        for (Producer p : producersOnSeries) {
-            Producer producerExist = producerRepository.findByFirstNameAndLastName(p.getFirstName(), p.getLastName());
-            // If the producer is not present on Database, he add on it.
-            if (producerExist == null) {
-                logger.info("Created producer : {}", p);
-                producerRepository.save(p);
-                producers.add(p);
-            } else {
-                logger.info("Added producer {} already present on persistent system.", producerExist);
-                producers.add(producerExist);
-            }
-        }
-        series.setProducers(producers);
-
-        // Check if the directors are present on Database or not.
-        Set<Director> directorOnSeries = series.getDirectors();
-        Set<Director> directors = new HashSet<Director>();
-        for (Director d : directorOnSeries) {
-            Director directorExist = directorRepository.findByFirstNameAndLastName(d.getFirstName(), d.getLastName());
-            // If the director is not present on Database, he add on it.
-            if (directorExist == null) {
-                logger.info("Created director : {}", d);
-                directorRepository.save(d);
-                directors.add(d);
-            } else {
-                logger.info("Added director {} already present on persistent system.", directorExist);
-                directors.add(directorExist);
-            }
-        }
-        series.setDirectors(directors);
+        // Use the main actors stored on Database, the missing ones are created.
+        series.setMainActors(personResolver.persons(Actor.class, series.getMainActors()));
+
+        // Use the producers stored on Database, the missing ones are created.
+        series.setProducers(personResolver.persons(Producer.class, series.getProducers()));
+
+        // Use the directors stored on Database, the missing ones are created.
+        series.setDirectors(personResolver.persons(Director.class, series.getDirectors()));
         seriesRepository.save(series);
+        logger.info("Created series : {}", MediaLog.of(logger, series));
+        homePageService.invalidate(HomePageService.SERIES);
+        mediaSearchService.index(series);
 
         HttpHeaders header = new HttpHeaders();
         header.setLocation(uriBuilder.path("/media-library/series/search/id/{id}")
@@ -312,6 +427,57 @@ public class SeriesController {
         return new ResponseEntity<String>(header, HttpStatus.CREATED);
     }
 
+    /**
+     * Add several series on the Database with a single request.
+     * <p>
+     * The body contains a JSON array of series or one series by line, read one at a time, and the series are
+     * committed by chunks.
+     * The response contains the result of each series : created, or HTTP 409 : CONFLICT if already present.
+     *
+     * @param request Request with the series at insert on the body.
+     * @param response Response where the results are written.
+     *
+     * @throws IOException If the body can't be read or the response can't be written.
+     * @version 1.1
+     * @since 1.10
+     */
+    @RequestMapping(value = "/series/batch",
+                    method = RequestMethod.POST,
+                    consumes = {MediaType.APPLICATION_JSON_VALUE, NdjsonExportService.APPLICATION_NDJSON_VALUE})
+    public void createBatch(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        logger.info("Creating series by batch");
+        batchCreateService.create(request.getInputStream(), response, Series.class, seriesRepository, this::exists,
+                                  SeriesController::key, this::resolve, HomePageService.SERIES);
+    }
+
+    /**
+     * Import the series of a CSV or TSV file sent on the body of the request.
+     * <p>
+     * Each record of the file is a series, with the columns read by the SeriesBuilder.
+     * The file is parsed, the series built and saved by chunks at the same time, and the series already
+     * present on the Database are ignored.
+     *
+     * @param request Request with the file at import on the body.
+     *
+     * @return A ResponseEntity with the number of series read, created and already present, and the records
+     *         who can't be imported.
+     *
+     * @throws IOException If the body can't be read.
+     * @version 1.0
+     * @since 1.11
+     */
+    @RequestMapping(value = "/series/import",
+                    method = RequestMethod.POST,
+                    consumes = {ImportService.TEXT_CSV_VALUE, ImportService.TEXT_TSV_VALUE})
+    public ResponseEntity<?> importFile(HttpServletRequest request) throws IOException {
+        logger.info("Importing series from a file");
+        Map<String, Object> report = importService.importFile(request.getInputStream(), request.getContentType(),
+                                                              new SeriesBuilder(), Series.class, seriesRepository,
+                                                              this::exists, SeriesController::key, this::resolve,
+                                                              HomePageService.SERIES);
+        return new ResponseEntity<Map<String, Object>>(report, HttpStatus.OK);
+    }
+
     /**
      * Update a series present on the Database.
      * <p>
@@ -319,18 +485,22 @@ public class SeriesController {
      * It the series is not found, the method return an error with the HTTP code 404.
      * In other case, it update the information about the series and return in the body the series update
      * can use to check if the modification are succeeded and the HTTP code 200.
+     * If the header <code>If-Match</code> doesn't contain the tag of the current version of the series,
+     * or if the series is updated by another request at the same time, the method return an error
+     * HTTP 412 : PRECONDITION FAILED. The response contains the tag of the new version on <code>ETag</code>.
      *
      * @param id Id of the series on Database.
      * @param series Series with new content at update.
+     * @param request Request of the client, with the tag of the series read on <code>If-Match</code>.
      *
      * @return A ResponseEntity with all series found on Database, or an error HTTP 404 : NOT FOUND.
      *
-     * @version 1.0
+     * @version 1.4
      * @since 1.0
      */
     @RequestMapping(value = "/series/{id}",
                     method = RequestMethod.PUT)
-    public ResponseEntity<?> update(@PathVariable("id") long id, @RequestBody Series series) {
+    public ResponseEntity<?> update(@PathVariable("id") long id, @RequestBody Series series, WebRequest request) {
         logger.info("Updating Series with id {}", id);
 
         Series seriesAtUpdate = seriesRepository.findOne(id);
@@ -340,61 +510,39 @@ public class SeriesController {
                     new SeriesException("Unable to update. Series with id " + id + " not found"), HttpStatus.NOT_FOUND);
         }
 
-        // Check if the actor are present on Database or not.
-        Set<Actor> actorsOnSeries = series.getMainActors();
-        Set<Actor> mainActors = new HashSet<Actor>();
-        for (Actor a : actorsOnSeries) {
-            Actor actorExist = actorRepository.findByFirstNameAndLastName(a.getFirstName(), a.getLastName());
-            // If the actor is not present on Database, it add on it.
-            if (actorExist == null) {
-                logger.info("Created actor : {}", a);
-                actorRepository.save(a);
-                mainActors.add(a);
-            } else {
-                logger.info("Added actor {} already present on persistent system", actorExist);
-                mainActors.add(actorExist);
-            }
-        }
-        series.setMainActors(mainActors);
-
-        // Check if the producers are present on Database or not.
-        Set<Producer> producersOnSeries = series.getProducers();
-        Set<Producer> producers = new HashSet<Producer>();
-        for (Producer p : producersOnSeries) {
-            Producer producerExist = producerRepository.findByFirstNameAndLastName(p.getFirstName(), p.getLastName());
-            // If the producer is not present on Database, he add on it.
-            if (producerExist == null) {
-                logger.info("Created producer : {}", p);
-                producerRepository.save(p);
-                producers.add(p);
-            } else {
-                logger.info("Added producer {} already present on persistent system.", producerExist);
-                producers.add(producerExist);
-            }
-        }
-        series.setProducers(producers);
-
-        // Check if the directors are present on Database or not.
-        Set<Director> directorOnSeries = series.getDirectors();
-        Set<Director> directors = new HashSet<Director>();
-        for (Director d : directorOnSeries) {
-            Director directorExist = directorRepository.findByFirstNameAndLastName(d.getFirstName(), d.getLastName());
-            // If the director is not present on Database, he add on it.
-            if (directorExist == null) {
-                logger.info("Created director : {}", d);
-                directorRepository.save(d);
-                directors.add(d);
-            } else {
-                logger.info("Added director {} already present on persistent system.", directorExist);
-                directors.add(directorExist);
-            }
+        if (!entityTagService.matches(request, seriesAtUpdate)) {
+            logger.error("Unable to update. Series with id {} has been modified", id);
+            return new ResponseEntity<Object>(
+                    new SeriesException("Unable to update. Series with id " + id + " has been modified"),
+                    HttpStatus.PRECONDITION_FAILED);
         }
-        series.setDirectors(directors);
+
+        // Use the main actors stored on Database, the missing ones are created.
+        series.setMainActors(personResolver.persons(Actor.class, series.getMainActors()));
+
+        // Use the producers stored on Database, the missing ones are created.
+        series.setProducers(personResolver.persons(Producer.class, series.getProducers()));
+
+        // Use the directors stored on Database, the missing ones are created.
+        series.setDirectors(personResolver.persons(Director.class, series.getDirectors()));
 
         // Copy content of the series receive on request body on the series retrieve from the database.
+        long version = seriesAtUpdate.getVersion();
         seriesAtUpdate = new Series(series);
-        seriesRepository.save(seriesAtUpdate);
-        return new ResponseEntity<Object>(seriesAtUpdate, HttpStatus.OK);
+        seriesAtUpdate.setId(id);
+        seriesAtUpdate.setVersion(version);
+        try {
+            seriesAtUpdate = seriesRepository.save(seriesAtUpdate);
+        } catch (OptimisticLockingFailureException e) {
+            logger.error("Unable to update. Series with id {} has been modified during the update", id);
+            return new ResponseEntity<Object>(
+                    new SeriesException("Unable to update. Series with id " + id + " has been modified"),
+                    HttpStatus.PRECONDITION_FAILED);
+        }
+        homePageService.invalidate(HomePageService.SERIES);
+        mediaSearchService.index(seriesAtUpdate);
+        HttpHeaders headers = EntityTagService.headers(request, seriesAtUpdate.getVersion());
+        return new ResponseEntity<Object>(seriesAtUpdate, headers, HttpStatus.OK);
     }
 
     /**
@@ -409,7 +557,7 @@ public class SeriesController {
      *
      * @return A ResponseEntity with all series found on Database, or an error HTTP 404 : NOT_FOUND.
      *
-     * @version 2.0
+     * @version 2.1
      * @since 1.0
      */
     @RequestMapping(value = "/series/{id}",
@@ -425,6 +573,8 @@ public class SeriesController {
         }
 
         seriesRepository.delete(series);
+        homePageService.invalidate(HomePageService.SERIES);
+        mediaSearchService.remove(series.getId());
         return new ResponseEntity<Object>(series, HttpStatus.OK);
     }
 
@@ -441,4 +591,46 @@ public class SeriesController {
     public ResponseEntity<?> getMediaGenre() {
         return new ResponseEntity<>(VideoGenre.values(), HttpStatus.OK);
     }
+
+    /**
+     * Check if a series is already present on the Database.
+     *
+     * @param series Series at check.
+     *
+     * @return True if the series is already present on the Database.
+     *
+     * @version 1.0
+     * @since 1.11
+     */
+    private boolean exists(Series series) {
+        return seriesRepository.findByTitleAndCurrentSeason(series.getTitle(), series.getCurrentSeason()) != null;
+    }
+
+    /**
+     * Key of a series, the fields checked by {@link #exists(Series)} compared between the series of a chunk.
+     *
+     * @param series Series at check.
+     *
+     * @return The title and current season of the series.
+     *
+     * @version 1.0
+     * @since 1.16
+     */
+    private static List<Object> key(Series series) {
+        return BatchCreateService.key(series.getTitle(), series.getCurrentSeason());
+    }
+
+    /**
+     * Replace the persons of several series by the persons stored on the Database, the missing ones are created.
+     *
+     * @param seriesList Series at complete.
+     *
+     * @version 1.0
+     * @since 1.11
+     */
+    private void resolve(List<Series> seriesList) {
+        personResolver.persons(Actor.class, seriesList, Series::getMainActors, Series::setMainActors);
+        personResolver.persons(Producer.class, seriesList, Series::getProducers, Series::setProducers);
+        personResolver.persons(Director.class, seriesList, Series::getDirectors, Series::setDirectors);
+    }
 }
@@ -20,14 +20,14 @@ package fr.nicolasgille.medialibrary.models;
 
 import fr.nicolasgille.medialibrary.models.components.MediaSupport;
 
-import java.util.Calendar;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
  * Main interface must implement by all media available on Media-Library.
  *
  * @author Nicolas GILLE
- * @version 2.0
+ * @version 2.1
  * @since Media-Library 0.2
  */
 public interface IMedia {
@@ -97,20 +97,20 @@ public interface IMedia {
      *
      * @return The release date.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 2.0
      */
-    Calendar getReleaseDate();
+    LocalDate getReleaseDate();
 
     /**
      * Set releaseDate.
      *
      * @param releaseDate New date of release.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 2.0
      */
-    void setReleaseDate(Calendar releaseDate);
+    void setReleaseDate(LocalDate releaseDate);
 
     /**
      * Return all supports for the video.
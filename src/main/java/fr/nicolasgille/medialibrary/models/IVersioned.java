@@ -0,0 +1,53 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.models;
+
+/**
+ * Interface implemented by the entities who keep their version and the date of their last modification.
+ * <p>
+ * The version is incremented by Hibernate on each update, so the responses of the entities are identified by
+ * their version on the header <code>ETag</code> and the clients can send their version on <code>If-Match</code>
+ * to update an entity only if it has not been modified since they read it.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+public interface IVersioned {
+
+    /**
+     * Return the version of the entity, incremented on each update.
+     *
+     * @return The version of the entity.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    long getVersion();
+
+    /**
+     * Return the date of the last modification of the entity, as milliseconds since the epoch.
+     *
+     * @return The date of the last modification, or 0 if the entity has been stored before his version.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    long getLastModified();
+}
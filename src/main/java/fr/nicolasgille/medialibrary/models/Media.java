@@ -18,26 +18,41 @@
 
 package fr.nicolasgille.medialibrary.models;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import fr.nicolasgille.medialibrary.models.components.MediaSupport;
-import org.hibernate.annotations.LazyCollection;
-import org.hibernate.annotations.LazyCollectionOption;
+import fr.nicolasgille.medialibrary.models.converters.LocalDateConverter;
+import fr.nicolasgille.medialibrary.models.converters.MediaSupportMaskConverter;
+import fr.nicolasgille.medialibrary.models.json.LocalDateDeserializer;
+import fr.nicolasgille.medialibrary.models.json.LocalDateSerializer;
 
 import javax.persistence.*;
-import java.util.Calendar;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
  * Abstract class at inherit by all subclasses of media type.
  *
  * @author Nicolas GILLE
- * @version 2.0
+ * @version 2.5
  * @since Media-Library 0.2
  */
 @Entity
 @Table(name = "media")
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "media_type")
-public abstract class Media implements IMedia {
+public abstract class Media implements IMedia, IVersioned {
+
+    /**
+     * Number of collections of persons or companies loaded by a single query.
+     * <p>
+     * When a list of media is read, the collections of the media are loaded by batches of this size,
+     * so a page of media cost one query per association instead of one query per media and per association.
+     *
+     * @since 2.2
+     */
+    public final static int FETCH_BATCH_SIZE = 50;
 
     /**
      * Identifier of the media.
@@ -49,6 +64,23 @@ public abstract class Media implements IMedia {
     @Column(name = "id")
     protected long id;
 
+    /**
+     * Version of the media, incremented by Hibernate on each update.
+     *
+     * @since 2.5
+     */
+    @Version
+    @Column(name = "version")
+    protected long version;
+
+    /**
+     * Date of the last modification of the media, as milliseconds since the epoch.
+     *
+     * @since 2.5
+     */
+    @Column(name = "last_modified")
+    protected long lastModified;
+
     /**
      * title of the media.
      *
@@ -66,11 +98,15 @@ public abstract class Media implements IMedia {
 
     /**
      * Date of release for the media.
+     * <p>
+     * Stored as a day on a column <code>DATE</code> and written as <code>yyyy-MM-dd</code> on JSON.
      *
      * @since 2.0
      */
-    @Temporal(TemporalType.DATE)
-    protected Calendar releaseDate;
+    @Convert(converter = LocalDateConverter.class)
+    @JsonSerialize(using = LocalDateSerializer.class)
+    @JsonDeserialize(using = LocalDateDeserializer.class)
+    protected LocalDate releaseDate;
 
     /**
      * List of Support for the media.
@@ -78,11 +114,23 @@ public abstract class Media implements IMedia {
      * @see MediaSupport
      * @since 2.0
      */
-    @Enumerated(EnumType.STRING)
-    @ElementCollection(targetClass = MediaSupport.class)
-    @LazyCollection(LazyCollectionOption.FALSE)
+    @Convert(converter = MediaSupportMaskConverter.class)
+    @Column(name = "supports")
     protected List<MediaSupport> supports;
 
+    /**
+     * Type of the media, as stored on the column <code>media_type</code> by Hibernate.
+     * <p>
+     * This attribute is never written nor returned, it's only read by the queries who select the type of the media
+     * without read the whole media, like the queries of the summaries.
+     *
+     * @since 2.3
+     */
+    @Column(name = "media_type",
+            insertable = false,
+            updatable = false)
+    private String mediaType;
+
     /**
      * Return the id.
      *
@@ -160,10 +208,10 @@ public abstract class Media implements IMedia {
      *
      * @return The release date.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 2.0
      */
-    public Calendar getReleaseDate() {
+    public LocalDate getReleaseDate() {
         return releaseDate;
     }
 
@@ -172,10 +220,10 @@ public abstract class Media implements IMedia {
      *
      * @param releaseDate New date of release.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 2.0
      */
-    public void setReleaseDate(Calendar releaseDate) {
+    public void setReleaseDate(LocalDate releaseDate) {
         this.releaseDate = releaseDate;
     }
 
@@ -202,4 +250,55 @@ public abstract class Media implements IMedia {
     public void setSupports(List<MediaSupport> supports) {
         this.supports = supports;
     }
+
+    /**
+     * Return the version of the media.
+     *
+     * @return The version of the media.
+     *
+     * @version 1.0
+     * @since 2.5
+     */
+    @JsonIgnore
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Set the version of the media, checked by Hibernate when the media is updated.
+     *
+     * @param version Version of the media read before the update.
+     *
+     * @version 1.0
+     * @since 2.5
+     */
+    @JsonIgnore
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    /**
+     * Return the date of the last modification of the media.
+     *
+     * @return The date of the last modification as milliseconds since the epoch.
+     *
+     * @version 1.0
+     * @since 2.5
+     */
+    @JsonIgnore
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Set the date of the last modification of the media when it's inserted or updated.
+     *
+     * @version 1.0
+     * @since 2.5
+     */
+    @PrePersist
+    @PreUpdate
+    protected void updateLastModified() {
+        this.lastModified = System.currentTimeMillis();
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.models;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import fr.nicolasgille.medialibrary.models.json.LocalDateSerializer;
+
+import java.time.LocalDate;
+
+/**
+ * Summary of a media, with only the attributes shown on the lists of media.
+ * <p>
+ * A summary is read by the repositories with a constructor expression who select only the columns of the summary,
+ * so the synopsis and the collections of persons and companies of the media are never read.
+ * The lists and searches of media return summaries instead of media with the parameter <code>view=summary</code>.
+ *
+ * @author Nicolas GILLE
+ * @version 1.1
+ * @since Media-Library 1.1
+ */
+public class MediaSummary {
+
+    /**
+     * Value of the parameter <code>view</code> used to request summaries instead of media.
+     *
+     * @since 1.0
+     */
+    public final static String VIEW = "summary";
+
+    /**
+     * Beginning of the queries who select the summaries of media, the alias of the media must be <code>m</code>.
+     *
+     * @since 1.0
+     */
+    public final static String SELECT =
+            "SELECT new fr.nicolasgille.medialibrary.models.MediaSummary(m.id, m.title, m.releaseDate, m.mediaType) ";
+
+    /**
+     * Identifier of the media.
+     *
+     * @since 1.0
+     */
+    private long id;
+
+    /**
+     * Title of the media.
+     *
+     * @since 1.0
+     */
+    private String title;
+
+    /**
+     * Date of release of the media.
+     *
+     * @since 1.0
+     */
+    @JsonSerialize(using = LocalDateSerializer.class)
+    private LocalDate releaseDate;
+
+    /**
+     * Type of the media, as stored on the column <code>media_type</code>.
+     *
+     * @since 1.0
+     */
+    private String type;
+
+    /**
+     * Constructor of a summary, called by the queries of the repositories.
+     *
+     * @param id Identifier of the media.
+     * @param title Title of the media.
+     * @param releaseDate Date of release of the media.
+     * @param type Type of the media, as stored on the column <code>media_type</code>.
+     *
+     * @version 1.1
+     * @since 1.0
+     */
+    public MediaSummary(long id, String title, LocalDate releaseDate, String type) {
+        this.id = id;
+        this.title = title;
+        this.releaseDate = releaseDate;
+        this.type = type;
+    }
+
+    /**
+     * Return the identifier of the media.
+     *
+     * @return The identifier.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Return the title of the media.
+     *
+     * @return The title.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Return the date of release of the media.
+     *
+     * @return The date of release.
+     *
+     * @version 1.1
+     * @since 1.0
+     */
+    public LocalDate getReleaseDate() {
+        return releaseDate;
+    }
+
+    /**
+     * Return the type of the media.
+     *
+     * @return The type, like <code>movie</code>.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Check if a request ask summaries instead of media.
+     *
+     * @param view Value of the parameter <code>view</code>, can be null.
+     *
+     * @return True if the summaries are requested.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public static boolean isRequested(String view) {
+        return VIEW.equals(view);
+    }
+}
@@ -24,13 +24,15 @@ import fr.nicolasgille.medialibrary.models.common.person.Author;
 import fr.nicolasgille.medialibrary.models.components.BookFormat;
 import fr.nicolasgille.medialibrary.models.components.MediaSupport;
 import fr.nicolasgille.medialibrary.models.components.genre.BookGenre;
+import fr.nicolasgille.medialibrary.models.converters.BookGenreMaskConverter;
 import fr.nicolasgille.medialibrary.utils.CollectionAsString;
 import fr.nicolasgille.medialibrary.utils.DateFormatter;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.LazyCollection;
 import org.hibernate.annotations.LazyCollectionOption;
 
 import javax.persistence.*;
-import java.util.Calendar;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
 
@@ -40,7 +42,7 @@ import java.util.Set;
  * This class isn't abstract because books like <em>Novel</em> can be represented by this class.
  *
  * @author Nicolas GILLE
- * @version 1.1
+ * @version 1.4
  * @see Media
  * @since Media-Library 0.4
  */
@@ -54,9 +56,8 @@ public class Book extends Media {
      * @see BookGenre
      * @since 1.1
      */
-    @Enumerated(EnumType.STRING)
-    @ElementCollection(targetClass = BookGenre.class)
-    @LazyCollection(LazyCollectionOption.FALSE)
+    @Convert(converter = BookGenreMaskConverter.class)
+    @Column(name = "book_genres")
     protected List<BookGenre> genres;
 
     /**
@@ -98,6 +99,7 @@ public class Book extends Media {
                 cascade = {CascadeType.PERSIST, CascadeType.DETACH, CascadeType.MERGE},
                 fetch = FetchType.EAGER)
     @LazyCollection(LazyCollectionOption.FALSE)
+    @BatchSize(size = Media.FETCH_BATCH_SIZE)
     private Set<Author> authors;
 
     /**
@@ -118,6 +120,7 @@ public class Book extends Media {
                 cascade = {CascadeType.PERSIST, CascadeType.DETACH, CascadeType.MERGE},
                 fetch = FetchType.EAGER)
     @LazyCollection(LazyCollectionOption.FALSE)
+    @BatchSize(size = Media.FETCH_BATCH_SIZE)
     private Set<Publisher> publishers;
 
     /**
@@ -152,11 +155,11 @@ public class Book extends Media {
      * @param supports Supports of the book.
      * @param format Format of the book.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
     public Book(String title, String originalTitle, String synopsis,
-                Calendar releaseDate, int nbPages, String isbn,
+                LocalDate releaseDate, int nbPages, String isbn,
                 Set<Author> authors, Set<Publisher> publishers,
                 List<BookGenre> genres, List<MediaSupport> supports, BookFormat format) {
         super.title = title;
@@ -188,11 +191,11 @@ public class Book extends Media {
      * @param supports Supports of the book.
      * @param format Format of the book.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
     public Book(long id, String title, String originalTitle, String synopsis,
-                Calendar releaseDate, int nbPages, String isbn,
+                LocalDate releaseDate, int nbPages, String isbn,
                 Set<Author> authors, Set<Publisher> publishers,
                 List<BookGenre> genres, List<MediaSupport> supports, BookFormat format) {
         super.id = id;
@@ -27,11 +27,12 @@ import fr.nicolasgille.medialibrary.models.components.MediaSupport;
 import fr.nicolasgille.medialibrary.models.components.genre.BookGenre;
 import fr.nicolasgille.medialibrary.utils.CollectionAsString;
 import fr.nicolasgille.medialibrary.utils.DateFormatter;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.LazyCollection;
 import org.hibernate.annotations.LazyCollectionOption;
 
 import javax.persistence.*;
-import java.util.Calendar;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
 
@@ -40,7 +41,7 @@ import java.util.Set;
  * It can be represent a <code>Manga</code>, a <code>American Comic</code> or an <code>European Comic</code>.
  *
  * @author Nicolas GILLE
- * @version 1.1
+ * @version 1.3
  * @see Media
  * @since Media-Library 0.4
  */
@@ -80,6 +81,7 @@ public class Comic extends Book {
                 cascade = {CascadeType.PERSIST, CascadeType.DETACH, CascadeType.MERGE},
                 fetch = FetchType.EAGER)
     @LazyCollection(LazyCollectionOption.FALSE)
+    @BatchSize(size = Media.FETCH_BATCH_SIZE)
     private Set<Illustrator> illustrators;
 
     /**
@@ -108,11 +110,11 @@ public class Comic extends Book {
      * @param currentVolume current volume for the comic.
      * @param illustrators Illustrators of the comic.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
     public Comic(String title, String originalTitle, String synopsis,
-                 Calendar releaseDate, int nbPages, String isbn,
+                 LocalDate releaseDate, int nbPages, String isbn,
                  Set<Author> authors, Set<Publisher> publishers, List<BookGenre> genres, List<MediaSupport> supports,
                  BookFormat format,
                  int volumes, int currentVolume, Set<Illustrator> illustrators) {
@@ -142,11 +144,11 @@ public class Comic extends Book {
      * @param currentVolume current volume for the comic.
      * @param illustrators Illustrators of the comic.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
     public Comic(long id, String title, String originalTitle, String synopsis,
-                 Calendar releaseDate, int nbPages, String isbn,
+                 LocalDate releaseDate, int nbPages, String isbn,
                  Set<Author> authors, Set<Publisher> publishers, List<BookGenre> genres, List<MediaSupport> supports,
                  BookFormat format,
                  int volumes, int currentVolume, Set<Illustrator> illustrators) {
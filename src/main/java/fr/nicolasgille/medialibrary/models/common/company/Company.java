@@ -18,6 +18,11 @@
 
 package fr.nicolasgille.medialibrary.models.common.company;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import fr.nicolasgille.medialibrary.models.IVersioned;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import javax.persistence.*;
 
 /**
@@ -27,9 +32,12 @@ import javax.persistence.*;
  * <li>id : Identifier for the Database.</li>
  * <li>name : Name of the company</li>
  * </ul>
+ * <p>
+ * The companies are read by all media and almost never updated, so they are kept on the region
+ * <code>company</code> of the second-level cache, defined on <code>ehcache.xml</code>.
  *
  * @author Nicolas GILLE
- * @version 1.0
+ * @version 1.2
  * @see ICompany
  * @since Media-Library 0.4
  */
@@ -37,7 +45,9 @@ import javax.persistence.*;
 @Table(name = "company")
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "company_type")
-public class Company implements ICompany {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "company")
+public class Company implements ICompany, IVersioned {
 
     /**
      * Identifier of the Person.
@@ -49,6 +59,23 @@ public class Company implements ICompany {
     @Column(name = "id")
     protected long id;
 
+    /**
+     * Version of the company, incremented by Hibernate on each update.
+     *
+     * @since 1.2
+     */
+    @Version
+    @Column(name = "version")
+    protected long version;
+
+    /**
+     * Date of the last modification of the company, as milliseconds since the epoch.
+     *
+     * @since 1.2
+     */
+    @Column(name = "last_modified")
+    protected long lastModified;
+
     /**
      * Name of the company.
      *
@@ -103,4 +130,55 @@ public class Company implements ICompany {
     public void setName(String name) {
         this.name = name;
     }
+
+    /**
+     * Return the version of the company.
+     *
+     * @return The version of the company.
+     *
+     * @version 1.0
+     * @since 1.2
+     */
+    @JsonIgnore
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Set the version of the company, checked by Hibernate when the company is updated.
+     *
+     * @param version Version of the company read before the update.
+     *
+     * @version 1.0
+     * @since 1.2
+     */
+    @JsonIgnore
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    /**
+     * Return the date of the last modification of the company.
+     *
+     * @return The date of the last modification as milliseconds since the epoch.
+     *
+     * @version 1.0
+     * @since 1.2
+     */
+    @JsonIgnore
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Set the date of the last modification of the company when it's inserted or updated.
+     *
+     * @version 1.0
+     * @since 1.2
+     */
+    @PrePersist
+    @PreUpdate
+    protected void updateLastModified() {
+        this.lastModified = System.currentTimeMillis();
+    }
 }
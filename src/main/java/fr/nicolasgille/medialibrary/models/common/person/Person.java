@@ -18,6 +18,11 @@
 
 package fr.nicolasgille.medialibrary.models.common.person;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import fr.nicolasgille.medialibrary.models.IVersioned;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import javax.persistence.*;
 
 /**
@@ -28,9 +33,12 @@ import javax.persistence.*;
  * <li>firstName : First name of the Person.</li>
  * <li>lastName : Last name of the Person.</li>
  * </ul>
+ * <p>
+ * The persons are read by all media and almost never updated, so they are kept on the region
+ * <code>person</code> of the second-level cache, defined on <code>ehcache.xml</code>.
  *
  * @author Nicolas GILLE
- * @version 1.0
+ * @version 1.2
  * @see IPerson
  * @since Media-Library 0.2.1
  */
@@ -38,7 +46,9 @@ import javax.persistence.*;
 @Table(name = "person")
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "person_type")
-abstract class Person implements IPerson {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "person")
+abstract class Person implements IPerson, IVersioned {
 
     /**
      * Identifier of the Person.
@@ -50,6 +60,23 @@ abstract class Person implements IPerson {
     @Column(name = "id")
     protected long id;
 
+    /**
+     * Version of the person, incremented by Hibernate on each update.
+     *
+     * @since 1.2
+     */
+    @Version
+    @Column(name = "version")
+    protected long version;
+
+    /**
+     * Date of the last modification of the person, as milliseconds since the epoch.
+     *
+     * @since 1.2
+     */
+    @Column(name = "last_modified")
+    protected long lastModified;
+
     /**
      * First name of the Person.
      *
@@ -137,4 +164,55 @@ abstract class Person implements IPerson {
     public void setLastName(String lastName) {
         this.lastName = lastName;
     }
+
+    /**
+     * Return the version of the person.
+     *
+     * @return The version of the person.
+     *
+     * @version 1.0
+     * @since 1.2
+     */
+    @JsonIgnore
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Set the version of the person, checked by Hibernate when the person is updated.
+     *
+     * @param version Version of the person read before the update.
+     *
+     * @version 1.0
+     * @since 1.2
+     */
+    @JsonIgnore
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    /**
+     * Return the date of the last modification of the person.
+     *
+     * @return The date of the last modification as milliseconds since the epoch.
+     *
+     * @version 1.0
+     * @since 1.2
+     */
+    @JsonIgnore
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Set the date of the last modification of the person when it's inserted or updated.
+     *
+     * @version 1.0
+     * @since 1.2
+     */
+    @PrePersist
+    @PreUpdate
+    protected void updateLastModified() {
+        this.lastModified = System.currentTimeMillis();
+    }
 }
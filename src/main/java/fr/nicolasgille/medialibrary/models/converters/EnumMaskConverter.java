@@ -0,0 +1,107 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.models.converters;
+
+import fr.nicolasgille.medialibrary.utils.EnumCodeTable;
+
+import javax.persistence.AttributeConverter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Abstract converter at inherit by the converters who store a list of values of an enumeration as a bitmask.
+ * <p>
+ * The list is stored on a single column of the table <code>media</code>, so the values are read with the media
+ * instead of a query on a table of collection for each media.
+ * The bit of each value is his code on a table of codes, so the enumeration can be reordered without migration.
+ * The values are read in order of code and a value present several times on the list is stored once.
+ *
+ * @param <E> Type of the enumeration.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @see EnumCodeTable
+ * @since Media-Library 1.1
+ */
+public abstract class EnumMaskConverter<E extends Enum<E>> implements AttributeConverter<List<E>, Long> {
+
+    /**
+     * Table of codes of the enumeration.
+     *
+     * @since 1.0
+     */
+    private final EnumCodeTable<E> codes;
+
+    /**
+     * Constructor of the converter.
+     *
+     * @param codes Table of codes of the enumeration.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    protected EnumMaskConverter(EnumCodeTable<E> codes) {
+        this.codes = codes;
+    }
+
+    /**
+     * Return the table of codes used by the converter.
+     *
+     * @return The table of codes.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public EnumCodeTable<E> getCodes() {
+        return codes;
+    }
+
+    /**
+     * Convert the list of values as the bitmask stored on Database.
+     *
+     * @param values Values of the media, can be null.
+     *
+     * @return The bitmask of the values.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    @Override
+    public Long convertToDatabaseColumn(List<E> values) {
+        return this.codes.encode(values);
+    }
+
+    /**
+     * Convert the bitmask stored on Database as the list of values.
+     *
+     * @param mask Bitmask stored on Database, can be null.
+     *
+     * @return The values of the bitmask, or an empty list.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    @Override
+    public List<E> convertToEntityAttribute(Long mask) {
+        if (mask == null) {
+            return new ArrayList<>();
+        }
+        return this.codes.decode(mask);
+    }
+}
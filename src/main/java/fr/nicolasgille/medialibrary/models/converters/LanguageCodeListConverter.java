@@ -0,0 +1,109 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.models.converters;
+
+import com.neovisionaries.i18n.LanguageCode;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converter used to store a list of languages as their codes separated by a comma, like <code>en,fr</code>.
+ * <p>
+ * There is too much languages to store them on a bitmask, but the ISO 639-1 code of a language never change,
+ * so the codes are stored as is on a single column of the table <code>media</code>.
+ * The languages are read in the order of the list stored.
+ * <p>
+ * Hibernate detect the changes of a converted attribute only when the list is replaced, not when it is modified :
+ * the setters of the languages copy the list received, and a list modified must be set again to be saved.
+ *
+ * @author Nicolas GILLE
+ * @version 1.1
+ * @see LanguageCode
+ * @since Media-Library 1.1
+ */
+@Converter
+public class LanguageCodeListConverter implements AttributeConverter<List<LanguageCode>, String> {
+
+    /**
+     * Separator of the codes on Database.
+     *
+     * @since 1.0
+     */
+    public final static String SEPARATOR = ",";
+
+    /**
+     * Length of the columns of languages, enough for all languages of LanguageCode :
+     * their 185 codes separated by a comma take 561 characters.
+     *
+     * @since 1.1
+     */
+    public final static int MAX_LENGTH = 600;
+
+    /**
+     * Convert the list of languages as the codes stored on Database.
+     *
+     * @param languages Languages of the media, can be null.
+     *
+     * @return The codes of the languages, or null if there is no language.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    @Override
+    public String convertToDatabaseColumn(List<LanguageCode> languages) {
+        if (languages == null || languages.isEmpty()) {
+            return null;
+        }
+
+        StringBuilder codes = new StringBuilder(languages.size() * 3);
+        for (LanguageCode language : languages) {
+            if (codes.length() > 0) {
+                codes.append(SEPARATOR);
+            }
+            codes.append(language.name());
+        }
+        return codes.toString();
+    }
+
+    /**
+     * Convert the codes stored on Database as the list of languages.
+     *
+     * @param codes Codes stored on Database, can be null.
+     *
+     * @return The languages of the codes, or an empty list.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    @Override
+    public List<LanguageCode> convertToEntityAttribute(String codes) {
+        List<LanguageCode> languages = new ArrayList<>();
+        if (codes == null || codes.isEmpty()) {
+            return languages;
+        }
+
+        for (String code : codes.split(SEPARATOR)) {
+            languages.add(LanguageCode.valueOf(code));
+        }
+        return languages;
+    }
+}
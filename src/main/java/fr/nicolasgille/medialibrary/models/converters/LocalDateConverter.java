@@ -0,0 +1,68 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.models.converters;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * Converter used to store a <code>LocalDate</code> on a column of type <code>DATE</code>.
+ * <p>
+ * The dates of the media are days without time nor time zone, so they are stored on the same column
+ * as the <code>Calendar</code> used before, and the data already stored are read without migration.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+@Converter
+public class LocalDateConverter implements AttributeConverter<LocalDate, Date> {
+
+    /**
+     * Convert the date as the value stored on Database.
+     *
+     * @param date Date of the media, can be null.
+     *
+     * @return The date stored on Database, or null if the media has no date.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    @Override
+    public Date convertToDatabaseColumn(LocalDate date) {
+        return date == null ? null : Date.valueOf(date);
+    }
+
+    /**
+     * Convert the value stored on Database as the date.
+     *
+     * @param date Date stored on Database, can be null.
+     *
+     * @return The date of the media, or null if there is no date stored.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    @Override
+    public LocalDate convertToEntityAttribute(Date date) {
+        return date == null ? null : date.toLocalDate();
+    }
+}
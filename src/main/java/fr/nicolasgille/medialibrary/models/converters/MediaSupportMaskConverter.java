@@ -0,0 +1,56 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.models.converters;
+
+import fr.nicolasgille.medialibrary.models.components.MediaSupport;
+import fr.nicolasgille.medialibrary.utils.EnumCodeTable;
+
+import javax.persistence.Converter;
+
+/**
+ * Converter used to store the supports of the media as a bitmask.
+ * <p>
+ * The codes of the values must never change : a new value is added at the end of the table of codes.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @see MediaSupport
+ * @since Media-Library 1.1
+ */
+@Converter
+public class MediaSupportMaskConverter extends EnumMaskConverter<MediaSupport> {
+
+    /**
+     * Table of codes of the supports of the media.
+     *
+     * @since 1.0
+     */
+    public final static EnumCodeTable<MediaSupport> CODES = new EnumCodeTable<>(MediaSupport.class,
+            "VIDEO_TAPE", "DVD", "BLU_RAY", "PAPER", "AUDIO_TAPE", "VYNIL", "CD", "ROM_CARTRIDGE", "DIGITAL");
+
+    /**
+     * Constructor of the converter.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public MediaSupportMaskConverter() {
+        super(CODES);
+    }
+}
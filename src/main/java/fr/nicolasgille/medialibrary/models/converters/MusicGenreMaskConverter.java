@@ -0,0 +1,61 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.models.converters;
+
+import fr.nicolasgille.medialibrary.models.components.genre.MusicGenre;
+import fr.nicolasgille.medialibrary.utils.EnumCodeTable;
+
+import javax.persistence.Converter;
+
+/**
+ * Converter used to store the genres of the music albums as a bitmask.
+ * <p>
+ * The codes of the values must never change : a new value is added at the end of the table of codes.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @see MusicGenre
+ * @since Media-Library 1.1
+ */
+@Converter
+public class MusicGenreMaskConverter extends EnumMaskConverter<MusicGenre> {
+
+    /**
+     * Table of codes of the genres of the music albums.
+     *
+     * @since 1.0
+     */
+    public final static EnumCodeTable<MusicGenre> CODES = new EnumCodeTable<>(MusicGenre.class,
+            "ALTERNATIVE_METAL", "ALTERNATIVE_ROCK", "BALLAD", "BLUE_EYES_SOUL", "BLUES", "BLUES_ROCK", "CLASSIC",
+            "CELTIC", "COUNTRY", "DANCE", "DANCE_POP", "DISCO", "ELECTRO", "EURODANCE", "EUROPOP", "FRENCH_VARIETY",
+            "FUNK", "JAZZ", "J_POP", "J_ROCK", "HARD_ROCK", "HEAVY_METAL", "HIP_HOP", "HOUSE", "METAL", "NEW_WAVE",
+            "OPERA", "ORCHESTRA", "OST", "POP", "POP_FUNK", "POP_ROCK", "POST_GRUNGE", "POWER_BALLAD",
+            "PROGRESSIVE_ROCK", "PUNK", "REGGAE", "REGGAE_FUSION", "RAP", "RAP_CELTIC", "ROCK", "ROCK_N_ROLL", "RNB",
+            "SKA", "SOUL", "SOUTHERN_ROCK", "SYNTHPOP", "TECHNO", "ZOUK");
+
+    /**
+     * Constructor of the converter.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public MusicGenreMaskConverter() {
+        super(CODES);
+    }
+}
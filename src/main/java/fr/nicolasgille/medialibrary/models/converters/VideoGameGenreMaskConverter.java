@@ -0,0 +1,58 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.models.converters;
+
+import fr.nicolasgille.medialibrary.models.components.genre.VideoGameGenre;
+import fr.nicolasgille.medialibrary.utils.EnumCodeTable;
+
+import javax.persistence.Converter;
+
+/**
+ * Converter used to store the genres of the video games as a bitmask.
+ * <p>
+ * The codes of the values must never change : a new value is added at the end of the table of codes.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @see VideoGameGenre
+ * @since Media-Library 1.1
+ */
+@Converter
+public class VideoGameGenreMaskConverter extends EnumMaskConverter<VideoGameGenre> {
+
+    /**
+     * Table of codes of the genres of the video games.
+     *
+     * @since 1.0
+     */
+    public final static EnumCodeTable<VideoGameGenre> CODES = new EnumCodeTable<>(VideoGameGenre.class,
+            "ACTION", "ACTION_RPG", "BEAT_EM_ALL", "BEAT_EM_UP", "COURSES", "FPS", "IDLE", "MANAGEMENT", "PLATFORMS",
+            "PUZZLE_GAME", "ROGUE_LIKE", "RPG", "RTS", "SANDBOX", "SHOOTER", "SPORT", "SURVIVAL_HORROR",
+            "TACTICAL_RPG", "TPS", "VERSUS_FIGHTING");
+
+    /**
+     * Constructor of the converter.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public VideoGameGenreMaskConverter() {
+        super(CODES);
+    }
+}
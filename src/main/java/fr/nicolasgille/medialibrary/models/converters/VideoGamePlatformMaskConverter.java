@@ -0,0 +1,58 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.models.converters;
+
+import fr.nicolasgille.medialibrary.models.components.VideoGamePlatform;
+import fr.nicolasgille.medialibrary.utils.EnumCodeTable;
+
+import javax.persistence.Converter;
+
+/**
+ * Converter used to store the platforms of the video games as a bitmask.
+ * <p>
+ * The codes of the values must never change : a new value is added at the end of the table of codes.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @see VideoGamePlatform
+ * @since Media-Library 1.1
+ */
+@Converter
+public class VideoGamePlatformMaskConverter extends EnumMaskConverter<VideoGamePlatform> {
+
+    /**
+     * Table of codes of the platforms of the video games.
+     *
+     * @since 1.0
+     */
+    public final static EnumCodeTable<VideoGamePlatform> CODES = new EnumCodeTable<>(VideoGamePlatform.class,
+            "NES", "SNES", "N64", "GAMECUBE", "WII", "WII_U", "GAMEBOY", "GAMEBOY_ADVANCE", "NINTENDO_DS",
+            "NINTENDO_3DS", "MEGA_DRIVE", "SEGA_SATURN", "DREAMCAST", "PSX", "PS2", "PS3", "PS4", "PSP", "XBOX",
+            "XBOX_360", "XBOX_ONE", "PC");
+
+    /**
+     * Constructor of the converter.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public VideoGamePlatformMaskConverter() {
+        super(CODES);
+    }
+}
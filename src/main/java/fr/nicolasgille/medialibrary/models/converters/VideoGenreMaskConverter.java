@@ -0,0 +1,60 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.models.converters;
+
+import fr.nicolasgille.medialibrary.models.components.genre.VideoGenre;
+import fr.nicolasgille.medialibrary.utils.EnumCodeTable;
+
+import javax.persistence.Converter;
+
+/**
+ * Converter used to store the genres of the videos as a bitmask.
+ * <p>
+ * The codes of the values must never change : a new value is added at the end of the table of codes.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @see VideoGenre
+ * @since Media-Library 1.1
+ */
+@Converter
+public class VideoGenreMaskConverter extends EnumMaskConverter<VideoGenre> {
+
+    /**
+     * Table of codes of the genres of the videos.
+     *
+     * @since 1.0
+     */
+    public final static EnumCodeTable<VideoGenre> CODES = new EnumCodeTable<>(VideoGenre.class,
+            "ACTION", "ADVENTURE", "ANIMATION", "BIOPIC", "BUDDY_COP", "COMEDY", "COP", "CRIME", "CYBERPUNK",
+            "DISASTER", "DRAMA", "DYSTOPIAN", "EPIC", "FAMILY", "FANTASY", "HORROR", "HEROIC_FANTASY", "HISTORICAL",
+            "MAGICAL_GIRL", "MARTIAL_ART", "MECHA", "MONSTER", "MUSICAL", "MYSTERY", "ROMANTIC", "SCIENCE_FICTION",
+            "SPACE_OPERA", "SPAGUETTI_WESTERN", "SPORT", "SPY", "SUPERHERO", "SUPERNATURAL", "TECHNICAL", "TEEN",
+            "TOKUSATSU", "THEATER", "THRILLER", "WAR", "WESTERN");
+
+    /**
+     * Constructor of the converter.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public VideoGenreMaskConverter() {
+        super(CODES);
+    }
+}
@@ -25,13 +25,18 @@ import fr.nicolasgille.medialibrary.models.common.company.Publisher;
 import fr.nicolasgille.medialibrary.models.components.MediaSupport;
 import fr.nicolasgille.medialibrary.models.components.VideoGamePlatform;
 import fr.nicolasgille.medialibrary.models.components.genre.VideoGameGenre;
+import fr.nicolasgille.medialibrary.models.converters.LanguageCodeListConverter;
+import fr.nicolasgille.medialibrary.models.converters.VideoGameGenreMaskConverter;
+import fr.nicolasgille.medialibrary.models.converters.VideoGamePlatformMaskConverter;
 import fr.nicolasgille.medialibrary.utils.CollectionAsString;
 import fr.nicolasgille.medialibrary.utils.DateFormatter;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.LazyCollection;
 import org.hibernate.annotations.LazyCollectionOption;
 
 import javax.persistence.*;
-import java.util.Calendar;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -39,7 +44,7 @@ import java.util.Set;
  * Representation of video game.
  *
  * @author Nicolas GILLE
- * @version 1.1
+ * @version 1.5
  * @see Media
  * @since Media-Library 0.4
  */
@@ -67,9 +72,8 @@ public class VideoGame extends Media {
      * @see VideoGameGenre
      * @since 1.1
      */
-    @Enumerated(EnumType.STRING)
-    @ElementCollection(targetClass = VideoGameGenre.class)
-    @LazyCollection(LazyCollectionOption.FALSE)
+    @Convert(converter = VideoGameGenreMaskConverter.class)
+    @Column(name = "video_game_genres")
     private List<VideoGameGenre> genres;
 
     /**
@@ -78,9 +82,8 @@ public class VideoGame extends Media {
      * @see LanguageCode
      * @since 1.0
      */
-    @Enumerated(EnumType.STRING)
-    @ElementCollection(targetClass = LanguageCode.class)
-    @LazyCollection(LazyCollectionOption.FALSE)
+    @Convert(converter = LanguageCodeListConverter.class)
+    @Column(name = "video_game_languages", length = LanguageCodeListConverter.MAX_LENGTH)
     private List<LanguageCode> languages;
 
     /**
@@ -101,6 +104,7 @@ public class VideoGame extends Media {
                 cascade = {CascadeType.PERSIST, CascadeType.DETACH, CascadeType.MERGE},
                 fetch = FetchType.EAGER)
     @LazyCollection(LazyCollectionOption.FALSE)
+    @BatchSize(size = Media.FETCH_BATCH_SIZE)
     private Set<Developer> developers;
 
     /**
@@ -121,6 +125,7 @@ public class VideoGame extends Media {
                 cascade = {CascadeType.PERSIST, CascadeType.DETACH, CascadeType.MERGE},
                 fetch = FetchType.EAGER)
     @LazyCollection(LazyCollectionOption.FALSE)
+    @BatchSize(size = Media.FETCH_BATCH_SIZE)
     private Set<Publisher> publishers;
 
     /**
@@ -129,9 +134,8 @@ public class VideoGame extends Media {
      * @see VideoGamePlatform
      * @since 1.0
      */
-    @Enumerated(EnumType.STRING)
-    @ElementCollection(targetClass = VideoGamePlatform.class)
-    @LazyCollection(LazyCollectionOption.FALSE)
+    @Convert(converter = VideoGamePlatformMaskConverter.class)
+    @Column(name = "platforms")
     private List<VideoGamePlatform> platforms;
 
     /**
@@ -157,10 +161,10 @@ public class VideoGame extends Media {
      * @param publishers Publishers of the video games.
      * @param platforms Platforms of the video game.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
-    public VideoGame(String title, String originalTitle, String synopsis, Calendar releaseDate,
+    public VideoGame(String title, String originalTitle, String synopsis, LocalDate releaseDate,
                      List<VideoGameGenre> genres, List<MediaSupport> supports, boolean multiplayers,
                      List<LanguageCode> languages,
                      Set<Developer> developers, Set<Publisher> publishers, List<VideoGamePlatform> platforms) {
@@ -193,10 +197,10 @@ public class VideoGame extends Media {
      * @param publishers Publishers of the video games.
      * @param platforms Platforms of the video game.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
-    public VideoGame(long id, String title, String originalTitle, String synopsis, Calendar releaseDate,
+    public VideoGame(long id, String title, String originalTitle, String synopsis, LocalDate releaseDate,
                      List<VideoGameGenre> genres, List<MediaSupport> supports, boolean multiplayers,
                      List<LanguageCode> languages,
                      Set<Developer> developers, Set<Publisher> publishers, List<VideoGamePlatform> platforms) {
@@ -312,14 +316,16 @@ public class VideoGame extends Media {
 
     /**
      * Set the list of all languages available on the game.
+     * <p>
+     * The list is copied : Hibernate detect only a new list, so a list modified must be set again to be saved.
      *
      * @param languages New list of languages.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
     public void setLanguages(List<LanguageCode> languages) {
-        this.languages = languages;
+        this.languages = languages == null ? null : new ArrayList<>(languages);
     }
 
     /**
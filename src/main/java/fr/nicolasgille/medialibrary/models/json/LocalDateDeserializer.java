@@ -0,0 +1,86 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package fr.nicolasgille.medialibrary.models.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Deserializer used to read the dates of the media from ISO 8601 Strings, like <code>1999-05-19</code>.
+ * <p>
+ * The clients written for the previous versions send the dates as a number of milliseconds since the epoch,
+ * so a number is still accepted and read as the day of this instant on the time zone of the server,
+ * like the <code>Calendar</code> used before.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @see LocalDateSerializer
+ * @since Media-Library 1.1
+ */
+public class LocalDateDeserializer extends StdDeserializer<LocalDate> {
+
+    /**
+     * Constructor of the deserializer.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public LocalDateDeserializer() {
+        super(LocalDate.class);
+    }
+
+    /**
+     * Read a date from an ISO 8601 String or a number of milliseconds since the epoch.
+     *
+     * @param parser Parser of the JSON document.
+     * @param context Context of the deserialization.
+     *
+     * @return The date read, or null if the String is empty.
+     *
+     * @throws IOException If the value is not a date.
+     * @version 1.0
+     * @since 1.0
+     */
+    @Override
+    public LocalDate deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+            return Instant.ofEpochMilli(parser.getLongValue()).atZone(ZoneId.systemDefault()).toLocalDate();
+        }
+        if (!parser.hasToken(JsonToken.VALUE_STRING)) {
+            return (LocalDate) context.handleUnexpectedToken(LocalDate.class, parser);
+        }
+
+        String text = parser.getText().trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(text);
+        } catch (DateTimeParseException e) {
+            return (LocalDate) context.handleWeirdStringValue(LocalDate.class, text, "expected format yyyy-MM-dd");
+        }
+    }
+}
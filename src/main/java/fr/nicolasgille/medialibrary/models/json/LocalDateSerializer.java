@@ -0,0 +1,66 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package fr.nicolasgille.medialibrary.models.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import fr.nicolasgille.medialibrary.utils.DateFormatter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * Serializer used to write the dates of the media as ISO 8601 Strings, like <code>1999-05-19</code>.
+ * <p>
+ * Jackson has no support of <code>java.time</code> without an additional module, so the dates are written
+ * by this serializer, declared on the attributes of the models with <code>@JsonSerialize</code>.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @see LocalDateDeserializer
+ * @since Media-Library 1.1
+ */
+public class LocalDateSerializer extends StdSerializer<LocalDate> {
+
+    /**
+     * Constructor of the serializer.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public LocalDateSerializer() {
+        super(LocalDate.class);
+    }
+
+    /**
+     * Write the date as an ISO 8601 String.
+     *
+     * @param date Date at write.
+     * @param generator Generator of the JSON document.
+     * @param provider Provider of the serializers.
+     *
+     * @throws IOException If the date can't be written.
+     * @version 1.0
+     * @since 1.0
+     */
+    @Override
+    public void serialize(LocalDate date, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeString(DateFormatter.isoDate(date));
+    }
+}
@@ -24,13 +24,15 @@ import fr.nicolasgille.medialibrary.models.common.person.Singer;
 import fr.nicolasgille.medialibrary.models.components.MediaSupport;
 import fr.nicolasgille.medialibrary.models.components.genre.BookGenre;
 import fr.nicolasgille.medialibrary.models.components.genre.MusicGenre;
+import fr.nicolasgille.medialibrary.models.converters.MusicGenreMaskConverter;
 import fr.nicolasgille.medialibrary.utils.CollectionAsString;
 import fr.nicolasgille.medialibrary.utils.DateFormatter;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.LazyCollection;
 import org.hibernate.annotations.LazyCollectionOption;
 
 import javax.persistence.*;
-import java.util.Calendar;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
 
@@ -38,7 +40,7 @@ import java.util.Set;
  * Representation of music album.
  *
  * @author Nicolas GILLE
- * @version 1.1
+ * @version 1.4
  * @see Media
  * @since Media-Library 0.4
  */
@@ -66,9 +68,8 @@ public class Album extends Media {
      * @see MusicGenre
      * @since 1.1
      */
-    @Enumerated(EnumType.STRING)
-    @ElementCollection(targetClass = MusicGenre.class)
-    @LazyCollection(LazyCollectionOption.FALSE)
+    @Convert(converter = MusicGenreMaskConverter.class)
+    @Column(name = "music_genres")
     private List<MusicGenre> genres;
 
     /**
@@ -89,6 +90,7 @@ public class Album extends Media {
                 cascade = {CascadeType.PERSIST, CascadeType.DETACH, CascadeType.MERGE},
                 fetch = FetchType.EAGER)
     @LazyCollection(LazyCollectionOption.FALSE)
+    @BatchSize(size = Media.FETCH_BATCH_SIZE)
     private Set<LabelRecords> labelRecords;
 
     /**
@@ -109,6 +111,7 @@ public class Album extends Media {
                 cascade = {CascadeType.PERSIST, CascadeType.DETACH, CascadeType.MERGE},
                 fetch = FetchType.EAGER)
     @LazyCollection(LazyCollectionOption.FALSE)
+    @BatchSize(size = Media.FETCH_BATCH_SIZE)
     private Set<Singer> singers;
 
     /**
@@ -132,10 +135,10 @@ public class Album extends Media {
      * @param labelRecords Label records of the album.
      * @param singers Singers of the album.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
-    public Album(String title, String tracks, Calendar releaseDate, List<MusicGenre> genres,
+    public Album(String title, String tracks, LocalDate releaseDate, List<MusicGenre> genres,
                  List<MediaSupport> supports,
                  int nbTracks, double length, Set<LabelRecords> labelRecords, Set<Singer> singers) {
         super.title = title;
@@ -163,10 +166,10 @@ public class Album extends Media {
      * @param labelRecords Label records of the album.
      * @param singers Singers of the album.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
-    public Album(long id, String title, String tracks, Calendar releaseDate, List<MusicGenre> genres,
+    public Album(long id, String title, String tracks, LocalDate releaseDate, List<MusicGenre> genres,
                  List<MediaSupport> supports,
                  int nbTracks, double length, Set<LabelRecords> labelRecords, Set<Singer> singers) {
         super.id = id;
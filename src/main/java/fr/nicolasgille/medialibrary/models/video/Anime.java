@@ -18,19 +18,23 @@
 
 package fr.nicolasgille.medialibrary.models.video;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.neovisionaries.i18n.LanguageCode;
 import fr.nicolasgille.medialibrary.models.common.person.Director;
 import fr.nicolasgille.medialibrary.models.common.person.Producer;
 import fr.nicolasgille.medialibrary.models.components.MediaSupport;
 import fr.nicolasgille.medialibrary.models.components.genre.VideoGenre;
+import fr.nicolasgille.medialibrary.models.converters.LocalDateConverter;
+import fr.nicolasgille.medialibrary.models.json.LocalDateDeserializer;
+import fr.nicolasgille.medialibrary.models.json.LocalDateSerializer;
 import fr.nicolasgille.medialibrary.utils.CollectionAsString;
 import fr.nicolasgille.medialibrary.utils.DateFormatter;
 
+import javax.persistence.Convert;
 import javax.persistence.DiscriminatorValue;
 import javax.persistence.Entity;
-import javax.persistence.Temporal;
-import javax.persistence.TemporalType;
-import java.util.Calendar;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
 
@@ -48,7 +52,7 @@ import java.util.Set;
  * </ul>
  *
  * @author Nicolas GILLE
- * @version 1.0
+ * @version 1.1
  * @see Video
  * @since Media-Library 0.5
  */
@@ -75,8 +79,10 @@ public class Anime extends Video {
      *
      * @since 1.0
      */
-    @Temporal(TemporalType.DATE)
-    protected Calendar endDate;
+    @Convert(converter = LocalDateConverter.class)
+    @JsonSerialize(using = LocalDateSerializer.class)
+    @JsonDeserialize(using = LocalDateDeserializer.class)
+    protected LocalDate endDate;
 
     /**
      * Average runtime episode in minutes.
@@ -127,14 +133,14 @@ public class Anime extends Video {
      * @param numberOfEpisode Average time of episode in minute.
      * @param averageEpisodeRuntime Number of episode available on the season.
      *
-     * @version 1.2
+     * @version 1.3
      * @since 1.0
      */
     public Anime(String title, String originalTitle, String synopsis,
                  Set<Director> directors, Set<Producer> producers,
                  List<VideoGenre> genres, List<MediaSupport> supports,
                  List<LanguageCode> languagesSpoken, List<LanguageCode> subtitles,
-                 Calendar startDate, Calendar endDate,
+                 LocalDate startDate, LocalDate endDate,
                  int numberOfSeasons, int currentSeason,
                  int maxEpisodes, int numberOfEpisode, int averageEpisodeRuntime) {
         super.title = title;
@@ -176,14 +182,14 @@ public class Anime extends Video {
      * @param numberOfEpisode Average time of episode in minute.
      * @param averageEpisodeRuntime Number of episode available on the season.
      *
-     * @version 1.2
+     * @version 1.3
      * @since 1.0
      */
     public Anime(long id, String title, String originalTitle, String synopsis,
                  Set<Director> directors, Set<Producer> producers,
                  List<VideoGenre> genres, List<MediaSupport> supports,
                  List<LanguageCode> languagesSpoken, List<LanguageCode> subtitles,
-                 Calendar startDate, Calendar endDate,
+                 LocalDate startDate, LocalDate endDate,
                  int numberOfSeasons, int currentSeason,
                  int maxEpisodes, int numberOfEpisode, int averageEpisodeRuntime) {
         super.id = id;
@@ -286,10 +292,10 @@ public class Anime extends Video {
      *
      * @return The date of the end of the anime.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
-    public Calendar getEndDate() {
+    public LocalDate getEndDate() {
         return endDate;
     }
 
@@ -298,10 +304,10 @@ public class Anime extends Video {
      *
      * @param endDate The end of the anime.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
-    public void setEndDate(Calendar endDate) {
+    public void setEndDate(LocalDate endDate) {
         this.endDate = endDate;
     }
 
@@ -28,7 +28,7 @@ import fr.nicolasgille.medialibrary.utils.DateFormatter;
 
 import javax.persistence.DiscriminatorValue;
 import javax.persistence.Entity;
-import java.util.Calendar;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
 
@@ -42,7 +42,7 @@ import java.util.Set;
  * </ul>
  *
  * @author Nicolas GILLE
- * @version 2.0
+ * @version 2.1
  * @see Video
  * @since Media-Library 0.1
  */
@@ -80,14 +80,14 @@ public class Cartoon extends Video {
      * @param releaseDate Date of release of the cartoon.
      * @param runtime Duration of the cartoon in minute.
      *
-     * @version 1.1
+     * @version 1.2
      * @since 1.0
      */
     public Cartoon(String title, String originalTitle, String synopsis,
                    Set<Director> directors, Set<Producer> producers,
                    List<VideoGenre> genres, List<MediaSupport> supports,
                    List<LanguageCode> languagesSpoken, List<LanguageCode> subtitles,
-                   Calendar releaseDate, int runtime) {
+                   LocalDate releaseDate, int runtime) {
         super.title = title;
         super.originalTitle = originalTitle;
         super.synopsis = synopsis;
@@ -117,14 +117,14 @@ public class Cartoon extends Video {
      * @param releaseDate Date of release of the cartoon.
      * @param runtime Duration of the cartoon in minute.
      *
-     * @version 1.1
+     * @version 1.2
      * @since 1.0
      */
     public Cartoon(long id, String title, String originalTitle, String synopsis,
                    Set<Director> directors, Set<Producer> producers,
                    List<VideoGenre> genres, List<MediaSupport> supports,
                    List<LanguageCode> languagesSpoken, List<LanguageCode> subtitles,
-                   Calendar releaseDate, int runtime) {
+                   LocalDate releaseDate, int runtime) {
         super.id = id;
         super.title = title;
         super.originalTitle = originalTitle;
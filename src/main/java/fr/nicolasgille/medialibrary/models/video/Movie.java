@@ -19,6 +19,7 @@
 package fr.nicolasgille.medialibrary.models.video;
 
 import com.neovisionaries.i18n.LanguageCode;
+import fr.nicolasgille.medialibrary.models.Media;
 import fr.nicolasgille.medialibrary.models.common.person.Actor;
 import fr.nicolasgille.medialibrary.models.common.person.Director;
 import fr.nicolasgille.medialibrary.models.common.person.Producer;
@@ -26,11 +27,12 @@ import fr.nicolasgille.medialibrary.models.components.MediaSupport;
 import fr.nicolasgille.medialibrary.models.components.genre.VideoGenre;
 import fr.nicolasgille.medialibrary.utils.CollectionAsString;
 import fr.nicolasgille.medialibrary.utils.DateFormatter;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.LazyCollection;
 import org.hibernate.annotations.LazyCollectionOption;
 
 import javax.persistence.*;
-import java.util.Calendar;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
 
@@ -45,7 +47,7 @@ import java.util.Set;
  * </ul>
  *
  * @author Nicolas GILLE
- * @version 2.0
+ * @version 2.2
  * @see Video
  * @since Media-Library 0.1
  */
@@ -79,6 +81,7 @@ public class Movie extends Video {
                 cascade = {CascadeType.PERSIST, CascadeType.DETACH, CascadeType.MERGE},
                 fetch = FetchType.EAGER)
     @LazyCollection(LazyCollectionOption.FALSE)
+    @BatchSize(size = Media.FETCH_BATCH_SIZE)
     private Set<Actor> mainActors;
 
     /**
@@ -105,14 +108,14 @@ public class Movie extends Video {
      * @param releaseDate Date of release of the movie.
      * @param runtime Duration of the movie in minute.
      *
-     * @version 2.0
+     * @version 2.1
      * @since 1.0
      */
     public Movie(String title, String originalTitle, String synopsis,
                  Set<Actor> mainActors, Set<Director> directors, Set<Producer> producers,
                  List<VideoGenre> genres, List<MediaSupport> supports,
                  List<LanguageCode> languagesSpoken, List<LanguageCode> subtitles,
-                 Calendar releaseDate, int runtime) {
+                 LocalDate releaseDate, int runtime) {
         super.title = title;
         super.originalTitle = originalTitle;
         super.synopsis = synopsis;
@@ -144,14 +147,14 @@ public class Movie extends Video {
      * @param releaseDate Date of release of the movie.
      * @param runtime Duration of the movie in minute.
      *
-     * @version 2.0
+     * @version 2.1
      * @since 1.0
      */
     public Movie(long id, String title, String originalTitle, String synopsis,
                  Set<Actor> mainActors, Set<Director> directors, Set<Producer> producers,
                  List<VideoGenre> genres, List<MediaSupport> supports,
                  List<LanguageCode> languagesSpoken, List<LanguageCode> subtitles,
-                 Calendar releaseDate, int runtime) {
+                 LocalDate releaseDate, int runtime) {
         super.id = id;
         super.title = title;
         super.originalTitle = originalTitle;
@@ -19,6 +19,7 @@
 package fr.nicolasgille.medialibrary.models.video;
 
 import com.neovisionaries.i18n.LanguageCode;
+import fr.nicolasgille.medialibrary.models.Media;
 import fr.nicolasgille.medialibrary.models.common.person.Actor;
 import fr.nicolasgille.medialibrary.models.common.person.Director;
 import fr.nicolasgille.medialibrary.models.common.person.Producer;
@@ -26,11 +27,12 @@ import fr.nicolasgille.medialibrary.models.components.MediaSupport;
 import fr.nicolasgille.medialibrary.models.components.genre.VideoGenre;
 import fr.nicolasgille.medialibrary.utils.CollectionAsString;
 import fr.nicolasgille.medialibrary.utils.DateFormatter;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.LazyCollection;
 import org.hibernate.annotations.LazyCollectionOption;
 
 import javax.persistence.*;
-import java.util.Calendar;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
 
@@ -44,7 +46,7 @@ import java.util.Set;
  * </ul>
  *
  * @author Nicolas GILLE
- * @version 2.1
+ * @version 2.3
  * @see Anime
  * @since Media-Library 0.2
  */
@@ -71,6 +73,7 @@ public class Series extends Anime {
                 cascade = {CascadeType.PERSIST, CascadeType.DETACH, CascadeType.MERGE},
                 fetch = FetchType.EAGER)
     @LazyCollection(LazyCollectionOption.FALSE)
+    @BatchSize(size = Media.FETCH_BATCH_SIZE)
     private Set<Actor> mainActors;
 
     /**
@@ -102,14 +105,14 @@ public class Series extends Anime {
      * @param numberOfEpisode Average time of episode in minute.
      * @param averageEpisodeRuntime Number of episode available on the season.
      *
-     * @version 1.2
+     * @version 1.3
      * @since 1.0
      */
     public Series(String title, String originalTitle, String synopsis,
                   Set<Actor> mainActors, Set<Director> directors, Set<Producer> producers,
                   List<VideoGenre> genres, List<MediaSupport> supports,
                   List<LanguageCode> languagesSpoken, List<LanguageCode> subtitles,
-                  Calendar startDate, Calendar endDate,
+                  LocalDate startDate, LocalDate endDate,
                   int numberOfSeasons, int currentSeason,
                   int maxEpisodes, int numberOfEpisode, int averageEpisodeRuntime) {
         super.title = title;
@@ -153,14 +156,14 @@ public class Series extends Anime {
      * @param numberOfEpisode Average time of episode in minute.
      * @param averageEpisodeRuntime Number of episode available on the season.
      *
-     * @version 1.2
+     * @version 1.3
      * @since 1.0
      */
     public Series(long id, String title, String originalTitle, String synopsis,
                   Set<Actor> mainActors, Set<Director> directors, Set<Producer> producers,
                   List<VideoGenre> genres, List<MediaSupport> supports,
                   List<LanguageCode> languagesSpoken, List<LanguageCode> subtitles,
-                  Calendar startDate, Calendar endDate,
+                  LocalDate startDate, LocalDate endDate,
                   int numberOfSeasons, int currentSeason,
                   int maxEpisodes, int numberOfEpisode, int averageEpisodeRuntime) {
         super.id = id;
@@ -23,10 +23,14 @@ import fr.nicolasgille.medialibrary.models.Media;
 import fr.nicolasgille.medialibrary.models.common.person.Director;
 import fr.nicolasgille.medialibrary.models.common.person.Producer;
 import fr.nicolasgille.medialibrary.models.components.genre.VideoGenre;
+import fr.nicolasgille.medialibrary.models.converters.LanguageCodeListConverter;
+import fr.nicolasgille.medialibrary.models.converters.VideoGenreMaskConverter;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.LazyCollection;
 import org.hibernate.annotations.LazyCollectionOption;
 
 import javax.persistence.*;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -37,7 +41,7 @@ import java.util.Set;
  * to get all attributes available on Video type.
  *
  * @author Nicolas GILLE
- * @version 2.1
+ * @version 2.4
  * @see Media
  * @since Media-Library 0.2
  */
@@ -57,9 +61,8 @@ public abstract class Video extends Media {
      * @see VideoGenre
      * @since 2.1
      */
-    @Enumerated(EnumType.STRING)
-    @ElementCollection(targetClass = VideoGenre.class)
-    @LazyCollection(LazyCollectionOption.FALSE)
+    @Convert(converter = VideoGenreMaskConverter.class)
+    @Column(name = "video_genres")
     protected List<VideoGenre> genres;
 
     /**
@@ -68,9 +71,8 @@ public abstract class Video extends Media {
      * @see LanguageCode
      * @since 2.0
      */
-    @Enumerated(EnumType.STRING)
-    @ElementCollection(targetClass = LanguageCode.class)
-    @LazyCollection(LazyCollectionOption.FALSE)
+    @Convert(converter = LanguageCodeListConverter.class)
+    @Column(name = "languages_spoken", length = LanguageCodeListConverter.MAX_LENGTH)
     protected List<LanguageCode> languagesSpoken;
 
     /**
@@ -79,9 +81,8 @@ public abstract class Video extends Media {
      * @see LanguageCode
      * @since 2.0
      */
-    @Enumerated(EnumType.STRING)
-    @ElementCollection(targetClass = LanguageCode.class)
-    @LazyCollection(LazyCollectionOption.FALSE)
+    @Convert(converter = LanguageCodeListConverter.class)
+    @Column(name = "subtitles", length = LanguageCodeListConverter.MAX_LENGTH)
     protected List<LanguageCode> subtitles;
 
     /**
@@ -103,6 +104,7 @@ public abstract class Video extends Media {
                 cascade = {CascadeType.PERSIST, CascadeType.DETACH, CascadeType.MERGE},
                 fetch = FetchType.EAGER)
     @LazyCollection(LazyCollectionOption.FALSE)
+    @BatchSize(size = Media.FETCH_BATCH_SIZE)
     protected Set<Producer> producers;
 
     /**
@@ -124,6 +126,7 @@ public abstract class Video extends Media {
                 cascade = {CascadeType.PERSIST, CascadeType.DETACH, CascadeType.MERGE},
                 fetch = FetchType.EAGER)
     @LazyCollection(LazyCollectionOption.FALSE)
+    @BatchSize(size = Media.FETCH_BATCH_SIZE)
     protected Set<Director> directors;
 
     /**
@@ -164,14 +167,16 @@ public abstract class Video extends Media {
 
     /**
      * Set the list of languages spoken available on the video.
+     * <p>
+     * The list is copied : Hibernate detect only a new list, so a list modified must be set again to be saved.
      *
      * @param languagesSpoken New list of languages spoken.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 2.0
      */
     public void setLanguagesSpoken(List<LanguageCode> languagesSpoken) {
-        this.languagesSpoken = languagesSpoken;
+        this.languagesSpoken = languagesSpoken == null ? null : new ArrayList<>(languagesSpoken);
     }
 
     /**
@@ -188,14 +193,16 @@ public abstract class Video extends Media {
 
     /**
      * Set the list of subtitle languages available on the video.
+     * <p>
+     * The list is copied : Hibernate detect only a new list, so a list modified must be set again to be saved.
      *
      * @param subtitles New list of subtitle languages.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 2.0
      */
     public void setSubtitles(List<LanguageCode> subtitles) {
-        this.subtitles = subtitles;
+        this.subtitles = subtitles == null ? null : new ArrayList<>(subtitles);
     }
 
     /**
@@ -19,55 +19,91 @@
 package fr.nicolasgille.medialibrary.parser;
 
 import java.io.IOException;
-import java.nio.file.Paths;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Scanner;
 
 /**
  * A parser used to parse CSV file.
  * <p>
- * This class parse a file who contains information about a media under the format csv.
+ * This class parse a file who contains information about a media under the format csv, as described by the
+ * RFC 4180.
+ * Each record is a media and the values of a media are split by a comma.
+ * A value can be quoted to contain commas, quotes or ends of line, so a record can be written on several lines.
+ * All values are kept, even the empty values at the end of a record.
+ * <p>
+ * The file is read by a CsvTokenizer, who send the values to a FieldVisitor as views without copy.
  *
  * @author Nicolas GILLE
- * @version 1.0
+ * @version 1.3
  * @since Media-Library 0.5
  */
 public class CsvParser implements FileParser {
 
     /**
-     * Parse the file send in parameter and return a list of list of string who contains all elements parse during
-     * process.
+     * Parse the file record by record and send each record to the visitor, in the order of the file.
+     *
+     * @param file Path of the file at parse.
+     * @param visitor Visitor who receive each record with the line where it start, and can stop the parsing.
      *
-     * @param filename Name of the file at parse.
+     * @throws IOException If the file can't be read, or a ParserException with the number of the line who can't be
+     *                     parsed.
+     * @version 1.0
+     * @since 1.3
+     */
+    @Override
+    public void parse(Path file, RecordVisitor visitor) throws IOException {
+        this.parseFields(file, false, (line, fields) -> {
+            List<String> record = new ArrayList<>(fields.size());
+            for (CharSequence field : fields) {
+                record.add(field.toString());
+            }
+            return visitor.visit(line, record);
+        });
+    }
+
+    /**
+     * Parse the file sequentially.
+     * <p>
+     * A quoted value can contain ends of line, so the file can't be split on his ends of line to be parsed
+     * with several threads.
      *
-     * @return A list composed by List of all information get during parsing.
+     * @param file Path of the file at parse.
+     * @param ordered Ignored, the records are always sent in the order of the file.
+     * @param visitor Visitor who receive each record with the line where it start, and can stop the parsing.
      *
+     * @throws IOException If the file can't be read, or a ParserException with the number of the line who can't be
+     *                     parsed.
      * @version 1.0
-     * @since 1.0
+     * @since 1.3
      */
     @Override
-    public List<List<String>> parse(String filename) {
-        List<List<String>> data = new ArrayList<>();
-        try {
-            Scanner scan = new Scanner(Paths.get(filename));
-            // Loop until file not completed.
-            while (scan.hasNext()) {
-                // Get each line and split it by ','.
-                String line = scan.nextLine();
-                String[] split = line.split(",");
+    public void parseParallel(Path file, boolean ordered, RecordVisitor visitor) throws IOException {
+        this.parse(file, visitor);
+    }
 
-                // Add each data on List and added list on main list.
-                List<String> parseData = new ArrayList<>();
-                Collections.addAll(parseData, split);
-                data.add(parseData);
+    /**
+     * Parse the file sequentially and send the fields of each record to the visitor, as views on the buffer of
+     * the tokenizer.
+     *
+     * @param file Path of the file at parse.
+     * @param parallel Ignored, the file is always parsed sequentially.
+     * @param visitor Visitor who receive the fields of each record with the line where it start, and can stop the
+     *                parsing.
+     *
+     * @throws IOException If the file can't be read, or a ParserException with the number of the line who can't be
+     *                     parsed.
+     * @version 1.0
+     * @since 1.3
+     */
+    @Override
+    public void parseFields(Path file, boolean parallel, FieldVisitor visitor) throws IOException {
+        try (CsvTokenizer tokenizer = new CsvTokenizer(file)) {
+            while (tokenizer.next()) {
+                if (!visitor.visit(tokenizer.getLine(), tokenizer.getFields())) {
+                    return;
+                }
             }
-            scan.close();
-        } catch (IOException e) {
-            e.printStackTrace();
         }
-
-        return data;
     }
 }
@@ -0,0 +1,483 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package fr.nicolasgille.medialibrary.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tokenizer of the CSV files who follow the RFC 4180.
+ * <p>
+ * The fields are split by commas and the records by ends of line.
+ * A field can be quoted to contain commas, ends of line or quotes, the quotes of a quoted field being doubled.
+ * The file is read by blocks from a FileChannel and decoded as UTF-8 by a state machine, character by character.
+ * <p>
+ * The characters of the fields of a record are copied on a single buffer, reused for each record, and the fields
+ * are CharSequence views on this buffer : reading a record allocate nothing once the buffer is large enough.
+ * So the fields are valid only until the next record.
+ *
+ * @author Nicolas GILLE
+ * @version 1.1
+ * @since Media-Library 1.1
+ */
+public class CsvTokenizer implements Closeable {
+
+    /**
+     * Size of the buffers used to read and decode the file.
+     *
+     * @since 1.0
+     */
+    private final static int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * State at the beginning of a field.
+     *
+     * @since 1.0
+     */
+    private final static int FIELD_START = 0;
+
+    /**
+     * State in a field without quotes.
+     *
+     * @since 1.0
+     */
+    private final static int UNQUOTED = 1;
+
+    /**
+     * State in a quoted field.
+     *
+     * @since 1.0
+     */
+    private final static int QUOTED = 2;
+
+    /**
+     * State after a quote in a quoted field, who is the end of the field or the first quote of a doubled quote.
+     *
+     * @since 1.0
+     */
+    private final static int QUOTE = 3;
+
+    /**
+     * Path of the file, used on the errors.
+     *
+     * @since 1.0
+     */
+    private final Path file;
+
+    /**
+     * Channel used to read the file.
+     *
+     * @since 1.0
+     */
+    private final FileChannel channel;
+
+    /**
+     * Decoder of the UTF-8, who report the invalid characters.
+     *
+     * @since 1.0
+     */
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                                                                 .onMalformedInput(CodingErrorAction.REPORT)
+                                                                 .onUnmappableCharacter(CodingErrorAction.REPORT);
+
+    /**
+     * Bytes read from the file and not decoded yet.
+     *
+     * @since 1.0
+     */
+    private final ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+
+    /**
+     * Characters decoded and not read yet.
+     *
+     * @since 1.0
+     */
+    private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+
+    /**
+     * True once the end of the file has been read.
+     *
+     * @since 1.0
+     */
+    private boolean endOfFile;
+
+    /**
+     * True if the bytes who follow the characters decoded are not encoded in UTF-8.
+     *
+     * @since 1.0
+     */
+    private boolean invalid;
+
+    /**
+     * Characters of the fields of the current record, without the quotes.
+     *
+     * @since 1.0
+     */
+    private char[] values = new char[1024];
+
+    /**
+     * Number of characters of the current record.
+     *
+     * @since 1.0
+     */
+    private int length;
+
+    /**
+     * End of each field of the current record on the characters.
+     *
+     * @since 1.0
+     */
+    private int[] ends = new int[32];
+
+    /**
+     * Number of fields of the current record.
+     *
+     * @since 1.0
+     */
+    private int size;
+
+    /**
+     * Views on each field, reused for each record.
+     *
+     * @since 1.0
+     */
+    private Field[] views = new Field[0];
+
+    /**
+     * Fields of the current record.
+     *
+     * @since 1.0
+     */
+    private final List<CharSequence> fields = new AbstractList<CharSequence>() {
+        @Override
+        public CharSequence get(int index) {
+            if (index < 0 || index >= CsvTokenizer.this.size) {
+                throw new IndexOutOfBoundsException("Field " + index + " of " + CsvTokenizer.this.size + ".");
+            }
+            return CsvTokenizer.this.view(index);
+        }
+
+        @Override
+        public int size() {
+            return CsvTokenizer.this.size;
+        }
+    };
+
+    /**
+     * Number of the current line of the file.
+     *
+     * @since 1.0
+     */
+    private long line = 1;
+
+    /**
+     * Number of the line where the current record start.
+     *
+     * @since 1.0
+     */
+    private long recordLine;
+
+    /**
+     * Constructor of the tokenizer, who open the file.
+     *
+     * @param file Path of the file at read.
+     *
+     * @throws IOException If the file can't be opened.
+     * @version 1.0
+     * @since 1.0
+     */
+    public CsvTokenizer(Path file) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.chars.flip();
+    }
+
+    /**
+     * Read the next record of the file.
+     * <p>
+     * The empty lines are ignored.
+     *
+     * @return True if a record has been read, false at the end of the file.
+     *
+     * @throws IOException If the file can't be read, or a ParserException if the file is not encoded in UTF-8 or
+     *                     if a quoted field is not closed.
+     * @version 1.0
+     * @since 1.0
+     */
+    public boolean next() throws IOException {
+        this.length = 0;
+        this.size = 0;
+        this.recordLine = this.line;
+        int state = FIELD_START;
+        boolean empty = true;
+        while (true) {
+            int c = this.read();
+            if (c == '\n') {
+                this.line++;
+            }
+
+            if (state == QUOTED) {
+                if (c < 0) {
+                    throw new ParserException(this.file, this.recordLine, "quoted field not closed.", null);
+                } else if (c == '"') {
+                    state = QUOTE;
+                } else {
+                    this.append((char) c);
+                }
+                continue;
+            } else if (state == QUOTE) {
+                if (c == '"') {
+                    this.append('"');
+                    state = QUOTED;
+                    continue;
+                }
+                // The quoted field is closed, the character is read like after a field without quotes.
+                state = UNQUOTED;
+            }
+
+            if (c < 0 || c == '\n') {
+                if (!empty) {
+                    this.endField();
+                    return true;
+                } else if (c < 0) {
+                    return false;
+                }
+                this.recordLine = this.line;
+            } else if (c == '\r' || (c == '\uFEFF' && this.line == 1 && empty)) {
+                // Ignore the carriage returns of the ends of line of Windows, and the byte order mark.
+                continue;
+            } else {
+                empty = false;
+                if (c == ',') {
+                    this.endField();
+                    state = FIELD_START;
+                } else if (c == '"' && state == FIELD_START) {
+                    state = QUOTED;
+                } else {
+                    this.append((char) c);
+                    state = UNQUOTED;
+                }
+            }
+        }
+    }
+
+    /**
+     * Return the number of the line where the current record start.
+     *
+     * @return The number of the line, from 1.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public long getLine() {
+        return this.recordLine;
+    }
+
+    /**
+     * Return the fields of the current record.
+     * <p>
+     * The list and his fields are reused for the next record.
+     *
+     * @return The fields of the current record.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public List<CharSequence> getFields() {
+        return this.fields;
+    }
+
+    /**
+     * Close the file.
+     *
+     * @throws IOException If the file can't be closed.
+     * @version 1.0
+     * @since 1.0
+     */
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    /**
+     * Read the next character of the file.
+     *
+     * @return The character, or -1 at the end of the file.
+     *
+     * @throws IOException If the file can't be read, or a ParserException if the next character is not encoded in
+     *                     UTF-8.
+     * @version 1.0
+     * @since 1.0
+     */
+    private int read() throws IOException {
+        while (!this.chars.hasRemaining()) {
+            // All characters decoded before an invalid byte are read first, so the error give the right line.
+            if (this.invalid) {
+                throw new ParserException(this.file, this.line, "invalid UTF-8 character.", null);
+            } else if (this.endOfFile && this.bytes.position() == 0) {
+                return -1;
+            }
+
+            if (!this.endOfFile && this.channel.read(this.bytes) < 0) {
+                this.endOfFile = true;
+            }
+            this.chars.clear();
+            this.bytes.flip();
+            CoderResult result = this.decoder.decode(this.bytes, this.chars, this.endOfFile);
+            this.bytes.compact();
+            this.chars.flip();
+            this.invalid = result.isError();
+            if (this.endOfFile && !this.invalid && !this.chars.hasRemaining()) {
+                // Nothing more can be decoded.
+                this.bytes.clear();
+            }
+        }
+        return this.chars.get();
+    }
+
+    /**
+     * Add a character on the current field.
+     *
+     * @param c Character at add.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    private void append(char c) {
+        if (this.length == this.values.length) {
+            this.values = Arrays.copyOf(this.values, this.length * 2);
+        }
+        this.values[this.length++] = c;
+    }
+
+    /**
+     * End the current field.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    private void endField() {
+        if (this.size == this.ends.length) {
+            this.ends = Arrays.copyOf(this.ends, this.size * 2);
+        }
+        this.ends[this.size++] = this.length;
+    }
+
+    /**
+     * Return the view on a field, created at the first use of the index.
+     *
+     * @param index Index of the field.
+     *
+     * @return The view on the field.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    private Field view(int index) {
+        if (index >= this.views.length) {
+            int from = this.views.length;
+            this.views = Arrays.copyOf(this.views, Math.max(index + 1, from * 2));
+            for (int i = from; i < this.views.length; i++) {
+                this.views[i] = new Field(i);
+            }
+        }
+        return this.views[index];
+    }
+
+    /**
+     * View on a field of the current record.
+     * <p>
+     * A part of the field is returned as a String, copied from the buffer.
+     *
+     * @author Nicolas GILLE
+     * @version 1.1
+     * @since 1.0
+     */
+    private final class Field implements CharSequence {
+
+        /**
+         * Index of the field on the record.
+         *
+         * @since 1.0
+         */
+        private final int index;
+
+        /**
+         * Constructor of a view.
+         *
+         * @param index Index of the field on the record.
+         *
+         * @since 1.0
+         */
+        private Field(int index) {
+            this.index = index;
+        }
+
+        /**
+         * Return the position of the first character of the field on the characters of the record.
+         *
+         * @return The position of the first character.
+         *
+         * @version 1.0
+         * @since 1.0
+         */
+        private int start() {
+            return this.index == 0 ? 0 : CsvTokenizer.this.ends[this.index - 1];
+        }
+
+        @Override
+        public int length() {
+            return CsvTokenizer.this.ends[this.index] - this.start();
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= this.length()) {
+                throw new StringIndexOutOfBoundsException(index);
+            }
+            return CsvTokenizer.this.values[this.start() + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            if (start < 0 || start > end || end > this.length()) {
+                throw new StringIndexOutOfBoundsException("Range " + start + " to " + end + ".");
+            }
+            return new String(CsvTokenizer.this.values, this.start() + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(CsvTokenizer.this.values, this.start(), this.length());
+        }
+    }
+}
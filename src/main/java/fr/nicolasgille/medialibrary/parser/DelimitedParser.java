@@ -0,0 +1,519 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package fr.nicolasgille.medialibrary.parser;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+
+/**
+ * Parser of the files where each line is a record and the values of a record are split by a separator.
+ * <p>
+ * The file is read by blocks from a FileChannel of NIO into a buffer, so a file of any size can be parsed with the
+ * same memory.
+ * Each line is decoded as UTF-8 on his own, so an invalid character is reported with the number of his line.
+ * The values are split on each separator without regular expression, and the empty lines are ignored.
+ * <p>
+ * The large files can be parsed in parallel : the file is mapped in memory by chunks who end on an end of line,
+ * then the chunks are parsed on the common ForkJoinPool.
+ * The lines of each chunk are counted first, so each record keep the number of his line whatever the chunk who
+ * parse it.
+ *
+ * @author Nicolas GILLE
+ * @version 1.2
+ * @since Media-Library 1.1
+ */
+public abstract class DelimitedParser implements FileParser {
+
+    /**
+     * Size of the buffer used to read the file.
+     *
+     * @since 1.0
+     */
+    private final static int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Default size of the chunks of the parallel parsing.
+     *
+     * @since 1.1
+     */
+    private final static int CHUNK_SIZE = 8 * 1024 * 1024;
+
+    /**
+     * Separator of the values of a record.
+     *
+     * @since 1.0
+     */
+    private final char separator;
+
+    /**
+     * Size of the chunks of the parallel parsing, the files smaller than a chunk are parsed sequentially.
+     *
+     * @since 1.1
+     */
+    private final int chunkSize;
+
+    /**
+     * Constructor of the parser.
+     *
+     * @param separator Separator of the values of a record.
+     *
+     * @version 1.1
+     * @since 1.0
+     */
+    protected DelimitedParser(char separator) {
+        this(separator, CHUNK_SIZE);
+    }
+
+    /**
+     * Constructor of the parser with the size of the chunks of the parallel parsing.
+     *
+     * @param separator Separator of the values of a record.
+     * @param chunkSize Size of the chunks of the parallel parsing, in bytes.
+     *
+     * @version 1.0
+     * @since 1.1
+     */
+    protected DelimitedParser(char separator, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("The size of the chunks must be positive.");
+        }
+        this.separator = separator;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Parse the file record by record and send each record to the visitor.
+     *
+     * @param file Path of the file at parse.
+     * @param visitor Visitor who receive each record with his line number, and can stop the parsing.
+     *
+     * @throws IOException If the file can't be read, or a ParserException if a line is not encoded in UTF-8.
+     * @version 1.1
+     * @since 1.0
+     */
+    @Override
+    public void parse(Path file, RecordVisitor visitor) throws IOException {
+        CharsetDecoder decoder = DelimitedParser.decoder();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        byte[] bytes = buffer.array();
+        byte[] line = new byte[256];
+        int length = 0;
+        long number = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) >= 0) {
+                // Copy the bytes of the block on the current line, and send the line at each end of line.
+                for (int i = 0; i < buffer.position(); i++) {
+                    if (bytes[i] == '\n') {
+                        List<String> record = this.record(file, ++number, ByteBuffer.wrap(line, 0, length), decoder);
+                        if (record != null && !visitor.visit(number, record)) {
+                            return;
+                        }
+                        length = 0;
+                    } else {
+                        if (length == line.length) {
+                            line = Arrays.copyOf(line, length * 2);
+                        }
+                        line[length++] = bytes[i];
+                    }
+                }
+                buffer.clear();
+            }
+        }
+        // The last line can be without end of line.
+        if (length > 0) {
+            List<String> record = this.record(file, ++number, ByteBuffer.wrap(line, 0, length), decoder);
+            if (record != null) {
+                visitor.visit(number, record);
+            }
+        }
+    }
+
+    /**
+     * Parse the file in parallel and send each record to the visitor.
+     * <p>
+     * The file is mapped in memory by chunks who end on an end of line, and the chunks are parsed on the common
+     * ForkJoinPool.
+     * Only twice more chunks than threads of the pool are parsed in advance, so the memory used stay bounded if the
+     * visitor is slower than the parsing.
+     * The visitor is always called by the thread who call this method, one record at a time.
+     * The lines are read twice, once to count them and once to parse them, so this method is faster than
+     * <code>parse</code> only with several processors.
+     * The files smaller than a chunk are parsed sequentially.
+     * A line who is not encoded in UTF-8 is reported once the records of the lines before it are visited, like
+     * <code>parse</code>.
+     *
+     * @param file Path of the file at parse.
+     * @param ordered True to send the records in the order of the file, false to send the records of each chunk as
+     *                soon as the chunk is parsed.
+     * @param visitor Visitor who receive each record with his line number, and can stop the parsing.
+     *
+     * @throws IOException If the file can't be read, or a ParserException if a line is not encoded in UTF-8.
+     * @version 1.1
+     * @since 1.1
+     */
+    @Override
+    public void parseParallel(Path file, boolean ordered, RecordVisitor visitor) throws IOException {
+        List<MappedByteBuffer> chunks = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size <= this.chunkSize) {
+                this.parse(file, visitor);
+                return;
+            }
+            // A mapping stay valid once the channel closed.
+            for (long start = 0, end; start < size; start = end) {
+                end = DelimitedParser.endOfChunk(channel, start + this.chunkSize, size);
+                chunks.add(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start));
+            }
+        }
+
+        // Count the lines of all chunks, to know the number of the first line of each chunk.
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        List<ForkJoinTask<Long>> counts = new ArrayList<>(chunks.size());
+        for (MappedByteBuffer chunk : chunks) {
+            counts.add(pool.submit(() -> DelimitedParser.countLines(chunk)));
+        }
+        long[] firstLines = new long[chunks.size()];
+        for (int i = 1; i < chunks.size(); i++) {
+            firstLines[i] = firstLines[i - 1] + counts.get(i - 1).join();
+        }
+
+        // Parse the chunks, with a bounded number of chunks parsed in advance.
+        CompletionService<Chunk> completion = new ExecutorCompletionService<>(pool);
+        List<Future<Chunk>> futures = new ArrayList<>(chunks.size());
+        Map<Integer, Chunk> parsed = new HashMap<>();
+        int advance = 2 * pool.getParallelism();
+        int visited = 0;
+        try {
+            while (visited < chunks.size()) {
+                while (futures.size() < chunks.size() && futures.size() - visited < advance) {
+                    int index = futures.size();
+                    futures.add(completion.submit(() -> this.parseChunk(file, index, chunks.get(index),
+                                                                        firstLines[index])));
+                }
+
+                Chunk chunk = completion.take().get();
+                parsed.put(chunk.index, chunk);
+                // In order, the chunk who follow the last chunk visited is awaited, and the next ones if parsed.
+                int next = ordered ? visited : chunk.index;
+                while ((chunk = parsed.remove(next)) != null) {
+                    visited++;
+                    if (!chunk.visit(visitor)) {
+                        return;
+                    }
+                    next = visited;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Parsing of " + file.getFileName() + " interrupted.");
+        } catch (ExecutionException e) {
+            // The ForkJoinPool wrap the checked exceptions of the tasks on RuntimeException.
+            for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            for (Future<Chunk> future : futures) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Decode and split a line.
+     *
+     * @param file Path of the file parsed.
+     * @param number Number of the line, from 1.
+     * @param line Bytes of the line, without the end of line.
+     * @param decoder Decoder of the UTF-8.
+     *
+     * @return The values of the line, or null if the line is empty.
+     *
+     * @throws ParserException If the line is not encoded in UTF-8.
+     * @version 1.0
+     * @since 1.1
+     */
+    private List<String> record(Path file, long number, ByteBuffer line, CharsetDecoder decoder)
+            throws ParserException {
+        // Remove the carriage return of the ends of line of Windows.
+        if (line.hasRemaining() && line.get(line.limit() - 1) == '\r') {
+            line.limit(line.limit() - 1);
+        }
+        if (!line.hasRemaining()) {
+            return null;
+        }
+
+        try {
+            return this.split(decoder.decode(line).toString());
+        } catch (CharacterCodingException e) {
+            throw new ParserException(file, number, "invalid UTF-8 character.", e);
+        }
+    }
+
+    /**
+     * Parse the records of a chunk.
+     *
+     * @param file Path of the file parsed.
+     * @param index Index of the chunk on the file.
+     * @param bytes Bytes of the chunk, who start at the beginning of a line.
+     * @param firstLine Number of lines before the chunk.
+     *
+     * @return The records of the chunk, until the first line who is not encoded in UTF-8 if any.
+     *
+     * @version 1.1
+     * @since 1.1
+     */
+    private Chunk parseChunk(Path file, int index, ByteBuffer bytes, long firstLine) {
+        CharsetDecoder decoder = DelimitedParser.decoder();
+        Chunk chunk = new Chunk(index);
+        long number = firstLine;
+        int limit = bytes.limit();
+        for (int start = 0, end = 0; start < limit; start = ++end) {
+            while (end < limit && bytes.get(end) != '\n') {
+                end++;
+            }
+            // Each line is decoded from a view on the mapping, without copy of his bytes.
+            ByteBuffer line = bytes.duplicate();
+            line.limit(end).position(start);
+            List<String> record;
+            try {
+                record = this.record(file, ++number, line, decoder);
+            } catch (ParserException e) {
+                // Reported once the records before the line are visited.
+                chunk.error = e;
+                break;
+            }
+            if (record != null) {
+                chunk.add(number, record);
+            }
+        }
+        return chunk;
+    }
+
+    /**
+     * Split a line on each separator.
+     * <p>
+     * Like <code>String.split</code>, the empty values at the end of the line are removed.
+     *
+     * @param line Line at split.
+     *
+     * @return The values of the line.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    protected List<String> split(String line) {
+        List<String> values = new ArrayList<>();
+        int start = 0;
+        for (int end = line.indexOf(this.separator); end >= 0; end = line.indexOf(this.separator, start)) {
+            values.add(line.substring(start, end));
+            start = end + 1;
+        }
+        values.add(line.substring(start));
+
+        // Remove the empty values at the end of the line.
+        int size = values.size();
+        while (size > 1 && values.get(size - 1).isEmpty()) {
+            values.remove(--size);
+        }
+        return values;
+    }
+
+    /**
+     * Return a new decoder of the UTF-8 who report the invalid characters.
+     *
+     * @return The decoder, who must be used by a single thread.
+     *
+     * @version 1.0
+     * @since 1.1
+     */
+    private static CharsetDecoder decoder() {
+        return StandardCharsets.UTF_8.newDecoder()
+                                     .onMalformedInput(CodingErrorAction.REPORT)
+                                     .onUnmappableCharacter(CodingErrorAction.REPORT);
+    }
+
+    /**
+     * Return the end of a chunk : the position just after the first end of line found from the end expected.
+     *
+     * @param channel Channel of the file.
+     * @param end End expected of the chunk.
+     * @param size Size of the file.
+     *
+     * @return The position of the end of the chunk, or the size of the file if no end of line is found.
+     *
+     * @throws IOException If the file can't be read.
+     * @version 1.0
+     * @since 1.1
+     */
+    private static long endOfChunk(FileChannel channel, long end, long size) throws IOException {
+        if (end >= size) {
+            return size;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        for (long position = end - 1; position < size; position += buffer.position(), buffer.clear()) {
+            channel.read(buffer, position);
+            for (int i = 0; i < buffer.position(); i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Count the lines of a chunk.
+     *
+     * @param bytes Bytes of the chunk, who start at the beginning of a line.
+     *
+     * @return The number of lines of the chunk, the last one can be without end of line.
+     *
+     * @version 1.0
+     * @since 1.1
+     */
+    private static long countLines(ByteBuffer bytes) {
+        long lines = 0;
+        int limit = bytes.limit();
+        for (int i = 0; i < limit; i++) {
+            if (bytes.get(i) == '\n') {
+                lines++;
+            }
+        }
+        if (limit > 0 && bytes.get(limit - 1) != '\n') {
+            lines++;
+        }
+        return lines;
+    }
+
+    /**
+     * Records of a chunk, with the number of their line.
+     *
+     * @author Nicolas GILLE
+     * @version 1.1
+     * @since 1.1
+     */
+    private static class Chunk {
+
+        /**
+         * Index of the chunk on the file.
+         *
+         * @since 1.0
+         */
+        private final int index;
+
+        /**
+         * Number of the line of each record.
+         *
+         * @since 1.0
+         */
+        private long[] lines = new long[64];
+
+        /**
+         * Records of the chunk.
+         *
+         * @since 1.0
+         */
+        private final List<List<String>> records = new ArrayList<>();
+
+        /**
+         * Error of the first line of the chunk who is not encoded in UTF-8, null if all lines are valid.
+         *
+         * @since 1.1
+         */
+        private ParserException error;
+
+        /**
+         * Constructor of a chunk.
+         *
+         * @param index Index of the chunk on the file.
+         *
+         * @since 1.0
+         */
+        private Chunk(int index) {
+            this.index = index;
+        }
+
+        /**
+         * Add a record on the chunk.
+         *
+         * @param line Number of the line of the record.
+         * @param record Values of the record.
+         *
+         * @version 1.0
+         * @since 1.0
+         */
+        private void add(long line, List<String> record) {
+            if (this.records.size() == this.lines.length) {
+                this.lines = Arrays.copyOf(this.lines, this.lines.length * 2);
+            }
+            this.lines[this.records.size()] = line;
+            this.records.add(record);
+        }
+
+        /**
+         * Send the records of the chunk to a visitor.
+         *
+         * @param visitor Visitor who receive the records.
+         *
+         * @return False if the visitor stop the parsing.
+         *
+         * @throws ParserException If a line of the chunk is not encoded in UTF-8, once the records before it are
+         *                         visited.
+         * @version 1.1
+         * @since 1.0
+         */
+        private boolean visit(RecordVisitor visitor) throws ParserException {
+            for (int i = 0; i < this.records.size(); i++) {
+                if (!visitor.visit(this.lines[i], this.records.get(i))) {
+                    return false;
+                }
+            }
+            if (this.error != null) {
+                throw this.error;
+            }
+            return true;
+        }
+    }
+}
@@ -16,8 +16,13 @@
  * along with this program.  If not, see <http://www.gnu.org/licenses/>.
  */
 
+
 package fr.nicolasgille.medialibrary.parser;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -25,9 +30,13 @@ import java.util.List;
  * <p>
  * In fact, Media Library can parse data with specific extension to get all information for precise media.
  * You must implement the method parse by your own specific parser to respect the
+ * <p>
+ * The records are sent one by one to a RecordVisitor, so a file can be parsed without keeping all his records in
+ * memory.
+ * The fields can be sent to a FieldVisitor instead, as views on the buffers of the parser who support it.
  *
  * @author Nicolas GILLE
- * @version 1.0
+ * @version 1.3
  * @since Media-Library 0.5
  */
 public interface FileParser {
@@ -35,13 +44,83 @@ public interface FileParser {
     /**
      * Parse the file send in parameter and return a list of list of string who contains all elements parse during
      * process.
+     * <p>
+     * All records of the file are kept in memory, the method <code>parse(Path, RecordVisitor)</code> must be used
+     * for the large files.
      *
      * @param filename Name of the file at parse.
      *
      * @return A list composed by List of all information get during parsing.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
-    List<List<String>> parse(String filename);
+    default List<List<String>> parse(String filename) {
+        List<List<String>> data = new ArrayList<>();
+        try {
+            this.parse(Paths.get(filename), (line, record) -> data.add(record));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        return data;
+    }
+
+    /**
+     * Parse the file record by record and send each record to the visitor, in the order of the file.
+     * <p>
+     * The parsing stop at the end of the file, or as soon as the visitor return false.
+     *
+     * @param file Path of the file at parse.
+     * @param visitor Visitor who receive each record with his line number, and can stop the parsing.
+     *
+     * @throws IOException If the file can't be read, or a ParserException with the number of the line who can't be
+     *                     parsed.
+     * @version 1.0
+     * @since 1.1
+     */
+    void parse(Path file, RecordVisitor visitor) throws IOException;
+
+    /**
+     * Parse the file with several threads and send each record to the visitor.
+     * <p>
+     * The visitor is called by the thread who call this method, one record at a time.
+     * By default, the file is parsed sequentially.
+     *
+     * @param file Path of the file at parse.
+     * @param ordered True to receive the records in the order of the file, false to receive them as soon as they
+     *                are parsed.
+     * @param visitor Visitor who receive each record with his line number, and can stop the parsing.
+     *
+     * @throws IOException If the file can't be read, or a ParserException with the number of the line who can't be
+     *                     parsed.
+     * @version 1.0
+     * @since 1.2
+     */
+    default void parseParallel(Path file, boolean ordered, RecordVisitor visitor) throws IOException {
+        this.parse(file, visitor);
+    }
+
+    /**
+     * Parse the file and send the fields of each record to the visitor, in the order of the file.
+     * <p>
+     * The fields are valid only during the call of the visitor.
+     * By default, the fields are the Strings of the records, parsed with several threads if requested.
+     *
+     * @param file Path of the file at parse.
+     * @param parallel True to parse the file with several threads if the parser support it.
+     * @param visitor Visitor who receive the fields of each record with his line number, and can stop the parsing.
+     *
+     * @throws IOException If the file can't be read, or a ParserException with the number of the line who can't be
+     *                     parsed.
+     * @version 1.0
+     * @since 1.3
+     */
+    default void parseFields(Path file, boolean parallel, FieldVisitor visitor) throws IOException {
+        if (parallel) {
+            this.parseParallel(file, true, visitor::visit);
+        } else {
+            this.parse(file, visitor::visit);
+        }
+    }
 }
@@ -0,0 +1,70 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package fr.nicolasgille.medialibrary.parser;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Exception thrown when a line of a file can't be parsed.
+ * <p>
+ * The exception keep the number of the line, so the user can find and fix the line on his file.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+public class ParserException extends IOException {
+
+    /**
+     * Number of the line who can't be parsed, from 1.
+     *
+     * @since 1.0
+     */
+    private final long line;
+
+    /**
+     * Constructor of the exception.
+     *
+     * @param file Path of the file parsed.
+     * @param line Number of the line who can't be parsed.
+     * @param message Reason of the error.
+     * @param cause Exception who stop the parsing.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public ParserException(Path file, long line, String message, Throwable cause) {
+        super("Line " + line + " of " + file.getFileName() + " : " + message, cause);
+        this.line = line;
+    }
+
+    /**
+     * Return the number of the line who can't be parsed.
+     *
+     * @return The number of the line, from 1.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public long getLine() {
+        return this.line;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package fr.nicolasgille.medialibrary.parser;
+
+import java.util.List;
+
+/**
+ * Visitor who receive the records of a file during his parsing.
+ * <p>
+ * The parser call the visitor for each record, in the order of the file, and stop as soon as the visitor return
+ * false.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+@FunctionalInterface
+public interface RecordVisitor {
+
+    /**
+     * Receive a record of the file.
+     *
+     * @param line Number of the line of the record on the file, from 1.
+     * @param record Values of the record.
+     *
+     * @return True to continue the parsing, false to stop it.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    boolean visit(long line, List<String> record);
+}
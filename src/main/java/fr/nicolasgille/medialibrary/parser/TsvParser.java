@@ -16,58 +16,40 @@
  * along with this program.  If not, see <http://www.gnu.org/licenses/>.
  */
 
-package fr.nicolasgille.medialibrary.parser;
 
-import java.io.IOException;
-import java.nio.file.Paths;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Scanner;
+package fr.nicolasgille.medialibrary.parser;
 
 /**
  * A parser used to parse TSV file.
  * <p>
  * This class parse a file who contains information about a media under the format tsv.
+ * Each line is a media and the values of a media are split by a tabulation.
  *
  * @author Nicolas GILLE
- * @version 1.0
+ * @version 1.2
  * @since Media-Library 0.5
  */
-public class TsvParser implements FileParser {
+public class TsvParser extends DelimitedParser {
 
     /**
-     * Parse the file send in parameter and return a list of list of string who contains all elements parse during
-     * process.
+     * Constructor of the parser.
      *
-     * @param filename Name of the file at parse.
+     * @version 1.0
+     * @since 1.1
+     */
+    public TsvParser() {
+        super('\t');
+    }
+
+    /**
+     * Constructor of the parser with the size of the chunks of the parallel parsing.
      *
-     * @return A list composed by List of all information get during parsing.
+     * @param chunkSize Size of the chunks of the parallel parsing, in bytes.
      *
      * @version 1.0
-     * @since 1.0
+     * @since 1.2
      */
-    @Override
-    public List<List<String>> parse(String filename) {
-        List<List<String>> data = new ArrayList<>();
-        try {
-            Scanner scan = new Scanner(Paths.get(filename));
-            // Loop until file not completed.
-            while (scan.hasNext()) {
-                // Get each line and split it by a tabulation.
-                String line = scan.nextLine();
-                String[] split = line.split("\\t");
-
-                // Add each data on List and added list on main list.
-                List<String> parseData = new ArrayList<>();
-                Collections.addAll(parseData, split);
-                data.add(parseData);
-            }
-            scan.close();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-
-        return data;
+    public TsvParser(int chunkSize) {
+        super('\t', chunkSize);
     }
 }
@@ -0,0 +1,99 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.repositories;
+
+import fr.nicolasgille.medialibrary.models.Media;
+import fr.nicolasgille.medialibrary.models.MediaSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.QueryHint;
+import javax.transaction.Transactional;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Repository used to interact with all media, whatever their type.
+ * <p>
+ * All media are stored on the table <code>media</code>, so each query of this repository is a single query
+ * on this table and return each media with his own type.
+ *
+ * @author Nicolas GILLE
+ * @version 1.1
+ * @since Media-Library 1.1
+ */
+@Transactional
+public interface MediaRepository extends JpaRepository<Media, Long> {
+
+    /**
+     * Find all media by title like.
+     *
+     * @param title Title of the media search on Database.
+     *
+     * @return All media who contains the title, whatever their type.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    List<Media> findByTitleIgnoreCaseContaining(String title);
+
+    /**
+     * Stream all media present on Media Library ordered by identifier.
+     * <p>
+     * The rows are fetched by small batches, so this method must be called in a transaction
+     * and the stream must be closed after use.
+     *
+     * @return Stream of all media.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    @QueryHints(value = @QueryHint(name = "org.hibernate.fetchSize",
+                                   value = "100"))
+    @Query(value = "SELECT m FROM Media m ORDER BY m.id ASC")
+    Stream<Media> streamAll();
+
+    /**
+     * Find the summaries of the media by identifier, whatever their type.
+     *
+     * @param ids Identifiers of the media.
+     *
+     * @return List of summaries found, in any order.
+     *
+     * @version 1.0
+     * @since 1.1
+     */
+    @Query(value = MediaSummary.SELECT + "FROM Media m WHERE m.id IN :ids")
+    List<MediaSummary> findSummariesByIdIn(@Param("ids") Iterable<Long> ids);
+
+    /**
+     * Find the summaries of the media by title like, whatever their type.
+     *
+     * @param title Title of the media search on Database.
+     *
+     * @return List of summaries of the media who contains the title.
+     *
+     * @version 1.0
+     * @since 1.1
+     */
+    @Query(value = MediaSummary.SELECT + "FROM Media m WHERE LOWER(m.title) LIKE LOWER(CONCAT('%', :title, '%'))")
+    List<MediaSummary> findSummariesByTitleContaining(@Param("title") String title);
+}
@@ -18,19 +18,25 @@
 
 package fr.nicolasgille.medialibrary.repositories.book;
 
+import fr.nicolasgille.medialibrary.models.MediaSummary;
 import fr.nicolasgille.medialibrary.models.book.Book;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import javax.transaction.Transactional;
-import java.util.Calendar;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository used to interact with all books available on Database.
  *
  * @author Nicolas GILLE
- * @version 1.3
+ * @version 1.8
  * @since Media-Library 0.4
  */
 @Transactional
@@ -68,10 +74,10 @@ public interface BookRepository extends JpaRepository<Book, Long> {
      *
      * @return An instance of book search by title, duration and releaseDate.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
-    Book findByTitleAndReleaseDate(String title, Calendar releaseDate);
+    Book findByTitleAndReleaseDate(String title, LocalDate releaseDate);
 
     /**
      * Find all books present on Media Library.
@@ -84,4 +90,106 @@ public interface BookRepository extends JpaRepository<Book, Long> {
     @Query(value = "SELECT * FROM media WHERE media_type = \"book\"",
            nativeQuery = true)
     List<Book> findAll();
+
+    /**
+     * Find a page of books with an identifier greater than the identifier passed on parameter.
+     * <p>
+     * The Comic inherit from Book, so they are excluded explicitly like on <code>findAll</code>.
+     *
+     * @param id Identifier of the last book of the previous page.
+     * @param pageable Pageable used to limit the number of books return.
+     *
+     * @return List of books ordered by identifier.
+     *
+     * @version 1.0
+     * @since 1.4
+     */
+    @Query(value = "SELECT b FROM Book b WHERE TYPE(b) = Book AND b.id > :id ORDER BY b.id ASC")
+    List<Book> findByIdGreaterThanOrderByIdAsc(@Param("id") long id, Pageable pageable);
+
+    /**
+     * Stream all books present on Media Library ordered by identifier.
+     * <p>
+     * The rows are fetched by small batches, so this method must be called in a transaction
+     * and the stream must be closed after use.
+     * The Comic inherit from Book, so they are excluded explicitly like on <code>findAll</code>.
+     *
+     * @return Stream of all books.
+     *
+     * @version 1.0
+     * @since 1.5
+     */
+    @QueryHints(value = @QueryHint(name = "org.hibernate.fetchSize",
+                                   value = "100"))
+    @Query(value = "SELECT b FROM Book b WHERE TYPE(b) = Book ORDER BY b.id ASC")
+    Stream<Book> streamAll();
+
+    /**
+     * Find the last books added on Media Library.
+     * <p>
+     * The Comic inherit from Book, so they are excluded explicitly like on <code>findAll</code>.
+     *
+     * @param pageable Pageable used to limit the number of books return.
+     *
+     * @return List of the last books, from the most recent to the oldest.
+     *
+     * @version 1.0
+     * @since 1.6
+     */
+    @Query(value = "SELECT b FROM Book b WHERE TYPE(b) = Book ORDER BY b.id DESC")
+    List<Book> findAllByOrderByIdDesc(Pageable pageable);
+
+    /**
+     * Find a page of summaries of the books with an identifier greater than the identifier passed on parameter.
+     *
+     * @param id Identifier of the last book of the previous page.
+     * @param pageable Pageable used to limit the number of summaries return.
+     *
+     * @return List of summaries ordered by identifier.
+     *
+     * @version 1.0
+     * @since 1.7
+     */
+    @Query(value = MediaSummary.SELECT + "FROM Book m WHERE TYPE(m) = Book AND m.id > :id ORDER BY m.id ASC")
+    List<MediaSummary> findSummariesByIdGreaterThan(@Param("id") long id, Pageable pageable);
+
+    /**
+     * Find the summaries of the books by identifier.
+     *
+     * @param ids Identifiers of the books.
+     *
+     * @return List of summaries found, in any order.
+     *
+     * @version 1.0
+     * @since 1.7
+     */
+    @Query(value = MediaSummary.SELECT + "FROM Book m WHERE TYPE(m) = Book AND m.id IN :ids")
+    List<MediaSummary> findSummariesByIdIn(@Param("ids") Iterable<Long> ids);
+
+    /**
+     * Find the summaries of the books by title like.
+     *
+     * @param title Title of the books search on Database.
+     *
+     * @return List of summaries of the books who contains the title.
+     *
+     * @version 1.0
+     * @since 1.7
+     */
+    @Query(value = MediaSummary.SELECT + "FROM Book m "
+            + "WHERE TYPE(m) = Book AND LOWER(m.title) LIKE LOWER(CONCAT('%', :title, '%'))")
+    List<MediaSummary> findSummariesByTitleContaining(@Param("title") String title);
+
+    /**
+     * Find the summaries of the last books added on Media Library.
+     *
+     * @param pageable Pageable used to limit the number of summaries return.
+     *
+     * @return List of summaries of the last books, from the most recent to the oldest.
+     *
+     * @version 1.0
+     * @since 1.7
+     */
+    @Query(value = MediaSummary.SELECT + "FROM Book m WHERE TYPE(m) = Book ORDER BY m.id DESC")
+    List<MediaSummary> findLatestSummaries(Pageable pageable);
 }
@@ -18,18 +18,24 @@
 
 package fr.nicolasgille.medialibrary.repositories.book;
 
+import fr.nicolasgille.medialibrary.models.MediaSummary;
 import fr.nicolasgille.medialibrary.models.book.Comic;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import javax.transaction.Transactional;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository used to interact with all comics available on Database.
  *
  * @author Nicolas GILLE
- * @version 1.3
+ * @version 1.7
  * @since Media-Library 0.4
  */
 @Transactional
@@ -83,4 +89,99 @@ public interface ComicRepository extends JpaRepository<Comic, Long> {
     @Query(value = "SELECT * FROM media WHERE media_type = \"comic\"",
            nativeQuery = true)
     List<Comic> findAll();
+
+    /**
+     * Find a page of comics with an identifier greater than the identifier passed on parameter.
+     *
+     * @param id Identifier of the last comic of the previous page.
+     * @param pageable Pageable used to limit the number of comics return.
+     *
+     * @return List of comics ordered by identifier.
+     *
+     * @version 1.0
+     * @since 1.4
+     */
+    List<Comic> findByIdGreaterThanOrderByIdAsc(long id, Pageable pageable);
+
+    /**
+     * Stream all comics present on Media Library ordered by identifier.
+     * <p>
+     * The rows are fetched by small batches, so this method must be called in a transaction
+     * and the stream must be closed after use.
+     *
+     * @return Stream of all comics.
+     *
+     * @version 1.0
+     * @since 1.5
+     */
+    @QueryHints(value = @QueryHint(name = "org.hibernate.fetchSize",
+                                   value = "100"))
+    @Query(value = "SELECT c FROM Comic c ORDER BY c.id ASC")
+    Stream<Comic> streamAll();
+
+    /**
+     * Find the last comics added on Media Library.
+     *
+     * @param pageable Pageable used to limit the number of comics return.
+     *
+     * @return List of the last comics, from the most recent to the oldest.
+     *
+     * @version 1.0
+     * @since 1.6
+     */
+    List<Comic> findAllByOrderByIdDesc(Pageable pageable);
+
+    /**
+     * Find a page of summaries of the comics with an identifier greater than the identifier passed on parameter.
+     *
+     * @param id Identifier of the last comic of the previous page.
+     * @param pageable Pageable used to limit the number of summaries return.
+     *
+     * @return List of summaries ordered by identifier.
+     *
+     * @version 1.0
+     * @since 1.7
+     */
+    @Query(value = MediaSummary.SELECT + "FROM Comic m WHERE m.id > :id ORDER BY m.id ASC")
+    List<MediaSummary> findSummariesByIdGreaterThan(@Param("id") long id, Pageable pageable);
+
+    /**
+     * Find the summaries of the comics by identifier.
+     *
+     * @param ids Identifiers of the comics.
+     *
+     * @return List of summaries found, in any order.
+     *
+     * @version 1.0
+     * @since 1.7
+     */
+    @Query(value = MediaSummary.SELECT + "FROM Comic m WHERE m.id IN :ids")
+    List<MediaSummary> findSummariesByIdIn(@Param("ids") Iterable<Long> ids);
+
+    /**
+     * Find the summaries of the comics by title like.
+     *
+     * @param title Title of the comics search on Database.
+     *
+     * @return List of summaries of the comics who contains the title.
+     *
+     * @version 1.0
+     * @since 1.7
+     */
+    @Query(value = MediaSummary.SELECT + "FROM Comic m "
+            + "WHERE LOWER(m.title) LIKE LOWER(CONCAT('%', :title, '%'))")
+    List<MediaSummary> findSummariesByTitleContaining(@Param("title") String title);
+
+    /**
+     * Find the summaries of the last comics added on Media Library.
+     *
+     * @param pageable Pageable used to limit the number of summaries return.
+     *
+     * @return List of summaries of the last comics, from the most recent to the oldest.
+     *
+     * @version 1.0
+     * @since 1.7
+     */
+    @Query(value = MediaSummary.SELECT + "FROM Comic m ORDER BY m.id DESC")
+    List<MediaSummary> findLatestSummaries(Pageable pageable);
 }
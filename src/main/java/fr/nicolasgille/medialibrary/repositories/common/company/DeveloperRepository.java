@@ -19,9 +19,13 @@
 package fr.nicolasgille.medialibrary.repositories.common.company;
 
 import fr.nicolasgille.medialibrary.models.common.company.Developer;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import javax.persistence.QueryHint;
 import javax.transaction.Transactional;
+import java.util.List;
 
 /**
  * An interface who specified method to interact with the <code>common_developer</code> table.
@@ -29,7 +33,7 @@ import javax.transaction.Transactional;
  * This interface can extends with many methods to request developer on Database.
  *
  * @author Nicolas GILLE
- * @version 1.0
+ * @version 1.2
  * @since Media-Library 0.1
  */
 @Transactional
@@ -37,13 +41,29 @@ public interface DeveloperRepository extends JpaRepository<Developer, Long> {
 
     /**
      * Search an Actor by his name.
+     * <p>
+     * The result is kept on the cache of queries, until a row of the table is created, updated or deleted.
      *
      * @param name Name of the developer at search.
      *
      * @return The developer is an occurrence was found on Database, or null.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Developer findByName(String name);
+
+    /**
+     * Find a page of developers with an identifier greater than the identifier passed on parameter.
+     *
+     * @param id Identifier of the last developer of the previous page.
+     * @param pageable Pageable used to limit the number of developers return.
+     *
+     * @return List of developers ordered by identifier.
+     *
+     * @version 1.0
+     * @since 1.1
+     */
+    List<Developer> findByIdGreaterThanOrderByIdAsc(long id, Pageable pageable);
 }
@@ -19,9 +19,13 @@
 package fr.nicolasgille.medialibrary.repositories.common.person;
 
 import fr.nicolasgille.medialibrary.models.common.person.Producer;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import javax.persistence.QueryHint;
 import javax.transaction.Transactional;
+import java.util.List;
 
 /**
  * An interface who specified method to interact with the <code>common_producer</code> table.
@@ -29,7 +33,7 @@ import javax.transaction.Transactional;
  * This interface can extends with many methods to request producers on Database.
  *
  * @author Nicolas GILLE
- * @version 1.0
+ * @version 1.2
  * @since Media-Library 0.1
  */
 @Transactional
@@ -37,14 +41,30 @@ public interface ProducerRepository extends JpaRepository<Producer, Long> {
 
     /**
      * Search a Producer by his first name and last name.
+     * <p>
+     * The result is kept on the cache of queries, until a row of the table is created, updated or deleted.
      *
      * @param fname First name of the producer at search.
      * @param lname Last name of the producer at search.
      *
      * @return The producer is an occurrence was found on Database, or null.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Producer findByFirstNameAndLastName(String fname, String lname);
+
+    /**
+     * Find a page of producers with an identifier greater than the identifier passed on parameter.
+     *
+     * @param id Identifier of the last producer of the previous page.
+     * @param pageable Pageable used to limit the number of producers return.
+     *
+     * @return List of producers ordered by identifier.
+     *
+     * @version 1.0
+     * @since 1.1
+     */
+    List<Producer> findByIdGreaterThanOrderByIdAsc(long id, Pageable pageable);
 }
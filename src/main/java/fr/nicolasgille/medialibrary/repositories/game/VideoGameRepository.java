@@ -18,18 +18,25 @@
 
 package fr.nicolasgille.medialibrary.repositories.game;
 
+import fr.nicolasgille.medialibrary.models.MediaSummary;
 import fr.nicolasgille.medialibrary.models.game.VideoGame;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import javax.transaction.Transactional;
-import java.util.Calendar;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository used to interact with all video games available on Database.
  *
  * @author Nicolas GILLE
- * @version 1.2
+ * @version 1.7
  * @since Media-Library 0.4
  */
 @Transactional
@@ -67,8 +74,103 @@ public interface VideoGameRepository extends JpaRepository<VideoGame, Long> {
      *
      * @return An instance of video game search by the name.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.1
      */
-    VideoGame findByTitleIgnoreCaseAndReleaseDate(String title, Calendar releaseDate);
+    VideoGame findByTitleIgnoreCaseAndReleaseDate(String title, LocalDate releaseDate);
+
+    /**
+     * Find a page of video games with an identifier greater than the identifier passed on parameter.
+     *
+     * @param id Identifier of the last videogame of the previous page.
+     * @param pageable Pageable used to limit the number of video games return.
+     *
+     * @return List of video games ordered by identifier.
+     *
+     * @version 1.0
+     * @since 1.3
+     */
+    List<VideoGame> findByIdGreaterThanOrderByIdAsc(long id, Pageable pageable);
+
+    /**
+     * Stream all video games present on Media Library ordered by identifier.
+     * <p>
+     * The rows are fetched by small batches, so this method must be called in a transaction
+     * and the stream must be closed after use.
+     *
+     * @return Stream of all video games.
+     *
+     * @version 1.0
+     * @since 1.4
+     */
+    @QueryHints(value = @QueryHint(name = "org.hibernate.fetchSize",
+                                   value = "100"))
+    @Query(value = "SELECT v FROM VideoGame v ORDER BY v.id ASC")
+    Stream<VideoGame> streamAll();
+
+    /**
+     * Find the last video games added on Media Library.
+     *
+     * @param pageable Pageable used to limit the number of video games return.
+     *
+     * @return List of the last video games, from the most recent to the oldest.
+     *
+     * @version 1.0
+     * @since 1.5
+     */
+    List<VideoGame> findAllByOrderByIdDesc(Pageable pageable);
+
+    /**
+     * Find a page of summaries of the video games with an identifier greater than the identifier passed on parameter.
+     *
+     * @param id Identifier of the last video game of the previous page.
+     * @param pageable Pageable used to limit the number of summaries return.
+     *
+     * @return List of summaries ordered by identifier.
+     *
+     * @version 1.0
+     * @since 1.6
+     */
+    @Query(value = MediaSummary.SELECT + "FROM VideoGame m WHERE m.id > :id ORDER BY m.id ASC")
+    List<MediaSummary> findSummariesByIdGreaterThan(@Param("id") long id, Pageable pageable);
+
+    /**
+     * Find the summaries of the video games by identifier.
+     *
+     * @param ids Identifiers of the video games.
+     *
+     * @return List of summaries found, in any order.
+     *
+     * @version 1.0
+     * @since 1.6
+     */
+    @Query(value = MediaSummary.SELECT + "FROM VideoGame m WHERE m.id IN :ids")
+    List<MediaSummary> findSummariesByIdIn(@Param("ids") Iterable<Long> ids);
+
+    /**
+     * Find the summaries of the video games by title like.
+     *
+     * @param title Title of the video games search on Database.
+     *
+     * @return List of summaries of the video games who contains the title.
+     *
+     * @version 1.0
+     * @since 1.6
+     */
+    @Query(value = MediaSummary.SELECT + "FROM VideoGame m "
+            + "WHERE LOWER(m.title) LIKE LOWER(CONCAT('%', :title, '%'))")
+    List<MediaSummary> findSummariesByTitleContaining(@Param("title") String title);
+
+    /**
+     * Find the summaries of the last video games added on Media Library.
+     *
+     * @param pageable Pageable used to limit the number of summaries return.
+     *
+     * @return List of summaries of the last video games, from the most recent to the oldest.
+     *
+     * @version 1.0
+     * @since 1.6
+     */
+    @Query(value = MediaSummary.SELECT + "FROM VideoGame m ORDER BY m.id DESC")
+    List<MediaSummary> findLatestSummaries(Pageable pageable);
 }
@@ -18,17 +18,24 @@
 
 package fr.nicolasgille.medialibrary.repositories.music;
 
+import fr.nicolasgille.medialibrary.models.MediaSummary;
 import fr.nicolasgille.medialibrary.models.music.Album;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import javax.transaction.Transactional;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository used to interact with all albums available on Database.
  *
  * @author Nicolas GILLE
- * @version 1.2
+ * @version 1.6
  * @since Media-Library 0.4
  */
 @Transactional
@@ -71,4 +78,99 @@ public interface AlbumRepository extends JpaRepository<Album, Long> {
      * @since 1.1
      */
     Album findByTitleAndNbTracksAndLength(String title, int nbTrack, double length);
+
+    /**
+     * Find a page of albums with an identifier greater than the identifier passed on parameter.
+     *
+     * @param id Identifier of the last album of the previous page.
+     * @param pageable Pageable used to limit the number of albums return.
+     *
+     * @return List of albums ordered by identifier.
+     *
+     * @version 1.0
+     * @since 1.3
+     */
+    List<Album> findByIdGreaterThanOrderByIdAsc(long id, Pageable pageable);
+
+    /**
+     * Stream all albums present on Media Library ordered by identifier.
+     * <p>
+     * The rows are fetched by small batches, so this method must be called in a transaction
+     * and the stream must be closed after use.
+     *
+     * @return Stream of all albums.
+     *
+     * @version 1.0
+     * @since 1.4
+     */
+    @QueryHints(value = @QueryHint(name = "org.hibernate.fetchSize",
+                                   value = "100"))
+    @Query(value = "SELECT a FROM Album a ORDER BY a.id ASC")
+    Stream<Album> streamAll();
+
+    /**
+     * Find the last albums added on Media Library.
+     *
+     * @param pageable Pageable used to limit the number of albums return.
+     *
+     * @return List of the last albums, from the most recent to the oldest.
+     *
+     * @version 1.0
+     * @since 1.5
+     */
+    List<Album> findAllByOrderByIdDesc(Pageable pageable);
+
+    /**
+     * Find a page of summaries of the albums with an identifier greater than the identifier passed on parameter.
+     *
+     * @param id Identifier of the last album of the previous page.
+     * @param pageable Pageable used to limit the number of summaries return.
+     *
+     * @return List of summaries ordered by identifier.
+     *
+     * @version 1.0
+     * @since 1.6
+     */
+    @Query(value = MediaSummary.SELECT + "FROM Album m WHERE m.id > :id ORDER BY m.id ASC")
+    List<MediaSummary> findSummariesByIdGreaterThan(@Param("id") long id, Pageable pageable);
+
+    /**
+     * Find the summaries of the albums by identifier.
+     *
+     * @param ids Identifiers of the albums.
+     *
+     * @return List of summaries found, in any order.
+     *
+     * @version 1.0
+     * @since 1.6
+     */
+    @Query(value = MediaSummary.SELECT + "FROM Album m WHERE m.id IN :ids")
+    List<MediaSummary> findSummariesByIdIn(@Param("ids") Iterable<Long> ids);
+
+    /**
+     * Find the summaries of the albums by title like.
+     *
+     * @param title Title of the albums search on Database.
+     *
+     * @return List of summaries of the albums who contains the title.
+     *
+     * @version 1.0
+     * @since 1.6
+     */
+    @Query(value = MediaSummary.SELECT + "FROM Album m "
+            + "WHERE LOWER(m.title) LIKE LOWER(CONCAT('%', :title, '%'))")
+    List<MediaSummary> findSummariesByTitleContaining(@Param("title") String title);
+
+    /**
+     * Find the summaries of the last albums added on Media Library.
+     *
+     * @param pageable Pageable used to limit the number of summaries return.
+     *
+     * @return List of summaries of the last albums, from the most recent to the oldest.
+     *
+     * @version 1.0
+     * @since 1.6
+     */
+    @Query(value = MediaSummary.SELECT + "FROM Album m ORDER BY m.id DESC")
+    List<MediaSummary> findLatestSummaries(Pageable pageable);
 }
@@ -18,12 +18,18 @@
 
 package fr.nicolasgille.medialibrary.repositories.video;
 
+import fr.nicolasgille.medialibrary.models.MediaSummary;
 import fr.nicolasgille.medialibrary.models.video.Anime;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import javax.transaction.Transactional;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * An interface who specified method to interact with the anime table.
@@ -33,7 +39,7 @@ import java.util.List;
  * Then, we add in the future much method to interact with the table "movies", in particular getXXXX methods.
  *
  * @author Nicolas GILLE
- * @version 1.3
+ * @version 1.7
  * @since Media-Library 0.2
  */
 @Transactional
@@ -87,4 +93,106 @@ public interface AnimeRepository extends JpaRepository<Anime, Long> {
     @Query(value = "SELECT * FROM media WHERE media_type = \"anime\"",
            nativeQuery = true)
     List<Anime> findAll();
+
+    /**
+     * Find a page of animes with an identifier greater than the identifier passed on parameter.
+     * <p>
+     * The Series inherit from Anime, so they are excluded explicitly like on <code>findAll</code>.
+     *
+     * @param id Identifier of the last anime of the previous page.
+     * @param pageable Pageable used to limit the number of animes return.
+     *
+     * @return List of animes ordered by identifier.
+     *
+     * @version 1.0
+     * @since 1.4
+     */
+    @Query(value = "SELECT a FROM Anime a WHERE TYPE(a) = Anime AND a.id > :id ORDER BY a.id ASC")
+    List<Anime> findByIdGreaterThanOrderByIdAsc(@Param("id") long id, Pageable pageable);
+
+    /**
+     * Stream all animes present on Media Library ordered by identifier.
+     * <p>
+     * The rows are fetched by small batches, so this method must be called in a transaction
+     * and the stream must be closed after use.
+     * The Series inherit from Anime, so they are excluded explicitly like on <code>findAll</code>.
+     *
+     * @return Stream of all animes.
+     *
+     * @version 1.0
+     * @since 1.5
+     */
+    @QueryHints(value = @QueryHint(name = "org.hibernate.fetchSize",
+                                   value = "100"))
+    @Query(value = "SELECT a FROM Anime a WHERE TYPE(a) = Anime ORDER BY a.id ASC")
+    Stream<Anime> streamAll();
+
+    /**
+     * Find the last animes added on Media Library.
+     * <p>
+     * The Series inherit from Anime, so they are excluded explicitly like on <code>findAll</code>.
+     *
+     * @param pageable Pageable used to limit the number of animes return.
+     *
+     * @return List of the last animes, from the most recent to the oldest.
+     *
+     * @version 1.0
+     * @since 1.6
+     */
+    @Query(value = "SELECT a FROM Anime a WHERE TYPE(a) = Anime ORDER BY a.id DESC")
+    List<Anime> findAllByOrderByIdDesc(Pageable pageable);
+
+    /**
+     * Find a page of summaries of the animes with an identifier greater than the identifier passed on parameter.
+     *
+     * @param id Identifier of the last anime of the previous page.
+     * @param pageable Pageable used to limit the number of summaries return.
+     *
+     * @return List of summaries ordered by identifier.
+     *
+     * @version 1.0
+     * @since 1.7
+     */
+    @Query(value = MediaSummary.SELECT + "FROM Anime m WHERE TYPE(m) = Anime AND m.id > :id ORDER BY m.id ASC")
+    List<MediaSummary> findSummariesByIdGreaterThan(@Param("id") long id, Pageable pageable);
+
+    /**
+     * Find the summaries of the animes by identifier.
+     *
+     * @param ids Identifiers of the animes.
+     *
+     * @return List of summaries found, in any order.
+     *
+     * @version 1.0
+     * @since 1.7
+     */
+    @Query(value = MediaSummary.SELECT + "FROM Anime m WHERE TYPE(m) = Anime AND m.id IN :ids")
+    List<MediaSummary> findSummariesByIdIn(@Param("ids") Iterable<Long> ids);
+
+    /**
+     * Find the summaries of the animes by title like.
+     *
+     * @param title Title of the animes search on Database.
+     *
+     * @return List of summaries of the animes who contains the title.
+     *
+     * @version 1.0
+     * @since 1.7
+     */
+    @Query(value = MediaSummary.SELECT + "FROM Anime m "
+            + "WHERE TYPE(m) = Anime AND LOWER(m.title) LIKE LOWER(CONCAT('%', :title, '%'))")
+    List<MediaSummary> findSummariesByTitleContaining(@Param("title") String title);
+
+    /**
+     * Find the summaries of the last animes added on Media Library.
+     *
+     * @param pageable Pageable used to limit the number of summaries return.
+     *
+     * @return List of summaries of the last animes, from the most recent to the oldest.
+     *
+     * @version 1.0
+     * @since 1.7
+     */
+    @Query(value = MediaSummary.SELECT + "FROM Anime m WHERE TYPE(m) = Anime ORDER BY m.id DESC")
+    List<MediaSummary> findLatestSummaries(Pageable pageable);
 }
@@ -18,11 +18,18 @@
 
 package fr.nicolasgille.medialibrary.repositories.video;
 
+import fr.nicolasgille.medialibrary.models.MediaSummary;
 import fr.nicolasgille.medialibrary.models.video.Cartoon;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Calendar;
+import javax.persistence.QueryHint;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * An interface who specified method to interact with the cartoon.
@@ -32,7 +39,7 @@ import java.util.List;
  * Then, we add in the future much method to interact with "cartoon", in particular find methods.
  *
  * @author Nicolas GILLE
- * @version 1.1
+ * @version 1.6
  * @since Media-Library 0.3
  */
 public interface CartoonRepository extends JpaRepository<Cartoon, Long> {
@@ -70,8 +77,103 @@ public interface CartoonRepository extends JpaRepository<Cartoon, Long> {
      *
      * @return An instance of cartoon search by title, duration and releaseDate.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
-    Cartoon findByTitleAndRuntimeAndReleaseDate(String title, int runtime, Calendar releaseDate);
+    Cartoon findByTitleAndRuntimeAndReleaseDate(String title, int runtime, LocalDate releaseDate);
+
+    /**
+     * Find a page of cartoons with an identifier greater than the identifier passed on parameter.
+     *
+     * @param id Identifier of the last cartoon of the previous page.
+     * @param pageable Pageable used to limit the number of cartoons return.
+     *
+     * @return List of cartoons ordered by identifier.
+     *
+     * @version 1.0
+     * @since 1.2
+     */
+    List<Cartoon> findByIdGreaterThanOrderByIdAsc(long id, Pageable pageable);
+
+    /**
+     * Stream all cartoons present on Media Library ordered by identifier.
+     * <p>
+     * The rows are fetched by small batches, so this method must be called in a transaction
+     * and the stream must be closed after use.
+     *
+     * @return Stream of all cartoons.
+     *
+     * @version 1.0
+     * @since 1.3
+     */
+    @QueryHints(value = @QueryHint(name = "org.hibernate.fetchSize",
+                                   value = "100"))
+    @Query(value = "SELECT c FROM Cartoon c ORDER BY c.id ASC")
+    Stream<Cartoon> streamAll();
+
+    /**
+     * Find the last cartoons added on Media Library.
+     *
+     * @param pageable Pageable used to limit the number of cartoons return.
+     *
+     * @return List of the last cartoons, from the most recent to the oldest.
+     *
+     * @version 1.0
+     * @since 1.4
+     */
+    List<Cartoon> findAllByOrderByIdDesc(Pageable pageable);
+
+    /**
+     * Find a page of summaries of the cartoons with an identifier greater than the identifier passed on parameter.
+     *
+     * @param id Identifier of the last cartoon of the previous page.
+     * @param pageable Pageable used to limit the number of summaries return.
+     *
+     * @return List of summaries ordered by identifier.
+     *
+     * @version 1.0
+     * @since 1.5
+     */
+    @Query(value = MediaSummary.SELECT + "FROM Cartoon m WHERE m.id > :id ORDER BY m.id ASC")
+    List<MediaSummary> findSummariesByIdGreaterThan(@Param("id") long id, Pageable pageable);
+
+    /**
+     * Find the summaries of the cartoons by identifier.
+     *
+     * @param ids Identifiers of the cartoons.
+     *
+     * @return List of summaries found, in any order.
+     *
+     * @version 1.0
+     * @since 1.5
+     */
+    @Query(value = MediaSummary.SELECT + "FROM Cartoon m WHERE m.id IN :ids")
+    List<MediaSummary> findSummariesByIdIn(@Param("ids") Iterable<Long> ids);
+
+    /**
+     * Find the summaries of the cartoons by title like.
+     *
+     * @param title Title of the cartoons search on Database.
+     *
+     * @return List of summaries of the cartoons who contains the title.
+     *
+     * @version 1.0
+     * @since 1.5
+     */
+    @Query(value = MediaSummary.SELECT + "FROM Cartoon m "
+            + "WHERE LOWER(m.title) LIKE LOWER(CONCAT('%', :title, '%'))")
+    List<MediaSummary> findSummariesByTitleContaining(@Param("title") String title);
+
+    /**
+     * Find the summaries of the last cartoons added on Media Library.
+     *
+     * @param pageable Pageable used to limit the number of summaries return.
+     *
+     * @return List of summaries of the last cartoons, from the most recent to the oldest.
+     *
+     * @version 1.0
+     * @since 1.5
+     */
+    @Query(value = MediaSummary.SELECT + "FROM Cartoon m ORDER BY m.id DESC")
+    List<MediaSummary> findLatestSummaries(Pageable pageable);
 }
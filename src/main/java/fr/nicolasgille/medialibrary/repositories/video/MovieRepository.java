@@ -19,12 +19,19 @@
 package fr.nicolasgille.medialibrary.repositories.video;
 
 
+import fr.nicolasgille.medialibrary.models.MediaSummary;
 import fr.nicolasgille.medialibrary.models.video.Movie;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import javax.transaction.Transactional;
-import java.util.Calendar;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * An interface who specified method to interact with the movies.
@@ -35,7 +42,7 @@ import java.util.List;
  * *
  *
  * @author Nicolas GILLE
- * @version 1.2
+ * @version 1.7
  * @since Media-Library 0.1
  */
 @Transactional
@@ -74,8 +81,103 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
      *
      * @return An instance of movie search by title, duration and releaseDate.
      *
-     * @version 1.1
+     * @version 1.2
      * @since 1.1
      */
-    Movie findByTitleAndRuntimeAndReleaseDate(String title, int runtime, Calendar releaseDate);
+    Movie findByTitleAndRuntimeAndReleaseDate(String title, int runtime, LocalDate releaseDate);
+
+    /**
+     * Find a page of movies with an identifier greater than the identifier passed on parameter.
+     *
+     * @param id Identifier of the last movie of the previous page.
+     * @param pageable Pageable used to limit the number of movies return.
+     *
+     * @return List of movies ordered by identifier.
+     *
+     * @version 1.0
+     * @since 1.3
+     */
+    List<Movie> findByIdGreaterThanOrderByIdAsc(long id, Pageable pageable);
+
+    /**
+     * Stream all movies present on Media Library ordered by identifier.
+     * <p>
+     * The rows are fetched by small batches, so this method must be called in a transaction
+     * and the stream must be closed after use.
+     *
+     * @return Stream of all movies.
+     *
+     * @version 1.0
+     * @since 1.4
+     */
+    @QueryHints(value = @QueryHint(name = "org.hibernate.fetchSize",
+                                   value = "100"))
+    @Query(value = "SELECT m FROM Movie m ORDER BY m.id ASC")
+    Stream<Movie> streamAll();
+
+    /**
+     * Find the last movies added on Media Library.
+     *
+     * @param pageable Pageable used to limit the number of movies return.
+     *
+     * @return List of the last movies, from the most recent to the oldest.
+     *
+     * @version 1.0
+     * @since 1.5
+     */
+    List<Movie> findAllByOrderByIdDesc(Pageable pageable);
+
+    /**
+     * Find a page of summaries of the movies with an identifier greater than the identifier passed on parameter.
+     *
+     * @param id Identifier of the last movie of the previous page.
+     * @param pageable Pageable used to limit the number of summaries return.
+     *
+     * @return List of summaries ordered by identifier.
+     *
+     * @version 1.0
+     * @since 1.6
+     */
+    @Query(value = MediaSummary.SELECT + "FROM Movie m WHERE m.id > :id ORDER BY m.id ASC")
+    List<MediaSummary> findSummariesByIdGreaterThan(@Param("id") long id, Pageable pageable);
+
+    /**
+     * Find the summaries of the movies by identifier.
+     *
+     * @param ids Identifiers of the movies.
+     *
+     * @return List of summaries found, in any order.
+     *
+     * @version 1.0
+     * @since 1.6
+     */
+    @Query(value = MediaSummary.SELECT + "FROM Movie m WHERE m.id IN :ids")
+    List<MediaSummary> findSummariesByIdIn(@Param("ids") Iterable<Long> ids);
+
+    /**
+     * Find the summaries of the movies by title like.
+     *
+     * @param title Title of the movies search on Database.
+     *
+     * @return List of summaries of the movies who contains the title.
+     *
+     * @version 1.0
+     * @since 1.6
+     */
+    @Query(value = MediaSummary.SELECT + "FROM Movie m "
+            + "WHERE LOWER(m.title) LIKE LOWER(CONCAT('%', :title, '%'))")
+    List<MediaSummary> findSummariesByTitleContaining(@Param("title") String title);
+
+    /**
+     * Find the summaries of the last movies added on Media Library.
+     *
+     * @param pageable Pageable used to limit the number of summaries return.
+     *
+     * @return List of summaries of the last movies, from the most recent to the oldest.
+     *
+     * @version 1.0
+     * @since 1.6
+     */
+    @Query(value = MediaSummary.SELECT + "FROM Movie m ORDER BY m.id DESC")
+    List<MediaSummary> findLatestSummaries(Pageable pageable);
 }
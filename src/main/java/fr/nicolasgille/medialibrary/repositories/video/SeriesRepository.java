@@ -18,11 +18,18 @@
 
 package fr.nicolasgille.medialibrary.repositories.video;
 
+import fr.nicolasgille.medialibrary.models.MediaSummary;
 import fr.nicolasgille.medialibrary.models.video.Series;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import javax.transaction.Transactional;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * An interface who specified method to interact with the series table.
@@ -32,7 +39,7 @@ import java.util.List;
  * Then, we add in the future much method to interact with the table "movies", in particular getXXXX methods.
  *
  * @author Nicolas GILLE
- * @version 1.2
+ * @version 1.6
  * @since Media-Library 0.2
  */
 @Transactional
@@ -74,4 +81,99 @@ public interface SeriesRepository extends JpaRepository<Series, Long> {
      * @since 1.1
      */
     Series findByTitleAndCurrentSeason(String title, int currentSeason);
+
+    /**
+     * Find a page of series with an identifier greater than the identifier passed on parameter.
+     *
+     * @param id Identifier of the last series of the previous page.
+     * @param pageable Pageable used to limit the number of series return.
+     *
+     * @return List of series ordered by identifier.
+     *
+     * @version 1.0
+     * @since 1.3
+     */
+    List<Series> findByIdGreaterThanOrderByIdAsc(long id, Pageable pageable);
+
+    /**
+     * Stream all series present on Media Library ordered by identifier.
+     * <p>
+     * The rows are fetched by small batches, so this method must be called in a transaction
+     * and the stream must be closed after use.
+     *
+     * @return Stream of all series.
+     *
+     * @version 1.0
+     * @since 1.4
+     */
+    @QueryHints(value = @QueryHint(name = "org.hibernate.fetchSize",
+                                   value = "100"))
+    @Query(value = "SELECT s FROM Series s ORDER BY s.id ASC")
+    Stream<Series> streamAll();
+
+    /**
+     * Find the last series added on Media Library.
+     *
+     * @param pageable Pageable used to limit the number of series return.
+     *
+     * @return List of the last series, from the most recent to the oldest.
+     *
+     * @version 1.0
+     * @since 1.5
+     */
+    List<Series> findAllByOrderByIdDesc(Pageable pageable);
+
+    /**
+     * Find a page of summaries of the series with an identifier greater than the identifier passed on parameter.
+     *
+     * @param id Identifier of the last series of the previous page.
+     * @param pageable Pageable used to limit the number of summaries return.
+     *
+     * @return List of summaries ordered by identifier.
+     *
+     * @version 1.0
+     * @since 1.6
+     */
+    @Query(value = MediaSummary.SELECT + "FROM Series m WHERE m.id > :id ORDER BY m.id ASC")
+    List<MediaSummary> findSummariesByIdGreaterThan(@Param("id") long id, Pageable pageable);
+
+    /**
+     * Find the summaries of the series by identifier.
+     *
+     * @param ids Identifiers of the series.
+     *
+     * @return List of summaries found, in any order.
+     *
+     * @version 1.0
+     * @since 1.6
+     */
+    @Query(value = MediaSummary.SELECT + "FROM Series m WHERE m.id IN :ids")
+    List<MediaSummary> findSummariesByIdIn(@Param("ids") Iterable<Long> ids);
+
+    /**
+     * Find the summaries of the series by title like.
+     *
+     * @param title Title of the series search on Database.
+     *
+     * @return List of summaries of the series who contains the title.
+     *
+     * @version 1.0
+     * @since 1.6
+     */
+    @Query(value = MediaSummary.SELECT + "FROM Series m "
+            + "WHERE LOWER(m.title) LIKE LOWER(CONCAT('%', :title, '%'))")
+    List<MediaSummary> findSummariesByTitleContaining(@Param("title") String title);
+
+    /**
+     * Find the summaries of the last series added on Media Library.
+     *
+     * @param pageable Pageable used to limit the number of summaries return.
+     *
+     * @return List of summaries of the last series, from the most recent to the oldest.
+     *
+     * @version 1.0
+     * @since 1.6
+     */
+    @Query(value = MediaSummary.SELECT + "FROM Series m ORDER BY m.id DESC")
+    List<MediaSummary> findLatestSummaries(Pageable pageable);
 }
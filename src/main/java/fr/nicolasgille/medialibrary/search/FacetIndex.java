@@ -0,0 +1,308 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.search;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In memory index of the values of several facets of documents, used to filter and count documents quickly.
+ * <p>
+ * Each value of each facet keeps the set of documents who have this value as a bitset indexed by the
+ * identifier of the document.
+ * A filter is an OR between the bitsets of the values selected on a facet, then an AND between the facets.
+ * The count of a value is the number of documents of his bitset who match the selections of the other facets,
+ * so the user can see how much documents he would get if he add this value on his selection.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+public class FacetIndex {
+
+    /**
+     * Documents who have each value of each facet.
+     *
+     * @since 1.0
+     */
+    private final Map<String, Map<String, BitSet>> facets = new HashMap<>();
+
+    /**
+     * Values of each document, used to remove a document from the bitsets.
+     *
+     * @since 1.0
+     */
+    private final Map<Long, Map<String, Set<String>>> documents = new HashMap<>();
+
+    /**
+     * All documents present on the index.
+     *
+     * @since 1.0
+     */
+    private final BitSet all = new BitSet();
+
+    /**
+     * Lock used to let several searches run during the absence of update.
+     *
+     * @since 1.0
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Add a document on the index, or replace it if already present.
+     *
+     * @param id Identifier of the document, lower than <code>Integer.MAX_VALUE</code>.
+     * @param values Values of each facet of the document.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public void add(long id, Map<String, ? extends Collection<String>> values) {
+        int bit = FacetIndex.bit(id);
+        Map<String, Set<String>> document = new HashMap<>();
+        for (Map.Entry<String, ? extends Collection<String>> facet : values.entrySet()) {
+            if (facet.getValue() != null && !facet.getValue().isEmpty()) {
+                document.put(facet.getKey(), new HashSet<>(facet.getValue()));
+            }
+        }
+
+        this.lock.writeLock().lock();
+        try {
+            this.unindex(id);
+            for (Map.Entry<String, Set<String>> facet : document.entrySet()) {
+                Map<String, BitSet> facetValues = this.facets.computeIfAbsent(facet.getKey(), k -> new HashMap<>());
+                for (String value : facet.getValue()) {
+                    facetValues.computeIfAbsent(value, k -> new BitSet()).set(bit);
+                }
+            }
+            this.documents.put(id, document);
+            this.all.set(bit);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a document from the index.
+     *
+     * @param id Identifier of the document at remove.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public void remove(long id) {
+        this.lock.writeLock().lock();
+        try {
+            this.unindex(id);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove all documents from the index.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public void clear() {
+        this.lock.writeLock().lock();
+        try {
+            this.facets.clear();
+            this.documents.clear();
+            this.all.clear();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Return a page of the documents who match the selections, ordered by identifier.
+     *
+     * @param selections Values selected on each facet.
+     * @param after Identifier of the last document of the previous page.
+     * @param limit Maximum number of documents at return.
+     *
+     * @return The identifiers of the documents of the page.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public List<Long> page(Map<String, ? extends Collection<String>> selections, long after, int limit) {
+        this.lock.readLock().lock();
+        try {
+            BitSet matches = this.match(selections, null);
+            List<Long> ids = new ArrayList<>(Math.min(limit, matches.cardinality()));
+            int from = after >= Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) after + 1;
+            for (int i = matches.nextSetBit(from); i >= 0 && ids.size() < limit; i = matches.nextSetBit(i + 1)) {
+                ids.add((long) i);
+            }
+            return ids;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Count the documents who match the selections.
+     *
+     * @param selections Values selected on each facet.
+     *
+     * @return The number of documents.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public int count(Map<String, ? extends Collection<String>> selections) {
+        this.lock.readLock().lock();
+        try {
+            return this.match(selections, null).cardinality();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Count the documents of each value of each facet.
+     * <p>
+     * The count of a value is computed on the documents who match the selections of the other facets only,
+     * so the other values of a facet already selected still have their count.
+     * The values without document are not returned.
+     *
+     * @param selections Values selected on each facet.
+     *
+     * @return The number of documents of each value of each facet, in alphabetical order.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public Map<String, Map<String, Integer>> counts(Map<String, ? extends Collection<String>> selections) {
+        this.lock.readLock().lock();
+        try {
+            Map<String, Map<String, Integer>> counts = new TreeMap<>();
+            for (Map.Entry<String, Map<String, BitSet>> facet : this.facets.entrySet()) {
+                BitSet others = this.match(selections, facet.getKey());
+                Map<String, Integer> facetCounts = new TreeMap<>();
+                for (Map.Entry<String, BitSet> value : facet.getValue().entrySet()) {
+                    BitSet bits = (BitSet) value.getValue().clone();
+                    bits.and(others);
+                    int count = bits.cardinality();
+                    if (count > 0) {
+                        facetCounts.put(value.getKey(), count);
+                    }
+                }
+                counts.put(facet.getKey(), facetCounts);
+            }
+            return counts;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Compute the documents who match the selections, the read lock must be held by the caller.
+     *
+     * @param selections Values selected on each facet.
+     * @param ignored Facet at ignore, or null.
+     *
+     * @return A new bitset of the documents who match the selections.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    private BitSet match(Map<String, ? extends Collection<String>> selections, String ignored) {
+        BitSet matches = (BitSet) this.all.clone();
+        for (Map.Entry<String, ? extends Collection<String>> selection : selections.entrySet()) {
+            if (selection.getKey().equals(ignored) || selection.getValue() == null
+                    || selection.getValue().isEmpty()) {
+                continue;
+            }
+
+            Map<String, BitSet> facetValues = this.facets.getOrDefault(selection.getKey(), Collections.emptyMap());
+            BitSet any = new BitSet();
+            for (String value : selection.getValue()) {
+                BitSet bits = facetValues.get(value);
+                if (bits != null) {
+                    any.or(bits);
+                }
+            }
+            matches.and(any);
+        }
+        return matches;
+    }
+
+    /**
+     * Remove a document from the bitsets, the write lock must be held by the caller.
+     *
+     * @param id Identifier of the document at remove.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    private void unindex(long id) {
+        Map<String, Set<String>> document = this.documents.remove(id);
+        if (document == null) {
+            return;
+        }
+
+        int bit = FacetIndex.bit(id);
+        for (Map.Entry<String, Set<String>> facet : document.entrySet()) {
+            Map<String, BitSet> facetValues = this.facets.get(facet.getKey());
+            for (String value : facet.getValue()) {
+                BitSet bits = facetValues.get(value);
+                bits.clear(bit);
+                if (bits.isEmpty()) {
+                    facetValues.remove(value);
+                }
+            }
+            if (facetValues.isEmpty()) {
+                this.facets.remove(facet.getKey());
+            }
+        }
+        this.all.clear(bit);
+    }
+
+    /**
+     * Return the index of the bit of a document.
+     *
+     * @param id Identifier of the document.
+     *
+     * @return The index of the bit.
+     *
+     * @throws IllegalArgumentException If the identifier can't be stored on a bitset.
+     * @version 1.0
+     * @since 1.0
+     */
+    private static int bit(long id) {
+        if (id < 0 || id >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Identifier " + id + " can't be indexed on a bitset.");
+        }
+        return (int) id;
+    }
+}
@@ -0,0 +1,323 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+/**
+ * In memory inverted index on the text fields of documents, ranked with the BM25 function.
+ * <p>
+ * Each document is identified by a long and composed of several text fields, each field has its own weight
+ * on the frequency of the terms, so a term found on a title count more than a term found on a synopsis.
+ * The index is updated document by document and can be read by several threads at the same time.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+public class InvertedIndex {
+
+    /**
+     * Saturation of the frequency of a term on BM25.
+     *
+     * @since 1.0
+     */
+    public final static double K1 = 1.2;
+
+    /**
+     * Normalization of the length of the documents on BM25.
+     *
+     * @since 1.0
+     */
+    public final static double B = 0.75;
+
+    /**
+     * Weight of each field of a document.
+     *
+     * @since 1.0
+     */
+    private final double[] fieldWeights;
+
+    /**
+     * Weighted frequency of each term on each document who contains it.
+     *
+     * @since 1.0
+     */
+    private final Map<String, Map<Long, Double>> postings = new HashMap<>();
+
+    /**
+     * Terms of each document, used to remove a document from the postings.
+     *
+     * @since 1.0
+     */
+    private final Map<Long, Set<String>> documents = new HashMap<>();
+
+    /**
+     * Weighted length of each document.
+     *
+     * @since 1.0
+     */
+    private final Map<Long, Double> lengths = new HashMap<>();
+
+    /**
+     * Sum of the weighted length of all documents.
+     *
+     * @since 1.0
+     */
+    private double totalLength;
+
+    /**
+     * Lock used to let several searches run during the absence of update.
+     *
+     * @since 1.0
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Constructor of the index.
+     *
+     * @param fieldWeights Weight of each field of the documents, in the order of the fields.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public InvertedIndex(double... fieldWeights) {
+        this.fieldWeights = fieldWeights.clone();
+    }
+
+    /**
+     * Split a text on terms in lower case and without accent.
+     *
+     * @param text Text at split, can be null.
+     *
+     * @return All terms of the text in order of appearance.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD).toLowerCase(Locale.ROOT);
+        StringBuilder term = new StringBuilder();
+        for (int i = 0; i < normalized.length(); ++i) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                term.append(c);
+            } else if (Character.getType(c) != Character.NON_SPACING_MARK && term.length() > 0) {
+                terms.add(term.toString());
+                term.setLength(0);
+            }
+        }
+        if (term.length() > 0) {
+            terms.add(term.toString());
+        }
+        return terms;
+    }
+
+    /**
+     * Add a document on the index, or replace it if already present.
+     *
+     * @param id Identifier of the document.
+     * @param fields Text of each field of the document, in the same order as the weights.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public void add(long id, String... fields) {
+        // Compute the weighted frequency of each term before taking the lock.
+        Map<String, Double> frequencies = new HashMap<>();
+        double length = 0;
+        for (int i = 0; i < fields.length && i < this.fieldWeights.length; ++i) {
+            for (String term : InvertedIndex.tokenize(fields[i])) {
+                frequencies.merge(term, this.fieldWeights[i], Double::sum);
+                length += this.fieldWeights[i];
+            }
+        }
+
+        this.lock.writeLock().lock();
+        try {
+            this.unindex(id);
+            for (Map.Entry<String, Double> frequency : frequencies.entrySet()) {
+                this.postings.computeIfAbsent(frequency.getKey(), k -> new HashMap<>())
+                             .put(id, frequency.getValue());
+            }
+            this.documents.put(id, frequencies.keySet());
+            this.lengths.put(id, length);
+            this.totalLength += length;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a document from the index.
+     *
+     * @param id Identifier of the document at remove.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public void remove(long id) {
+        this.lock.writeLock().lock();
+        try {
+            this.unindex(id);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove all documents from the index.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public void clear() {
+        this.lock.writeLock().lock();
+        try {
+            this.postings.clear();
+            this.documents.clear();
+            this.lengths.clear();
+            this.totalLength = 0;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Return the number of documents present on the index.
+     *
+     * @return The number of documents.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.documents.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Search the documents who contains all terms of the query, from the most relevant to the less relevant.
+     *
+     * @param query Text of the query.
+     * @param filter Filter on the identifier of the documents at return.
+     *
+     * @return The identifiers of the documents found, ordered by BM25 score, or an empty list if the query
+     *         contains no term.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public List<Long> search(String query, LongPredicate filter) {
+        Set<String> terms = new LinkedHashSet<>(InvertedIndex.tokenize(query));
+        if (terms.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        this.lock.readLock().lock();
+        try {
+            // Start from the rarest term to intersect the smallest number of documents.
+            List<Map<Long, Double>> matches = new ArrayList<>();
+            for (String term : terms) {
+                Map<Long, Double> posting = this.postings.get(term);
+                if (posting == null) {
+                    return Collections.emptyList();
+                }
+                matches.add(posting);
+            }
+            matches.sort((a, b) -> Integer.compare(a.size(), b.size()));
+
+            int count = this.documents.size();
+            double averageLength = this.totalLength / count;
+            Map<Long, Double> scores = new HashMap<>();
+            for (Long id : matches.get(0).keySet()) {
+                if (!filter.test(id)) {
+                    continue;
+                }
+                double score = 0;
+                double norm = InvertedIndex.K1 * (1 - InvertedIndex.B
+                                                  + InvertedIndex.B * this.lengths.get(id) / averageLength);
+                for (Map<Long, Double> posting : matches) {
+                    Double frequency = posting.get(id);
+                    if (frequency == null) {
+                        score = -1;
+                        break;
+                    }
+                    double idf = Math.log(1 + (count - posting.size() + 0.5) / (posting.size() + 0.5));
+                    score += idf * frequency * (InvertedIndex.K1 + 1) / (frequency + norm);
+                }
+                if (score >= 0) {
+                    scores.put(id, score);
+                }
+            }
+
+            List<Long> ids = new ArrayList<>(scores.keySet());
+            ids.sort((a, b) -> {
+                int compare = Double.compare(scores.get(b), scores.get(a));
+                return compare != 0 ? compare : Long.compare(a, b);
+            });
+            return ids;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a document from the postings, the lock must be held by the caller.
+     *
+     * @param id Identifier of the document at remove.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    private void unindex(long id) {
+        Set<String> terms = this.documents.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Double> posting = this.postings.get(term);
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                this.postings.remove(term);
+            }
+        }
+        this.totalLength -= this.lengths.remove(id);
+    }
+}
@@ -0,0 +1,435 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prefix tree of the titles of the media, used to complete a title while the user type it.
+ * <p>
+ * The titles are normalized in lower case, without accent and with a single space between words.
+ * Each node keeps the best completions of all titles under it, computed on each write, so a completion is only
+ * a walk on the characters of the prefix and return an array already built.
+ * The completions are ordered from the shortest title to the longest, then in alphabetical order.
+ * A completion can be read without lock while a title is added or removed.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+public class TitleTrie {
+
+    /**
+     * Order of the completions.
+     *
+     * @since 1.0
+     */
+    private final static Comparator<Completion> ORDER = Comparator
+            .comparingInt((Completion c) -> c.getTitle().length())
+            .thenComparing(Completion::getTitle, String.CASE_INSENSITIVE_ORDER)
+            .thenComparingLong(Completion::getId);
+
+    /**
+     * Number of completions kept on each node.
+     *
+     * @since 1.0
+     */
+    private final int size;
+
+    /**
+     * Root of the tree, for the empty prefix.
+     *
+     * @since 1.0
+     */
+    private final Node root = new Node('\0');
+
+    /**
+     * Completion of each title present on the tree.
+     *
+     * @since 1.0
+     */
+    private final Map<Long, Completion> completions = new HashMap<>();
+
+    /**
+     * Constructor of the tree.
+     *
+     * @param size Number of completions kept on each node.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public TitleTrie(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Normalize a title or a prefix.
+     *
+     * @param text Text at normalize, can be null.
+     *
+     * @return The words of the text in lower case and without accent, separated by a space.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public static String normalize(String text) {
+        return String.join(" ", InvertedIndex.tokenize(text));
+    }
+
+    /**
+     * Add the title of a media, or replace it if the media is already present.
+     *
+     * @param id Identifier of the media.
+     * @param title Title of the media.
+     * @param type Type of the media.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public synchronized void add(long id, String title, String type) {
+        this.unindex(id);
+        String key = TitleTrie.normalize(title);
+        if (key.isEmpty()) {
+            return;
+        }
+
+        Completion completion = new Completion(id, title, type);
+        this.completions.put(id, completion);
+        Node node = this.root;
+        node.top = this.insert(node.top, completion);
+        for (int i = 0; i < key.length(); ++i) {
+            node = node.childOrCreate(key.charAt(i));
+            node.top = this.insert(node.top, completion);
+        }
+        node.terminals.add(completion);
+    }
+
+    /**
+     * Remove the title of a media.
+     *
+     * @param id Identifier of the media.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public synchronized void remove(long id) {
+        this.unindex(id);
+    }
+
+    /**
+     * Remove all titles.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public synchronized void clear() {
+        this.completions.clear();
+        this.root.children = new Node[0];
+        this.root.terminals.clear();
+        this.root.top = new Completion[0];
+    }
+
+    /**
+     * Return the best completions of a prefix.
+     *
+     * @param prefix Beginning of the title typed by the user.
+     * @param limit Maximum number of completions at return, bounded by the size of the tree.
+     *
+     * @return The completions of the prefix, from the best to the worst.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public List<Completion> complete(String prefix, int limit) {
+        String key = TitleTrie.normalize(prefix);
+        Node node = this.root;
+        for (int i = 0; i < key.length() && node != null; ++i) {
+            node = node.child(key.charAt(i));
+        }
+        if (node == null) {
+            return Collections.emptyList();
+        }
+
+        Completion[] top = node.top;
+        return Arrays.asList(top).subList(0, Math.min(Math.max(limit, 0), top.length));
+    }
+
+    /**
+     * Remove a title from the tree and compute again the completions of the nodes who contains it.
+     * The monitor of the tree must be held by the caller.
+     *
+     * @param id Identifier of the media at remove.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    private void unindex(long id) {
+        Completion completion = this.completions.remove(id);
+        if (completion == null) {
+            return;
+        }
+
+        // Get the path of the title, from the root to the last character.
+        String key = TitleTrie.normalize(completion.getTitle());
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        path.add(this.root);
+        for (int i = 0; i < key.length(); ++i) {
+            path.add(path.get(i).child(key.charAt(i)));
+        }
+        path.get(path.size() - 1).terminals.remove(completion);
+
+        // The completions of a node are the best of his own titles and of the completions of his children.
+        for (int i = path.size() - 1; i >= 0; --i) {
+            Node node = path.get(i);
+            if (!Arrays.asList(node.top).contains(completion)) {
+                break;
+            }
+            List<Completion> candidates = new ArrayList<>(node.terminals);
+            for (Node child : node.children) {
+                candidates.addAll(Arrays.asList(child.top));
+            }
+            candidates.sort(ORDER);
+            node.top = candidates.subList(0, Math.min(this.size, candidates.size())).toArray(new Completion[0]);
+        }
+    }
+
+    /**
+     * Insert a completion on the best completions of a node, if good enough.
+     *
+     * @param top Best completions of the node.
+     * @param completion Completion at insert.
+     *
+     * @return A new array with the completion, or the same array if the completion is not good enough.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    private Completion[] insert(Completion[] top, Completion completion) {
+        int position = Arrays.binarySearch(top, completion, ORDER);
+        if (position >= 0) {
+            return top;
+        }
+        position = -position - 1;
+        if (position >= this.size) {
+            return top;
+        }
+
+        Completion[] inserted = new Completion[Math.min(this.size, top.length + 1)];
+        System.arraycopy(top, 0, inserted, 0, position);
+        inserted[position] = completion;
+        System.arraycopy(top, position, inserted, position + 1, inserted.length - position - 1);
+        return inserted;
+    }
+
+    /**
+     * Completion of a prefix, returned as is to the client.
+     *
+     * @author Nicolas GILLE
+     * @version 1.0
+     * @since Media-Library 1.1
+     */
+    public static final class Completion {
+
+        /**
+         * Identifier of the media.
+         *
+         * @since 1.0
+         */
+        private final long id;
+
+        /**
+         * Title of the media, as written by the user.
+         *
+         * @since 1.0
+         */
+        private final String title;
+
+        /**
+         * Type of the media.
+         *
+         * @since 1.0
+         */
+        private final String type;
+
+        /**
+         * Constructor of the completion.
+         *
+         * @param id Identifier of the media.
+         * @param title Title of the media.
+         * @param type Type of the media.
+         *
+         * @version 1.0
+         * @since 1.0
+         */
+        public Completion(long id, String title, String type) {
+            this.id = id;
+            this.title = title;
+            this.type = type;
+        }
+
+        /**
+         * Return the identifier of the media.
+         *
+         * @return The identifier of the media.
+         *
+         * @version 1.0
+         * @since 1.0
+         */
+        public long getId() {
+            return this.id;
+        }
+
+        /**
+         * Return the title of the media.
+         *
+         * @return The title of the media.
+         *
+         * @version 1.0
+         * @since 1.0
+         */
+        public String getTitle() {
+            return this.title;
+        }
+
+        /**
+         * Return the type of the media.
+         *
+         * @return The type of the media.
+         *
+         * @version 1.0
+         * @since 1.0
+         */
+        public String getType() {
+            return this.type;
+        }
+    }
+
+    /**
+     * Node of the tree for one character of a prefix.
+     *
+     * @author Nicolas GILLE
+     * @version 1.0
+     * @since Media-Library 1.1
+     */
+    private static final class Node {
+
+        /**
+         * Character of the node.
+         *
+         * @since 1.0
+         */
+        private final char label;
+
+        /**
+         * Children of the node, ordered by character and replaced on each new child.
+         *
+         * @since 1.0
+         */
+        private volatile Node[] children = new Node[0];
+
+        /**
+         * Best completions of the prefix of the node, replaced on each change.
+         *
+         * @since 1.0
+         */
+        private volatile Completion[] top = new Completion[0];
+
+        /**
+         * Titles who end on the node.
+         *
+         * @since 1.0
+         */
+        private final List<Completion> terminals = new ArrayList<>(1);
+
+        /**
+         * Constructor of the node.
+         *
+         * @param label Character of the node.
+         *
+         * @version 1.0
+         * @since 1.0
+         */
+        private Node(char label) {
+            this.label = label;
+        }
+
+        /**
+         * Return the child of the node for a character.
+         *
+         * @param c Character of the child.
+         *
+         * @return The child, or null if absent.
+         *
+         * @version 1.0
+         * @since 1.0
+         */
+        private Node child(char c) {
+            Node[] nodes = this.children;
+            int low = 0;
+            int high = nodes.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                char label = nodes[middle].label;
+                if (label < c) {
+                    low = middle + 1;
+                } else if (label > c) {
+                    high = middle - 1;
+                } else {
+                    return nodes[middle];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Return the child of the node for a character, created if absent.
+         *
+         * @param c Character of the child.
+         *
+         * @return The child.
+         *
+         * @version 1.0
+         * @since 1.0
+         */
+        private Node childOrCreate(char c) {
+            Node child = this.child(c);
+            if (child != null) {
+                return child;
+            }
+
+            Node[] nodes = this.children;
+            int position = 0;
+            while (position < nodes.length && nodes[position].label < c) {
+                ++position;
+            }
+            Node[] created = new Node[nodes.length + 1];
+            System.arraycopy(nodes, 0, created, 0, position);
+            created[position] = new Node(c);
+            System.arraycopy(nodes, position, created, position + 1, nodes.length - position);
+            this.children = created;
+            return created[position];
+        }
+    }
+}
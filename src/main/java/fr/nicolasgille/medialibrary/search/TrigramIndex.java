@@ -0,0 +1,287 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+/**
+ * In memory index of the trigrams of short texts, used to find the texts close to a text with typos.
+ * <p>
+ * Each word is padded with two spaces before and one space after, then cut in sequences of three characters.
+ * The similarity of two texts is the number of trigrams shared divided by the number of distinct trigrams
+ * of both texts, and a document match when one of his fields is similar enough to the query.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+public class TrigramIndex {
+
+    /**
+     * Default similarity at reach to match a query.
+     *
+     * @since 1.0
+     */
+    public final static double DEFAULT_THRESHOLD = 0.3;
+
+    /**
+     * Similarity at reach to match a query.
+     *
+     * @since 1.0
+     */
+    private final double threshold;
+
+    /**
+     * Bitmask of the fields who contains each trigram for each document.
+     *
+     * @since 1.0
+     */
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+
+    /**
+     * Number of trigrams of each field of each document.
+     *
+     * @since 1.0
+     */
+    private final Map<Long, int[]> sizes = new HashMap<>();
+
+    /**
+     * Trigrams of each document, used to remove a document from the postings.
+     *
+     * @since 1.0
+     */
+    private final Map<Long, Set<String>> documents = new HashMap<>();
+
+    /**
+     * Lock used to let several searches run during the absence of update.
+     *
+     * @since 1.0
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Constructor of the index with the default threshold.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public TrigramIndex() {
+        this(DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Constructor of the index.
+     *
+     * @param threshold Similarity at reach to match a query, between 0 and 1.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public TrigramIndex(double threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Return the trigrams of a text.
+     *
+     * @param text Text at cut, can be null.
+     *
+     * @return The distinct trigrams of all words of the text.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public static Set<String> trigrams(String text) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (String word : InvertedIndex.tokenize(text)) {
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); ++i) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+
+    /**
+     * Add a document on the index, or replace it if already present.
+     *
+     * @param id Identifier of the document.
+     * @param fields Text of each field of the document, 31 fields at most.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public void add(long id, String... fields) {
+        // Compute the trigrams of each field before taking the lock.
+        Map<String, Integer> masks = new HashMap<>();
+        int[] fieldSizes = new int[fields.length];
+        for (int i = 0; i < fields.length; ++i) {
+            Set<String> trigrams = TrigramIndex.trigrams(fields[i]);
+            fieldSizes[i] = trigrams.size();
+            for (String trigram : trigrams) {
+                masks.merge(trigram, 1 << i, (a, b) -> a | b);
+            }
+        }
+
+        this.lock.writeLock().lock();
+        try {
+            this.unindex(id);
+            for (Map.Entry<String, Integer> mask : masks.entrySet()) {
+                this.postings.computeIfAbsent(mask.getKey(), k -> new HashMap<>())
+                             .put(id, mask.getValue());
+            }
+            this.documents.put(id, masks.keySet());
+            this.sizes.put(id, fieldSizes);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a document from the index.
+     *
+     * @param id Identifier of the document at remove.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public void remove(long id) {
+        this.lock.writeLock().lock();
+        try {
+            this.unindex(id);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove all documents from the index.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public void clear() {
+        this.lock.writeLock().lock();
+        try {
+            this.postings.clear();
+            this.sizes.clear();
+            this.documents.clear();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Search the documents with a field similar to the query, from the most similar to the less similar.
+     *
+     * @param query Text of the query.
+     * @param filter Filter on the identifier of the documents at return.
+     *
+     * @return The identifiers of the documents with a similarity greater or equal to the threshold.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public List<Long> search(String query, LongPredicate filter) {
+        Set<String> trigrams = TrigramIndex.trigrams(query);
+        if (trigrams.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        this.lock.readLock().lock();
+        try {
+            // Count the trigrams shared by the query and each field of each document.
+            Map<Long, int[]> shared = new HashMap<>();
+            for (String trigram : trigrams) {
+                Map<Long, Integer> posting = this.postings.get(trigram);
+                if (posting == null) {
+                    continue;
+                }
+                for (Map.Entry<Long, Integer> document : posting.entrySet()) {
+                    if (!filter.test(document.getKey())) {
+                        continue;
+                    }
+                    int[] counts = shared.computeIfAbsent(document.getKey(), id -> new int[this.sizes.get(id).length]);
+                    int mask = document.getValue();
+                    for (int field = 0; mask != 0; ++field, mask >>>= 1) {
+                        counts[field] += mask & 1;
+                    }
+                }
+            }
+
+            // Keep the best similarity of each document.
+            Map<Long, Double> similarities = new HashMap<>();
+            for (Map.Entry<Long, int[]> document : shared.entrySet()) {
+                int[] fieldSizes = this.sizes.get(document.getKey());
+                int[] counts = document.getValue();
+                double best = 0;
+                for (int field = 0; field < counts.length; ++field) {
+                    int union = trigrams.size() + fieldSizes[field] - counts[field];
+                    if (union > 0) {
+                        best = Math.max(best, (double) counts[field] / union);
+                    }
+                }
+                if (best >= this.threshold) {
+                    similarities.put(document.getKey(), best);
+                }
+            }
+
+            List<Long> ids = new ArrayList<>(similarities.keySet());
+            ids.sort((a, b) -> {
+                int compare = Double.compare(similarities.get(b), similarities.get(a));
+                return compare != 0 ? compare : Long.compare(a, b);
+            });
+            return ids;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a document from the postings, the lock must be held by the caller.
+     *
+     * @param id Identifier of the document at remove.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    private void unindex(long id) {
+        Set<String> trigrams = this.documents.remove(id);
+        if (trigrams == null) {
+            return;
+        }
+        for (String trigram : trigrams) {
+            Map<Long, Integer> posting = this.postings.get(trigram);
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                this.postings.remove(trigram);
+            }
+        }
+        this.sizes.remove(id);
+    }
+}
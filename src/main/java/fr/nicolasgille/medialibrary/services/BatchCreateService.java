@@ -0,0 +1,345 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.services;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.nicolasgille.medialibrary.models.Media;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Service used to create a lot of media of a type with a single request.
+ * <p>
+ * The body of the request is a JSON array of media or newline delimited JSON, read one media at a time with the
+ * streaming API of Jackson, so the memory used doesn't depend on the size of the body.
+ * The media are created by chunks : the persons and companies of all media of a chunk are resolved together,
+ * then the media are saved and the chunk committed on his own transaction.
+ * The response is a JSON array with the result of each media, written after the commit of each chunk :
+ * <ul>
+ * <li><code>{"index":0,"status":201,"id":12}</code> if the media was created.</li>
+ * <li><code>{"index":1,"status":409,"title":"..."}</code> if the media was already present on Database or earlier
+ * on the request.</li>
+ * <li><code>{"index":2,"status":400,"message":"..."}</code> if the media can't be read, the next media are
+ * ignored.</li>
+ * <li><code>{"index":3,"status":500,"message":"..."}</code> if the chunk of the media can't be committed.</li>
+ * </ul>
+ * The media of a chunk are compared between them on the fields checked on Database, the title ignoring the case like
+ * the collation of the Database, so a media present twice on the request is created once.
+ *
+ * @author Nicolas GILLE
+ * @version 1.2
+ * @since Media-Library 1.1
+ */
+@Service
+public class BatchCreateService {
+
+    /**
+     * Logger to get information during some process.
+     *
+     * @since 1.0
+     */
+    static final Logger logger = LoggerFactory.getLogger(BatchCreateService.class);
+
+    /**
+     * Number of media committed by transaction.
+     *
+     * @since 1.0
+     */
+    @Value("${media-library.batch.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * Mapper used to read the media like the JSON endpoints.
+     *
+     * @since 1.0
+     */
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Manager of the transactions, one transaction is used by chunk.
+     *
+     * @since 1.0
+     */
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Service who build the content of the home page, invalidated after each chunk.
+     *
+     * @since 1.0
+     */
+    @Autowired
+    private HomePageService homePageService;
+
+    /**
+     * Service used to search the media by full text, updated after each chunk.
+     *
+     * @since 1.0
+     */
+    @Autowired
+    private MediaSearchService mediaSearchService;
+
+    /**
+     * Create the media read from the body of a request and write the result of each media on the response.
+     *
+     * @param body Body of the request, a JSON array or newline delimited JSON.
+     * @param response Response where the results are written.
+     * @param type Type of the media created.
+     * @param repository Repository used to save the media.
+     * @param exists Function who check if a media is already present on Database.
+     * @param key Function who return the fields checked by exists, used to find a media twice on the same chunk.
+     * @param resolver Function who replace the persons and companies of the media of a chunk by the persons and
+     *                 companies stored on Database.
+     * @param page Fragment of the home page of the type of media.
+     * @param <T> Type of the media.
+     *
+     * @throws IOException If the body can't be read or the response can't be written.
+     * @version 1.2
+     * @since 1.0
+     */
+    public <T extends Media> void create(InputStream body, HttpServletResponse response, Class<T> type,
+                                         JpaRepository<T, Long> repository, Predicate<T> exists,
+                                         Function<T, ?> key, Consumer<List<T>> resolver, String page)
+            throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        JsonGenerator generator = this.objectMapper.getFactory().createGenerator(response.getOutputStream());
+        generator.writeStartArray();
+
+        List<T> chunk = new ArrayList<>(this.chunkSize);
+        int index = 0;
+        int created = 0;
+        try (MappingIterator<T> media = this.objectMapper.readerFor(type).readValues(body)) {
+            while (true) {
+                T m;
+                try {
+                    if (!media.hasNextValue()) {
+                        break;
+                    }
+                    m = media.nextValue();
+                } catch (JsonProcessingException e) {
+                    created += this.save(chunk, index - chunk.size(), repository, exists, key, resolver, page,
+                                         generator);
+                    chunk.clear();
+                    logger.error("Unable to read the media {} of the batch : {}", index, e.getOriginalMessage());
+                    BatchCreateService.result(generator, index, HttpStatus.BAD_REQUEST, "message",
+                                              e.getOriginalMessage());
+                    break;
+                }
+
+                chunk.add(m);
+                index++;
+                if (chunk.size() == this.chunkSize) {
+                    created += this.save(chunk, index - chunk.size(), repository, exists, key, resolver, page,
+                                         generator);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                created += this.save(chunk, index - chunk.size(), repository, exists, key, resolver, page,
+                                     generator);
+            }
+        }
+
+        generator.writeEndArray();
+        generator.close();
+        logger.info("Created {} {} on {} read by batch", created, type.getSimpleName(), index);
+    }
+
+    /**
+     * Save the media of a chunk who are not already present on Database on a single transaction.
+     * <p>
+     * The persons and companies of all media of the chunk are resolved together before the save.
+     * Once committed, the media created are added on the search index and the home page of their type is
+     * invalidated.
+     *
+     * @param chunk Media of the chunk.
+     * @param repository Repository used to save the media.
+     * @param exists Function who check if a media is already present on Database.
+     * @param key Function who return the fields checked by exists, used to find a media twice on the same chunk.
+     * @param resolver Function who replace the persons and companies of the media of a chunk.
+     * @param page Fragment of the home page of the type of media.
+     * @param <T> Type of the media.
+     *
+     * @return For each media of the chunk, true if the media was already present on Database or earlier on the
+     *         chunk, and not created.
+     *
+     * @throws RuntimeException If the chunk can't be committed, no media of the chunk is created.
+     * @version 1.1
+     * @since 1.1
+     */
+    public <T extends Media> boolean[] persist(List<T> chunk, JpaRepository<T, Long> repository, Predicate<T> exists,
+                                               Function<T, ?> key, Consumer<List<T>> resolver, String page) {
+        boolean[] conflicts = new boolean[chunk.size()];
+        if (chunk.isEmpty()) {
+            return conflicts;
+        }
+
+        new TransactionTemplate(this.transactionManager).execute(status -> {
+            List<T> news = new ArrayList<>(chunk.size());
+            Set<Object> keys = new HashSet<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                conflicts[i] = !keys.add(key.apply(chunk.get(i))) || exists.test(chunk.get(i));
+                if (!conflicts[i]) {
+                    news.add(chunk.get(i));
+                }
+            }
+            resolver.accept(news);
+            repository.save(news);
+            return null;
+        });
+
+        boolean created = false;
+        for (int i = 0; i < chunk.size(); i++) {
+            if (!conflicts[i]) {
+                this.mediaSearchService.index(chunk.get(i));
+                created = true;
+            }
+        }
+        if (created) {
+            this.homePageService.invalidate(page);
+        }
+        return conflicts;
+    }
+
+    /**
+     * Save the media of a chunk on a single transaction and write their results.
+     *
+     * @param chunk Media of the chunk.
+     * @param first Index of the first media of the chunk on the request.
+     * @param repository Repository used to save the media.
+     * @param exists Function who check if a media is already present on Database.
+     * @param key Function who return the fields checked by exists, used to find a media twice on the same chunk.
+     * @param resolver Function who replace the persons and companies of the media of a chunk.
+     * @param page Fragment of the home page of the type of media.
+     * @param generator Generator of the response.
+     * @param <T> Type of the media.
+     *
+     * @return The number of media created.
+     *
+     * @throws IOException If the response can't be written.
+     * @version 1.2
+     * @since 1.0
+     */
+    private <T extends Media> int save(List<T> chunk, int first, JpaRepository<T, Long> repository,
+                                       Predicate<T> exists, Function<T, ?> key, Consumer<List<T>> resolver,
+                                       String page, JsonGenerator generator) throws IOException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        boolean[] conflicts;
+        try {
+            conflicts = this.persist(chunk, repository, exists, key, resolver, page);
+        } catch (RuntimeException e) {
+            logger.error("Unable to create the media {} to {} of the batch", first, first + chunk.size() - 1, e);
+            for (int i = 0; i < chunk.size(); i++) {
+                BatchCreateService.result(generator, first + i, HttpStatus.INTERNAL_SERVER_ERROR, "message",
+                                          "Unable to create. " + e.getMessage());
+            }
+            generator.flush();
+            return 0;
+        }
+
+        int created = 0;
+        for (int i = 0; i < chunk.size(); i++) {
+            T m = chunk.get(i);
+            if (conflicts[i]) {
+                BatchCreateService.result(generator, first + i, HttpStatus.CONFLICT, "title", m.getTitle());
+            } else {
+                generator.writeStartObject();
+                generator.writeNumberField("index", first + i);
+                generator.writeNumberField("status", HttpStatus.CREATED.value());
+                generator.writeNumberField("id", m.getId());
+                generator.writeEndObject();
+                created++;
+            }
+        }
+        generator.flush();
+        return created;
+    }
+
+    /**
+     * Build the key of a media, compared between the media of a chunk to find the media present twice.
+     * <p>
+     * The title is compared ignoring the case and the spaces around it, like the collation of the Database.
+     *
+     * @param title Title of the media.
+     * @param fields Other fields checked on Database to know if the media is already present.
+     *
+     * @return The key of the media.
+     *
+     * @version 1.0
+     * @since 1.2
+     */
+    public static List<Object> key(String title, Object... fields) {
+        List<Object> key = new ArrayList<>(fields.length + 1);
+        key.add(title == null ? null : title.trim().toLowerCase(Locale.ROOT));
+        key.addAll(Arrays.asList(fields));
+        return key;
+    }
+
+    /**
+     * Write the result of a media who was not created.
+     *
+     * @param generator Generator of the response.
+     * @param index Index of the media on the request.
+     * @param status Status of the media.
+     * @param field Name of the field who describe the result.
+     * @param value Value of the field.
+     *
+     * @throws IOException If the response can't be written.
+     * @version 1.0
+     * @since 1.0
+     */
+    private static void result(JsonGenerator generator, int index, HttpStatus status, String field, String value)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("index", index);
+        generator.writeNumberField("status", status.value());
+        generator.writeStringField(field, value);
+        generator.writeEndObject();
+    }
+}
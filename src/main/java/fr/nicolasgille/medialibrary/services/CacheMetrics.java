@@ -0,0 +1,107 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.services;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.SecondLevelCacheStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.PublicMetrics;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Metrics of the second-level cache of the persons and companies, published on the endpoint <code>/metrics</code>.
+ * <p>
+ * For each region, the number of hits, misses and puts are published with the number of entries and the size
+ * in bytes of the region, like <code>hibernate.cache.person.hit</code>.
+ * The hits and misses of the cache of queries used to find the persons and companies by name are published
+ * as <code>hibernate.cache.query.hit</code> and <code>hibernate.cache.query.miss</code>.
+ * The metrics are read from the statistics of Hibernate, disabled by default because they add counters to every
+ * session, and enabled with the property <code>media-library.cache.statistics</code>.
+ *
+ * @author Nicolas GILLE
+ * @version 1.1
+ * @since Media-Library 1.1
+ */
+@Component
+public class CacheMetrics implements PublicMetrics {
+
+    /**
+     * Regions of the second-level cache, as defined on <code>ehcache.xml</code>.
+     *
+     * @since 1.0
+     */
+    public final static List<String> REGIONS = Collections.unmodifiableList(Arrays.asList("person", "company"));
+
+    /**
+     * Prefix of the name of all metrics.
+     *
+     * @since 1.0
+     */
+    private final static String PREFIX = "hibernate.cache.";
+
+    /**
+     * Factory of the EntityManager, used to get the statistics of Hibernate.
+     *
+     * @since 1.0
+     */
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Return the metrics of each region of the cache and of the cache of queries.
+     *
+     * @return The metrics of the cache, or nothing if the statistics are disabled.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    @Override
+    public Collection<Metric<?>> metrics() {
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<Metric<?>> metrics = new ArrayList<>();
+        if (!statistics.isStatisticsEnabled()) {
+            return metrics;
+        }
+
+        for (String region : REGIONS) {
+            SecondLevelCacheStatistics regionStatistics = statistics.getSecondLevelCacheStatistics(region);
+            if (regionStatistics == null) {
+                continue;
+            }
+            metrics.add(new Metric<>(PREFIX + region + ".hit", regionStatistics.getHitCount()));
+            metrics.add(new Metric<>(PREFIX + region + ".miss", regionStatistics.getMissCount()));
+            metrics.add(new Metric<>(PREFIX + region + ".put", regionStatistics.getPutCount()));
+            metrics.add(new Metric<>(PREFIX + region + ".size", regionStatistics.getElementCountInMemory()));
+            metrics.add(new Metric<>(PREFIX + region + ".bytes", regionStatistics.getSizeInMemory()));
+        }
+        metrics.add(new Metric<>(PREFIX + "query.hit", statistics.getQueryCacheHitCount()));
+        metrics.add(new Metric<>(PREFIX + "query.miss", statistics.getQueryCacheMissCount()));
+        metrics.add(new Metric<>(PREFIX + "query.put", statistics.getQueryCachePutCount()));
+        return metrics;
+    }
+}
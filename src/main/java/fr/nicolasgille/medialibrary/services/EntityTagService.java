@@ -0,0 +1,466 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.services;
+
+import fr.nicolasgille.medialibrary.models.IVersioned;
+import fr.nicolasgille.medialibrary.utils.SmileHttpMessageConverter;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceContext;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service used to answer the conditional requests of the clients from the version of the entities.
+ * <p>
+ * The responses of an entity contains his version as strong <code>ETag</code> and the date of his last modification
+ * as <code>Last-Modified</code>, so a client who poll an entity send them back on <code>If-None-Match</code> and
+ * <code>If-Modified-Since</code> and receive an HTTP 304 : Not Modified if the entity has not changed.
+ * The version and the date are read by a query of two columns, so the entity and his persons and companies
+ * are never read to answer with an HTTP 304.
+ * <p>
+ * The tag of a list is the number of creations, updates and deletions of the entities of the type committed since
+ * the start of the application, counted in memory by a listener of Hibernate, so a list is validated without query.
+ * The tag also contains the date of the start, so a tag given before a restart is never matched again.
+ * A deletion has no date, so the lists have no <code>Last-Modified</code> and are validated only by their tag.
+ * <p>
+ * The JSON and Smile representations of an entity are different, so the tags of Smile end with <code>-smile</code>
+ * and the responses contains <code>Vary: Accept</code> for the caches.
+ *
+ * @author Nicolas GILLE
+ * @version 1.2
+ * @since Media-Library 1.1
+ */
+@Service
+public class EntityTagService {
+
+    /**
+     * Suffix of the tags of the representations as Smile.
+     *
+     * @since 1.1
+     */
+    private final static String SMILE = "-smile";
+
+    /**
+     * Entity manager used to read the versions of the entities.
+     *
+     * @since 1.0
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Factory of the EntityManager, where the listener of the writes is registered.
+     *
+     * @since 1.2
+     */
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Date of the start of the service, on the tags of the lists.
+     *
+     * @since 1.2
+     */
+    private final long start = System.currentTimeMillis();
+
+    /**
+     * Number of writes committed since the start, by type of entity.
+     *
+     * @since 1.2
+     */
+    private final Map<Class<?>, AtomicLong> writes = new ConcurrentHashMap<>();
+
+    /**
+     * Register the listener who count the writes of the entities once committed.
+     *
+     * @version 1.0
+     * @since 1.2
+     */
+    @PostConstruct
+    public void listen() {
+        WriteListener listener = new WriteListener();
+        EventListenerRegistry registry = this.entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                                                                  .getServiceRegistry()
+                                                                  .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, listener);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, listener);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, listener);
+    }
+
+    /**
+     * Change the tag of the lists of a type of entity and of its super types.
+     * <p>
+     * Called once the write is committed by the listener of Hibernate, and by the writes who don't go through
+     * Hibernate like the native statements.
+     *
+     * @param type Type of the entity written.
+     *
+     * @version 1.0
+     * @since 1.2
+     */
+    public void invalidate(Class<?> type) {
+        for (Class<?> t = type; t != null; t = t.getSuperclass()) {
+            this.writes.computeIfAbsent(t, k -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    /**
+     * Return the headers of a response who contains a version of an entity.
+     *
+     * @param request Request of the client, with the representation accepted.
+     * @param version Version of the entity.
+     *
+     * @return The headers with the tag of the version on the representation returned to the client.
+     *
+     * @version 1.0
+     * @since 1.1
+     */
+    public static HttpHeaders headers(WebRequest request, long version) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(EntityTagService.tag(version, EntityTagService.representation(request)));
+        headers.setVary(Collections.singletonList(HttpHeaders.ACCEPT));
+        return headers;
+    }
+
+    /**
+     * Check if the client has the current version of an entity, without read the entity.
+     * <p>
+     * If the entity is found, the headers <code>ETag</code> and <code>Last-Modified</code> are added to the response,
+     * and the status is set to HTTP 304 : Not Modified if the client has the current version.
+     *
+     * @param request Request of the client.
+     * @param type Type of the entity.
+     * @param id Identifier of the entity.
+     *
+     * @return True if the client has the current version, the response must be returned without body.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public boolean checkNotModified(WebRequest request, Class<? extends IVersioned> type, long id) {
+        List<Object[]> versions = this.entityManager
+                .createQuery("SELECT e.version, e.lastModified FROM " + this.entityName(type) + " e WHERE e.id = :id",
+                             Object[].class)
+                .setParameter("id", id)
+                .getResultList();
+        if (versions.isEmpty()) {
+            return false;
+        }
+        return EntityTagService.checkNotModified(request, (Long) versions.get(0)[0], (Long) versions.get(0)[1]);
+    }
+
+    /**
+     * Check if the client has the current version of an entity already read.
+     *
+     * @param request Request of the client.
+     * @param entity Entity requested.
+     *
+     * @return True if the client has the current version, the response must be returned without body.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public boolean checkNotModified(WebRequest request, IVersioned entity) {
+        return EntityTagService.checkNotModified(request, entity.getVersion(), entity.getLastModified());
+    }
+
+    /**
+     * Check if the client has the current version of the lists of entities of a type, without read the entities.
+     * <p>
+     * The header <code>ETag</code> is added to the response, and the status is set to HTTP 304 : Not Modified
+     * if no entity of the type has been created, updated or deleted since the client read the list.
+     *
+     * @param request Request of the client.
+     * @param type Type of the entities.
+     *
+     * @return True if the client has the current version, the response must be returned without body.
+     *
+     * @version 1.2
+     * @since 1.0
+     */
+    public boolean checkNotModified(WebRequest request, Class<? extends IVersioned> type) {
+        AtomicLong writes = this.writes.get(type);
+        EntityTagService.vary(request);
+        return request.checkNotModified("\"" + this.start + "-" + (writes == null ? 0 : writes.get())
+                                        + EntityTagService.representation(request) + "\"");
+    }
+
+    /**
+     * Check if the version of an entity match the header <code>If-Match</code> of the request.
+     * <p>
+     * A request without <code>If-Match</code>, or with <code>*</code>, match all versions.
+     * The tag of the current version match on JSON and on Smile, whatever the representation of the update.
+     *
+     * @param request Request of the client.
+     * @param entity Entity at update, as read on Database.
+     *
+     * @return True if the entity can be updated, false if the client has not read the current version.
+     *
+     * @version 1.1
+     * @since 1.0
+     */
+    public boolean matches(WebRequest request, IVersioned entity) {
+        String ifMatch = request.getHeader(HttpHeaders.IF_MATCH);
+        if (ifMatch == null) {
+            return true;
+        }
+
+        String json = EntityTagService.tag(entity.getVersion(), "");
+        String smile = EntityTagService.tag(entity.getVersion(), SMILE);
+        for (String value : ifMatch.split(",")) {
+            String tag = value.trim();
+            if (tag.equals("*") || tag.equals(json) || tag.equals(smile)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check if the client has a version of an entity and add the headers of the version on the response.
+     *
+     * @param request Request of the client.
+     * @param version Version of the entity.
+     * @param lastModified Date of the last modification of the entity, or 0 if unknown.
+     *
+     * @return True if the client has the version.
+     *
+     * @version 1.1
+     * @since 1.0
+     */
+    private static boolean checkNotModified(WebRequest request, long version, long lastModified) {
+        EntityTagService.vary(request);
+        return request.checkNotModified(EntityTagService.tag(version, EntityTagService.representation(request)),
+                                        lastModified > 0 ? lastModified : -1);
+    }
+
+    /**
+     * Return the tag of a version of an entity on a representation.
+     *
+     * @param version Version of the entity.
+     * @param representation Suffix of the representation, empty for JSON.
+     *
+     * @return The strong tag of the version, with his quotes.
+     *
+     * @version 1.0
+     * @since 1.1
+     */
+    private static String tag(long version, String representation) {
+        return "\"" + version + representation + "\"";
+    }
+
+    /**
+     * Return the suffix of the tags of the representation returned to a client.
+     * <p>
+     * The types of the header <code>Accept</code> are read as Spring MVC, by specificity and quality,
+     * and JSON is returned first when a type accept both JSON and Smile.
+     *
+     * @param request Request of the client.
+     *
+     * @return The suffix of the representation, empty for JSON.
+     *
+     * @version 1.0
+     * @since 1.1
+     */
+    private static String representation(WebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null) {
+            return "";
+        }
+
+        try {
+            List<MediaType> types = MediaType.parseMediaTypes(accept);
+            MediaType.sortBySpecificityAndQuality(types);
+            for (MediaType type : types) {
+                if (type.includes(MediaType.APPLICATION_JSON)) {
+                    return "";
+                }
+                if (type.includes(SmileHttpMessageConverter.APPLICATION_SMILE)) {
+                    return SMILE;
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            return "";
+        }
+        return "";
+    }
+
+    /**
+     * Add <code>Vary: Accept</code> on the response, the representation of the entity depend on the client.
+     *
+     * @param request Request of the client.
+     *
+     * @version 1.0
+     * @since 1.1
+     */
+    private static void vary(WebRequest request) {
+        if (request instanceof NativeWebRequest) {
+            HttpServletResponse response = ((NativeWebRequest) request).getNativeResponse(HttpServletResponse.class);
+            if (response != null && !response.containsHeader(HttpHeaders.VARY)) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            }
+        }
+    }
+
+    /**
+     * Return the name of an entity on the queries.
+     *
+     * @param type Type of the entity.
+     *
+     * @return The name of the entity.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    private String entityName(Class<?> type) {
+        return this.entityManager.getMetamodel().entity(type).getName();
+    }
+
+    /**
+     * Listener of Hibernate who count the writes of each type of entity once committed.
+     *
+     * @author Nicolas GILLE
+     * @version 1.0
+     * @since 1.2
+     */
+    private class WriteListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+                                           PostCommitDeleteEventListener {
+
+        /**
+         * Version of the serialization of the listener, required by the listeners of Hibernate.
+         *
+         * @since 1.0
+         */
+        private final static long serialVersionUID = 1L;
+
+        /**
+         * Count the insert of an entity once committed.
+         *
+         * @param event Event of the insert.
+         *
+         * @version 1.0
+         * @since 1.0
+         */
+        @Override
+        public void onPostInsert(PostInsertEvent event) {
+            invalidate(event.getPersister().getMappedClass());
+        }
+
+        /**
+         * Count the update of an entity once committed.
+         *
+         * @param event Event of the update.
+         *
+         * @version 1.0
+         * @since 1.0
+         */
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            invalidate(event.getPersister().getMappedClass());
+        }
+
+        /**
+         * Count the deletion of an entity once committed.
+         *
+         * @param event Event of the deletion.
+         *
+         * @version 1.0
+         * @since 1.0
+         */
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            invalidate(event.getPersister().getMappedClass());
+        }
+
+        /**
+         * Ignore the insert rolled back, who doesn't change the lists.
+         *
+         * @param event Event of the insert.
+         *
+         * @version 1.0
+         * @since 1.0
+         */
+        @Override
+        public void onPostInsertCommitFailed(PostInsertEvent event) {
+        }
+
+        /**
+         * Ignore the update rolled back, who doesn't change the lists.
+         *
+         * @param event Event of the update.
+         *
+         * @version 1.0
+         * @since 1.0
+         */
+        @Override
+        public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        }
+
+        /**
+         * Ignore the deletion rolled back, who doesn't change the lists.
+         *
+         * @param event Event of the deletion.
+         *
+         * @version 1.0
+         * @since 1.0
+         */
+        @Override
+        public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        }
+
+        /**
+         * The writes are counted only once committed, so a list is never tagged before its new content is visible.
+         *
+         * @param persister Persister of the type of entity.
+         *
+         * @return Always true.
+         *
+         * @version 1.0
+         * @since 1.0
+         */
+        @Override
+        public boolean requiresPostCommitHanding(EntityPersister persister) {
+            return true;
+        }
+    }
+}
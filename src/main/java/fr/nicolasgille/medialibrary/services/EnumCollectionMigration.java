@@ -0,0 +1,251 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.services;
+
+import com.neovisionaries.i18n.LanguageCode;
+import fr.nicolasgille.medialibrary.models.converters.BookGenreMaskConverter;
+import fr.nicolasgille.medialibrary.models.converters.LanguageCodeListConverter;
+import fr.nicolasgille.medialibrary.models.converters.MediaSupportMaskConverter;
+import fr.nicolasgille.medialibrary.models.converters.MusicGenreMaskConverter;
+import fr.nicolasgille.medialibrary.models.converters.VideoGameGenreMaskConverter;
+import fr.nicolasgille.medialibrary.models.converters.VideoGamePlatformMaskConverter;
+import fr.nicolasgille.medialibrary.models.converters.VideoGenreMaskConverter;
+import fr.nicolasgille.medialibrary.utils.EnumCodeTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Migration of the collections of enumerations from their own tables to the columns of the table <code>media</code>.
+ * <p>
+ * Before the version 1.1, each list of genres, supports, languages and platforms was stored on a table of collection
+ * like <code>movie_genres</code>, read with an extra query for each media.
+ * They are now stored as a bitmask or a list of codes on the table <code>media</code>, and Hibernate add the new
+ * columns empty on the first start of the version 1.1.
+ * This migration copy the values of the old tables on the new columns, and is run at startup only with the property
+ * <code>media-library.migrate-enum-collections=true</code>.
+ * A column already filled is never overwritten, so the migration can be run several times,
+ * and the old tables are kept : they can be dropped when the data are checked.
+ * A column who contains the empty value of his converter is not filled : the media saved by the version 1.1
+ * before the migration have a bitmask 0 or no language, and their values are still on the old tables.
+ * The names who are not values of the enumerations anymore are logged and ignored.
+ *
+ * @author Nicolas GILLE
+ * @version 1.1
+ * @since Media-Library 1.1
+ */
+@Component
+@ConditionalOnProperty(name = "media-library.migrate-enum-collections",
+                       havingValue = "true")
+public class EnumCollectionMigration implements ApplicationRunner {
+
+    /**
+     * Logger to get information during some process.
+     *
+     * @since 1.0
+     */
+    static final Logger logger = LoggerFactory.getLogger(EnumCollectionMigration.class);
+
+    /**
+     * Number of updates send to the Database at once.
+     *
+     * @since 1.0
+     */
+    private final static int BATCH_SIZE = 500;
+
+    /**
+     * Value of a column of bitmask without value, as written by the converters.
+     *
+     * @since 1.1
+     */
+    private final static Object EMPTY_MASK = 0L;
+
+    /**
+     * Value of a column of languages without language, the converter write null but an empty text is empty too.
+     *
+     * @since 1.1
+     */
+    private final static Object EMPTY_LANGUAGES = "";
+
+    /**
+     * JdbcTemplate used to read the old tables and update the table <code>media</code>.
+     *
+     * @since 1.0
+     */
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Copy each old table of collection on his column.
+     *
+     * @param args Arguments of the application, unused.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        Function<List<String>, Object> languages = EnumCollectionMigration::languages;
+        for (String type : new String[]{"movie", "anime", "cartoon"}) {
+            this.migrate(type + "_genres", type + "_id", "genres", "video_genres",
+                         EnumCollectionMigration.mask(VideoGenreMaskConverter.CODES), EMPTY_MASK);
+            this.migrate(type + "_languages_spoken", type + "_id", "languages_spoken", "languages_spoken", languages,
+                         EMPTY_LANGUAGES);
+            this.migrate(type + "_subtitles", type + "_id", "subtitles", "subtitles", languages, EMPTY_LANGUAGES);
+        }
+        this.migrate("media_supports", "media_id", "supports", "supports",
+                     EnumCollectionMigration.mask(MediaSupportMaskConverter.CODES), EMPTY_MASK);
+        this.migrate("book_genres", "book_id", "genres", "book_genres",
+                     EnumCollectionMigration.mask(BookGenreMaskConverter.CODES), EMPTY_MASK);
+        this.migrate("album_genres", "album_id", "genres", "music_genres",
+                     EnumCollectionMigration.mask(MusicGenreMaskConverter.CODES), EMPTY_MASK);
+        this.migrate("video_game_genres", "video_game_id", "genres", "video_game_genres",
+                     EnumCollectionMigration.mask(VideoGameGenreMaskConverter.CODES), EMPTY_MASK);
+        this.migrate("video_game_languages", "video_game_id", "languages", "video_game_languages", languages,
+                     EMPTY_LANGUAGES);
+        this.migrate("video_game_platforms", "video_game_id", "platforms", "platforms",
+                     EnumCollectionMigration.mask(VideoGamePlatformMaskConverter.CODES), EMPTY_MASK);
+    }
+
+    /**
+     * Copy the values of an old table of collection on a column of the table <code>media</code>.
+     *
+     * @param table Name of the old table.
+     * @param idColumn Column of the old table who contains the identifier of the media.
+     * @param valueColumn Column of the old table who contains the name of the value.
+     * @param column Column of the table <code>media</code> at fill.
+     * @param encoder Function used to compute the value of the column from the names of the values of a media.
+     * @param empty Value of the column without value, the column is filled only if null or empty.
+     *
+     * @version 1.1
+     * @since 1.0
+     */
+    private void migrate(String table, String idColumn, String valueColumn, String column,
+                         Function<List<String>, Object> encoder, Object empty) {
+        Map<Long, List<String>> values = new LinkedHashMap<>();
+        try {
+            this.jdbcTemplate.query("SELECT " + idColumn + ", " + valueColumn + " FROM " + table
+                    + " ORDER BY " + idColumn, rs -> {
+                values.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>()).add(rs.getString(2));
+            });
+        } catch (DataAccessException e) {
+            logger.warn("Table {} can't be read, nothing to migrate on column {}.", table, column);
+            return;
+        }
+
+        List<Object[]> updates = new ArrayList<>(BATCH_SIZE);
+        int migrated = 0;
+        for (Map.Entry<Long, List<String>> media : values.entrySet()) {
+            updates.add(new Object[]{encoder.apply(media.getValue()), media.getKey(), empty});
+            if (updates.size() == BATCH_SIZE) {
+                migrated += this.update(column, updates);
+            }
+        }
+        migrated += this.update(column, updates);
+        logger.info("{} media migrated from table {} to column {}.", migrated, table, column);
+    }
+
+    /**
+     * Update the empty column of a batch of media, then clear the batch.
+     *
+     * @param column Column of the table <code>media</code> at fill.
+     * @param updates Value of the column, identifier and empty value of the column of each media.
+     *
+     * @return The number of media updated.
+     *
+     * @version 1.1
+     * @since 1.0
+     */
+    private int update(String column, List<Object[]> updates) {
+        if (updates.isEmpty()) {
+            return 0;
+        }
+
+        int updated = 0;
+        for (int count : this.jdbcTemplate.batchUpdate("UPDATE media SET " + column + " = ? WHERE id = ? AND ("
+                + column + " IS NULL OR " + column + " = ?)", updates)) {
+            updated += Math.max(count, 0);
+        }
+        updates.clear();
+        return updated;
+    }
+
+    /**
+     * Return the function who compute the bitmask of a list of names of an enumeration.
+     * <p>
+     * The unknown names are logged and ignored.
+     *
+     * @param codes Table of codes of the enumeration.
+     * @param <E> Type of the enumeration.
+     *
+     * @return The function who compute the bitmask.
+     *
+     * @version 1.1
+     * @since 1.0
+     */
+    private static <E extends Enum<E>> Function<List<String>, Object> mask(EnumCodeTable<E> codes) {
+        return names -> {
+            List<E> values = new ArrayList<>(names.size());
+            for (String name : names) {
+                try {
+                    values.add(Enum.valueOf(codes.getType(), name));
+                } catch (IllegalArgumentException | NullPointerException e) {
+                    logger.warn("Unknown value {} of {} ignored.", name, codes.getType().getSimpleName());
+                }
+            }
+            return codes.encode(values);
+        };
+    }
+
+    /**
+     * Return the codes of a list of names of languages, as stored by the LanguageCodeListConverter.
+     * <p>
+     * The unknown names are logged and ignored.
+     *
+     * @param names Names of the languages.
+     *
+     * @return The codes of the languages.
+     *
+     * @version 1.1
+     * @since 1.0
+     */
+    private static Object languages(List<String> names) {
+        List<LanguageCode> languages = new ArrayList<>(names.size());
+        for (String name : names) {
+            try {
+                languages.add(LanguageCode.valueOf(name));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                logger.warn("Unknown language {} ignored.", name);
+            }
+        }
+        return new LanguageCodeListConverter().convertToDatabaseColumn(languages);
+    }
+}
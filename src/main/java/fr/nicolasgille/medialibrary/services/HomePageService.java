@@ -0,0 +1,452 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.nicolasgille.medialibrary.repositories.book.BookRepository;
+import fr.nicolasgille.medialibrary.repositories.book.ComicRepository;
+import fr.nicolasgille.medialibrary.repositories.game.VideoGameRepository;
+import fr.nicolasgille.medialibrary.repositories.music.AlbumRepository;
+import fr.nicolasgille.medialibrary.repositories.video.AnimeRepository;
+import fr.nicolasgille.medialibrary.repositories.video.CartoonRepository;
+import fr.nicolasgille.medialibrary.repositories.video.MovieRepository;
+import fr.nicolasgille.medialibrary.repositories.video.SeriesRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.io.ByteArrayOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Service used to build the content of the home page.
+ * <p>
+ * The home page contains the last media added for each media type.
+ * Each media type is serialized once in JSON and kept in memory until a media of this type is created, updated
+ * or deleted, so a read of the home page is only a copy of bytes while no media is written.
+ * Only the media types invalidated since the last read are requested again to the Database.
+ * The home page with the summaries of the media is cached the same way.
+ *
+ * @author Nicolas GILLE
+ * @version 1.1
+ * @since Media-Library 1.1
+ */
+@Service
+public class HomePageService {
+
+    /**
+     * Logger to get information during some process.
+     *
+     * @since 1.0
+     */
+    static final Logger logger = LoggerFactory.getLogger(HomePageService.class);
+
+    /**
+     * Key of the animes on the home page.
+     *
+     * @since 1.0
+     */
+    public final static String ANIMES = "animes";
+
+    /**
+     * Key of the cartoons on the home page.
+     *
+     * @since 1.0
+     */
+    public final static String CARTOONS = "cartoons";
+
+    /**
+     * Key of the movies on the home page.
+     *
+     * @since 1.0
+     */
+    public final static String MOVIES = "movies";
+
+    /**
+     * Key of the series on the home page.
+     *
+     * @since 1.0
+     */
+    public final static String SERIES = "series";
+
+    /**
+     * Key of the books on the home page.
+     *
+     * @since 1.0
+     */
+    public final static String BOOKS = "books";
+
+    /**
+     * Key of the comics on the home page.
+     *
+     * @since 1.0
+     */
+    public final static String COMICS = "comics";
+
+    /**
+     * Key of the music albums on the home page.
+     *
+     * @since 1.0
+     */
+    public final static String MUSICS = "musics";
+
+    /**
+     * Key of the video games on the home page.
+     *
+     * @since 1.0
+     */
+    public final static String VIDEO_GAMES = "video-games";
+
+    /**
+     * Number of media displayed on the home page for each media type.
+     *
+     * @since 1.0
+     */
+    private final static int HOME_PAGE_SIZE = 10;
+
+    /**
+     * @since 1.0
+     */
+    @Autowired
+    private AnimeRepository animesRepository;
+
+    /**
+     * @since 1.0
+     */
+    @Autowired
+    private CartoonRepository cartoonsRepository;
+
+    /**
+     * @since 1.0
+     */
+    @Autowired
+    private MovieRepository moviesRepository;
+
+    /**
+     * @since 1.0
+     */
+    @Autowired
+    private SeriesRepository seriesRepository;
+
+    /**
+     * @since 1.0
+     */
+    @Autowired
+    private BookRepository booksRepository;
+
+    /**
+     * @since 1.0
+     */
+    @Autowired
+    private ComicRepository comicsRepository;
+
+    /**
+     * @since 1.0
+     */
+    @Autowired
+    private VideoGameRepository videoGamesRepository;
+
+    /**
+     * @since 1.0
+     */
+    @Autowired
+    private AlbumRepository albumsRepository;
+
+    /**
+     * Executor used to request all media types in parallel.
+     *
+     * @since 1.0
+     */
+    @Autowired
+    @Qualifier("homePageExecutor")
+    private Executor homePageExecutor;
+
+    /**
+     * Mapper used to serialize media like the JSON endpoints.
+     *
+     * @since 1.0
+     */
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Home page with the last media of each media type.
+     *
+     * @since 1.0
+     */
+    private CachedPage homePage;
+
+    /**
+     * Home page with the summaries of the last media of each media type.
+     *
+     * @since 1.1
+     */
+    private CachedPage summaryHomePage;
+
+    /**
+     * Register the query of each media type displayed on the home page, with media or summaries.
+     *
+     * @version 1.1
+     * @since 1.0
+     */
+    @PostConstruct
+    public void init() {
+        Pageable latest = new PageRequest(0, HomePageService.HOME_PAGE_SIZE);
+        this.homePage = new CachedPage();
+        this.homePage.queries.put(ANIMES, () -> this.animesRepository.findAllByOrderByIdDesc(latest));
+        this.homePage.queries.put(CARTOONS, () -> this.cartoonsRepository.findAllByOrderByIdDesc(latest));
+        this.homePage.queries.put(MOVIES, () -> this.moviesRepository.findAllByOrderByIdDesc(latest));
+        this.homePage.queries.put(SERIES, () -> this.seriesRepository.findAllByOrderByIdDesc(latest));
+        this.homePage.queries.put(BOOKS, () -> this.booksRepository.findAllByOrderByIdDesc(latest));
+        this.homePage.queries.put(COMICS, () -> this.comicsRepository.findAllByOrderByIdDesc(latest));
+        this.homePage.queries.put(MUSICS, () -> this.albumsRepository.findAllByOrderByIdDesc(latest));
+        this.homePage.queries.put(VIDEO_GAMES, () -> this.videoGamesRepository.findAllByOrderByIdDesc(latest));
+
+        this.summaryHomePage = new CachedPage();
+        this.summaryHomePage.queries.put(ANIMES, () -> this.animesRepository.findLatestSummaries(latest));
+        this.summaryHomePage.queries.put(CARTOONS, () -> this.cartoonsRepository.findLatestSummaries(latest));
+        this.summaryHomePage.queries.put(MOVIES, () -> this.moviesRepository.findLatestSummaries(latest));
+        this.summaryHomePage.queries.put(SERIES, () -> this.seriesRepository.findLatestSummaries(latest));
+        this.summaryHomePage.queries.put(BOOKS, () -> this.booksRepository.findLatestSummaries(latest));
+        this.summaryHomePage.queries.put(COMICS, () -> this.comicsRepository.findLatestSummaries(latest));
+        this.summaryHomePage.queries.put(MUSICS, () -> this.albumsRepository.findLatestSummaries(latest));
+        this.summaryHomePage.queries.put(VIDEO_GAMES, () -> this.videoGamesRepository.findLatestSummaries(latest));
+    }
+
+    /**
+     * Return the JSON of the home page.
+     * <p>
+     * If no media has been written since the last call, the JSON in memory is returned as is.
+     * Otherwise, only the media types invalidated are requested in parallel to the Database and the JSON is
+     * rebuilt from the fragments of each media type.
+     *
+     * @return The JSON of the home page, encoded in UTF-8.
+     *
+     * @version 1.1
+     * @since 1.0
+     */
+    public byte[] getHomePage() {
+        return this.homePage.get();
+    }
+
+    /**
+     * Return the JSON of the home page with the summaries of the media only.
+     * <p>
+     * The summaries are cached and invalidated like the media of the home page.
+     *
+     * @return The JSON of the home page, encoded in UTF-8.
+     *
+     * @version 1.0
+     * @since 1.1
+     */
+    public byte[] getSummaryHomePage() {
+        return this.summaryHomePage.get();
+    }
+
+    /**
+     * Invalidate the media type on the home page after a media of this type has been written.
+     *
+     * @param mediaType Key of the media type on the home page.
+     *
+     * @version 1.1
+     * @since 1.0
+     */
+    public void invalidate(String mediaType) {
+        this.homePage.invalidate(mediaType);
+        this.summaryHomePage.invalidate(mediaType);
+    }
+
+    /**
+     * Serialize the last media of a media type, from the oldest to the most recent.
+     *
+     * @param latest Media returned by the query, from the most recent to the oldest.
+     *
+     * @return The JSON array of the media.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    private byte[] serialize(List<?> latest) {
+        List<?> media = new ArrayList<>(latest);
+        Collections.reverse(media);
+        try {
+            return this.objectMapper.writeValueAsBytes(media);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Home page kept in memory, with the JSON of each media type and the queries used to rebuild them.
+     *
+     * @author Nicolas GILLE
+     * @version 1.0
+     * @since Media-Library 1.1
+     */
+    private class CachedPage {
+
+        /**
+         * Query of the last media for each media type, in order of display.
+         *
+         * @since 1.0
+         */
+        private final Map<String, Supplier<List<?>>> queries = new LinkedHashMap<>();
+
+        /**
+         * JSON of the last media of each media type still valid.
+         *
+         * @since 1.0
+         */
+        private final Map<String, byte[]> fragments = new HashMap<>();
+
+        /**
+         * Number of invalidation of each media type, used to not keep a fragment read before a write.
+         *
+         * @since 1.0
+         */
+        private final Map<String, Long> fragmentVersions = new HashMap<>();
+
+        /**
+         * Number of invalidation of all media types, used to not keep a home page read before a write.
+         *
+         * @since 1.0
+         */
+        private long version;
+
+        /**
+         * Whole JSON of the home page, or null if a media type has been invalidated since the last read.
+         *
+         * @since 1.0
+         */
+        private volatile byte[] body;
+
+        /**
+         * Return the JSON of the home page, and rebuild the media types invalidated.
+         *
+         * @return The JSON of the home page, encoded in UTF-8.
+         *
+         * @version 1.0
+         * @since 1.0
+         */
+        private byte[] get() {
+            byte[] cached = this.body;
+            if (cached != null) {
+                return cached;
+            }
+
+            // Copy the state of the cache to request only the missing media types.
+            Map<String, byte[]> content;
+            Map<String, Long> versions;
+            long startVersion;
+            synchronized (this) {
+                content = new HashMap<>(this.fragments);
+                versions = new HashMap<>(this.fragmentVersions);
+                startVersion = this.version;
+            }
+
+            // Dispatch the queries of the missing media types on the executor.
+            Map<String, CompletableFuture<byte[]>> loads = new LinkedHashMap<>();
+            for (Map.Entry<String, Supplier<List<?>>> query : this.queries.entrySet()) {
+                if (!content.containsKey(query.getKey())) {
+                    loads.put(query.getKey(),
+                              CompletableFuture.supplyAsync(() -> serialize(query.getValue().get()),
+                                                            homePageExecutor));
+                }
+            }
+            for (Map.Entry<String, CompletableFuture<byte[]>> load : loads.entrySet()) {
+                content.put(load.getKey(), load.getValue().join());
+            }
+            logger.info("Home page rebuilt with {} media types requested", loads.size());
+            byte[] body = this.assemble(content);
+
+            // Keep only what has not been invalidated during the queries.
+            synchronized (this) {
+                for (String mediaType : loads.keySet()) {
+                    if (this.fragmentVersions.getOrDefault(mediaType, 0L)
+                                             .equals(versions.getOrDefault(mediaType, 0L))) {
+                        this.fragments.put(mediaType, content.get(mediaType));
+                    }
+                }
+                if (this.version == startVersion) {
+                    this.body = body;
+                }
+            }
+            return body;
+        }
+
+        /**
+         * Invalidate a media type of the home page.
+         *
+         * @param mediaType Key of the media type on the home page.
+         *
+         * @version 1.0
+         * @since 1.0
+         */
+        private synchronized void invalidate(String mediaType) {
+            this.fragments.remove(mediaType);
+            this.fragmentVersions.merge(mediaType, 1L, Long::sum);
+            this.version++;
+            this.body = null;
+        }
+
+        /**
+         * Assemble the JSON object of the home page from the JSON array of each media type.
+         *
+         * @param content JSON array of each media type.
+         *
+         * @return The JSON object of the home page.
+         *
+         * @version 1.0
+         * @since 1.0
+         */
+        private byte[] assemble(Map<String, byte[]> content) {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            body.write('{');
+            boolean first = true;
+            for (String mediaType : this.queries.keySet()) {
+                if (!first) {
+                    body.write(',');
+                }
+                first = false;
+                byte[] key = ("\"" + mediaType + "\":").getBytes(StandardCharsets.UTF_8);
+                byte[] fragment = content.get(mediaType);
+                body.write(key, 0, key.length);
+                body.write(fragment, 0, fragment.length);
+            }
+            body.write('}');
+            return body.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,533 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package fr.nicolasgille.medialibrary.services;
+
+import fr.nicolasgille.medialibrary.builders.IMediaBuilder;
+import fr.nicolasgille.medialibrary.models.Media;
+import fr.nicolasgille.medialibrary.parser.CsvParser;
+import fr.nicolasgille.medialibrary.parser.FileParser;
+import fr.nicolasgille.medialibrary.parser.TsvParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Service used to import the media of a CSV or TSV file.
+ * <p>
+ * The import is a pipeline of two stages who run at the same time, linked by a bounded queue :
+ * <ol>
+ * <li>The file is read as a stream by the FileParser of his format, in parallel by chunks if the file is large,
+ * and the fields of each record are given to the IMediaBuilder of the type of media as soon as they are read.
+ * The fields can be views on the buffer of the parser, so the media is built before the next record is read, and
+ * put on the queue in the order of the file.</li>
+ * <li>The media are saved by chunks with the BatchCreateService, so the persons and companies of a chunk are
+ * resolved together and each chunk is committed on his own transaction.</li>
+ * </ol>
+ * The first stage wait when the queue is full, so the memory used by the media waiting to be saved is bounded.
+ * The builder of an import intern the persons and companies of his media, and the PersonResolver keep the
+ * identifiers of those already resolved during the import, so each of them is searched once by import.
+ * The records who can't be built or saved are reported with their line number, and don't stop the import.
+ *
+ * @author Nicolas GILLE
+ * @version 1.6
+ * @since Media-Library 1.1
+ */
+@Service
+public class ImportService {
+
+    /**
+     * Logger to get information during some process.
+     *
+     * @since 1.0
+     */
+    static final Logger logger = LoggerFactory.getLogger(ImportService.class);
+
+    /**
+     * Media type of the CSV files.
+     *
+     * @since 1.0
+     */
+    public final static String TEXT_CSV_VALUE = "text/csv";
+
+    /**
+     * Media type of the TSV files.
+     *
+     * @since 1.0
+     */
+    public final static String TEXT_TSV_VALUE = "text/tab-separated-values";
+
+    /**
+     * Maximum number of errors detailed on the report of an import, the next ones are only counted.
+     *
+     * @since 1.0
+     */
+    private final static int MAX_ERRORS = 100;
+
+    /**
+     * Number of media waiting on the queue between the two stages.
+     *
+     * @since 1.0
+     */
+    @Value("${media-library.import.queue-size:1000}")
+    private int queueSize;
+
+    /**
+     * Number of media committed by transaction.
+     *
+     * @since 1.0
+     */
+    @Value("${media-library.batch.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * Service used to save the media by chunks.
+     *
+     * @since 1.0
+     */
+    @Autowired
+    private BatchCreateService batchCreateService;
+
+    /**
+     * Service used to resolve the persons and companies, who keep those already resolved during an import.
+     *
+     * @since 1.4
+     */
+    @Autowired
+    private PersonResolver personResolver;
+
+    /**
+     * Import the media of a file sent on the body of a request.
+     * <p>
+     * The body is copied on a temporary file, removed at the end of the import, then parsed with the parser of the
+     * media type of the request.
+     *
+     * @param body Body of the request, a CSV or TSV file.
+     * @param contentType Media type of the body, <code>text/csv</code> or <code>text/tab-separated-values</code>.
+     * @param builder Builder of the type of media, who build a media from each record.
+     * @param type Type of the media imported.
+     * @param repository Repository used to save the media.
+     * @param exists Function who check if a media is already present on Database.
+     * @param key Function who return the fields checked by exists, used to find a media twice on the same chunk.
+     * @param resolver Function who replace the persons and companies of the media of a chunk by the persons and
+     *                 companies stored on Database.
+     * @param page Fragment of the home page of the type of media.
+     * @param <T> Type of the media.
+     *
+     * @return A report with the number of records read, of media created and already present, and the records in
+     *         error.
+     *
+     * @throws IOException If the body can't be copied.
+     * @version 1.1
+     * @since 1.0
+     */
+    public <T extends Media> Map<String, Object> importFile(InputStream body, String contentType, IMediaBuilder builder,
+                                                            Class<T> type, JpaRepository<T, Long> repository,
+                                                            Predicate<T> exists, Function<T, ?> key,
+                                                            Consumer<List<T>> resolver, String page)
+            throws IOException {
+        Path file = Files.createTempFile("media-library-import", null);
+        try {
+            Files.copy(body, file, StandardCopyOption.REPLACE_EXISTING);
+            return this.importFile(file, ImportService.parser(contentType), builder, type, repository, exists,
+                                   key, resolver, page);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Import the media of a file.
+     *
+     * @param file Path of the file.
+     * @param parser Parser of the format of the file.
+     * @param builder Builder of the type of media, who build a media from each record, used for this import only.
+     * @param type Type of the media imported.
+     * @param repository Repository used to save the media.
+     * @param exists Function who check if a media is already present on Database.
+     * @param key Function who return the fields checked by exists, used to find a media twice on the same chunk.
+     * @param resolver Function who replace the persons and companies of the media of a chunk by the persons and
+     *                 companies stored on Database.
+     * @param page Fragment of the home page of the type of media.
+     * @param <T> Type of the media.
+     *
+     * @return A report with the number of records read, of media created and already present, and the records in
+     *         error.
+     *
+     * @version 1.5
+     * @since 1.0
+     */
+    public <T extends Media> Map<String, Object> importFile(Path file, FileParser parser, IMediaBuilder builder,
+                                                            Class<T> type, JpaRepository<T, Long> repository,
+                                                            Predicate<T> exists, Function<T, ?> key,
+                                                            Consumer<List<T>> resolver, String page) {
+        BlockingQueue<Record<T>> media = new ArrayBlockingQueue<>(this.queueSize);
+        Report report = new Report();
+        ExecutorService stages = Executors.newSingleThreadExecutor();
+        PersonResolver.Scope scope = this.personResolver.openScope();
+        try {
+            Future<?> building = stages.submit(() -> {
+                this.build(file, parser, builder, type, media, report);
+                return null;
+            });
+            this.save(media, repository, exists, key, resolver, page, report);
+            building.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            report.error(0, "Import interrupted.");
+        } catch (ExecutionException e) {
+            logger.error("Unable to import the file {}", file, e.getCause());
+            report.error(0, "Unable to import. " + e.getCause().getMessage());
+        } finally {
+            stages.shutdownNow();
+            scope.close();
+        }
+
+        logger.info("Imported {} {} on {} records read", report.created, type.getSimpleName(), report.read);
+        return report.toMap();
+    }
+
+    /**
+     * First stage : parse the file, build a media from the fields of each record and put it on the queue, followed
+     * by the end of the media.
+     * <p>
+     * The large files are parsed in parallel by chunks on several processors if the parser support it, and the
+     * media are put on the queue in the order of the file so the errors of the report stay ordered by line.
+     *
+     * @param file Path of the file.
+     * @param parser Parser of the format of the file.
+     * @param builder Builder of the type of media.
+     * @param type Type of the media imported.
+     * @param media Queue of the media built.
+     * @param report Report of the import, where the records who can't be built are added.
+     * @param <T> Type of the media.
+     *
+     * @throws IOException If the file can't be read or a line can't be parsed.
+     * @version 1.0
+     * @since 1.3
+     */
+    private <T extends Media> void build(Path file, FileParser parser, IMediaBuilder builder, Class<T> type,
+                                         BlockingQueue<Record<T>> media, Report report) throws IOException {
+        try {
+            // On a single processor, the parallel parsing would only add the cost of a second read of the file.
+            boolean parallel = Runtime.getRuntime().availableProcessors() > 1;
+            parser.parseFields(file, parallel, (line, fields) -> {
+                T m;
+                try {
+                    m = type.cast(builder.buildFields(fields));
+                } catch (RuntimeException e) {
+                    report.error(line, "Unable to build. " + e);
+                    return true;
+                }
+                try {
+                    media.put(new Record<>(line, m));
+                    return true;
+                } catch (InterruptedException e) {
+                    // The import has been stopped, so the parsing too.
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            });
+        } finally {
+            ImportService.end(media);
+        }
+    }
+
+    /**
+     * Second stage : save the media by chunks, until the end of the media.
+     *
+     * @param media Queue of the media built.
+     * @param repository Repository used to save the media.
+     * @param exists Function who check if a media is already present on Database.
+     * @param key Function who return the fields checked by exists, used to find a media twice on the same chunk.
+     * @param resolver Function who replace the persons and companies of the media of a chunk.
+     * @param page Fragment of the home page of the type of media.
+     * @param report Report of the import.
+     * @param <T> Type of the media.
+     *
+     * @throws InterruptedException If the import is interrupted during the wait of a media.
+     * @version 1.1
+     * @since 1.0
+     */
+    private <T extends Media> void save(BlockingQueue<Record<T>> media, JpaRepository<T, Long> repository,
+                                        Predicate<T> exists, Function<T, ?> key, Consumer<List<T>> resolver,
+                                        String page, Report report) throws InterruptedException {
+        List<Record<T>> chunk = new ArrayList<>(this.chunkSize);
+        for (Record<T> m = media.take(); m.value != null; m = media.take()) {
+            chunk.add(m);
+            if (chunk.size() == this.chunkSize) {
+                this.persist(chunk, repository, exists, key, resolver, page, report);
+                chunk.clear();
+            }
+        }
+        this.persist(chunk, repository, exists, key, resolver, page, report);
+    }
+
+    /**
+     * Save a chunk of media and add their results on the report.
+     *
+     * @param chunk Media of the chunk, with the line of their record.
+     * @param repository Repository used to save the media.
+     * @param exists Function who check if a media is already present on Database.
+     * @param key Function who return the fields checked by exists, used to find a media twice on the same chunk.
+     * @param resolver Function who replace the persons and companies of the media of a chunk.
+     * @param page Fragment of the home page of the type of media.
+     * @param report Report of the import.
+     * @param <T> Type of the media.
+     *
+     * @version 1.2
+     * @since 1.0
+     */
+    private <T extends Media> void persist(List<Record<T>> chunk, JpaRepository<T, Long> repository,
+                                           Predicate<T> exists, Function<T, ?> key, Consumer<List<T>> resolver,
+                                           String page, Report report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        List<T> values = new ArrayList<>(chunk.size());
+        for (Record<T> m : chunk) {
+            values.add(m.value);
+        }
+        try {
+            boolean[] conflicts = this.batchCreateService.persist(values, repository, exists, key, resolver, page);
+            for (boolean conflict : conflicts) {
+                report.saved(conflict);
+            }
+        } catch (RuntimeException e) {
+            logger.error("Unable to save the records of the lines {} to {}", chunk.get(0).line,
+                         chunk.get(chunk.size() - 1).line, e);
+            for (Record<T> m : chunk) {
+                report.error(m.line, "Unable to create. " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Return the parser of a media type.
+     *
+     * @param contentType Media type of the file.
+     *
+     * @return A CsvParser or a TsvParser.
+     *
+     * @throws IllegalArgumentException If the media type is not CSV or TSV.
+     * @version 1.0
+     * @since 1.0
+     */
+    private static FileParser parser(String contentType) {
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        if (mediaType.isCompatibleWith(MediaType.parseMediaType(TEXT_CSV_VALUE))) {
+            return new CsvParser();
+        } else if (mediaType.isCompatibleWith(MediaType.parseMediaType(TEXT_TSV_VALUE))) {
+            return new TsvParser();
+        }
+        throw new IllegalArgumentException("No parser available for the media type " + contentType + ".");
+    }
+
+    /**
+     * Put the end of the values on a queue, even if the stage is interrupted.
+     *
+     * @param queue Queue of a stage.
+     * @param <V> Type of the values of the queue.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    private static <V> void end(BlockingQueue<Record<V>> queue) {
+        Record<V> end = new Record<>(0, null);
+        try {
+            if (!Thread.currentThread().isInterrupted()) {
+                queue.put(end);
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // The import has been interrupted, the values waiting are dropped so the next stage can stop at once.
+        queue.clear();
+        queue.offer(end);
+    }
+
+    /**
+     * A media, with the line of his record on the file.
+     * <p>
+     * A record without value mark the end of the queue.
+     *
+     * @param <V> Type of the value.
+     *
+     * @author Nicolas GILLE
+     * @version 1.2
+     * @since 1.0
+     */
+    private static class Record<V> {
+
+        /**
+         * Number of the line of the record on the file, from 1.
+         *
+         * @since 1.0
+         */
+        private final long line;
+
+        /**
+         * Value of the record, or null at the end of the queue.
+         *
+         * @since 1.0
+         */
+        private final V value;
+
+        /**
+         * Constructor of a record.
+         *
+         * @param line Number of the line of the record on the file.
+         * @param value Value of the record.
+         *
+         * @since 1.0
+         */
+        private Record(long line, V value) {
+            this.line = line;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Results of an import, updated by the stages.
+     *
+     * @author Nicolas GILLE
+     * @version 1.1
+     * @since 1.0
+     */
+    private static class Report {
+
+        /**
+         * Number of records read.
+         *
+         * @since 1.0
+         */
+        private int read;
+
+        /**
+         * Number of media created.
+         *
+         * @since 1.0
+         */
+        private int created;
+
+        /**
+         * Number of media already present on Database.
+         *
+         * @since 1.0
+         */
+        private int conflicts;
+
+        /**
+         * Number of records who can't be imported.
+         *
+         * @since 1.0
+         */
+        private int failed;
+
+        /**
+         * Detail of the first errors, with the line of the record and the message.
+         *
+         * @since 1.0
+         */
+        private final List<Map<String, Object>> errors = new ArrayList<>();
+
+        /**
+         * Add a media saved on the report.
+         *
+         * @param conflict True if the media was already present on Database.
+         *
+         * @version 1.0
+         * @since 1.0
+         */
+        private synchronized void saved(boolean conflict) {
+            this.read++;
+            if (conflict) {
+                this.conflicts++;
+            } else {
+                this.created++;
+            }
+        }
+
+        /**
+         * Add a record who can't be imported on the report.
+         *
+         * @param line Number of the line of the record, or 0 if the error is not about a record.
+         * @param message Message of the error.
+         *
+         * @version 1.1
+         * @since 1.0
+         */
+        private synchronized void error(long line, String message) {
+            if (line > 0) {
+                this.read++;
+                this.failed++;
+            }
+            if (this.errors.size() < MAX_ERRORS) {
+                Map<String, Object> error = new LinkedHashMap<>();
+                error.put("line", line);
+                error.put("message", message);
+                this.errors.add(error);
+            }
+        }
+
+        /**
+         * Return the report as a map, sent as JSON.
+         *
+         * @return The map of the report.
+         *
+         * @version 1.0
+         * @since 1.0
+         */
+        private synchronized Map<String, Object> toMap() {
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("read", this.read);
+            report.put("created", this.created);
+            report.put("conflicts", this.conflicts);
+            report.put("failed", this.failed);
+            report.put("errors", Collections.unmodifiableList(new ArrayList<>(this.errors)));
+            return report;
+        }
+    }
+}
@@ -0,0 +1,377 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.services;
+
+import fr.nicolasgille.medialibrary.models.Media;
+import fr.nicolasgille.medialibrary.models.MediaSummary;
+import fr.nicolasgille.medialibrary.models.book.Book;
+import fr.nicolasgille.medialibrary.models.game.VideoGame;
+import fr.nicolasgille.medialibrary.models.music.Album;
+import fr.nicolasgille.medialibrary.models.video.Video;
+import fr.nicolasgille.medialibrary.search.FacetIndex;
+import fr.nicolasgille.medialibrary.utils.PageCursor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Service used to filter the media on the values of their enumerations and to count the media of each value.
+ * <p>
+ * The facets are the type of the media, the genres of each type of media, the supports, the languages spoken,
+ * the subtitles and the platforms.
+ * They are kept in memory on a FacetIndex updated at the same time as the search index,
+ * so a filter or a count never join the tables of the collections of the media.
+ * The index is empty until all media are indexed at startup, so the filters and counts must not be used before
+ * the index is ready.
+ *
+ * @author Nicolas GILLE
+ * @version 1.2
+ * @since Media-Library 1.1
+ */
+@Service
+public class MediaFacetService {
+
+    /**
+     * Facet of the type of the media, as stored on the column <code>media_type</code>.
+     *
+     * @since 1.0
+     */
+    public final static String TYPE = "type";
+
+    /**
+     * Facet of the genres of the videos.
+     *
+     * @since 1.0
+     */
+    public final static String VIDEO_GENRE = "videoGenre";
+
+    /**
+     * Facet of the genres of the music albums.
+     *
+     * @since 1.0
+     */
+    public final static String MUSIC_GENRE = "musicGenre";
+
+    /**
+     * Facet of the genres of the books.
+     *
+     * @since 1.0
+     */
+    public final static String BOOK_GENRE = "bookGenre";
+
+    /**
+     * Facet of the genres of the video games.
+     *
+     * @since 1.0
+     */
+    public final static String VIDEO_GAME_GENRE = "videoGameGenre";
+
+    /**
+     * Facet of the supports of the media.
+     *
+     * @since 1.0
+     */
+    public final static String SUPPORT = "support";
+
+    /**
+     * Facet of the languages spoken on the videos and the video games.
+     *
+     * @since 1.0
+     */
+    public final static String LANGUAGE = "language";
+
+    /**
+     * Facet of the subtitles of the videos.
+     *
+     * @since 1.0
+     */
+    public final static String SUBTITLE = "subtitle";
+
+    /**
+     * Facet of the platforms of the video games.
+     *
+     * @since 1.0
+     */
+    public final static String PLATFORM = "platform";
+
+    /**
+     * All facets who can be used as filter.
+     *
+     * @since 1.0
+     */
+    public final static List<String> FACETS = Collections.unmodifiableList(Arrays.asList(
+            TYPE, VIDEO_GENRE, MUSIC_GENRE, BOOK_GENRE, VIDEO_GAME_GENRE, SUPPORT, LANGUAGE, SUBTITLE, PLATFORM));
+
+    /**
+     * Index of the facets of all media.
+     *
+     * @since 1.0
+     */
+    private final FacetIndex index = new FacetIndex();
+
+    /**
+     * True when the index contains all media present on Database.
+     *
+     * @since 1.2
+     */
+    private volatile boolean ready;
+
+    /**
+     * Add a media on the index, or update it if already indexed.
+     *
+     * @param media Media created or updated.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public void index(Media media) {
+        Map<String, List<String>> values = new HashMap<>();
+        values.put(TYPE, Collections.singletonList(MediaSearchService.discriminator(media.getClass())));
+        values.put(SUPPORT, MediaFacetService.names(media.getSupports()));
+        if (media instanceof Video) {
+            Video video = (Video) media;
+            values.put(VIDEO_GENRE, MediaFacetService.names(video.getGenres()));
+            values.put(LANGUAGE, MediaFacetService.names(video.getLanguagesSpoken()));
+            values.put(SUBTITLE, MediaFacetService.names(video.getSubtitles()));
+        } else if (media instanceof Book) {
+            values.put(BOOK_GENRE, MediaFacetService.names(((Book) media).getGenres()));
+        } else if (media instanceof Album) {
+            values.put(MUSIC_GENRE, MediaFacetService.names(((Album) media).getGenres()));
+        } else if (media instanceof VideoGame) {
+            VideoGame videoGame = (VideoGame) media;
+            values.put(VIDEO_GAME_GENRE, MediaFacetService.names(videoGame.getGenres()));
+            values.put(LANGUAGE, MediaFacetService.names(videoGame.getLanguages()));
+            values.put(PLATFORM, MediaFacetService.names(videoGame.getPlatforms()));
+        }
+        this.index.add(media.getId(), values);
+    }
+
+    /**
+     * Remove a media from the index.
+     *
+     * @param id Identifier of the media deleted.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public void remove(long id) {
+        this.index.remove(id);
+    }
+
+    /**
+     * Remove all media from the index, who is not ready until all media are indexed again.
+     *
+     * @version 1.1
+     * @since 1.0
+     */
+    public void clear() {
+        this.ready = false;
+        this.index.clear();
+    }
+
+    /**
+     * Mark the index as ready, once all media present on Database are indexed.
+     *
+     * @version 1.0
+     * @since 1.2
+     */
+    public void markReady() {
+        this.ready = true;
+    }
+
+    /**
+     * Check if the index contains all media, so the filters and counts are complete.
+     *
+     * @return True if the index is ready.
+     *
+     * @version 1.0
+     * @since 1.2
+     */
+    public boolean isReady() {
+        return this.ready;
+    }
+
+    /**
+     * Check if the parameters of a request contains at least one facet.
+     *
+     * @param parameters Parameters of the request.
+     *
+     * @return True if the parameters select a value on a facet.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public boolean isFiltered(Map<String, List<String>> parameters) {
+        return !MediaFacetService.selections(parameters).isEmpty();
+    }
+
+    /**
+     * Return a page of the media of a type who match the facets of the request, ordered by identifier.
+     *
+     * @param type Type of the media at return.
+     * @param parameters Parameters of the request, the parameters who are not a facet are ignored.
+     * @param after Identifier of the last media of the previous page.
+     * @param limit Limit send by the client, or null.
+     * @param loader Repository method used to load the media by identifier.
+     * @param <T> Type of the media.
+     *
+     * @return The media of the page.
+     *
+     * @version 1.1
+     * @since 1.0
+     */
+    public <T extends Media> List<T> page(Class<T> type, Map<String, List<String>> parameters, long after,
+                                          Integer limit, Function<Iterable<Long>, List<T>> loader) {
+        return this.find(type, parameters, after, limit, loader, Media::getId);
+    }
+
+    /**
+     * Return a page of the summaries of the media of a type who match the facets of the request,
+     * ordered by identifier.
+     *
+     * @param type Type of the media at return.
+     * @param parameters Parameters of the request, the parameters who are not a facet are ignored.
+     * @param after Identifier of the last media of the previous page.
+     * @param limit Limit send by the client, or null.
+     * @param loader Repository method used to load the summaries by identifier.
+     *
+     * @return The summaries of the media of the page.
+     *
+     * @version 1.0
+     * @since 1.1
+     */
+    public List<MediaSummary> pageSummaries(Class<? extends Media> type, Map<String, List<String>> parameters,
+                                            long after, Integer limit,
+                                            Function<Iterable<Long>, List<MediaSummary>> loader) {
+        return this.find(type, parameters, after, limit, loader, MediaSummary::getId);
+    }
+
+    /**
+     * Count the media who match the facets of the request and the media of each value of each facet.
+     *
+     * @param parameters Parameters of the request, the parameters who are not a facet are ignored.
+     *
+     * @return A map with the number of media found as <code>total</code> and the number of media of each value
+     *         of each facet as <code>facets</code>.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public Map<String, Object> facets(Map<String, List<String>> parameters) {
+        Map<String, List<String>> selections = MediaFacetService.selections(parameters);
+        Map<String, Object> facets = new LinkedHashMap<>();
+        facets.put("total", this.index.count(selections));
+        facets.put("facets", this.index.counts(selections));
+        return facets;
+    }
+
+    /**
+     * Find a page of the media of a type who match the facets of the request and load them with the loader.
+     *
+     * @param type Type of the media at return.
+     * @param parameters Parameters of the request, the parameters who are not a facet are ignored.
+     * @param after Identifier of the last media of the previous page.
+     * @param limit Limit send by the client, or null.
+     * @param loader Repository method used to load the results by identifier.
+     * @param id Function who return the identifier of the media of a result.
+     * @param <T> Type of the results.
+     *
+     * @return The results of the page, ordered by identifier.
+     *
+     * @version 1.0
+     * @since 1.1
+     */
+    private <T> List<T> find(Class<? extends Media> type, Map<String, List<String>> parameters, long after,
+                             Integer limit, Function<Iterable<Long>, List<T>> loader, ToLongFunction<T> id) {
+        Map<String, List<String>> selections = MediaFacetService.selections(parameters);
+        selections.put(TYPE, Collections.singletonList(MediaSearchService.discriminator(type)));
+        List<Long> ids = this.index.page(selections, after, PageCursor.limit(limit));
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<T> results = new ArrayList<>(loader.apply(ids));
+        results.sort(Comparator.comparingLong(id));
+        return results;
+    }
+
+    /**
+     * Extract the values selected on each facet from the parameters of a request.
+     * <p>
+     * A facet can be repeated or contains several values separated by a comma, the media must have one of them.
+     *
+     * @param parameters Parameters of the request.
+     *
+     * @return The values selected on each facet.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    private static Map<String, List<String>> selections(Map<String, List<String>> parameters) {
+        Map<String, List<String>> selections = new HashMap<>();
+        for (String facet : FACETS) {
+            List<String> values = parameters.get(facet);
+            if (values == null) {
+                continue;
+            }
+            List<String> selected = new ArrayList<>();
+            for (String value : values) {
+                for (String v : value.split(",")) {
+                    if (!v.trim().isEmpty()) {
+                        selected.add(v.trim());
+                    }
+                }
+            }
+            if (!selected.isEmpty()) {
+                selections.put(facet, selected);
+            }
+        }
+        return selections;
+    }
+
+    /**
+     * Return the names of the values of an enumeration.
+     *
+     * @param values Values of an enumeration, can be null.
+     *
+     * @return The names of the values.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    private static List<String> names(Collection<? extends Enum<?>> values) {
+        List<String> names = new ArrayList<>();
+        if (values != null) {
+            for (Enum<?> value : values) {
+                names.add(value.name());
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,398 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.services;
+
+import fr.nicolasgille.medialibrary.models.Media;
+import fr.nicolasgille.medialibrary.models.MediaSummary;
+import fr.nicolasgille.medialibrary.models.book.Book;
+import fr.nicolasgille.medialibrary.models.game.VideoGame;
+import fr.nicolasgille.medialibrary.models.video.Video;
+import fr.nicolasgille.medialibrary.repositories.MediaRepository;
+import fr.nicolasgille.medialibrary.search.InvertedIndex;
+import fr.nicolasgille.medialibrary.search.TitleTrie;
+import fr.nicolasgille.medialibrary.search.TrigramIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.DiscriminatorValue;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * Service used to search media by full text on their title, original title and synopsis.
+ * <p>
+ * All media are indexed in memory when the application is ready and the index is updated by the controllers
+ * on each write, so a search don't scan the table <code>media</code> anymore.
+ * The media found are ranked by relevance and the query <code>LIKE</code> of the repositories is only used
+ * while the index is not built or when no word of the index match the title searched.
+ * A fuzzy search use the trigrams of the title and original title instead, to find the media despite typos.
+ * The titles of all media are kept on a prefix tree too, to complete a title while the user type it.
+ * The facets of the media are updated at the same time, so all indexes in memory stay consistent.
+ *
+ * @author Nicolas GILLE
+ * @version 1.6
+ * @since Media-Library 1.1
+ */
+@Service
+public class MediaSearchService {
+
+    /**
+     * Logger to get information during some process.
+     *
+     * @since 1.0
+     */
+    static final Logger logger = LoggerFactory.getLogger(MediaSearchService.class);
+
+    /**
+     * Weight of the terms found on the title.
+     *
+     * @since 1.0
+     */
+    private final static double TITLE_WEIGHT = 3.0;
+
+    /**
+     * Weight of the terms found on the original title.
+     *
+     * @since 1.0
+     */
+    private final static double ORIGINAL_TITLE_WEIGHT = 2.0;
+
+    /**
+     * Weight of the terms found on the synopsis.
+     *
+     * @since 1.0
+     */
+    private final static double SYNOPSIS_WEIGHT = 1.0;
+
+    /**
+     * Maximum number of media returned by a fuzzy search.
+     *
+     * @since 1.1
+     */
+    private final static int FUZZY_LIMIT = 20;
+
+    /**
+     * Maximum number of completions returned for a prefix.
+     *
+     * @since 1.2
+     */
+    public final static int AUTOCOMPLETE_LIMIT = 10;
+
+    /**
+     * Repository of all media, used to index them in a single query.
+     *
+     * @since 1.3
+     */
+    @Autowired
+    private MediaRepository mediaRepository;
+
+    /**
+     * Entity manager used to detach each media once indexed.
+     *
+     * @since 1.0
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Service who keeps the facets of all media.
+     *
+     * @since 1.4
+     */
+    @Autowired
+    private MediaFacetService mediaFacetService;
+
+    /**
+     * Index of the title, original title and synopsis of all media.
+     *
+     * @since 1.0
+     */
+    private final InvertedIndex index = new InvertedIndex(TITLE_WEIGHT, ORIGINAL_TITLE_WEIGHT, SYNOPSIS_WEIGHT);
+
+    /**
+     * Index of the trigrams of the title and original title of all media.
+     *
+     * @since 1.1
+     */
+    private final TrigramIndex titles = new TrigramIndex();
+
+    /**
+     * Prefix tree of the titles of all media.
+     *
+     * @since 1.2
+     */
+    private final TitleTrie completions = new TitleTrie(AUTOCOMPLETE_LIMIT);
+
+    /**
+     * Type of each media indexed.
+     *
+     * @since 1.0
+     */
+    private final Map<Long, Class<?>> types = new ConcurrentHashMap<>();
+
+    /**
+     * True when the index contains all media present on Database.
+     *
+     * @since 1.0
+     */
+    private volatile boolean ready;
+
+    /**
+     * Build the index from all media present on Database.
+     *
+     * @version 1.5
+     * @since 1.0
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        this.ready = false;
+        this.index.clear();
+        this.titles.clear();
+        this.completions.clear();
+        this.mediaFacetService.clear();
+        this.types.clear();
+
+        try (Stream<Media> media = this.mediaRepository.streamAll()) {
+            media.forEach(m -> {
+                this.index(m);
+                this.entityManager.detach(m);
+            });
+        }
+
+        this.ready = true;
+        this.mediaFacetService.markReady();
+        logger.info("Search index built with {} media", this.index.size());
+    }
+
+    /**
+     * Add a media on the index, or update it if already indexed.
+     *
+     * @param media Media created or updated.
+     *
+     * @version 1.3
+     * @since 1.0
+     */
+    public void index(Media media) {
+        this.types.put(media.getId(), media.getClass());
+        String originalTitle = MediaSearchService.originalTitle(media);
+        this.index.add(media.getId(), media.getTitle(), originalTitle, media.getSynopsis());
+        this.titles.add(media.getId(), media.getTitle(), originalTitle);
+        this.completions.add(media.getId(), media.getTitle(), MediaSearchService.discriminator(media.getClass()));
+        this.mediaFacetService.index(media);
+    }
+
+    /**
+     * Remove a media from the index.
+     *
+     * @param id Identifier of the media deleted.
+     *
+     * @version 1.3
+     * @since 1.0
+     */
+    public void remove(long id) {
+        this.index.remove(id);
+        this.titles.remove(id);
+        this.completions.remove(id);
+        this.mediaFacetService.remove(id);
+        this.types.remove(id);
+    }
+
+    /**
+     * Search the media of a type by full text, from the most relevant to the less relevant.
+     * <p>
+     * If the search is fuzzy, the media are found by similarity of their title or original title with the
+     * text searched, so a title with typos still find the media.
+     *
+     * @param title Text searched.
+     * @param fuzzy True to search the titles similar to the text searched.
+     * @param type Type of the media at return, or <code>Media.class</code> to search all types of media.
+     * @param loader Repository method used to load the media found by identifier.
+     * @param fallback Repository method used when the index can't answer.
+     * @param <T> Type of the media.
+     *
+     * @return The media found.
+     *
+     * @version 1.3
+     * @since 1.0
+     */
+    public <T extends Media> List<T> search(String title, boolean fuzzy, Class<T> type,
+                                            Function<Iterable<Long>, List<T>> loader,
+                                            Function<String, List<T>> fallback) {
+        return this.find(title, fuzzy, type, loader, fallback, Media::getId);
+    }
+
+    /**
+     * Search the summaries of the media of a type by full text, from the most relevant to the less relevant.
+     * <p>
+     * The search is the same as <code>search</code>, but only the summaries of the media found are read.
+     *
+     * @param title Text searched.
+     * @param fuzzy True to search the titles similar to the text searched.
+     * @param type Type of the media at return, or <code>Media.class</code> to search all types of media.
+     * @param loader Repository method used to load the summaries found by identifier.
+     * @param fallback Repository method used when the index can't answer.
+     *
+     * @return The summaries of the media found.
+     *
+     * @version 1.0
+     * @since 1.5
+     */
+    public List<MediaSummary> searchSummaries(String title, boolean fuzzy, Class<? extends Media> type,
+                                              Function<Iterable<Long>, List<MediaSummary>> loader,
+                                              Function<String, List<MediaSummary>> fallback) {
+        return this.find(title, fuzzy, type, loader, fallback, MediaSummary::getId);
+    }
+
+    /**
+     * Complete the beginning of a title with the titles of all media types.
+     *
+     * @param prefix Beginning of the title typed by the user.
+     * @param limit Maximum number of completions at return, bounded by <code>AUTOCOMPLETE_LIMIT</code>.
+     *
+     * @return The completions, from the shortest title to the longest.
+     *
+     * @version 1.0
+     * @since 1.2
+     */
+    public List<TitleTrie.Completion> autocomplete(String prefix, int limit) {
+        return this.completions.complete(prefix, limit);
+    }
+
+    /**
+     * Search the media of a type by full text and load them, or their summaries, with the loader.
+     *
+     * @param title Text searched.
+     * @param fuzzy True to search the titles similar to the text searched.
+     * @param type Type of the media at return, or <code>Media.class</code> to search all types of media.
+     * @param loader Repository method used to load the results by identifier.
+     * @param fallback Repository method used when the index can't answer.
+     * @param id Function who return the identifier of the media of a result.
+     * @param <T> Type of the results.
+     *
+     * @return The results found.
+     *
+     * @version 1.0
+     * @since 1.5
+     */
+    private <T> List<T> find(String title, boolean fuzzy, Class<? extends Media> type,
+                             Function<Iterable<Long>, List<T>> loader, Function<String, List<T>> fallback,
+                             ToLongFunction<T> id) {
+        if (!this.ready) {
+            return fallback.apply(title);
+        }
+
+        LongPredicate filter = Media.class.equals(type) ? i -> true : i -> this.types.get(i) == type;
+        if (fuzzy) {
+            List<Long> ids = this.titles.search(title, filter);
+            return MediaSearchService.load(ids.subList(0, Math.min(ids.size(), FUZZY_LIMIT)), loader, id);
+        }
+
+        List<Long> ids = this.index.search(title, filter);
+        if (ids.isEmpty()) {
+            return fallback.apply(title);
+        }
+        return MediaSearchService.load(ids, loader, id);
+    }
+
+    /**
+     * Load the media found by identifier and keep them in order of relevance.
+     *
+     * @param ids Identifiers of the media found, in order of relevance.
+     * @param loader Repository method used to load the media by identifier.
+     * @param id Function who return the identifier of the media of a result.
+     * @param <T> Type of the results.
+     *
+     * @return The media found.
+     *
+     * @version 1.1
+     * @since 1.1
+     */
+    private static <T> List<T> load(List<Long> ids, Function<Iterable<Long>, List<T>> loader, ToLongFunction<T> id) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, T> found = new HashMap<>();
+        for (T result : loader.apply(ids)) {
+            found.put(id.applyAsLong(result), result);
+        }
+        List<T> media = new ArrayList<>(ids.size());
+        for (Long i : ids) {
+            T m = found.get(i);
+            if (m != null) {
+                media.add(m);
+            }
+        }
+        return media;
+    }
+
+    /**
+     * Return the original title of the media, if the media has one.
+     *
+     * @param media Media at index.
+     *
+     * @return The original title, or null.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    private static String originalTitle(Media media) {
+        if (media instanceof Video) {
+            return ((Video) media).getOriginalTitle();
+        }
+        if (media instanceof Book) {
+            return ((Book) media).getOriginalTitle();
+        }
+        if (media instanceof VideoGame) {
+            return ((VideoGame) media).getOriginalTitle();
+        }
+        return null;
+    }
+
+    /**
+     * Return the value of the discriminator of a type of media, as stored on the column <code>media_type</code>.
+     *
+     * @param type Type of the media.
+     *
+     * @return The value of the discriminator.
+     *
+     * @version 1.0
+     * @since 1.2
+     */
+    public static String discriminator(Class<?> type) {
+        DiscriminatorValue discriminator = type.getAnnotation(DiscriminatorValue.class);
+        return discriminator != null ? discriminator.value() : type.getSimpleName().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.services;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Service used to export a whole collection as newline delimited JSON.
+ * <p>
+ * The entities are read from a repository <code>Stream</code>, written one by one on the response
+ * and detached from the persistence context just after, so the memory used stay the same whatever the size of
+ * the library.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+@Service
+public class NdjsonExportService {
+
+    /**
+     * Media type of the newline delimited JSON.
+     *
+     * @since 1.0
+     */
+    public final static String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    /**
+     * Entity manager used to detach each entity once written.
+     *
+     * @since 1.0
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Mapper used to serialize entities like the JSON endpoints.
+     *
+     * @since 1.0
+     */
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Write all entities returned by the query on the response, one JSON document per line.
+     * <p>
+     * If the query return nothing, the response is an HTTP 204 : No Content.
+     *
+     * @param response Response where the entities are written.
+     * @param query Repository method who open the stream of entities.
+     * @param <T> Type of the entities exported.
+     *
+     * @throws IOException If the response can't be written.
+     * @version 1.0
+     * @since 1.0
+     */
+    @Transactional(readOnly = true)
+    public <T> void export(HttpServletResponse response, Supplier<Stream<T>> query) throws IOException {
+        try (Stream<T> entities = query.get()) {
+            Iterator<T> iterator = entities.iterator();
+            if (!iterator.hasNext()) {
+                response.setStatus(HttpStatus.NO_CONTENT.value());
+                return;
+            }
+
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType(APPLICATION_NDJSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+
+            // Let the buffers of the generator and the response decide when bytes are sent.
+            ObjectWriter writer = this.objectMapper.writer()
+                                                   .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            JsonGenerator generator = this.objectMapper.getFactory()
+                                                       .createGenerator(response.getOutputStream());
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            while (iterator.hasNext()) {
+                T entity = iterator.next();
+                writer.writeValue(generator, entity);
+                generator.writeRaw('\n');
+                this.entityManager.detach(entity);
+            }
+            generator.close();
+        }
+    }
+}
@@ -0,0 +1,623 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.services;
+
+import fr.nicolasgille.medialibrary.models.common.company.ICompany;
+import fr.nicolasgille.medialibrary.models.common.person.IPerson;
+import org.hibernate.SQLQuery;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.DiscriminatorValue;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Service used to replace the persons and companies of a media by the persons and companies stored on Database.
+ * <p>
+ * The persons of a role are searched with a single query on their first names and last names, and the companies
+ * with a single query on their names.
+ * The persons and companies of several media can be resolved together, like the media of a batch.
+ * The persons and companies not found are inserted with a single statement, then read again to get their
+ * identifiers, so a media is created or updated with a few queries whatever the number of his credits.
+ * The names are compared without case and without the spaces around them, like the collation of the Database,
+ * so a person written with another case is found instead of being created again.
+ * <p>
+ * An import resolve his media by chunks on several transactions : during a scope opened by the import, the
+ * identifiers of the entities resolved are kept once their transaction is committed, and the next chunks use
+ * references on these entities by identifier instead of searching them again.
+ *
+ * @author Nicolas GILLE
+ * @version 1.5
+ * @since Media-Library 1.1
+ */
+@Service
+public class PersonResolver {
+
+    /**
+     * Maximum number of persons or companies searched or inserted by a single statement.
+     *
+     * @since 1.0
+     */
+    private final static int BATCH_SIZE = 500;
+
+    /**
+     * Query space declared by the inserts of persons and companies.
+     * <p>
+     * Hibernate evict the regions of the entities of the tables declared by a native statement, and all regions
+     * if no table is declared, so the inserts declare this space who is the table of no entity.
+     * The new entities can't be on the cache yet, only the cached searches by name are evicted after the insert.
+     *
+     * @since 1.4
+     */
+    private final static String INSERT_SPACE = "person_resolver_insert";
+
+    /**
+     * Mapping of the persons, identified by their first name and last name.
+     *
+     * @since 1.1
+     */
+    private final static Mapping<IPerson> PERSON = new Mapping<>(
+            p -> Arrays.asList(p.getFirstName(), p.getLastName()), IPerson::getId,
+            Arrays.asList("firstName", "lastName"), "person", Arrays.asList("fname", "lname"), "person_type");
+
+    /**
+     * Mapping of the companies, identified by their name.
+     *
+     * @since 1.1
+     */
+    private final static Mapping<ICompany> COMPANY = new Mapping<>(
+            c -> Collections.singletonList(c.getName()), ICompany::getId, Collections.singletonList("name"),
+            "company", Collections.singletonList("name"), "company_type");
+
+    /**
+     * Entity manager used to search and insert the persons and companies.
+     *
+     * @since 1.0
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Service who tag the lists of persons and companies, told of the inserts who don't go through Hibernate.
+     *
+     * @since 1.5
+     */
+    @Autowired
+    private EntityTagService entityTagService;
+
+    /**
+     * Identifiers of the entities resolved during the scope opened on the thread, by type and key.
+     *
+     * @since 1.2
+     */
+    private final ThreadLocal<Map<Class<?>, Map<List<String>, Long>>> scope = new ThreadLocal<>();
+
+    /**
+     * Open a scope on the current thread, where the entities resolved are resolved again without query.
+     * <p>
+     * The entities resolved again are references who are loaded only if they are read, so the media resolved
+     * during the scope must not read their persons and companies after their transaction.
+     * The scope is closed by the returned object, and a scope already opened on the thread is kept.
+     *
+     * @return The scope opened, at close at the end of the import.
+     *
+     * @version 1.0
+     * @since 1.2
+     */
+    public Scope openScope() {
+        if (this.scope.get() != null) {
+            return () -> {
+            };
+        }
+        this.scope.set(new HashMap<>());
+        return this.scope::remove;
+    }
+
+    /**
+     * Return the persons of a role stored on Database, with the persons not found created.
+     * <p>
+     * The persons are identified by their first name and last name, so a person present several times is returned
+     * once.
+     *
+     * @param type Type of the persons, like <code>Actor.class</code>.
+     * @param persons Persons of a media, can be null.
+     * @param <T> Type of the persons.
+     *
+     * @return The persons stored on Database, in the same order as the persons of the media.
+     *
+     * @version 1.1
+     * @since 1.0
+     */
+    @Transactional
+    public <T extends IPerson> Set<T> persons(Class<T> type, Collection<T> persons) {
+        return PersonResolver.select(persons, this.resolve(type, Collections.singletonList(persons), PERSON), PERSON);
+    }
+
+    /**
+     * Replace the persons of a role of several media by the persons stored on Database,
+     * with the persons not found created.
+     * <p>
+     * The persons of all media are searched and created together, so the number of queries doesn't depend on the
+     * number of media.
+     *
+     * @param type Type of the persons, like <code>Actor.class</code>.
+     * @param media Media who have persons of the role.
+     * @param getter Method who return the persons of a media, like <code>Movie::getMainActors</code>.
+     * @param setter Method who set the persons of a media, like <code>Movie::setMainActors</code>.
+     * @param <M> Type of the media.
+     * @param <T> Type of the persons.
+     *
+     * @version 1.0
+     * @since 1.1
+     */
+    @Transactional
+    public <M, T extends IPerson> void persons(Class<T> type, Collection<M> media,
+                                               Function<M, ? extends Collection<T>> getter,
+                                               BiConsumer<M, Set<T>> setter) {
+        this.resolveAll(type, media, getter, setter, PERSON);
+    }
+
+    /**
+     * Return the companies of a role stored on Database, with the companies not found created.
+     * <p>
+     * The companies are identified by their name, so a company present several times is returned once.
+     *
+     * @param type Type of the companies, like <code>Publisher.class</code>.
+     * @param companies Companies of a media, can be null.
+     * @param <T> Type of the companies.
+     *
+     * @return The companies stored on Database, in the same order as the companies of the media.
+     *
+     * @version 1.1
+     * @since 1.0
+     */
+    @Transactional
+    public <T extends ICompany> Set<T> companies(Class<T> type, Collection<T> companies) {
+        return PersonResolver.select(companies, this.resolve(type, Collections.singletonList(companies), COMPANY),
+                                     COMPANY);
+    }
+
+    /**
+     * Replace the companies of a role of several media by the companies stored on Database,
+     * with the companies not found created.
+     *
+     * @param type Type of the companies, like <code>Publisher.class</code>.
+     * @param media Media who have companies of the role.
+     * @param getter Method who return the companies of a media, like <code>Book::getPublishers</code>.
+     * @param setter Method who set the companies of a media, like <code>Book::setPublishers</code>.
+     * @param <M> Type of the media.
+     * @param <T> Type of the companies.
+     *
+     * @version 1.0
+     * @since 1.1
+     */
+    @Transactional
+    public <M, T extends ICompany> void companies(Class<T> type, Collection<M> media,
+                                                  Function<M, ? extends Collection<T>> getter,
+                                                  BiConsumer<M, Set<T>> setter) {
+        this.resolveAll(type, media, getter, setter, COMPANY);
+    }
+
+    /**
+     * Replace the entities of several media by the entities stored on Database.
+     *
+     * @param type Type of the entities.
+     * @param media Media who have entities.
+     * @param getter Method who return the entities of a media.
+     * @param setter Method who set the entities of a media.
+     * @param mapping Mapping of the entities on the Database.
+     * @param <M> Type of the media.
+     * @param <T> Type of the entities.
+     *
+     * @version 1.0
+     * @since 1.1
+     */
+    private <M, T> void resolveAll(Class<T> type, Collection<M> media, Function<M, ? extends Collection<T>> getter,
+                                   BiConsumer<M, Set<T>> setter, Mapping<? super T> mapping) {
+        List<Collection<T>> entities = new ArrayList<>();
+        for (M m : media) {
+            entities.add(getter.apply(m));
+        }
+
+        Map<List<String>, T> resolved = this.resolve(type, entities, mapping);
+        for (M m : media) {
+            setter.accept(m, PersonResolver.select(getter.apply(m), resolved, mapping));
+        }
+    }
+
+    /**
+     * Search the entities by their key, and insert the entities not found.
+     *
+     * @param type Type of the entities.
+     * @param entities Entities of several media, a collection can be null.
+     * @param mapping Mapping of the entities on the Database.
+     * @param <T> Type of the entities.
+     *
+     * @return The entities stored on Database by folded key.
+     *
+     * @version 1.4
+     * @since 1.0
+     */
+    private <T> Map<List<String>, T> resolve(Class<T> type, Collection<? extends Collection<T>> entities,
+                                             Mapping<? super T> mapping) {
+        // The first key written of each folded key is the one searched and inserted.
+        Map<List<String>, List<String>> keys = new LinkedHashMap<>();
+        for (Collection<T> collection : entities) {
+            if (collection != null) {
+                for (T entity : collection) {
+                    List<String> k = mapping.key.apply(entity);
+                    keys.putIfAbsent(PersonResolver.fold(k), k);
+                }
+            }
+        }
+        if (keys.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        Map<List<String>, Long> known = this.scope.get() == null ? null
+                : this.scope.get().computeIfAbsent(type, t -> new HashMap<>());
+        Map<List<String>, T> found = new LinkedHashMap<>();
+        Map<List<String>, List<String>> searched = new LinkedHashMap<>();
+        for (Map.Entry<List<String>, List<String>> k : keys.entrySet()) {
+            if (known != null && known.containsKey(k.getKey())) {
+                found.put(k.getKey(), this.entityManager.getReference(type, known.get(k.getKey())));
+            } else {
+                searched.put(k.getKey(), k.getValue());
+            }
+        }
+        if (searched.isEmpty()) {
+            return found;
+        }
+
+        found.putAll(this.find(type, new ArrayList<>(searched.values()), mapping));
+        List<List<String>> missing = new ArrayList<>();
+        for (Map.Entry<List<String>, List<String>> k : searched.entrySet()) {
+            if (!found.containsKey(k.getKey())) {
+                missing.add(k.getValue());
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (int from = 0; from < missing.size(); from += BATCH_SIZE) {
+                this.insert(missing.subList(from, Math.min(from + BATCH_SIZE, missing.size())), type, mapping);
+            }
+            found.putAll(this.find(type, missing, mapping));
+        }
+        if (known != null) {
+            PersonResolver.keep(known, searched.keySet(), found, mapping);
+        }
+        return found;
+    }
+
+    /**
+     * Keep the identifiers of the entities searched on the scope, once the transaction is committed.
+     * <p>
+     * The entities inserted by a transaction rolled back don't exist, so they are never kept.
+     *
+     * @param known Identifiers of the entities of the scope, by folded key.
+     * @param searched Folded keys of the entities searched.
+     * @param found Entities stored on Database by folded key.
+     * @param mapping Mapping of the entities on the Database.
+     * @param <T> Type of the entities.
+     *
+     * @version 1.1
+     * @since 1.2
+     */
+    private static <T> void keep(Map<List<String>, Long> known, Collection<List<String>> searched,
+                                 Map<List<String>, T> found, Mapping<? super T> mapping) {
+        Map<List<String>, Long> ids = new HashMap<>();
+        for (List<String> k : searched) {
+            T entity = found.get(k);
+            if (entity != null) {
+                ids.put(k, mapping.id.applyAsLong(entity));
+            }
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            known.putAll(ids);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                known.putAll(ids);
+            }
+        });
+    }
+
+    /**
+     * Return the entities stored on Database of a media.
+     *
+     * @param entities Entities of the media, can be null.
+     * @param resolved Entities stored on Database by folded key.
+     * @param mapping Mapping of the entities on the Database.
+     * @param <T> Type of the entities.
+     *
+     * @return The entities stored on Database, in the same order as the entities of the media.
+     *
+     * @version 1.1
+     * @since 1.1
+     */
+    private static <T> Set<T> select(Collection<T> entities, Map<List<String>, T> resolved,
+                                     Mapping<? super T> mapping) {
+        Set<T> selected = new LinkedHashSet<>();
+        if (entities != null) {
+            for (T entity : entities) {
+                selected.add(resolved.get(PersonResolver.fold(mapping.key.apply(entity))));
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Return the key used to compare the entities, with the values in lower case and without spaces around them.
+     * <p>
+     * The Database compare the names without case, so the entities found by a query are matched with the entities
+     * searched on their folded keys.
+     *
+     * @param key Values of the attributes who identify an entity, a value can be null.
+     *
+     * @return The folded key.
+     *
+     * @version 1.0
+     * @since 1.4
+     */
+    private static List<String> fold(List<String> key) {
+        List<String> folded = new ArrayList<>(key.size());
+        for (String v : key) {
+            folded.add(v == null ? null : v.trim().toLowerCase(Locale.ROOT));
+        }
+        return folded;
+    }
+
+    /**
+     * Search the entities of a type who have one of the keys, with a query for each batch of keys.
+     * <p>
+     * The query select the entities who have one of the values of each attribute, then the entities are filtered
+     * on their whole folded key.
+     *
+     * @param type Type of the entities.
+     * @param keys Keys of the entities at search.
+     * @param mapping Mapping of the entities on the Database.
+     * @param <T> Type of the entities.
+     *
+     * @return The entities found by folded key, the entity with the lowest identifier if a key is present several
+     * times.
+     *
+     * @version 1.2
+     * @since 1.0
+     */
+    private <T> Map<List<String>, T> find(Class<T> type, List<List<String>> keys, Mapping<? super T> mapping) {
+        Map<List<String>, T> found = new LinkedHashMap<>();
+        for (int from = 0; from < keys.size(); from += BATCH_SIZE) {
+            List<List<String>> batch = keys.subList(from, Math.min(from + BATCH_SIZE, keys.size()));
+            StringBuilder jpql = new StringBuilder("SELECT e FROM ").append(type.getSimpleName()).append(" e WHERE ");
+            List<Set<String>> values = new ArrayList<>();
+            for (int i = 0; i < mapping.attributes.size(); i++) {
+                Set<String> attributeValues = new HashSet<>();
+                for (List<String> k : batch) {
+                    attributeValues.add(k.get(i));
+                }
+                boolean nullable = attributeValues.remove(null);
+                values.add(attributeValues);
+
+                String attribute = "e." + mapping.attributes.get(i);
+                jpql.append(i == 0 ? "(" : " AND (");
+                if (!attributeValues.isEmpty()) {
+                    jpql.append(attribute).append(" IN :v").append(i);
+                }
+                if (nullable) {
+                    jpql.append(attributeValues.isEmpty() ? "" : " OR ").append(attribute).append(" IS NULL");
+                }
+                jpql.append(")");
+            }
+            jpql.append(" ORDER BY e.id");
+
+            TypedQuery<T> query = this.entityManager.createQuery(jpql.toString(), type);
+            for (int i = 0; i < values.size(); i++) {
+                if (!values.get(i).isEmpty()) {
+                    query.setParameter("v" + i, values.get(i));
+                }
+            }
+
+            Set<List<String>> searched = new HashSet<>();
+            for (List<String> k : batch) {
+                searched.add(PersonResolver.fold(k));
+            }
+            for (T entity : query.getResultList()) {
+                List<String> k = PersonResolver.fold(mapping.key.apply(entity));
+                if (searched.contains(k)) {
+                    found.putIfAbsent(k, entity);
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Insert the entities of the keys with a single statement.
+     * <p>
+     * The statement is declared on its own query space, so the entities cached are kept, and the cached searches
+     * by name are evicted now and once the transaction is completed, when the new entities become visible.
+     * The entities are inserted with their first version, and the date of the insert as last modification.
+     * The tag of the lists of their type is changed once the transaction is completed, the statement is not seen by
+     * the listeners of Hibernate.
+     *
+     * @param keys Keys of the entities at insert.
+     * @param type Type of the entities.
+     * @param mapping Mapping of the entities on the Database.
+     *
+     * @version 1.4
+     * @since 1.0
+     */
+    private void insert(List<List<String>> keys, Class<?> type, Mapping<?> mapping) {
+        String value = type.getAnnotation(DiscriminatorValue.class).value();
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(mapping.table).append(" (")
+                .append(String.join(", ", mapping.columns)).append(", ").append(mapping.discriminator)
+                .append(", version, last_modified) VALUES ");
+        String row = "(" + String.join(", ", Collections.nCopies(mapping.columns.size() + 3, "?")) + ")";
+        sql.append(String.join(", ", Collections.nCopies(keys.size(), row)));
+
+        Session session = this.entityManager.unwrap(Session.class);
+        SQLQuery query = session.createSQLQuery(sql.toString());
+        query.addSynchronizedQuerySpace(INSERT_SPACE);
+        long now = System.currentTimeMillis();
+        int position = 0;
+        for (List<String> k : keys) {
+            for (String v : k) {
+                query.setString(position++, v);
+            }
+            query.setString(position++, value);
+            query.setLong(position++, 0L);
+            query.setLong(position++, now);
+        }
+        query.executeUpdate();
+
+        SessionFactory sessionFactory = session.getSessionFactory();
+        sessionFactory.getCache().evictDefaultQueryRegion();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(int status) {
+                    sessionFactory.getCache().evictDefaultQueryRegion();
+                    entityTagService.invalidate(type);
+                }
+            });
+        } else {
+            this.entityTagService.invalidate(type);
+        }
+    }
+
+    /**
+     * Mapping of the persons or the companies on the Database.
+     *
+     * @param <E> Type of the entities.
+     *
+     * @author Nicolas GILLE
+     * @version 1.1
+     * @since Media-Library 1.1
+     */
+    private static class Mapping<E> {
+
+        /**
+         * Function who return the values of the attributes who identify an entity.
+         *
+         * @since 1.0
+         */
+        private final Function<E, List<String>> key;
+
+        /**
+         * Function who return the identifier of an entity.
+         *
+         * @since 1.1
+         */
+        private final ToLongFunction<E> id;
+
+        /**
+         * Attributes who identify an entity.
+         *
+         * @since 1.0
+         */
+        private final List<String> attributes;
+
+        /**
+         * Table of the entities.
+         *
+         * @since 1.0
+         */
+        private final String table;
+
+        /**
+         * Columns of the attributes.
+         *
+         * @since 1.0
+         */
+        private final List<String> columns;
+
+        /**
+         * Column of the type of the entities.
+         *
+         * @since 1.0
+         */
+        private final String discriminator;
+
+        /**
+         * Constructor of a mapping.
+         *
+         * @param key Function who return the values of the attributes who identify an entity.
+         * @param id Function who return the identifier of an entity.
+         * @param attributes Attributes who identify an entity.
+         * @param table Table of the entities.
+         * @param columns Columns of the attributes.
+         * @param discriminator Column of the type of the entities.
+         *
+         * @version 1.1
+         * @since 1.0
+         */
+        private Mapping(Function<E, List<String>> key, ToLongFunction<E> id, List<String> attributes, String table,
+                        List<String> columns, String discriminator) {
+            this.key = key;
+            this.id = id;
+            this.attributes = attributes;
+            this.table = table;
+            this.columns = columns;
+            this.discriminator = discriminator;
+        }
+    }
+
+    /**
+     * Scope of an import, closed at the end of the import.
+     *
+     * @author Nicolas GILLE
+     * @version 1.0
+     * @since Media-Library 1.1
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        /**
+         * Close the scope, the identifiers kept are forgotten.
+         *
+         * @version 1.0
+         * @since 1.0
+         */
+        @Override
+        void close();
+    }
+}
@@ -18,40 +18,40 @@
 package fr.nicolasgille.medialibrary.utils;
 
 import java.util.Collection;
-import java.util.List;
-import java.util.Set;
+import java.util.Iterator;
 
 /**
  * Util class used to represent a Collection as a String.
  *
  * @author Nicolas GILLE
- * @version 1.0
+ * @version 1.1
  * @since Media-Library 0.4
  */
 public class CollectionAsString {
 
     /**
      * Generate a String with content of collection.
+     * <p>
+     * The collection is iterated once, so the cost is linear whatever the type of the collection.
      *
      * @param collection collection at convert into a String representation.
      *
      * @return A string representation of the collection.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
     public static String collectionToString(Collection<?> collection) {
         StringBuilder str = new StringBuilder();
         str.append('{');
         if (collection != null) {
-            for (int i = 0; i < collection.size(); ++i) {
-                str.append(collection.toArray()[i].toString());
-                if (i != collection.size() - 1) {
+            Iterator<?> iterator = collection.iterator();
+            while (iterator.hasNext()) {
+                str.append(iterator.next());
+                if (iterator.hasNext()) {
                     str.append(", ");
                 }
             }
-        } else {
-            str.append("");
         }
         str.append('}');
         return str.toString();
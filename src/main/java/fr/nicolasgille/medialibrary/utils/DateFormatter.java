@@ -18,53 +18,89 @@
 
 package fr.nicolasgille.medialibrary.utils;
 
-import java.util.Calendar;
+import java.time.LocalDate;
 
 /**
- * Util class used for format Calender object as precise format.
+ * Util class used for format LocalDate object as precise format.
+ * <p>
+ * The dates are written digit by digit on an array of characters, without formatter nor intermediate Strings,
+ * because they are formatted by each <code>toString</code> of the media and by each media written as JSON.
  *
  * @author Nicolas GILLE
- * @version 1.0
+ * @version 1.1
  * @since Media-Library 0.4
  */
 public class DateFormatter {
 
     /**
-     * Format a <code>Calendar</code> object as specific format.
+     * Format a <code>LocalDate</code> object as specific format.
      * <p>
      * The format return by this method is <em>dd/mm/YYYY</em>.
      *
-     * @param date Date at formatted.
+     * @param date Date at formatted, can be null.
      *
      * @return A representation of the date with the following format : <em>dd/mm/YYYY</em>.
      *
-     * @version 1.0
+     * @version 1.1
      * @since 1.0
      */
-    public static String frenchDate(Calendar date) {
-        StringBuilder str = new StringBuilder();
-        str.append(DateFormatter.addPreviousZero(date.get(Calendar.DAY_OF_MONTH)));
-        str.append("/");
-        str.append(DateFormatter.addPreviousZero(date.get(Calendar.MONTH) + 1));
-        str.append("/");
-        str.append(date.get(Calendar.YEAR));
-        return str.toString();
+    public static String frenchDate(LocalDate date) {
+        if (date == null || date.getYear() < 0 || date.getYear() > 9999) {
+            return String.valueOf(date);
+        }
+
+        char[] chars = new char[10];
+        DateFormatter.writeDigits(chars, 0, date.getDayOfMonth(), 2);
+        chars[2] = '/';
+        DateFormatter.writeDigits(chars, 3, date.getMonthValue(), 2);
+        chars[5] = '/';
+        DateFormatter.writeDigits(chars, 6, date.getYear(), 4);
+        return new String(chars);
     }
 
     /**
-     * Add a 0 before the number to get a format like <em>02</em> instead of <em>2</em>.
+     * Format a <code>LocalDate</code> object as ISO 8601.
+     * <p>
+     * The format return by this method is <em>YYYY-mm-dd</em>, the same as <code>LocalDate.toString</code>
+     * for the years from 0 to 9999.
      *
-     * @param n Number to return with or without a 0 as a String.
+     * @param date Date at formatted.
      *
-     * @return The String representation of the number n with a 0 before or not.
+     * @return A representation of the date with the following format : <em>YYYY-mm-dd</em>.
      *
-     * @version 1.1
-     * @since 1.0
+     * @version 1.0
+     * @since 1.1
+     */
+    public static String isoDate(LocalDate date) {
+        if (date.getYear() < 0 || date.getYear() > 9999) {
+            return date.toString();
+        }
+
+        char[] chars = new char[10];
+        DateFormatter.writeDigits(chars, 0, date.getYear(), 4);
+        chars[4] = '-';
+        DateFormatter.writeDigits(chars, 5, date.getMonthValue(), 2);
+        chars[7] = '-';
+        DateFormatter.writeDigits(chars, 8, date.getDayOfMonth(), 2);
+        return new String(chars);
+    }
+
+    /**
+     * Write a number on a fixed number of digits, with 0 before the number to get a format like <em>02</em>
+     * instead of <em>2</em>.
+     *
+     * @param chars Array where the digits are written.
+     * @param offset Position of the first digit on the array.
+     * @param n Positive number to write, with at most the given number of digits.
+     * @param digits Number of digits written.
+     *
+     * @version 1.0
+     * @since 1.1
      */
-    private static String addPreviousZero(int n) {
-        if (n >= 10) {
-            return "" + n;
+    private static void writeDigits(char[] chars, int offset, int n, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + n % 10);
+            n /= 10;
         }
-        return "0" + n;
     }
 }
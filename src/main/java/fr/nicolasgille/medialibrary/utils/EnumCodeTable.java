@@ -0,0 +1,179 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Util class used to give a stable code to each value of an enumeration.
+ * <p>
+ * The code of a value is his position on the list of names given to the table, and not his ordinal,
+ * so the values of the enumeration can be reordered without change the data already stored.
+ * A new value must be added at the end of the list, and the name of a value removed from the enumeration
+ * must be kept on the list to never reuse his code.
+ * The codes are used as bits of a <code>long</code>, so a table can contains 64 names at most.
+ *
+ * @param <E> Type of the enumeration.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+public class EnumCodeTable<E extends Enum<E>> {
+
+    /**
+     * Maximum number of codes of a table, the number of bits of a <code>long</code>.
+     *
+     * @since 1.0
+     */
+    public final static int MAX_CODES = Long.SIZE;
+
+    /**
+     * Type of the enumeration.
+     *
+     * @since 1.0
+     */
+    private final Class<E> type;
+
+    /**
+     * Value of each code, or null if the value of the code has been removed from the enumeration.
+     *
+     * @since 1.0
+     */
+    private final List<E> values = new ArrayList<>();
+
+    /**
+     * Code of each value.
+     *
+     * @since 1.0
+     */
+    private final Map<E, Integer> codes;
+
+    /**
+     * Constructor of a table of codes.
+     *
+     * @param type Type of the enumeration.
+     * @param names Names of the values of the enumeration in order of code.
+     *
+     * @throws IllegalArgumentException If there is too much names, a name is repeated
+     *                                  or a value of the enumeration has no code.
+     * @version 1.0
+     * @since 1.0
+     */
+    public EnumCodeTable(Class<E> type, String... names) {
+        if (names.length > MAX_CODES) {
+            throw new IllegalArgumentException("A table of codes can't contains more than " + MAX_CODES + " names.");
+        }
+
+        this.type = type;
+        this.codes = new EnumMap<>(type);
+        for (String name : names) {
+            E value = null;
+            for (E constant : type.getEnumConstants()) {
+                if (constant.name().equals(name)) {
+                    value = constant;
+                }
+            }
+            if (value != null && this.codes.put(value, this.values.size()) != null) {
+                throw new IllegalArgumentException("Value " + name + " has several codes on " + type.getName());
+            }
+            this.values.add(value);
+        }
+
+        for (E constant : type.getEnumConstants()) {
+            if (!this.codes.containsKey(constant)) {
+                throw new IllegalArgumentException("Value " + constant.name() + " of " + type.getName()
+                        + " has no code.");
+            }
+        }
+    }
+
+    /**
+     * Return the type of the enumeration.
+     *
+     * @return The type of the enumeration.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public Class<E> getType() {
+        return type;
+    }
+
+    /**
+     * Return the code of a value.
+     *
+     * @param value Value of the enumeration.
+     *
+     * @return The code of the value.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public int code(E value) {
+        return this.codes.get(value);
+    }
+
+    /**
+     * Encode a collection of values as a bitmask where the bit of the code of each value is set.
+     *
+     * @param values Values at encode, can be null.
+     *
+     * @return The bitmask of the values.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public long encode(Collection<E> values) {
+        long mask = 0L;
+        if (values != null) {
+            for (E value : values) {
+                mask |= 1L << this.code(value);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Decode a bitmask as the list of his values, in order of code.
+     * <p>
+     * The bits of the values removed from the enumeration are ignored.
+     *
+     * @param mask Bitmask at decode.
+     *
+     * @return The values of the bitmask.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public List<E> decode(long mask) {
+        List<E> values = new ArrayList<>(Long.bitCount(mask));
+        for (long bits = mask; bits != 0; bits &= bits - 1) {
+            int code = Long.numberOfTrailingZeros(bits);
+            if (code < this.values.size() && this.values.get(code) != null) {
+                values.add(this.values.get(code));
+            }
+        }
+        return values;
+    }
+}
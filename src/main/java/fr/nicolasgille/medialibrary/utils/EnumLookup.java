@@ -0,0 +1,183 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package fr.nicolasgille.medialibrary.utils;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Util class used to find the value of an enumeration from his name, as written on the files imported.
+ * <p>
+ * The names of all values are computed once and stored on an immutable hash table with open addressing, who is
+ * searched with a range of a CharSequence : a lookup compare the characters in place, without create a String,
+ * so a value can be found directly on a field of a parser or on a part of a list of names.
+ * The table is never modified after his construction, so it can be shared between several threads.
+ * The hash and the comparison of a range of characters are shared with the other tables searched by range.
+ *
+ * @param <E> Type of the enumeration.
+ *
+ * @author Nicolas GILLE
+ * @version 1.1
+ * @since Media-Library 1.1
+ */
+public class EnumLookup<E extends Enum<E>> {
+
+    /**
+     * Names of the values, at the position of their hash, or null for the free positions.
+     *
+     * @since 1.0
+     */
+    private final String[] names;
+
+    /**
+     * Values of the enumeration, at the same position as their name.
+     *
+     * @since 1.0
+     */
+    private final E[] values;
+
+    /**
+     * Mask applied on a hash to get a position, the size of the table being a power of two.
+     *
+     * @since 1.0
+     */
+    private final int mask;
+
+    /**
+     * Constructor of a lookup.
+     * <p>
+     * If several values have the same name, the first one is returned.
+     *
+     * @param type Type of the enumeration.
+     * @param name Function who return the name of a value.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public EnumLookup(Class<E> type, Function<E, String> name) {
+        E[] constants = type.getEnumConstants();
+        // The table is at most half full, so a search stop quickly on a free position.
+        int size = Integer.highestOneBit(Math.max(2 * constants.length - 1, 1)) << 1;
+        this.names = new String[size];
+        this.values = Arrays.copyOf(constants, size);
+        Arrays.fill(this.values, null);
+        this.mask = size - 1;
+        for (E constant : constants) {
+            String n = name.apply(constant);
+            int i = EnumLookup.hash(n, 0, n.length()) & this.mask;
+            while (this.names[i] != null && !this.names[i].equals(n)) {
+                i = (i + 1) & this.mask;
+            }
+            if (this.names[i] == null) {
+                this.names[i] = n;
+                this.values[i] = constant;
+            }
+        }
+    }
+
+    /**
+     * Return the value of a name.
+     *
+     * @param name Name of the value, the whitespace around it is ignored.
+     *
+     * @return The value of the name, or null if no value has this name.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public E get(CharSequence name) {
+        return this.get(name, 0, name.length());
+    }
+
+    /**
+     * Return the value of a name written on a range of characters.
+     *
+     * @param text Characters who contains the name.
+     * @param start Position of the first character of the name.
+     * @param end Position after the last character of the name.
+     *
+     * @return The value of the name, or null if no value has this name.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public E get(CharSequence text, int start, int end) {
+        // The whitespace is removed as String.trim() would do.
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        for (int i = EnumLookup.hash(text, start, end) & this.mask; this.names[i] != null; i = (i + 1) & this.mask) {
+            if (EnumLookup.equals(this.names[i], text, start, end)) {
+                return this.values[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Compute the hash of a range of characters, as <code>String.hashCode()</code> with the high bits spread on the
+     * low bits used as position.
+     *
+     * @param text Characters at hash.
+     * @param start Position of the first character.
+     * @param end Position after the last character.
+     *
+     * @return The hash of the characters.
+     *
+     * @version 1.1
+     * @since 1.0
+     */
+    public static int hash(CharSequence text, int start, int end) {
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            h = 31 * h + text.charAt(i);
+        }
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Check if a name is equal to a range of characters.
+     *
+     * @param name Name of a value.
+     * @param text Characters at compare.
+     * @param start Position of the first character.
+     * @param end Position after the last character.
+     *
+     * @return True if the name and the characters are the same.
+     *
+     * @version 1.1
+     * @since 1.0
+     */
+    public static boolean equals(String name, CharSequence text, int start, int end) {
+        if (name.length() != end - start) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) != text.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package fr.nicolasgille.medialibrary.utils;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Filter of Logback used to write only one of each <code>rate</code> messages of a logger.
+ * <p>
+ * Only the messages of the level <code>INFO</code> or lower are sampled, the warnings and the errors are always
+ * written. The messages are counted by logger, so a logger who write a lot of messages, like the controllers
+ * of the media, never hide the messages of the other loggers.
+ * The rate is 1 by default, so all messages are written until a rate is configured.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+public class LogSamplingFilter extends Filter<ILoggingEvent> {
+
+    /**
+     * Number of messages of each logger.
+     *
+     * @since 1.0
+     */
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    /**
+     * A message of each <code>rate</code> messages of a logger is written.
+     *
+     * @since 1.0
+     */
+    private int rate = 1;
+
+    /**
+     * Return the rate of the messages written.
+     *
+     * @return The rate of the messages written.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public int getRate() {
+        return rate;
+    }
+
+    /**
+     * Set the rate of the messages written.
+     *
+     * @param rate One message of each <code>rate</code> messages of a logger is written, 1 to write all messages.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public void setRate(int rate) {
+        this.rate = Math.max(rate, 1);
+    }
+
+    /**
+     * Decide if a message is written.
+     *
+     * @param event Message of a logger.
+     *
+     * @return NEUTRAL if the message is written, or DENY if dropped by the sampling.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    @Override
+    public FilterReply decide(ILoggingEvent event) {
+        if (this.rate == 1 || event.getLevel().isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+
+        long count = this.counters.computeIfAbsent(event.getLoggerName(), name -> new AtomicLong())
+                                  .getAndIncrement();
+        return count % this.rate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package fr.nicolasgille.medialibrary.utils;
+
+import fr.nicolasgille.medialibrary.models.IMedia;
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Util class used to log a media without write his whole graph of persons and companies on each request.
+ * <p>
+ * A MediaLog is given as argument of a logger and is rendered only if the message is written :
+ * with the level DEBUG enabled on the logger, the media is written with his <code>toString</code>,
+ * otherwise only his identifier, his title and the size of each of his collections are written, like
+ * <code>Movie{id=42, title=Alien, directors=1, genres=2, mainActors=3, producers=1, supports=1}</code>.
+ * The collections who are not loaded from the Database are written as <code>?</code>, so a log never run a query.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+public class MediaLog {
+
+    /**
+     * Getters of the collections of each type of media, sorted by name of attribute.
+     *
+     * @since 1.0
+     */
+    private final static Map<Class<?>, List<PropertyDescriptor>> COLLECTIONS = new ConcurrentHashMap<>();
+
+    /**
+     * Logger where the media is written.
+     *
+     * @since 1.0
+     */
+    private final Logger logger;
+
+    /**
+     * Media at write.
+     *
+     * @since 1.0
+     */
+    private final IMedia media;
+
+    /**
+     * Constructor of a MediaLog.
+     *
+     * @param logger Logger where the media is written.
+     * @param media Media at write.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    private MediaLog(Logger logger, IMedia media) {
+        this.logger = logger;
+        this.media = media;
+    }
+
+    /**
+     * Return an argument of log who write the media as summary, or whole if the level DEBUG is enabled.
+     *
+     * @param logger Logger where the media is written.
+     * @param media Media at write.
+     *
+     * @return An argument of log, rendered only if the message is written.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public static Object of(Logger logger, IMedia media) {
+        return new MediaLog(logger, media);
+    }
+
+    /**
+     * Return the summary of a media, with his identifier, his title and the size of each of his collections.
+     *
+     * @param media Media at summarize, can be null.
+     *
+     * @return The summary of the media.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public static String summary(IMedia media) {
+        if (media == null) {
+            return "null";
+        }
+
+        StringBuilder str = new StringBuilder(128);
+        str.append(media.getClass().getSimpleName())
+           .append("{id=").append(media.getId())
+           .append(", title=").append(media.getTitle());
+        for (PropertyDescriptor property : MediaLog.collections(media.getClass())) {
+            str.append(", ").append(property.getName()).append('=');
+            Collection<?> collection = MediaLog.read(property.getReadMethod(), media);
+            if (collection == null) {
+                str.append(0);
+            } else if (!Hibernate.isInitialized(collection)) {
+                str.append('?');
+            } else {
+                str.append(collection.size());
+            }
+        }
+        return str.append('}').toString();
+    }
+
+    /**
+     * Write the media as summary, or whole if the level DEBUG is enabled on the logger.
+     *
+     * @return A representation of the media.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    @Override
+    public String toString() {
+        if (this.logger.isDebugEnabled()) {
+            return String.valueOf(this.media);
+        }
+        return MediaLog.summary(this.media);
+    }
+
+    /**
+     * Return the getters of the collections of a type of media, found once by type.
+     *
+     * @param type Type of the media.
+     *
+     * @return The getters of the collections, sorted by name of attribute.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    private static List<PropertyDescriptor> collections(Class<?> type) {
+        return COLLECTIONS.computeIfAbsent(type, t -> {
+            List<PropertyDescriptor> collections = new ArrayList<>();
+            try {
+                for (PropertyDescriptor property : Introspector.getBeanInfo(t).getPropertyDescriptors()) {
+                    if (property.getReadMethod() != null
+                            && Collection.class.isAssignableFrom(property.getPropertyType())) {
+                        collections.add(property);
+                    }
+                }
+            } catch (IntrospectionException e) {
+                return Collections.emptyList();
+            }
+            return collections;
+        });
+    }
+
+    /**
+     * Read a collection of a media.
+     *
+     * @param getter Getter of the collection.
+     * @param media Media who contains the collection.
+     *
+     * @return The collection, or null if it can't be read.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    private static Collection<?> read(Method getter, IMedia media) {
+        try {
+            return (Collection<?>) getter.invoke(media);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.utils;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Util class used to paginate list endpoints with an opaque cursor.
+ * <p>
+ * The cursor is the identifier of the last element of the previous page encoded in base 64.
+ * So, the repository only read the rows with an identifier greater than the cursor, in order of identifier,
+ * and the cost of a page stay the same whatever the depth of the page.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+public class PageCursor {
+
+    /**
+     * Number of elements return when the client don't specify a limit.
+     *
+     * @since 1.0
+     */
+    public final static int DEFAULT_LIMIT = 50;
+
+    /**
+     * Maximum number of elements return on one page.
+     *
+     * @since 1.0
+     */
+    public final static int MAX_LIMIT = 500;
+
+    /**
+     * Value return by <code>decode</code> when the cursor is not valid.
+     *
+     * @since 1.0
+     */
+    public final static long INVALID_CURSOR = -1;
+
+    /**
+     * Header who contains the cursor of the next page.
+     *
+     * @since 1.0
+     */
+    public final static String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /**
+     * Encode the identifier of the last element of a page as an opaque cursor.
+     *
+     * @param id Identifier of the last element of the page.
+     *
+     * @return The cursor at send to the client.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public static String encode(long id) {
+        return Base64.getUrlEncoder()
+                     .withoutPadding()
+                     .encodeToString(Long.toString(id).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Decode a cursor send by the client.
+     * <p>
+     * If the cursor is absent, the first page is requested, so this method return 0.
+     *
+     * @param cursor Cursor send by the client, or null.
+     *
+     * @return The identifier after which the page start, or <code>INVALID_CURSOR</code>.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            long id = Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII));
+            return id < 0 ? INVALID_CURSOR : id;
+        } catch (IllegalArgumentException e) {
+            return INVALID_CURSOR;
+        }
+    }
+
+    /**
+     * Bound the limit send by the client between 1 and <code>MAX_LIMIT</code>.
+     *
+     * @param limit Limit send by the client, or null.
+     *
+     * @return The number of elements at return on the page.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public static int limit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    /**
+     * Build the pageable used by repositories to read only one page.
+     *
+     * @param limit Limit send by the client, or null.
+     *
+     * @return A pageable on the first page of the keyset with the bounded limit.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public static Pageable pageable(Integer limit) {
+        return new PageRequest(0, PageCursor.limit(limit));
+    }
+
+    /**
+     * Build the headers of the response with the cursor of the next page.
+     * <p>
+     * If the page is not full, it's the last page and no cursor is added on headers.
+     *
+     * @param page Elements of the current page.
+     * @param limit Limit send by the client, or null.
+     * @param id Function used to get the identifier of an element.
+     * @param <T> Type of the elements of the page.
+     *
+     * @return The headers of the response.
+     *
+     * @version 1.0
+     * @since 1.0
+     */
+    public static <T> HttpHeaders nextPageHeaders(List<T> page, Integer limit, ToLongFunction<T> id) {
+        HttpHeaders headers = new HttpHeaders();
+        if (!page.isEmpty() && page.size() >= PageCursor.limit(limit)) {
+            headers.set(NEXT_CURSOR_HEADER, PageCursor.encode(id.applyAsLong(page.get(page.size() - 1))));
+        }
+        return headers;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Converter used to read and write the bodies of the requests as Smile, the binary format of JSON.
+ * <p>
+ * The responses are written as Smile when the client send <code>application/x-jackson-smile</code>
+ * on the header <code>Accept</code>, with the same properties and serializers as on JSON : the ObjectMapper is
+ * configured by the builder of Spring Boot, with the properties <code>spring.jackson.*</code> and the modules.
+ * The names of the properties and the short values already written, like the names of the genres, supports
+ * and languages, are written as a reference to their first occurrence, so the lists of media are smaller
+ * and faster to parse than on JSON.
+ *
+ * @author Nicolas GILLE
+ * @version 1.1
+ * @since Media-Library 1.1
+ */
+public class SmileHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+    /**
+     * Media type of Smile.
+     *
+     * @since 1.0
+     */
+    public final static String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    /**
+     * Media type of Smile.
+     *
+     * @since 1.0
+     */
+    public final static MediaType APPLICATION_SMILE = MediaType.valueOf(APPLICATION_SMILE_VALUE);
+
+    /**
+     * Constructor of the converter, with an ObjectMapper configured as the one of JSON.
+     *
+     * @param builder Builder of the ObjectMapper of JSON.
+     *
+     * @version 1.1
+     * @since 1.0
+     */
+    public SmileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        super(SmileHttpMessageConverter.objectMapper(builder), APPLICATION_SMILE);
+        // Smile is binary, the Content-Type has no charset.
+        this.setDefaultCharset(null);
+    }
+
+    /**
+     * Create the ObjectMapper used to read and write Smile.
+     * <p>
+     * The back-references of the names of the properties are enabled by default,
+     * the ones of the values are enabled to write once each name of an enumeration.
+     * This version of Spring can't build an ObjectMapper on another factory, so the builder configure an
+     * ObjectMapper created on the factory of Smile.
+     *
+     * @param builder Builder of the ObjectMapper of JSON.
+     *
+     * @return An ObjectMapper who share the names and the values.
+     *
+     * @version 1.1
+     * @since 1.0
+     */
+    public static ObjectMapper objectMapper(Jackson2ObjectMapperBuilder builder) {
+        SmileFactory factory = new SmileFactory();
+        factory.enable(SmileGenerator.Feature.CHECK_SHARED_NAMES);
+        factory.enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES);
+        ObjectMapper objectMapper = new ObjectMapper(factory);
+        builder.configure(objectMapper);
+        return objectMapper;
+    }
+}
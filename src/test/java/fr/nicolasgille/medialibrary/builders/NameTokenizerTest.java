@@ -0,0 +1,70 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package fr.nicolasgille.medialibrary.builders;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test for NameTokenizer class.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+public class NameTokenizerTest {
+
+    @Test
+    public void namesAreTrimmedAndEmptyNamesIgnored() {
+        // Given - A list of names with whitespace and an empty name.
+        String names = " Warner Bros ,, Pixar,";
+
+        // When - Tokenize the names.
+        List<String> tokens = new ArrayList<>();
+        NameTokenizer tokenizer = new NameTokenizer(names);
+        while (tokenizer.next()) {
+            tokens.add(names.substring(tokenizer.getStart(), tokenizer.getEnd()));
+        }
+
+        // Then - Only the names without whitespace are returned.
+        assertThat(tokens).containsExactly("Warner Bros", "Pixar");
+    }
+
+    @Test
+    public void personNamesAreSplitInFirstAndLastName() {
+        // Given - Names of one, two and three words, with and without initial.
+        String names = "Madonna, Tom Hanks, Samuel L. Jackson, Jean Claude Van Damme";
+
+        // When - Tokenize the names.
+        List<String> persons = new ArrayList<>();
+        NameTokenizer tokenizer = new NameTokenizer(names);
+        while (tokenizer.next()) {
+            persons.add(names.substring(tokenizer.getStart(), tokenizer.getFirstNameEnd()) + "|"
+                                + names.substring(tokenizer.getLastNameStart(), tokenizer.getLastNameEnd()));
+        }
+
+        // Then - An initial start the last name, else the second word end the first name.
+        assertThat(persons).containsExactly("Madonna|", "Tom|Hanks", "Samuel|L. Jackson", "Jean Claude|Van");
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package fr.nicolasgille.medialibrary.builders;
+
+import fr.nicolasgille.medialibrary.models.common.company.Publisher;
+import fr.nicolasgille.medialibrary.models.common.person.Actor;
+import fr.nicolasgille.medialibrary.models.common.person.Director;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test for PersonTable class.
+ *
+ * @author Nicolas GILLE
+ * @version 1.1
+ * @since Media-Library 1.1
+ */
+public class PersonTableTest {
+
+    @Test
+    public void samePersonIsBuiltOnce() {
+        // Given - A table and two lists who share an actor.
+        PersonTable table = new PersonTable();
+
+        // When - Build the actors of both lists, and a director of the same name.
+        Set<Actor> first = table.persons(Actor.class, "Tom Hanks, Meg Ryan", Actor::new);
+        Set<Actor> second = table.persons(Actor.class, "Meg Ryan,Bill Pullman", Actor::new);
+        Set<Director> directors = table.persons(Director.class, "Tom Hanks", Director::new);
+
+        // Then - The actor is the same object on both media, and the roles are interned apart.
+        Actor meg = first.stream().filter(a -> a.getFirstName().equals("Meg")).findFirst().get();
+        assertThat(second.iterator().next()).isSameAs(meg);
+        assertThat(meg.getLastName()).isEqualTo("Ryan");
+        assertThat(directors.iterator().next()).isInstanceOf(Director.class);
+        assertThat(directors.iterator().next().getLastName()).isEqualTo("Hanks");
+    }
+
+    @Test
+    public void sameCompanyIsBuiltOnce() {
+        // Given - A table.
+        PersonTable table = new PersonTable();
+
+        // When - Build the same publisher on two lists.
+        Publisher first = table.companies(Publisher.class, "Nintendo", Publisher::new).iterator().next();
+        Publisher second = table.companies(Publisher.class, " Sega, Nintendo", Publisher::new).stream()
+                                .filter(p -> p.getName().equals("Nintendo")).findFirst().get();
+
+        // Then - The publisher is the same object.
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void namesAreFoundAfterTableGrows() {
+        // Given - A table and a list of more names than the first size of the table.
+        PersonTable table = new PersonTable();
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            names.add("Actor Number" + i);
+        }
+        List<Actor> first = new ArrayList<>(table.persons(Actor.class, String.join(", ", names), Actor::new));
+
+        // When - Build the same actors again, written in another list.
+        StringBuilder list = new StringBuilder("Someone Else");
+        for (String name : names) {
+            list.append(" ,").append(name);
+        }
+        List<Actor> second = new ArrayList<>(table.persons(Actor.class, list, Actor::new));
+
+        // Then - Each actor is the object built the first time.
+        assertThat(first).hasSize(100);
+        assertThat(second).hasSize(101);
+        for (int i = 0; i < 100; i++) {
+            assertThat(second.get(i + 1)).isSameAs(first.get(i));
+        }
+        assertThat(first.get(42).getLastName()).isEqualTo("Number42");
+    }
+}
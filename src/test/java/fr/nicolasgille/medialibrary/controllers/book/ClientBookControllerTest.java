@@ -37,6 +37,8 @@ import org.springframework.web.client.RestTemplate;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
+import java.time.LocalDate;
+import java.time.Month;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -96,7 +98,7 @@ public class ClientBookControllerTest {
         // Given - Instantiate id at update and corresponding book.
         String messageExcepted = "404 null";
         int id = 666;
-        Calendar releaseDate = new GregorianCalendar(2016, GregorianCalendar.APRIL, GregorianCalendar.THURSDAY);
+        LocalDate releaseDate = LocalDate.of(2016, Month.APRIL, 5);
 
         Book book = new Book(
                 id, "", "", "", releaseDate, 0, "", new HashSet<Author>(), new HashSet<Publisher>(),
@@ -146,7 +148,7 @@ public class ClientBookControllerTest {
         String title = "Da Vinci Code";
         String originalTitle = "The Da Vinci Code";
         String synopsis = "";
-        Calendar releaseDate = new GregorianCalendar(2004, Calendar.MARCH, 4);
+        LocalDate releaseDate = LocalDate.of(2004, Month.MARCH, 4);
         int nbPages = 571;
         String isbn = "0-385-50420-9";
 
@@ -189,7 +191,7 @@ public class ClientBookControllerTest {
         String title = "Da Vinci Code";
         String originalTitle = "The Da Vinci Code";
         String synopsis = "";
-        Calendar releaseDate = new GregorianCalendar(2004, Calendar.MARCH, 4);
+        LocalDate releaseDate = LocalDate.of(2004, Month.MARCH, 4);
         int nbPages = 571;
         String isbn = "0-385-50420-9";
 
@@ -232,7 +234,7 @@ public class ClientBookControllerTest {
         String title = "Da Vinci Code";
         String originalTitle = "The Da Vinci Code";
         String synopsis = "";
-        Calendar releaseDate = new GregorianCalendar(2004, Calendar.MARCH, 4);
+        LocalDate releaseDate = LocalDate.of(2004, Month.MARCH, 4);
         int nbPages = 571;
         String isbn = "0-385-50420-9";
 
@@ -275,8 +277,8 @@ public class ClientBookControllerTest {
                                  .getSynopsis()).isEqualTo(book.getSynopsis());
         assertThat(responseEntity.getBody()
                                  .getReleaseDate()
-                                 .get(Calendar.YEAR)).isEqualTo(book.getReleaseDate()
-                                                                    .get(Calendar.YEAR));
+                                 .getYear()).isEqualTo(book.getReleaseDate()
+                                                                    .getYear());
         assertThat(responseEntity.getBody()
                                  .getGenres()).isEqualTo(book.getGenres());
         assertThat(responseEntity.getBody()
@@ -302,7 +304,7 @@ public class ClientBookControllerTest {
         String title = "Anges et Démons";
         String originalTitle = "Angels & Demons";
         String synopsis = "";
-        Calendar releaseDate = new GregorianCalendar(2004, Calendar.MARCH, 4);
+        LocalDate releaseDate = LocalDate.of(2004, Month.MARCH, 4);
         int nbPages = 571;
         String isbn = "0-385-50420-9";
 
@@ -349,7 +351,7 @@ public class ClientBookControllerTest {
         String title = "Anges et Démons";
         String originalTitle = "Angels and Demons";
         String synopsis = "";
-        Calendar releaseDate = new GregorianCalendar(2004, Calendar.MARCH, 4);
+        LocalDate releaseDate = LocalDate.of(2004, Month.MARCH, 4);
         int nbPages = 571;
         String isbn = "0-671-02735-2";
 
@@ -389,7 +391,7 @@ public class ClientBookControllerTest {
         String title = "Anges et Démons";
         String originalTitle = "Angels and Demons";
         String synopsis = "Robert Langdon 4ever.";
-        Calendar releaseDate = new GregorianCalendar(2004, Calendar.MARCH, 4);
+        LocalDate releaseDate = LocalDate.of(2004, Month.MARCH, 4);
         int nbPages = 571;
         String isbn = "0-671-02735-2";
 
@@ -431,7 +433,7 @@ public class ClientBookControllerTest {
         String title = "Anges et Démons";
         String originalTitle = "Angels and Demons";
         String synopsis = "";
-        Calendar releaseDate = new GregorianCalendar(2004, Calendar.MARCH, 4);
+        LocalDate releaseDate = LocalDate.of(2004, Month.MARCH, 4);
         int nbPages = 571;
         String isbn = "0-671-02735-2";
 
@@ -38,6 +38,8 @@ import org.springframework.web.client.RestTemplate;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
+import java.time.LocalDate;
+import java.time.Month;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -97,7 +99,7 @@ public class ClientComicControllerTest {
         // Given - Instantiate id at update and corresponding book.
         String messageExcepted = "404 null";
         int id = 666;
-        Calendar releaseDate = new GregorianCalendar(2016, GregorianCalendar.APRIL, GregorianCalendar.THURSDAY);
+        LocalDate releaseDate = LocalDate.of(2016, Month.APRIL, 5);
 
         Comic comic = new Comic(
                 id, "", "", "", releaseDate, 0, "",
@@ -151,7 +153,7 @@ public class ClientComicControllerTest {
         String title = "Nisekoi : Amours, Mensonges et Yakuzas";
         String originalTitle = "Nisekoi";
         String synopsis = "";
-        Calendar releaseDate = new GregorianCalendar(2011, Calendar.NOVEMBER, 7);
+        LocalDate releaseDate = LocalDate.of(2011, Month.NOVEMBER, 7);
         int nbPages = 196;
         String isbn = "978-2-82032-835-9";
 
@@ -200,7 +202,7 @@ public class ClientComicControllerTest {
         String title = "Nisekoi : Amours, Mensonges et Yakuzas";
         String originalTitle = "Nisekoi";
         String synopsis = "";
-        Calendar releaseDate = new GregorianCalendar(2011, Calendar.NOVEMBER, 7);
+        LocalDate releaseDate = LocalDate.of(2011, Month.NOVEMBER, 7);
         int nbPages = 196;
         String isbn = "978-2-82032-835-9";
 
@@ -250,7 +252,7 @@ public class ClientComicControllerTest {
         String title = "Nisekoi : Amours, Mensonges et Yakuzas";
         String originalTitle = "Nisekoi";
         String synopsis = "";
-        Calendar releaseDate = new GregorianCalendar(2011, Calendar.NOVEMBER, 7);
+        LocalDate releaseDate = LocalDate.of(2011, Month.NOVEMBER, 7);
         int nbPages = 196;
         String isbn = "978-2-82032-835-9";
 
@@ -299,8 +301,8 @@ public class ClientComicControllerTest {
                                  .getSynopsis()).isEqualTo(comic.getSynopsis());
         assertThat(responseEntity.getBody()
                                  .getReleaseDate()
-                                 .get(Calendar.YEAR)).isEqualTo(comic.getReleaseDate()
-                                                                     .get(Calendar.YEAR));
+                                 .getYear()).isEqualTo(comic.getReleaseDate()
+                                                                     .getYear());
         assertThat(responseEntity.getBody()
                                  .getGenres()).isEqualTo(comic.getGenres());
         assertThat(responseEntity.getBody()
@@ -326,7 +328,7 @@ public class ClientComicControllerTest {
         String title = "Nisekoi : Amours, Mensonges et Yakuzas";
         String originalTitle = "Nisekoi";
         String synopsis = "";
-        Calendar releaseDate = new GregorianCalendar(2011, Calendar.NOVEMBER, 7);
+        LocalDate releaseDate = LocalDate.of(2011, Month.NOVEMBER, 7);
         int nbPages = 196;
         String isbn = "978-2-82032-809-0";
 
@@ -379,7 +381,7 @@ public class ClientComicControllerTest {
         String title = "Nisekoi : Amours, Mensonges et Yakuzas";
         String originalTitle = "Nisekoi";
         String synopsis = "";
-        Calendar releaseDate = new GregorianCalendar(2011, Calendar.NOVEMBER, 7);
+        LocalDate releaseDate = LocalDate.of(2011, Month.NOVEMBER, 7);
         int nbPages = 196;
         String isbn = "978-2-82032-809-0";
 
@@ -425,7 +427,7 @@ public class ClientComicControllerTest {
         String title = "Nisekoi : Amours, Mensonges et Yakuzas";
         String originalTitle = "Nisekoi";
         String synopsis = "";
-        Calendar releaseDate = new GregorianCalendar(2011, Calendar.NOVEMBER, 7);
+        LocalDate releaseDate = LocalDate.of(2011, Month.NOVEMBER, 7);
         int nbPages = 196;
         String isbn = "978-2-82032-809-0";
 
@@ -474,7 +476,7 @@ public class ClientComicControllerTest {
         String title = "Nisekoi : Amours, Mensonges et Yakuzas";
         String originalTitle = "Nisekoi";
         String synopsis = "";
-        Calendar releaseDate = new GregorianCalendar(2011, Calendar.NOVEMBER, 7);
+        LocalDate releaseDate = LocalDate.of(2011, Month.NOVEMBER, 7);
         int nbPages = 196;
         String isbn = "978-2-82032-809-0";
 
@@ -38,6 +38,8 @@ import org.springframework.web.client.RestTemplate;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
+import java.time.LocalDate;
+import java.time.Month;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -97,7 +99,7 @@ public class ClientVideoGameTest {
         // Given - Instantiate id at update and corresponding video game.
         String messageExcepted = "404 null";
         int id = 666;
-        Calendar releaseDate = new GregorianCalendar(2016, GregorianCalendar.APRIL, GregorianCalendar.THURSDAY);
+        LocalDate releaseDate = LocalDate.of(2016, Month.APRIL, 5);
 
         VideoGame videoGame = new VideoGame(
                 id, "My Title", "My Original Title", "", releaseDate, new ArrayList<VideoGameGenre>(),
@@ -150,7 +152,7 @@ public class ClientVideoGameTest {
         String title = "Final Fantasy XII";
         String originalTitle = "Final Fantasy XII";
         String synopsis = "";
-        Calendar releaseDate = new GregorianCalendar(2006, GregorianCalendar.MARCH, 16);
+        LocalDate releaseDate = LocalDate.of(2006, Month.MARCH, 16);
         boolean multiplayers = false;
 
         List<VideoGameGenre> genres = new ArrayList<VideoGameGenre>();
@@ -200,7 +202,7 @@ public class ClientVideoGameTest {
         String title = "Final Fantasy XII";
         String originalTitle = "Final Fantasy XII";
         String synopsis = "";
-        Calendar releaseDate = new GregorianCalendar(2006, GregorianCalendar.MARCH, 16);
+        LocalDate releaseDate = LocalDate.of(2006, Month.MARCH, 16);
         boolean multiplayers = false;
 
         List<VideoGameGenre> genres = new ArrayList<VideoGameGenre>();
@@ -251,7 +253,7 @@ public class ClientVideoGameTest {
         String title = "Final Fantasy XII";
         String originalTitle = "Final Fantasy XII";
         String synopsis = "";
-        Calendar releaseDate = new GregorianCalendar(2006, GregorianCalendar.MARCH, 16);
+        LocalDate releaseDate = LocalDate.of(2006, Month.MARCH, 16);
         boolean multiplayers = false;
 
         List<VideoGameGenre> genres = new ArrayList<VideoGameGenre>();
@@ -301,8 +303,8 @@ public class ClientVideoGameTest {
                                  .getSynopsis()).isEqualTo(videoGame.getSynopsis());
         assertThat(responseEntity.getBody()
                                  .getReleaseDate()
-                                 .get(Calendar.YEAR)).isEqualTo(videoGame.getReleaseDate()
-                                                                         .get(Calendar.YEAR));
+                                 .getYear()).isEqualTo(videoGame.getReleaseDate()
+                                                                         .getYear());
         assertThat(responseEntity.getBody()
                                  .getGenres()).isEqualTo(videoGame.getGenres());
         assertThat(responseEntity.getBody()
@@ -329,7 +331,7 @@ public class ClientVideoGameTest {
         String title = "Final Fantasy X";
         String originalTitle = "Final Fantasy X";
         String synopsis = "";
-        Calendar releaseDate = new GregorianCalendar(2001, GregorianCalendar.DECEMBER, 17);
+        LocalDate releaseDate = LocalDate.of(2001, Month.DECEMBER, 17);
         boolean multiplayers = false;
 
         List<VideoGameGenre> genres = new ArrayList<VideoGameGenre>();
@@ -383,7 +385,7 @@ public class ClientVideoGameTest {
         String title = "Final Fantasy X";
         String originalTitle = "Final Fantasy X";
         String synopsis = "";
-        Calendar releaseDate = new GregorianCalendar(2001, GregorianCalendar.DECEMBER, 17);
+        LocalDate releaseDate = LocalDate.of(2001, Month.DECEMBER, 17);
         boolean multiplayers = false;
 
         List<VideoGameGenre> genres = new ArrayList<VideoGameGenre>();
@@ -431,7 +433,7 @@ public class ClientVideoGameTest {
         String title = "Final Fantasy XIII";
         String originalTitle = "Final Fantasy XIII";
         String synopsis = "";
-        Calendar releaseDate = new GregorianCalendar(2001, GregorianCalendar.DECEMBER, 17);
+        LocalDate releaseDate = LocalDate.of(2001, Month.DECEMBER, 17);
         boolean multiplayers = false;
 
         List<VideoGameGenre> genres = new ArrayList<VideoGameGenre>();
@@ -481,7 +483,7 @@ public class ClientVideoGameTest {
         String title = "Dragon Quest";
         String originalTitle = "Dragon Quest";
         String synopsis = "";
-        Calendar releaseDate = new GregorianCalendar(2001, GregorianCalendar.DECEMBER, 17);
+        LocalDate releaseDate = LocalDate.of(2001, Month.DECEMBER, 17);
         boolean multiplayers = false;
 
         List<VideoGameGenre> genres = new ArrayList<VideoGameGenre>();
@@ -36,6 +36,8 @@ import org.springframework.web.client.RestTemplate;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
+import java.time.LocalDate;
+import java.time.Month;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -95,7 +97,7 @@ public class ClientAlbumTest {
         // Given - Instantiate id at update and corresponding album.
         String messageExcepted = "404 null";
         int id = 666;
-        Calendar releaseDate = new GregorianCalendar(2016, GregorianCalendar.APRIL, GregorianCalendar.THURSDAY);
+        LocalDate releaseDate = LocalDate.of(2016, Month.APRIL, 5);
 
         Album album = new Album(
                 id, "My Title", "", releaseDate, new ArrayList<MusicGenre>(), new ArrayList<MediaSupport>(),
@@ -148,7 +150,7 @@ public class ClientAlbumTest {
         List<MusicGenre> genres = new ArrayList<MusicGenre>();
         genres.add(MusicGenre.METAL);
 
-        Calendar releaseDate = new GregorianCalendar(1984, GregorianCalendar.APRIL, 16);
+        LocalDate releaseDate = LocalDate.of(1984, Month.APRIL, 16);
 
         List<MediaSupport> supports = new ArrayList<MediaSupport>();
         supports.add(MediaSupport.CD);
@@ -189,7 +191,7 @@ public class ClientAlbumTest {
         List<MusicGenre> genres = new ArrayList<MusicGenre>();
         genres.add(MusicGenre.METAL);
 
-        Calendar releaseDate = new GregorianCalendar(1984, GregorianCalendar.APRIL, 16);
+        LocalDate releaseDate = LocalDate.of(1984, Month.APRIL, 16);
 
         List<MediaSupport> supports = new ArrayList<MediaSupport>();
         supports.add(MediaSupport.CD);
@@ -231,7 +233,7 @@ public class ClientAlbumTest {
         List<MusicGenre> genres = new ArrayList<MusicGenre>();
         genres.add(MusicGenre.METAL);
 
-        Calendar releaseDate = new GregorianCalendar(1984, GregorianCalendar.APRIL, 16);
+        LocalDate releaseDate = LocalDate.of(1984, Month.APRIL, 16);
 
         List<MediaSupport> supports = new ArrayList<MediaSupport>();
         supports.add(MediaSupport.CD);
@@ -265,8 +267,8 @@ public class ClientAlbumTest {
                                  .getTitle()).isEqualTo(album.getTitle());
         assertThat(responseEntity.getBody()
                                  .getReleaseDate()
-                                 .get(Calendar.YEAR)).isEqualTo(album.getReleaseDate()
-                                                                     .get(Calendar.YEAR));
+                                 .getYear()).isEqualTo(album.getReleaseDate()
+                                                                     .getYear());
         assertThat(responseEntity.getBody()
                                  .getGenres()).isEqualTo(album.getGenres());
         assertThat(responseEntity.getBody()
@@ -295,7 +297,7 @@ public class ClientAlbumTest {
         List<MusicGenre> genres = new ArrayList<MusicGenre>();
         genres.add(MusicGenre.METAL);
 
-        Calendar releaseDate = new GregorianCalendar(1984, GregorianCalendar.APRIL, 16);
+        LocalDate releaseDate = LocalDate.of(1984, Month.APRIL, 16);
 
         List<MediaSupport> supports = new ArrayList<MediaSupport>();
         supports.add(MediaSupport.CD);
@@ -340,7 +342,7 @@ public class ClientAlbumTest {
         List<MusicGenre> genres = new ArrayList<MusicGenre>();
         genres.add(MusicGenre.METAL);
 
-        Calendar releaseDate = new GregorianCalendar(2004, GregorianCalendar.SEPTEMBER, 28);
+        LocalDate releaseDate = LocalDate.of(2004, Month.SEPTEMBER, 28);
 
         List<MediaSupport> supports = new ArrayList<MediaSupport>();
         supports.add(MediaSupport.CD);
@@ -379,7 +381,7 @@ public class ClientAlbumTest {
         List<MusicGenre> genres = new ArrayList<MusicGenre>();
         genres.add(MusicGenre.METAL);
 
-        Calendar releaseDate = new GregorianCalendar(2004, GregorianCalendar.SEPTEMBER, 28);
+        LocalDate releaseDate = LocalDate.of(2004, Month.SEPTEMBER, 28);
 
         List<MediaSupport> supports = new ArrayList<MediaSupport>();
         supports.add(MediaSupport.CD);
@@ -420,7 +422,7 @@ public class ClientAlbumTest {
         List<MusicGenre> genres = new ArrayList<MusicGenre>();
         genres.add(MusicGenre.METAL);
 
-        Calendar releaseDate = new GregorianCalendar(2004, GregorianCalendar.SEPTEMBER, 28);
+        LocalDate releaseDate = LocalDate.of(2004, Month.SEPTEMBER, 28);
 
         List<MediaSupport> supports = new ArrayList<MediaSupport>();
         supports.add(MediaSupport.CD);
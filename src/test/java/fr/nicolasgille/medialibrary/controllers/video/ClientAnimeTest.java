@@ -37,6 +37,8 @@ import org.springframework.web.client.RestTemplate;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
+import java.time.LocalDate;
+import java.time.Month;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -96,8 +98,8 @@ public class ClientAnimeTest {
         // Given - Instantiate id at update and corresponding animes.
         String messageExcepted = "404 null";
         int id = 666;
-        Calendar startDate = new GregorianCalendar(1998, GregorianCalendar.APRIL, 7);
-        Calendar endDate = new GregorianCalendar(2000, GregorianCalendar.MARCH, 21);
+        LocalDate startDate = LocalDate.of(1998, Month.APRIL, 7);
+        LocalDate endDate = LocalDate.of(2000, Month.MARCH, 21);
 
         Anime animes = new Anime(
                 id, "Sakura, chasseuse de cartes", "Kādokyaputā Sakura", "My Synopsis",
@@ -183,8 +185,8 @@ public class ClientAnimeTest {
         int numberOfEpisode = 36;
         int maxEpisodes = 70;
 
-        Calendar startDate = new GregorianCalendar(1998, GregorianCalendar.APRIL, 7);
-        Calendar endDate = new GregorianCalendar(2000, GregorianCalendar.MARCH, 21);
+        LocalDate startDate = LocalDate.of(1998, Month.APRIL, 7);
+        LocalDate endDate = LocalDate.of(2000, Month.MARCH, 21);
 
         Anime anime = new Anime(
                 title, originalTitle, synopsis,
@@ -244,8 +246,8 @@ public class ClientAnimeTest {
         int numberOfEpisode = 36;
         int maxEpisodes = 70;
 
-        Calendar startDate = new GregorianCalendar(1998, GregorianCalendar.APRIL, 7);
-        Calendar endDate = new GregorianCalendar(2000, GregorianCalendar.MARCH, 21);
+        LocalDate startDate = LocalDate.of(1998, Month.APRIL, 7);
+        LocalDate endDate = LocalDate.of(2000, Month.MARCH, 21);
 
         Anime animes = new Anime(
                 title, originalTitle, synopsis,
@@ -307,8 +309,8 @@ public class ClientAnimeTest {
         int numberOfEpisode = 36;
         int maxEpisodes = 70;
 
-        Calendar startDate = new GregorianCalendar(1998, GregorianCalendar.APRIL, 7);
-        Calendar endDate = new GregorianCalendar(2000, GregorianCalendar.MARCH, 21);
+        LocalDate startDate = LocalDate.of(1998, Month.APRIL, 7);
+        LocalDate endDate = LocalDate.of(2000, Month.MARCH, 21);
 
         Anime animes = new Anime(
                 title, originalTitle, synopsis,
@@ -332,12 +334,12 @@ public class ClientAnimeTest {
                                  .getTitle()).isEqualTo(animes.getTitle());
         assertThat(responseEntity.getBody()
                                  .getReleaseDate()
-                                 .get(Calendar.YEAR)).isEqualTo(animes.getReleaseDate()
-                                                                      .get(Calendar.YEAR));
+                                 .getYear()).isEqualTo(animes.getReleaseDate()
+                                                                      .getYear());
         assertThat(responseEntity.getBody()
                                  .getEndDate()
-                                 .get(Calendar.YEAR)).isEqualTo(animes.getEndDate()
-                                                                      .get(Calendar.YEAR));
+                                 .getYear()).isEqualTo(animes.getEndDate()
+                                                                      .getYear());
         assertThat(responseEntity.getBody()
                                  .getGenres()).isEqualTo(animes.getGenres());
         assertThat(responseEntity.getBody()
@@ -404,8 +406,8 @@ public class ClientAnimeTest {
         int numberOfEpisode = 36;
         int maxEpisodes = 70;
 
-        Calendar startDate = new GregorianCalendar(1998, GregorianCalendar.APRIL, 7);
-        Calendar endDate = new GregorianCalendar(2000, GregorianCalendar.MARCH, 21);
+        LocalDate startDate = LocalDate.of(1998, Month.APRIL, 7);
+        LocalDate endDate = LocalDate.of(2000, Month.MARCH, 21);
 
         Anime animes = new Anime(
                 title, originalTitle, synopsis,
@@ -469,8 +471,8 @@ public class ClientAnimeTest {
         int numberOfEpisode = 10;
         int maxEpisodes = 70;
 
-        Calendar startDate = new GregorianCalendar(1998, GregorianCalendar.APRIL, 7);
-        Calendar endDate = new GregorianCalendar(2000, GregorianCalendar.MARCH, 21);
+        LocalDate startDate = LocalDate.of(1998, Month.APRIL, 7);
+        LocalDate endDate = LocalDate.of(2000, Month.MARCH, 21);
 
         Anime animes = new Anime(
                 title, originalTitle, synopsis,
@@ -528,8 +530,8 @@ public class ClientAnimeTest {
         int numberOfEpisode = 36;
         int maxEpisodes = 70;
 
-        Calendar startDate = new GregorianCalendar(1998, GregorianCalendar.APRIL, 7);
-        Calendar endDate = new GregorianCalendar(2000, GregorianCalendar.MARCH, 21);
+        LocalDate startDate = LocalDate.of(1998, Month.APRIL, 7);
+        LocalDate endDate = LocalDate.of(2000, Month.MARCH, 21);
 
         Anime animes = new Anime(
                 id, title, originalTitle, synopsis,
@@ -589,8 +591,8 @@ public class ClientAnimeTest {
         int numberOfEpisode = 36;
         int maxEpisodes = 70;
 
-        Calendar startDate = new GregorianCalendar(1998, GregorianCalendar.APRIL, 7);
-        Calendar endDate = new GregorianCalendar(2000, GregorianCalendar.MARCH, 21);
+        LocalDate startDate = LocalDate.of(1998, Month.APRIL, 7);
+        LocalDate endDate = LocalDate.of(2000, Month.MARCH, 21);
 
         Anime animes = new Anime(
                 title, originalTitle, synopsis,
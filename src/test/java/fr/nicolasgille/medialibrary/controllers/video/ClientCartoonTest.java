@@ -37,6 +37,8 @@ import org.springframework.web.client.RestTemplate;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
+import java.time.LocalDate;
+import java.time.Month;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -96,7 +98,7 @@ public class ClientCartoonTest {
         // Given - Instantiate id at update and corresponding cartoon.
         String messageExcepted = "404 null";
         int id = 666;
-        Calendar releaseDate = new GregorianCalendar(2016, GregorianCalendar.APRIL, GregorianCalendar.THURSDAY);
+        LocalDate releaseDate = LocalDate.of(2016, Month.APRIL, 5);
 
         Cartoon cartoon = new Cartoon(
                 id, "My title", "My original title", "My Synopsis",
@@ -151,7 +153,7 @@ public class ClientCartoonTest {
         List<VideoGenre> genres = new ArrayList<VideoGenre>();
         genres.add(VideoGenre.FANTASY);
 
-        Calendar releaseDate = new GregorianCalendar(2016, GregorianCalendar.APRIL, GregorianCalendar.THURSDAY);
+        LocalDate releaseDate = LocalDate.of(2016, Month.APRIL, 5);
 
         Set<Producer> producers = new HashSet<Producer>();
         producers.add(new Producer("Steven", "Spielberg"));
@@ -201,7 +203,7 @@ public class ClientCartoonTest {
         List<VideoGenre> genres = new ArrayList<VideoGenre>();
         genres.add(VideoGenre.FANTASY);
 
-        Calendar releaseDate = new GregorianCalendar(2016, GregorianCalendar.APRIL, GregorianCalendar.THURSDAY);
+        LocalDate releaseDate = LocalDate.of(2016, Month.APRIL, 5);
 
         Set<Producer> producers = new HashSet<Producer>();
         producers.add(new Producer("Steven", "Spielberg"));
@@ -252,7 +254,7 @@ public class ClientCartoonTest {
         List<VideoGenre> genres = new ArrayList<VideoGenre>();
         genres.add(VideoGenre.FANTASY);
 
-        Calendar releaseDate = new GregorianCalendar(2016, GregorianCalendar.APRIL, GregorianCalendar.THURSDAY);
+        LocalDate releaseDate = LocalDate.of(2016, Month.APRIL, 5);
 
         Set<Producer> producers = new HashSet<Producer>();
         producers.add(new Producer("Steven", "Spielberg"));
@@ -295,8 +297,8 @@ public class ClientCartoonTest {
                                  .getTitle()).isEqualTo(cartoon.getTitle());
         assertThat(responseEntity.getBody()
                                  .getReleaseDate()
-                                 .get(Calendar.YEAR)).isEqualTo(cartoon.getReleaseDate()
-                                                                       .get(Calendar.YEAR));
+                                 .getYear()).isEqualTo(cartoon.getReleaseDate()
+                                                                       .getYear());
         assertThat(responseEntity.getBody()
                                  .getGenres()).isEqualTo(cartoon.getGenres());
         assertThat(responseEntity.getBody()
@@ -327,7 +329,7 @@ public class ClientCartoonTest {
         List<VideoGenre> genres = new ArrayList<VideoGenre>();
         genres.add(VideoGenre.FANTASY);
 
-        Calendar releaseDate = new GregorianCalendar(2017, GregorianCalendar.MAY, GregorianCalendar.MONDAY);
+        LocalDate releaseDate = LocalDate.of(2017, Month.MAY, 2);
 
         Set<Producer> producers = new HashSet<Producer>();
         producers.add(new Producer("Steven", "Spielberg"));
@@ -381,7 +383,7 @@ public class ClientCartoonTest {
         List<VideoGenre> genres = new ArrayList<VideoGenre>();
         genres.add(VideoGenre.FANTASY);
 
-        Calendar releaseDate = new GregorianCalendar(2017, GregorianCalendar.MAY, GregorianCalendar.MONDAY);
+        LocalDate releaseDate = LocalDate.of(2017, Month.MAY, 2);
 
         Set<Producer> producers = new HashSet<Producer>();
         producers.add(new Producer("Steven", "Spielberg"));
@@ -429,7 +431,7 @@ public class ClientCartoonTest {
         List<VideoGenre> genres = new ArrayList<VideoGenre>();
         genres.add(VideoGenre.FANTASY);
 
-        Calendar releaseDate = new GregorianCalendar(2017, GregorianCalendar.MAY, GregorianCalendar.MONDAY);
+        LocalDate releaseDate = LocalDate.of(2017, Month.MAY, 2);
 
         Set<Producer> producers = new HashSet<Producer>();
         producers.add(new Producer("Steven", "Spielberg"));
@@ -479,7 +481,7 @@ public class ClientCartoonTest {
         List<VideoGenre> genres = new ArrayList<VideoGenre>();
         genres.add(VideoGenre.FANTASY);
 
-        Calendar releaseDate = new GregorianCalendar(2017, GregorianCalendar.MAY, GregorianCalendar.MONDAY);
+        LocalDate releaseDate = LocalDate.of(2017, Month.MAY, 2);
 
         Set<Producer> producers = new HashSet<Producer>();
         producers.add(new Producer("Steven", "Spielberg"));
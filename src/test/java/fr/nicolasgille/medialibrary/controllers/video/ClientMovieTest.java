@@ -38,6 +38,8 @@ import org.springframework.web.client.RestTemplate;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
+import java.time.LocalDate;
+import java.time.Month;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -97,7 +99,7 @@ public class ClientMovieTest {
         // Given - Instantiate id at update and corresponding movie.
         String messageExcepted = "404 null";
         int id = 666;
-        Calendar releaseDate = new GregorianCalendar(2016, GregorianCalendar.APRIL, GregorianCalendar.THURSDAY);
+        LocalDate releaseDate = LocalDate.of(2016, Month.APRIL, 5);
 
         Movie movie = new Movie(
                 id, "My title", "My original title", "My Synopsis",
@@ -153,7 +155,7 @@ public class ClientMovieTest {
         List<VideoGenre> genres = new ArrayList<VideoGenre>();
         genres.add(VideoGenre.FANTASY);
 
-        Calendar releaseDate = new GregorianCalendar(2016, GregorianCalendar.APRIL, GregorianCalendar.THURSDAY);
+        LocalDate releaseDate = LocalDate.of(2016, Month.APRIL, 5);
 
         Set<Actor> actors = new HashSet<Actor>();
         actors.add(new Actor("Nicolas", "Cage"));
@@ -206,7 +208,7 @@ public class ClientMovieTest {
         List<VideoGenre> genres = new ArrayList<VideoGenre>();
         genres.add(VideoGenre.FANTASY);
 
-        Calendar releaseDate = new GregorianCalendar(2016, GregorianCalendar.APRIL, GregorianCalendar.THURSDAY);
+        LocalDate releaseDate = LocalDate.of(2016, Month.APRIL, 5);
 
         Set<Actor> actors = new HashSet<Actor>();
         actors.add(new Actor("Nicolas", "Cage"));
@@ -260,7 +262,7 @@ public class ClientMovieTest {
         List<VideoGenre> genres = new ArrayList<VideoGenre>();
         genres.add(VideoGenre.FANTASY);
 
-        Calendar releaseDate = new GregorianCalendar(2016, GregorianCalendar.APRIL, GregorianCalendar.THURSDAY);
+        LocalDate releaseDate = LocalDate.of(2016, Month.APRIL, 5);
 
         Set<Actor> actors = new HashSet<Actor>();
         actors.add(new Actor("Nicolas", "Cage"));
@@ -306,8 +308,8 @@ public class ClientMovieTest {
                                  .getTitle()).isEqualTo(movie.getTitle());
         assertThat(responseEntity.getBody()
                                  .getReleaseDate()
-                                 .get(Calendar.YEAR)).isEqualTo(movie.getReleaseDate()
-                                                                     .get(Calendar.YEAR));
+                                 .getYear()).isEqualTo(movie.getReleaseDate()
+                                                                     .getYear());
         assertThat(responseEntity.getBody()
                                  .getGenres()).isEqualTo(movie.getGenres());
         assertThat(responseEntity.getBody()
@@ -341,7 +343,7 @@ public class ClientMovieTest {
         List<VideoGenre> genres = new ArrayList<VideoGenre>();
         genres.add(VideoGenre.FANTASY);
 
-        Calendar releaseDate = new GregorianCalendar(2017, GregorianCalendar.MAY, GregorianCalendar.MONDAY);
+        LocalDate releaseDate = LocalDate.of(2017, Month.MAY, 2);
 
         Set<Actor> actors = new HashSet<Actor>();
         actors.add(new Actor("Nicolas", "Cage"));
@@ -398,7 +400,7 @@ public class ClientMovieTest {
         List<VideoGenre> genres = new ArrayList<VideoGenre>();
         genres.add(VideoGenre.FANTASY);
 
-        Calendar releaseDate = new GregorianCalendar(2017, GregorianCalendar.MAY, GregorianCalendar.MONDAY);
+        LocalDate releaseDate = LocalDate.of(2017, Month.MAY, 2);
 
         Set<Actor> actors = new HashSet<Actor>();
         actors.add(new Actor("Nicolas", "Cage"));
@@ -448,7 +450,7 @@ public class ClientMovieTest {
         List<VideoGenre> genres = new ArrayList<VideoGenre>();
         genres.add(VideoGenre.FANTASY);
 
-        Calendar releaseDate = new GregorianCalendar(2017, GregorianCalendar.MAY, GregorianCalendar.MONDAY);
+        LocalDate releaseDate = LocalDate.of(2017, Month.MAY, 2);
 
         Set<Actor> actors = new HashSet<Actor>();
         actors.add(new Actor("Nicolas", "Cage"));
@@ -501,7 +503,7 @@ public class ClientMovieTest {
         List<VideoGenre> genres = new ArrayList<VideoGenre>();
         genres.add(VideoGenre.FANTASY);
 
-        Calendar releaseDate = new GregorianCalendar(2017, GregorianCalendar.MAY, GregorianCalendar.MONDAY);
+        LocalDate releaseDate = LocalDate.of(2017, Month.MAY, 2);
 
         Set<Actor> actors = new HashSet<Actor>();
         actors.add(new Actor("Nicolas", "Cage"));
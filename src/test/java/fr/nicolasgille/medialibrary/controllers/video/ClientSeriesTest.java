@@ -38,6 +38,8 @@ import org.springframework.web.client.RestTemplate;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
+import java.time.LocalDate;
+import java.time.Month;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -97,8 +99,8 @@ public class ClientSeriesTest {
         // Given - Instantiate id at update and corresponding series.
         String messageExcepted = "404 null";
         int id = 666;
-        Calendar startDate = new GregorianCalendar(1997, GregorianCalendar.SEPTEMBER, GregorianCalendar.THURSDAY);
-        Calendar endDate = new GregorianCalendar(2007, GregorianCalendar.SEPTEMBER, GregorianCalendar.THURSDAY);
+        LocalDate startDate = LocalDate.of(1997, Month.SEPTEMBER, 5);
+        LocalDate endDate = LocalDate.of(2007, Month.SEPTEMBER, 5);
 
         Series series = new Series(
                 id, "Star Gate SG1", "Star Gate SG1", "My Synopsis",
@@ -184,8 +186,8 @@ public class ClientSeriesTest {
         int numberOfEpisode = 22;
         int maxEpisodes = 226;
 
-        Calendar startDate = new GregorianCalendar(1997, GregorianCalendar.SEPTEMBER, GregorianCalendar.THURSDAY);
-        Calendar endDate = new GregorianCalendar(2007, GregorianCalendar.SEPTEMBER, GregorianCalendar.THURSDAY);
+        LocalDate startDate = LocalDate.of(1997, Month.SEPTEMBER, 5);
+        LocalDate endDate = LocalDate.of(2007, Month.SEPTEMBER, 5);
 
         Series series = new Series(
                 title, title, synopsis,
@@ -245,8 +247,8 @@ public class ClientSeriesTest {
         int numberOfEpisode = 22;
         int maxEpisodes = 226;
 
-        Calendar startDate = new GregorianCalendar(1997, GregorianCalendar.SEPTEMBER, GregorianCalendar.THURSDAY);
-        Calendar endDate = new GregorianCalendar(2007, GregorianCalendar.SEPTEMBER, GregorianCalendar.THURSDAY);
+        LocalDate startDate = LocalDate.of(1997, Month.SEPTEMBER, 5);
+        LocalDate endDate = LocalDate.of(2007, Month.SEPTEMBER, 5);
 
         Series series = new Series(
                 title, title, synopsis,
@@ -307,8 +309,8 @@ public class ClientSeriesTest {
         int numberOfEpisode = 22;
         int maxEpisodes = 226;
 
-        Calendar startDate = new GregorianCalendar(1997, GregorianCalendar.SEPTEMBER, GregorianCalendar.THURSDAY);
-        Calendar endDate = new GregorianCalendar(2007, GregorianCalendar.SEPTEMBER, GregorianCalendar.THURSDAY);
+        LocalDate startDate = LocalDate.of(1997, Month.SEPTEMBER, 5);
+        LocalDate endDate = LocalDate.of(2007, Month.SEPTEMBER, 5);
 
         Series series = new Series(
                 title, title, synopsis,
@@ -332,12 +334,12 @@ public class ClientSeriesTest {
                                  .getTitle()).isEqualTo(series.getTitle());
         assertThat(responseEntity.getBody()
                                  .getReleaseDate()
-                                 .get(Calendar.YEAR)).isEqualTo(series.getReleaseDate()
-                                                                      .get(Calendar.YEAR));
+                                 .getYear()).isEqualTo(series.getReleaseDate()
+                                                                      .getYear());
         assertThat(responseEntity.getBody()
                                  .getEndDate()
-                                 .get(Calendar.YEAR)).isEqualTo(series.getEndDate()
-                                                                      .get(Calendar.YEAR));
+                                 .getYear()).isEqualTo(series.getEndDate()
+                                                                      .getYear());
         assertThat(responseEntity.getBody()
                                  .getGenres()).isEqualTo(series.getGenres());
         assertThat(responseEntity.getBody()
@@ -407,8 +409,8 @@ public class ClientSeriesTest {
         int numberOfEpisode = 22;
         int maxEpisodes = 226;
 
-        Calendar startDate = new GregorianCalendar(1997, GregorianCalendar.SEPTEMBER, GregorianCalendar.THURSDAY);
-        Calendar endDate = new GregorianCalendar(2007, GregorianCalendar.SEPTEMBER, GregorianCalendar.THURSDAY);
+        LocalDate startDate = LocalDate.of(1997, Month.SEPTEMBER, 5);
+        LocalDate endDate = LocalDate.of(2007, Month.SEPTEMBER, 5);
 
         Series series = new Series(
                 title, title, synopsis,
@@ -472,8 +474,8 @@ public class ClientSeriesTest {
         int numberOfEpisode = 22;
         int maxEpisodes = 226;
 
-        Calendar startDate = new GregorianCalendar(1997, GregorianCalendar.SEPTEMBER, GregorianCalendar.THURSDAY);
-        Calendar endDate = new GregorianCalendar(2007, GregorianCalendar.SEPTEMBER, GregorianCalendar.THURSDAY);
+        LocalDate startDate = LocalDate.of(1997, Month.SEPTEMBER, 5);
+        LocalDate endDate = LocalDate.of(2007, Month.SEPTEMBER, 5);
 
         Series series = new Series(
                 title, title, synopsis,
@@ -531,8 +533,8 @@ public class ClientSeriesTest {
         int numberOfEpisode = 22;
         int maxEpisodes = 226;
 
-        Calendar startDate = new GregorianCalendar(1997, GregorianCalendar.SEPTEMBER, GregorianCalendar.THURSDAY);
-        Calendar endDate = new GregorianCalendar(2007, GregorianCalendar.SEPTEMBER, GregorianCalendar.THURSDAY);
+        LocalDate startDate = LocalDate.of(1997, Month.SEPTEMBER, 5);
+        LocalDate endDate = LocalDate.of(2007, Month.SEPTEMBER, 5);
 
         Series series = new Series(
                 id, title, title, synopsis,
@@ -592,8 +594,8 @@ public class ClientSeriesTest {
         int numberOfEpisode = 22;
         int maxEpisodes = 226;
 
-        Calendar startDate = new GregorianCalendar(1997, GregorianCalendar.SEPTEMBER, GregorianCalendar.THURSDAY);
-        Calendar endDate = new GregorianCalendar(2007, GregorianCalendar.SEPTEMBER, GregorianCalendar.THURSDAY);
+        LocalDate startDate = LocalDate.of(1997, Month.SEPTEMBER, 5);
+        LocalDate endDate = LocalDate.of(2007, Month.SEPTEMBER, 5);
 
         Series series = new Series(
                 title, title, synopsis,
@@ -0,0 +1,71 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package fr.nicolasgille.medialibrary.models.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.nicolasgille.medialibrary.models.video.Series;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test for LocalDateSerializer and LocalDateDeserializer classes.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+public class LocalDateSerializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void writeAndReadIsoDates() throws Exception {
+        // Given - A series with a start date and an end date.
+        Series series = new Series();
+        series.setReleaseDate(LocalDate.of(1997, 9, 5));
+        series.setEndDate(LocalDate.of(2007, 9, 5));
+
+        // When - Write it as JSON and read it back.
+        String json = this.objectMapper.writeValueAsString(series);
+        Series read = this.objectMapper.readValue(json, Series.class);
+
+        // Then - The dates are ISO 8601 Strings and read as the same days.
+        assertThat(json).contains("\"releaseDate\":\"1997-09-05\"").contains("\"endDate\":\"2007-09-05\"");
+        assertThat(read.getReleaseDate()).isEqualTo(series.getReleaseDate());
+        assertThat(read.getEndDate()).isEqualTo(series.getEndDate());
+    }
+
+    @Test
+    public void readLegacyAndMissingDates() throws Exception {
+        // Given - A date sent as milliseconds by an old client, and an empty date.
+        long millis = LocalDate.of(2004, 3, 4).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        // When - Read them.
+        Series legacy = this.objectMapper.readValue("{\"releaseDate\":" + millis + "}", Series.class);
+        Series empty = this.objectMapper.readValue("{\"releaseDate\":\"\",\"endDate\":null}", Series.class);
+
+        // Then - The milliseconds are read as the day of the server and the empty dates are missing.
+        assertThat(legacy.getReleaseDate()).isEqualTo(LocalDate.of(2004, 3, 4));
+        assertThat(empty.getReleaseDate()).isNull();
+        assertThat(empty.getEndDate()).isNull();
+    }
+}
@@ -18,26 +18,42 @@
 
 package fr.nicolasgille.medialibrary.parser;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
 /**
  * Test the CSV parser class.
  *
  * @author Nicolas GILLE
- * @version 1.0
+ * @version 1.2
  * @since Media-Library 0.5
  */
 public class CsvParserTest {
 
     private FileParser parser;
 
+    private Path file;
+
     @Before
-    public void setUp() {
+    public void setUp() throws Exception {
         this.parser = new CsvParser();
+        this.file = Files.createTempFile("media", ".csv");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(this.file);
     }
 
     @Test
@@ -53,4 +69,109 @@ public class CsvParserTest {
             System.out.println(l.toString());
         }
     }
+
+    @Test
+    public void parseSendRecordsWithTheirLine() throws Exception {
+        // Given - A file with an empty line and empty values.
+        Files.write(this.file, Arrays.asList("Akira,1988", "", "Ghost in the Shell,,1995,,"), StandardCharsets.UTF_8);
+        List<Long> lines = new ArrayList<>();
+        List<List<String>> records = new ArrayList<>();
+
+        // When - Parse the file.
+        this.parser.parse(this.file, (line, record) -> lines.add(line) && records.add(record));
+
+        // Then - The empty line is ignored and the empty values are kept.
+        assertThat(lines).containsExactly(1L, 3L);
+        assertThat(records).containsExactly(Arrays.asList("Akira", "1988"),
+                                            Arrays.asList("Ghost in the Shell", "", "1995", "", ""));
+    }
+
+    @Test
+    public void parseStopWhenVisitorReturnFalse() throws Exception {
+        // Given - A file with three records.
+        Files.write(this.file, Arrays.asList("A,1", "B,2", "C,3"), StandardCharsets.UTF_8);
+        List<String> titles = new ArrayList<>();
+
+        // When - Parse the file until the second record.
+        this.parser.parse(this.file, (line, record) -> titles.add(record.get(0)) && line < 2);
+
+        // Then - The last record is not read.
+        assertThat(titles).containsExactly("A", "B");
+    }
+
+    @Test
+    public void parseQuotedValues() throws Exception {
+        // Given - A file with quoted values who contain commas, quotes and ends of line, written on Windows.
+        String content = "\"Lock, Stock and Two Smoking Barrels\",1998\r\n"
+                + "\"The \"\"Dude\"\"\",\"First line\r\nSecond line\",\"\"\r\n"
+                + "Spirited Away,2001";
+        Files.write(this.file, content.getBytes(StandardCharsets.UTF_8));
+        List<Long> lines = new ArrayList<>();
+        List<List<String>> records = new ArrayList<>();
+
+        // When - Parse the file.
+        this.parser.parse(this.file, (line, record) -> lines.add(line) && records.add(record));
+
+        // Then - The quotes are removed and each record start on the line of his first value.
+        assertThat(lines).containsExactly(1L, 2L, 4L);
+        assertThat(records).containsExactly(Arrays.asList("Lock, Stock and Two Smoking Barrels", "1998"),
+                                            Arrays.asList("The \"Dude\"", "First line\r\nSecond line", ""),
+                                            Arrays.asList("Spirited Away", "2001"));
+    }
+
+    @Test
+    public void parseFieldsReuseTheViews() throws Exception {
+        // Given - A file with two records.
+        Files.write(this.file, Arrays.asList("Akira,1988", "Paprika,2006"), StandardCharsets.UTF_8);
+        List<CharSequence> views = new ArrayList<>();
+        List<String> titles = new ArrayList<>();
+
+        // When - Parse the fields of the file.
+        this.parser.parseFields(this.file, false, (line, fields) -> {
+            views.add(fields.get(0));
+            return titles.add(fields.get(0).toString());
+        });
+
+        // Then - The same view is used for the first field of each record.
+        assertThat(titles).containsExactly("Akira", "Paprika");
+        assertThat(views.get(0)).isSameAs(views.get(1));
+    }
+
+    @Test
+    public void parseReportTheLineOfAnUnclosedQuote() throws Exception {
+        // Given - A file with a quoted value never closed on the second record.
+        Files.write(this.file, Arrays.asList("Akira,1988", "\"Paprika,2006", "Perfect Blue,1997"),
+                    StandardCharsets.UTF_8);
+
+        // When - Parse the file.
+        try {
+            this.parser.parse(this.file, (line, record) -> true);
+            fail("The unclosed quote must stop the parsing.");
+        } catch (ParserException e) {
+            // Then - The error give the line where the record start.
+            assertThat(e.getLine()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void parseReportTheLineOfAnInvalidCharacter() throws Exception {
+        // Given - A file with a byte who is not UTF-8 on the third line.
+        byte[] start = "Akira,1988\n\"Paprika\n\",2006\n".getBytes(StandardCharsets.UTF_8);
+        byte[] content = Arrays.copyOf(start, start.length + 3);
+        content[start.length] = 'A';
+        content[start.length + 1] = (byte) 0xFF;
+        content[start.length + 2] = '\n';
+        Files.write(this.file, content);
+        List<String> titles = new ArrayList<>();
+
+        // When - Parse the file.
+        try {
+            this.parser.parse(this.file, (line, record) -> titles.add(record.get(0)));
+            fail("The invalid character must stop the parsing.");
+        } catch (ParserException e) {
+            // Then - The records before the error are read and the error give the line of the character.
+            assertThat(e.getLine()).isEqualTo(4);
+            assertThat(titles).containsExactly("Akira", "Paprika\n");
+        }
+    }
 }
@@ -21,19 +21,28 @@ package fr.nicolasgille.medialibrary.parser;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
 /**
  * Test the CSV parser class.
  *
  * @author Nicolas GILLE
- * @version 1.0
+ * @version 1.3
  * @since Media-Library 0.5
  */
 public class TsvParserTest {
 
     private final static String FILENAME = "src/test/resources/animes.tsv";
 
+    private final static String MOVIES = "src/test/resources/movies.tsv";
+
     private FileParser parser;
 
     @Before
@@ -58,4 +67,107 @@ public class TsvParserTest {
             }
         }
     }
+
+    @Test
+    public void parseReportLineOfInvalidCharacter() throws Exception {
+        // Given - A file whose second line is not encoded in UTF-8.
+        Path file = Files.createTempFile("media", ".tsv");
+        Files.write(file, new byte[] {'A', '\t', '1', '\n', 'B', (byte) 0xE9, '\t', '2', '\n'});
+
+        // When - Parse the file.
+        Throwable thrown = catchThrowable(() -> this.parser.parse(file, (line, record) -> true));
+        Files.delete(file);
+
+        // Then - The error give the line of the invalid character.
+        assertThat(thrown).isInstanceOf(ParserException.class).hasMessageStartingWith("Line 2 of ");
+        assertThat(((ParserException) thrown).getLine()).isEqualTo(2);
+    }
+
+    @Test
+    public void parseParallelInOrder() throws Exception {
+        // Given - A parser who split the file in chunks of 4 KB, and the records of a sequential parsing.
+        FileParser parallel = new TsvParser(4096);
+        List<Long> expectedLines = new ArrayList<>();
+        List<List<String>> expectedRecords = new ArrayList<>();
+        this.parser.parse(Paths.get(MOVIES), (line, record) -> expectedLines.add(line) && expectedRecords.add(record));
+        List<Long> lines = new ArrayList<>();
+        List<List<String>> records = new ArrayList<>();
+
+        // When - Parse the file in parallel and in order.
+        parallel.parseParallel(Paths.get(MOVIES), true, (line, record) -> lines.add(line) && records.add(record));
+
+        // Then - The records and their lines are the same as the sequential parsing.
+        assertThat(Files.size(Paths.get(MOVIES))).isGreaterThan(10 * 4096);
+        assertThat(lines).isEqualTo(expectedLines);
+        assertThat(records).isEqualTo(expectedRecords);
+    }
+
+    @Test
+    public void parseParallelUnordered() throws Exception {
+        // Given - A parser who split the file in chunks of 4 KB.
+        FileParser parallel = new TsvParser(4096);
+        List<List<String>> expectedRecords = this.parser.parse(MOVIES);
+        List<Long> lines = new ArrayList<>();
+        List<List<String>> records = new ArrayList<>();
+
+        // When - Parse the file in parallel without order.
+        parallel.parseParallel(Paths.get(MOVIES), false, (line, record) -> lines.add(line) && records.add(record));
+
+        // Then - All records are received once, with the line of the sequential parsing.
+        assertThat(records).containsExactlyInAnyOrder(expectedRecords.toArray(new List[0]));
+        assertThat(lines).doesNotHaveDuplicates().hasSize(expectedRecords.size());
+        for (int i = 0; i < lines.size(); i++) {
+            assertThat(records.get(i)).isEqualTo(expectedRecords.get((int) (lines.get(i) - 1)));
+        }
+    }
+
+    @Test
+    public void parseParallelStopAndReportLine() throws Exception {
+        // Given - A file of 1000 lines whose line 900 is not encoded in UTF-8.
+        Path file = Files.createTempFile("media", ".tsv");
+        StringBuilder content = new StringBuilder();
+        for (int i = 1; i <= 1000; i++) {
+            content.append("Title ").append(i).append('\t').append(i).append('\n');
+        }
+        byte[] bytes = content.toString().getBytes("UTF-8");
+        int line900 = content.indexOf("Title 900\t");
+        bytes[line900] = (byte) 0xE9;
+        Files.write(file, bytes);
+        FileParser parallel = new TsvParser(1024);
+        List<Long> lines = new ArrayList<>();
+
+        // When - Parse the file until the line 10, then the whole file.
+        parallel.parseParallel(file, true, (line, record) -> lines.add(line) && line < 10);
+        Throwable thrown = catchThrowable(() -> parallel.parseParallel(file, true, (line, record) -> true));
+        Files.delete(file);
+
+        // Then - The parsing stop at the line 10, and the error give the line of the invalid character.
+        assertThat(lines).hasSize(10).endsWith(10L);
+        assertThat(thrown).isInstanceOf(ParserException.class);
+        assertThat(((ParserException) thrown).getLine()).isEqualTo(900);
+    }
+
+    @Test
+    public void parseParallelVisitLinesBeforeInvalidCharacter() throws Exception {
+        // Given - A file of 1000 lines on several chunks whose line 990 is not encoded in UTF-8.
+        Path file = Files.createTempFile("media", ".tsv");
+        StringBuilder content = new StringBuilder();
+        for (int i = 1; i <= 1000; i++) {
+            content.append("Title ").append(i).append('\t').append(i).append('\n');
+        }
+        byte[] bytes = content.toString().getBytes("UTF-8");
+        bytes[content.indexOf("Title 990\t")] = (byte) 0xE9;
+        Files.write(file, bytes);
+        FileParser parallel = new TsvParser(1024);
+        List<Long> lines = new ArrayList<>();
+
+        // When - Parse the whole file in order.
+        Throwable thrown = catchThrowable(() -> parallel.parseParallel(file, true, (line, record) -> lines.add(line)));
+        Files.delete(file);
+
+        // Then - All lines before the invalid character are visited in order before the error.
+        assertThat(thrown).isInstanceOf(ParserException.class);
+        assertThat(((ParserException) thrown).getLine()).isEqualTo(990);
+        assertThat(lines).hasSize(989).endsWith(989L).isSorted();
+    }
 }
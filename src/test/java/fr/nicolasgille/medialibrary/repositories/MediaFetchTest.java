@@ -0,0 +1,243 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.repositories;
+
+import com.neovisionaries.i18n.LanguageCode;
+import fr.nicolasgille.medialibrary.models.Media;
+import fr.nicolasgille.medialibrary.models.MediaSummary;
+import fr.nicolasgille.medialibrary.models.book.Book;
+import fr.nicolasgille.medialibrary.models.book.Comic;
+import fr.nicolasgille.medialibrary.models.common.company.Developer;
+import fr.nicolasgille.medialibrary.models.common.company.LabelRecords;
+import fr.nicolasgille.medialibrary.models.common.company.Publisher;
+import fr.nicolasgille.medialibrary.models.common.person.Actor;
+import fr.nicolasgille.medialibrary.models.common.person.Author;
+import fr.nicolasgille.medialibrary.models.common.person.Director;
+import fr.nicolasgille.medialibrary.models.common.person.Illustrator;
+import fr.nicolasgille.medialibrary.models.common.person.Singer;
+import fr.nicolasgille.medialibrary.models.components.BookFormat;
+import fr.nicolasgille.medialibrary.models.components.MediaSupport;
+import fr.nicolasgille.medialibrary.models.components.VideoGamePlatform;
+import fr.nicolasgille.medialibrary.models.components.genre.BookGenre;
+import fr.nicolasgille.medialibrary.models.components.genre.MusicGenre;
+import fr.nicolasgille.medialibrary.models.components.genre.VideoGameGenre;
+import fr.nicolasgille.medialibrary.models.components.genre.VideoGenre;
+import fr.nicolasgille.medialibrary.models.game.VideoGame;
+import fr.nicolasgille.medialibrary.models.music.Album;
+import fr.nicolasgille.medialibrary.models.video.Movie;
+import fr.nicolasgille.medialibrary.repositories.book.BookRepository;
+import fr.nicolasgille.medialibrary.repositories.book.ComicRepository;
+import fr.nicolasgille.medialibrary.repositories.game.VideoGameRepository;
+import fr.nicolasgille.medialibrary.repositories.music.AlbumRepository;
+import fr.nicolasgille.medialibrary.repositories.video.MovieRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test used to check the number of queries needed to load a list of media with their collections.
+ *
+ * @author Nicolas GILLE
+ * @version 1.2
+ * @since Media-Library 1.1
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:hsqldb:mem:fetch;sql.syntax_mys=true",
+        "spring.datasource.username=sa",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.HSQLDialect",
+        "media-library.cache.statistics=true",
+        "spring.jpa.show-sql=false"
+})
+public class MediaFetchTest {
+
+    /**
+     * Number of media of each type stored before each test, more than a batch to check the batches.
+     */
+    private static final int MEDIA_COUNT = Media.FETCH_BATCH_SIZE + 10;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private MediaRepository mediaRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private ComicRepository comicRepository;
+
+    @Autowired
+    private VideoGameRepository videoGameRepository;
+
+    @Autowired
+    private AlbumRepository albumRepository;
+
+    private Statistics statistics;
+
+    private List<Long> ids;
+
+    @Before
+    public void setUp() {
+        this.ids = new ArrayList<>();
+        for (int i = 0; i < MEDIA_COUNT; i++) {
+            Movie movie = new Movie("Movie " + i, "Movie " + i, "Synopsis",
+                    new HashSet<>(Collections.singletonList(new Actor("Actor", "Number " + i))),
+                    new HashSet<>(Collections.singletonList(new Director("Director", "Number " + i))),
+                    new HashSet<>(), Collections.singletonList(VideoGenre.ACTION),
+                    Collections.singletonList(MediaSupport.DVD), Collections.singletonList(LanguageCode.fr),
+                    new ArrayList<>(), LocalDate.now(), 120);
+            VideoGame videoGame = new VideoGame("Game " + i, "Game " + i, "Synopsis", LocalDate.now(),
+                    Collections.singletonList(VideoGameGenre.RPG), Collections.singletonList(MediaSupport.DIGITAL),
+                    false, Collections.singletonList(LanguageCode.en),
+                    new HashSet<>(Collections.singletonList(new Developer("Developer " + i))), new HashSet<>(),
+                    Collections.singletonList(VideoGamePlatform.PC));
+            this.ids.add(this.entityManager.persistAndGetId(movie, Long.class));
+            this.ids.add(this.entityManager.persistAndGetId(videoGame, Long.class));
+
+            Set<Author> authors = new HashSet<>(Collections.singletonList(new Author("Author", "Number " + i)));
+            Set<Publisher> publishers = new HashSet<>(Collections.singletonList(new Publisher("Publisher " + i)));
+            this.entityManager.persist(new Book("Book " + i, "Book " + i, "Synopsis", LocalDate.now(), 300, "isbn",
+                    authors, publishers, Collections.singletonList(BookGenre.ACTION),
+                    Collections.singletonList(MediaSupport.PAPER), BookFormat.POCKET));
+            this.entityManager.persist(new Comic("Comic " + i, "Comic " + i, "Synopsis", LocalDate.now(), 48, "isbn",
+                    new HashSet<>(authors), new HashSet<>(publishers), Collections.singletonList(BookGenre.ACTION),
+                    Collections.singletonList(MediaSupport.PAPER), BookFormat.CLASSICAL, 10, 1,
+                    new HashSet<>(Collections.singletonList(new Illustrator("Illustrator", "Number " + i)))));
+            this.entityManager.persist(new Album("Album " + i, "Tracks", LocalDate.now(),
+                    Collections.singletonList(MusicGenre.ALTERNATIVE_ROCK), Collections.singletonList(MediaSupport.CD),
+                    12, 45.5, new HashSet<>(Collections.singletonList(new LabelRecords("Label " + i))),
+                    new HashSet<>(Collections.singletonList(new Singer("Singer", "Number " + i)))));
+        }
+        this.entityManager.flush();
+        this.entityManager.clear();
+
+        this.statistics = this.entityManager.getEntityManager().getEntityManagerFactory()
+                                            .unwrap(SessionFactory.class).getStatistics();
+        this.statistics.clear();
+    }
+
+    @Test
+    public void pageOfMoviesLoadsCollectionsByBatches() {
+        // When - Read a page of movies.
+        List<Movie> movies = this.movieRepository.findByIdGreaterThanOrderByIdAsc(0, new PageRequest(0, 20));
+
+        // Then - The movies and their main actors, directors and producers are read with 4 queries.
+        assertThat(movies).hasSize(20);
+        assertThat(movies.get(0).getMainActors()).hasSize(1);
+        assertThat(movies.get(19).getDirectors()).hasSize(1);
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    public void pageOfBooksLoadsCollectionsByBatches() {
+        // When - Read a page of books.
+        List<Book> books = this.bookRepository.findByIdGreaterThanOrderByIdAsc(0, new PageRequest(0, 20));
+
+        // Then - The books, without the comics, and their authors and publishers are read with 3 queries.
+        assertThat(books).hasSize(20).extracting(Object::getClass).containsOnly(Book.class);
+        assertThat(books.get(0).getAuthors()).hasSize(1);
+        assertThat(books.get(19).getPublishers()).hasSize(1);
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void pageOfComicsLoadsCollectionsByBatches() {
+        // When - Read a page of comics.
+        List<Comic> comics = this.comicRepository.findByIdGreaterThanOrderByIdAsc(0, new PageRequest(0, 20));
+
+        // Then - The comics and their authors, publishers and illustrators are read with 4 queries.
+        assertThat(comics).hasSize(20);
+        assertThat(comics.get(0).getAuthors()).hasSize(1);
+        assertThat(comics.get(10).getPublishers()).hasSize(1);
+        assertThat(comics.get(19).getIllustrators()).hasSize(1);
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    public void pageOfVideoGamesLoadsCollectionsByBatches() {
+        // When - Read a page of video games.
+        List<VideoGame> videoGames =
+                this.videoGameRepository.findByIdGreaterThanOrderByIdAsc(0, new PageRequest(0, 20));
+
+        // Then - The video games and their developers and publishers are read with 3 queries.
+        assertThat(videoGames).hasSize(20);
+        assertThat(videoGames.get(0).getDevelopers()).hasSize(1);
+        assertThat(videoGames.get(19).getPublishers()).isEmpty();
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void pageOfAlbumsLoadsCollectionsByBatches() {
+        // When - Read a page of albums.
+        List<Album> albums = this.albumRepository.findByIdGreaterThanOrderByIdAsc(0, new PageRequest(0, 20));
+
+        // Then - The albums and their label records and singers are read with 3 queries.
+        assertThat(albums).hasSize(20);
+        assertThat(albums.get(0).getLabelRecords()).hasSize(1);
+        assertThat(albums.get(19).getSingers()).hasSize(1);
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void allMediaLoadCollectionsByBatches() {
+        // When - Read all media of several types, more than a batch of each type.
+        List<Media> media = this.mediaRepository.findAll(this.ids);
+
+        // Then - The media are read with 1 query, then 2 batches for each of the 5 collections.
+        assertThat(media).hasSize(2 * MEDIA_COUNT);
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(1 + 2 * 5);
+    }
+
+    @Test
+    public void summariesAreReadWithOneQuery() {
+        // When - Read the summaries of a page of movies and of media of several types.
+        List<MediaSummary> movies = this.movieRepository.findSummariesByIdGreaterThan(0, new PageRequest(0, 20));
+        List<MediaSummary> media = this.mediaRepository.findSummariesByIdIn(this.ids.subList(0, 2));
+
+        // Then - Each list is read with a single query, without the collections of the media.
+        assertThat(movies).hasSize(20).extracting(MediaSummary::getType).containsOnly("movie");
+        assertThat(media).extracting(MediaSummary::getType).containsOnly("movie", "video_game");
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
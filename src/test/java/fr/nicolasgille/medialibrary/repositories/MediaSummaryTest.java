@@ -0,0 +1,129 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.repositories;
+
+import com.neovisionaries.i18n.LanguageCode;
+import fr.nicolasgille.medialibrary.models.MediaSummary;
+import fr.nicolasgille.medialibrary.models.common.person.Actor;
+import fr.nicolasgille.medialibrary.models.common.person.Director;
+import fr.nicolasgille.medialibrary.models.components.MediaSupport;
+import fr.nicolasgille.medialibrary.models.components.genre.VideoGenre;
+import fr.nicolasgille.medialibrary.models.video.Anime;
+import fr.nicolasgille.medialibrary.models.video.Series;
+import fr.nicolasgille.medialibrary.repositories.video.AnimeRepository;
+import fr.nicolasgille.medialibrary.repositories.video.SeriesRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test used to check the summaries of media read by the constructor expressions of the repositories.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:hsqldb:mem:summary;sql.syntax_mys=true",
+        "spring.datasource.username=sa",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.HSQLDialect",
+        "spring.jpa.show-sql=false"
+})
+public class MediaSummaryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AnimeRepository animeRepository;
+
+    @Autowired
+    private SeriesRepository seriesRepository;
+
+    private long animeId;
+
+    private long seriesId;
+
+    @Before
+    public void setUp() {
+        // The series is stored on the same table than the animes, with its own value of TYPE().
+        Anime anime = new Anime("Akira", "Akira", "Synopsis",
+                new HashSet<>(Collections.singletonList(new Director("Katsuhiro", "Otomo"))), new HashSet<>(),
+                Collections.singletonList(VideoGenre.ACTION), Collections.singletonList(MediaSupport.DVD),
+                Collections.singletonList(LanguageCode.ja), Collections.singletonList(LanguageCode.fr),
+                LocalDate.of(1988, 7, 16), LocalDate.of(1988, 7, 16), 1, 1, 1, 1, 124);
+        Series series = new Series("Lost", "Lost", "Synopsis",
+                new HashSet<>(Collections.singletonList(new Actor("Matthew", "Fox"))),
+                new HashSet<>(Collections.singletonList(new Director("J. J.", "Abrams"))), new HashSet<>(),
+                Collections.singletonList(VideoGenre.DRAMA), Collections.singletonList(MediaSupport.DVD),
+                Collections.singletonList(LanguageCode.en), Collections.singletonList(LanguageCode.fr),
+                LocalDate.of(2004, 9, 22), LocalDate.of(2010, 5, 23), 6, 6, 121, 121, 42);
+        this.animeId = this.entityManager.persistAndGetId(anime, Long.class);
+        this.seriesId = this.entityManager.persistAndGetId(series, Long.class);
+        this.entityManager.flush();
+        this.entityManager.clear();
+    }
+
+    @Test
+    public void summariesOfSubclassAreReadWithTheirOwnType() {
+        // When - Read the summaries of the series.
+        List<MediaSummary> summaries = this.seriesRepository.findSummariesByIdGreaterThan(0, new PageRequest(0, 20));
+
+        // Then - The series is returned with its id, title, date of release and type.
+        assertThat(summaries).hasSize(1);
+        MediaSummary summary = summaries.get(0);
+        assertThat(summary.getId()).isEqualTo(this.seriesId);
+        assertThat(summary.getTitle()).isEqualTo("Lost");
+        assertThat(summary.getReleaseDate()).isEqualTo(LocalDate.of(2004, 9, 22));
+        assertThat(summary.getType()).isEqualTo("series");
+    }
+
+    @Test
+    public void summariesOfParentClassExcludeTheSubclass() {
+        // When - Read the summaries of the animes, by page and by identifiers.
+        List<MediaSummary> page = this.animeRepository.findSummariesByIdGreaterThan(0, new PageRequest(0, 20));
+        List<MediaSummary> byIds = this.animeRepository.findSummariesByIdIn(Arrays.asList(this.animeId,
+                                                                                          this.seriesId));
+
+        // Then - Only the anime is returned, the series stored under the type of the animes is filtered by TYPE().
+        assertThat(page).extracting(MediaSummary::getId).containsExactly(this.animeId);
+        assertThat(byIds).extracting(MediaSummary::getId).containsExactly(this.animeId);
+        assertThat(page.get(0).getTitle()).isEqualTo("Akira");
+        assertThat(page.get(0).getReleaseDate()).isEqualTo(LocalDate.of(1988, 7, 16));
+        assertThat(page.get(0).getType()).isEqualTo("anime");
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.repositories;
+
+import fr.nicolasgille.medialibrary.models.common.company.Developer;
+import fr.nicolasgille.medialibrary.models.common.person.Actor;
+import fr.nicolasgille.medialibrary.repositories.common.company.DeveloperRepository;
+import fr.nicolasgille.medialibrary.repositories.common.person.ActorRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test used to check that the persons and companies are read from the second-level cache.
+ * <p>
+ * The cache is filled on the commit of a transaction, so each call of a repository is run on his own transaction.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:hsqldb:mem:cache;sql.syntax_mys=true",
+        "spring.datasource.username=sa",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.HSQLDialect",
+        "media-library.cache.statistics=true",
+        "spring.jpa.show-sql=false"
+})
+public class PersonCacheTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ActorRepository actorRepository;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    private Statistics statistics;
+
+    private long actorId;
+
+    @Before
+    public void setUp() {
+        this.entityManagerFactory.getCache().evictAll();
+        this.actorId = this.actorRepository.save(new Actor("Tom", "Hanks")).getId();
+        this.developerRepository.save(new Developer("Naughty Dog"));
+
+        this.statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.clear();
+    }
+
+    @After
+    public void tearDown() {
+        this.actorRepository.deleteAll();
+        this.developerRepository.deleteAll();
+    }
+
+    @Test
+    public void personFoundByIdentifierIsReadFromCache() {
+        // Given - An actor read once, the rows inserted with an identity column are cached on their first read.
+        this.actorRepository.findOne(this.actorId);
+        long statements = this.statistics.getPrepareStatementCount();
+
+        // When - Read the actor again.
+        Actor actor = this.actorRepository.findOne(this.actorId);
+
+        // Then - The actor is found without query.
+        assertThat(actor.getLastName()).isEqualTo("Hanks");
+        assertThat(statements).isEqualTo(1);
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(this.statistics.getSecondLevelCacheStatistics("person").getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void repeatedLookupByNameIsReadFromCache() {
+        // When - Search the same actor and the same developer twice.
+        this.actorRepository.findByFirstNameAndLastName("Tom", "Hanks");
+        this.developerRepository.findByName("Naughty Dog");
+        long statements = this.statistics.getPrepareStatementCount();
+        Actor actor = this.actorRepository.findByFirstNameAndLastName("Tom", "Hanks");
+        Developer developer = this.developerRepository.findByName("Naughty Dog");
+
+        // Then - Only the first searches request the Database.
+        assertThat(actor.getId()).isEqualTo(this.actorId);
+        assertThat(developer.getName()).isEqualTo("Naughty Dog");
+        assertThat(statements).isEqualTo(2);
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(this.statistics.getQueryCacheHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void lookupByNameSeesPersonCreatedAfterAMiss() {
+        // Given - An actor searched before his creation.
+        assertThat(this.actorRepository.findByFirstNameAndLastName("Meg", "Ryan")).isNull();
+
+        // When - Create the actor and search him again.
+        this.actorRepository.save(new Actor("Meg", "Ryan"));
+        Actor actor = this.actorRepository.findByFirstNameAndLastName("Meg", "Ryan");
+
+        // Then - The result cached before the creation is not used.
+        assertThat(actor).isNotNull();
+    }
+}
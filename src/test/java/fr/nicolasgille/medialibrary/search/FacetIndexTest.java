@@ -0,0 +1,99 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.search;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test for FacetIndex class.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+public class FacetIndexTest {
+
+    private FacetIndex index;
+
+    @Before
+    public void setUp() {
+        this.index = new FacetIndex();
+        this.index.add(1, this.values("movie", Arrays.asList("ACTION", "DRAMA"), Arrays.asList("DVD")));
+        this.index.add(2, this.values("movie", Arrays.asList("ACTION"), Arrays.asList("BLU_RAY")));
+        this.index.add(3, this.values("series", Arrays.asList("COMEDY"), Arrays.asList("DVD", "BLU_RAY")));
+    }
+
+    @Test
+    public void pageWithOrAndSelections() {
+        // Given - A selection of two supports on the movies.
+        Map<String, List<String>> selections = new HashMap<>();
+        selections.put("type", Collections.singletonList("movie"));
+        selections.put("support", Arrays.asList("DVD", "BLU_RAY"));
+
+        // When / Then - The supports are combined with OR and the facets with AND.
+        assertThat(this.index.page(selections, 0, 10)).containsExactly(1L, 2L);
+        assertThat(this.index.page(selections, 1, 10)).containsExactly(2L);
+        assertThat(this.index.page(selections, 0, 1)).containsExactly(1L);
+        assertThat(this.index.count(selections)).isEqualTo(2);
+    }
+
+    @Test
+    public void countsIgnoreSelectionOfTheFacet() {
+        // Given - A selection of a genre.
+        Map<String, List<String>> selections = Collections.singletonMap("genre", Collections.singletonList("ACTION"));
+
+        // When - Count the values of each facet.
+        Map<String, Map<String, Integer>> counts = this.index.counts(selections);
+
+        // Then - The other genres keep their count and the other facets count only the action media.
+        assertThat(counts.get("genre")).containsEntry("ACTION", 2).containsEntry("COMEDY", 1);
+        assertThat(counts.get("support")).containsEntry("DVD", 1).containsEntry("BLU_RAY", 1);
+        assertThat(counts.get("type")).containsOnlyKeys("movie");
+    }
+
+    @Test
+    public void removeAndReplaceDocument() {
+        // Given - A media updated and a media removed.
+        this.index.add(2, this.values("movie", Arrays.asList("COMEDY"), Arrays.asList("DVD")));
+        this.index.remove(3);
+
+        // When / Then - The counts contains only the new values.
+        Map<String, Map<String, Integer>> counts = this.index.counts(Collections.emptyMap());
+        assertThat(counts.get("genre")).containsOnlyKeys("ACTION", "DRAMA", "COMEDY").containsEntry("COMEDY", 1);
+        assertThat(counts.get("support")).containsOnlyKeys("DVD");
+        assertThat(this.index.count(Collections.emptyMap())).isEqualTo(2);
+    }
+
+    private Map<String, List<String>> values(String type, List<String> genres, List<String> supports) {
+        Map<String, List<String>> values = new HashMap<>();
+        values.put("type", Collections.singletonList(type));
+        values.put("genre", genres);
+        values.put("support", supports);
+        return values;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.search;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test for InvertedIndex class.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+public class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @Before
+    public void setUp() {
+        this.index = new InvertedIndex(3.0, 2.0, 1.0);
+        this.index.add(1, "Star Wars : A New Hope", "Star Wars", "Luke Skywalker joins forces with a Jedi Knight.");
+        this.index.add(2, "The Empire Strikes Back", null, "After the rebels are overpowered, Luke trains.");
+        this.index.add(3, "Le Fabuleux Destin d'Amélie Poulain", "Amélie", "Amélie is an innocent girl in Paris.");
+    }
+
+    @Test
+    public void tokenizeRemoveAccentAndCase() {
+        // Given / When / Then - The terms are in lower case and without accent.
+        assertThat(InvertedIndex.tokenize("Amélie, L'ÉTÉ 2017 !")).containsExactly("amelie", "l", "ete", "2017");
+        assertThat(InvertedIndex.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    public void searchRankTitleBeforeSynopsis() {
+        // Given - A term present on the title of a media and on the synopsis of another one.
+        this.index.add(4, "Luke", null, "A story.");
+
+        // When - Search the term.
+        // Then - The media with the term on his title is the first one.
+        assertThat(this.index.search("luke", id -> true)).hasSize(3).startsWith(4L);
+    }
+
+    @Test
+    public void searchNeedAllTerms() {
+        // Given / When / Then - Only the media with all terms of the query are returned.
+        assertThat(this.index.search("Luke Jedi", id -> true)).containsExactly(1L);
+        assertThat(this.index.search("Luke Amelie", id -> true)).isEmpty();
+        assertThat(this.index.search("amelie", id -> id != 3)).isEmpty();
+    }
+
+    @Test
+    public void updateAndRemoveDocument() {
+        // Given - A media updated and a media removed.
+        this.index.add(1, "Rogue One", null, null);
+        this.index.remove(3);
+
+        // When / Then - The index contains only the new content.
+        assertThat(this.index.search("star", id -> true)).isEmpty();
+        assertThat(this.index.search("rogue", id -> true)).containsExactly(1L);
+        assertThat(this.index.search("amelie", id -> true)).isEmpty();
+        assertThat(this.index.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.search;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test for TitleTrie class.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+public class TitleTrieTest {
+
+    private TitleTrie trie;
+
+    @Before
+    public void setUp() {
+        this.trie = new TitleTrie(2);
+        this.trie.add(1, "Star Wars : A New Hope", "movie");
+        this.trie.add(2, "Star Trek", "movie");
+        this.trie.add(3, "Stargate SG-1", "series");
+        this.trie.add(4, "Amélie", "movie");
+    }
+
+    @Test
+    public void completeWithBestTitles() {
+        // Given / When / Then - Only the shortest titles are kept on each node.
+        assertThat(this.ids(this.trie.complete("sta", 10))).containsExactly(2L, 3L);
+        assertThat(this.ids(this.trie.complete("STAR W", 10))).containsExactly(1L);
+        assertThat(this.ids(this.trie.complete("ame", 10))).containsExactly(4L);
+        assertThat(this.trie.complete("star", 1)).hasSize(1);
+        assertThat(this.trie.complete("zorro", 10)).isEmpty();
+    }
+
+    @Test
+    public void removeComputeAgainCompletions() {
+        // Given - A title of the best completions removed.
+        this.trie.remove(2);
+
+        // When / Then - The next best title take his place.
+        assertThat(this.ids(this.trie.complete("star", 10))).containsExactly(3L, 1L);
+        assertThat(this.trie.complete("star t", 10)).isEmpty();
+    }
+
+    @Test
+    public void addReplaceTitle() {
+        // Given - A title updated.
+        this.trie.add(3, "Stargate Atlantis", "series");
+
+        // When / Then - The old title is not completed anymore.
+        assertThat(this.trie.complete("stargate sg", 10)).isEmpty();
+        assertThat(this.trie.complete("stargate a", 10).get(0).getTitle()).isEqualTo("Stargate Atlantis");
+    }
+
+    private List<Long> ids(List<TitleTrie.Completion> completions) {
+        return completions.stream().map(TitleTrie.Completion::getId).collect(Collectors.toList());
+    }
+}
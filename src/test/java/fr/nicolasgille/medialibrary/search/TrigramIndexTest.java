@@ -0,0 +1,71 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.search;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test for TrigramIndex class.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+public class TrigramIndexTest {
+
+    private TrigramIndex index;
+
+    @Before
+    public void setUp() {
+        this.index = new TrigramIndex();
+        this.index.add(1, "Interstellar", null);
+        this.index.add(2, "Inception", null);
+        this.index.add(3, "Le Voyage de Chihiro", "Sen to Chihiro no Kamikakushi");
+    }
+
+    @Test
+    public void trigramsOfWord() {
+        // Given / When / Then - Each word is padded before cut.
+        assertThat(TrigramIndex.trigrams("Cat")).containsExactly("  c", " ca", "cat", "at ");
+    }
+
+    @Test
+    public void searchWithTypo() {
+        // Given / When / Then - A title with typos find the media.
+        assertThat(this.index.search("Interstelar", id -> true)).containsExactly(1L);
+        assertThat(this.index.search("Incepsion", id -> true)).containsExactly(2L);
+    }
+
+    @Test
+    public void searchOnOriginalTitle() {
+        // Given / When / Then - The original title is searched too.
+        assertThat(this.index.search("Sen to Chihiro no Kamikakusi", id -> true)).containsExactly(3L);
+    }
+
+    @Test
+    public void searchBelowThreshold() {
+        // Given / When / Then - A title too different find nothing.
+        assertThat(this.index.search("Matrix", id -> true)).isEmpty();
+        this.index.remove(1);
+        assertThat(this.index.search("Interstelar", id -> true)).isEmpty();
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.nicolasgille.medialibrary.models.Media;
+import fr.nicolasgille.medialibrary.models.video.Movie;
+import fr.nicolasgille.medialibrary.repositories.video.MovieRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test for BatchCreateService class.
+ *
+ * @author Nicolas GILLE
+ * @version 1.1
+ * @since Media-Library 1.1
+ */
+public class BatchCreateServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private BatchCreateService batchCreateService;
+
+    private MovieRepository movieRepository;
+
+    private HomePageService homePageService;
+
+    private List<String> indexed;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        // The movies saved get an identifier, and a chunk with a movie titled "Failing" can't be committed.
+        this.movieRepository = Mockito.mock(MovieRepository.class);
+        when(this.movieRepository.save(anyListOf(Movie.class))).thenAnswer(invocation -> {
+            List<Movie> movies = invocation.getArgumentAt(0, List.class);
+            for (Movie movie : movies) {
+                if (movie.getTitle().equals("Failing")) {
+                    throw new IllegalStateException("Commit failed");
+                }
+                movie.setId(movie.getTitle().length());
+            }
+            return movies;
+        });
+
+        this.indexed = new ArrayList<>();
+        MediaSearchService mediaSearchService = Mockito.mock(MediaSearchService.class);
+        doAnswer(invocation -> this.indexed.add(invocation.getArgumentAt(0, Media.class).getTitle()))
+                .when(mediaSearchService).index(any(Media.class));
+        this.homePageService = Mockito.mock(HomePageService.class);
+
+        this.batchCreateService = new BatchCreateService();
+        ReflectionTestUtils.setField(this.batchCreateService, "chunkSize", 2);
+        ReflectionTestUtils.setField(this.batchCreateService, "objectMapper", this.objectMapper);
+        ReflectionTestUtils.setField(this.batchCreateService, "transactionManager",
+                                     Mockito.mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(this.batchCreateService, "homePageService", this.homePageService);
+        ReflectionTestUtils.setField(this.batchCreateService, "mediaSearchService", mediaSearchService);
+    }
+
+    @Test
+    public void mixedBatchReportsTheStatusOfEachMovie() throws IOException {
+        // Given - A batch with a duplicate, a chunk who can't be committed and a movie who can't be read.
+        String body = "[{\"title\":\"First\"},{\"title\":\"Duplicate\"},{\"title\":\"Third\"},{\"title\":\"Failing\"},"
+                + "{\"title\":\"Fifth\"},{\"title\":},{\"title\":\"Ignored\"}]";
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When - Create the movies by chunks of two.
+        this.batchCreateService.create(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), response,
+                                       Movie.class, this.movieRepository, m -> m.getTitle().equals("Duplicate"),
+                                       m -> BatchCreateService.key(m.getTitle()), ms -> {}, HomePageService.MOVIES);
+
+        // Then - Each movie read has its status, and the movies after the one who can't be read are ignored.
+        JsonNode results = this.objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(results).hasSize(6);
+        List<Integer> statuses = new ArrayList<>();
+        for (JsonNode result : results) {
+            assertThat(result.get("index").asInt()).isEqualTo(statuses.size());
+            statuses.add(result.get("status").asInt());
+        }
+        assertThat(statuses).containsExactly(201, 409, 500, 500, 201, 400);
+        assertThat(results.get(0).get("id").asLong()).isEqualTo("First".length());
+        assertThat(results.get(1).get("title").asText()).isEqualTo("Duplicate");
+
+        // Then - Only the movies committed are indexed, and the home page is invalidated once by chunk committed.
+        assertThat(this.indexed).containsExactly("First", "Fifth");
+        verify(this.homePageService, times(2)).invalidate(HomePageService.MOVIES);
+    }
+
+    @Test
+    public void sameMovieTwiceOnAChunkIsCreatedOnce() throws IOException {
+        // Given - A batch with the same movie twice on the first chunk, the second time with another case.
+        String body = "[{\"title\":\"First\"},{\"title\":\" FIRST\"},{\"title\":\"Third\"}]";
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When - Create the movies by chunks of two, none of them being present on Database.
+        this.batchCreateService.create(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), response,
+                                       Movie.class, this.movieRepository, m -> false,
+                                       m -> BatchCreateService.key(m.getTitle()), ms -> {}, HomePageService.MOVIES);
+
+        // Then - The second occurrence is reported as conflict and is neither saved nor indexed.
+        JsonNode results = this.objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(results).extracting(result -> result.get("status").asInt()).containsExactly(201, 409, 201);
+        assertThat(results.get(1).get("title").asText()).isEqualTo(" FIRST");
+        assertThat(this.indexed).containsExactly("First", "Third");
+    }
+}
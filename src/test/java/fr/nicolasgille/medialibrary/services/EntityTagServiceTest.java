@@ -0,0 +1,227 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.services;
+
+import fr.nicolasgille.medialibrary.models.video.Movie;
+import fr.nicolasgille.medialibrary.repositories.video.MovieRepository;
+import fr.nicolasgille.medialibrary.utils.SmileHttpMessageConverter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit test for EntityTagService class.
+ * <p>
+ * Each call of a repository is run on his own transaction, so the versions are incremented as on the controllers.
+ *
+ * @author Nicolas GILLE
+ * @version 1.2
+ * @since Media-Library 1.1
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@Import(EntityTagService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:hsqldb:mem:tags;sql.syntax_mys=true",
+        "spring.datasource.username=sa",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.HSQLDialect",
+        "spring.jpa.show-sql=false"
+})
+public class EntityTagServiceTest {
+
+    @Autowired
+    private EntityTagService entityTagService;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    private Movie movie;
+
+    @Before
+    public void setUp() {
+        this.movie = this.movieRepository.save(this.movie("Heat"));
+    }
+
+    @After
+    public void tearDown() {
+        this.movieRepository.deleteAll();
+    }
+
+    @Test
+    public void notModifiedUntilUpdate() {
+        // Given - A client who has read the movie.
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServletWebRequest request = this.request(HttpHeaders.IF_NONE_MATCH, "\"0\"", response);
+
+        // When / Then - The tag of the version and the date of the last modification are returned.
+        assertThat(this.entityTagService.checkNotModified(request, Movie.class, this.movie.getId())).isTrue();
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"0\"");
+        assertThat(response.getDateHeader(HttpHeaders.LAST_MODIFIED) / 1000)
+                .isEqualTo(this.movie.getLastModified() / 1000);
+
+        // Given - The movie is updated.
+        this.movie.setTitle("Heat (1995)");
+        this.movieRepository.save(this.movie);
+        response = new MockHttpServletResponse();
+        request = this.request(HttpHeaders.IF_NONE_MATCH, "\"0\"", response);
+
+        // When / Then - The movie is returned with the tag of the new version.
+        assertThat(this.entityTagService.checkNotModified(request, Movie.class, this.movie.getId())).isFalse();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"1\"");
+    }
+
+    @Test
+    public void smileHasItsOwnTag() {
+        // Given - A client who has read the movie as JSON and accept now Smile.
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/movies/");
+        servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, "\"0\"");
+        servletRequest.addHeader(HttpHeaders.ACCEPT, SmileHttpMessageConverter.APPLICATION_SMILE_VALUE);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServletWebRequest request = new ServletWebRequest(servletRequest, response);
+
+        // When / Then - The representation as Smile is returned with his own tag, and varies on Accept.
+        assertThat(this.entityTagService.checkNotModified(request, Movie.class, this.movie.getId())).isFalse();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"0-smile\"");
+        assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT);
+        assertThat(this.entityTagService.matches(this.request(HttpHeaders.IF_MATCH, "\"0-smile\"", response),
+                                                 this.movie)).isTrue();
+    }
+
+    @Test
+    public void unknownEntityIsNeverNotModified() {
+        // Given - A request of a movie who doesn't exist.
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServletWebRequest request = this.request(HttpHeaders.IF_NONE_MATCH, "\"0\"", response);
+
+        // When / Then - The controller answer the request.
+        assertThat(this.entityTagService.checkNotModified(request, Movie.class, this.movie.getId() + 1)).isFalse();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+    }
+
+    @Test
+    public void listTagChangesOnDeletion() {
+        // Given - The tag of the list of two movies.
+        this.movieRepository.save(this.movie("Ronin"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest("GET", "/movies/"), response);
+        this.entityTagService.checkNotModified(request, Movie.class);
+        String tag = response.getHeader(HttpHeaders.ETAG);
+
+        // When - The first movie is deleted.
+        this.movieRepository.delete(this.movie.getId());
+        response = new MockHttpServletResponse();
+        boolean notModified = this.entityTagService.checkNotModified(
+                this.request(HttpHeaders.IF_NONE_MATCH, tag, response), Movie.class);
+
+        // Then - The list has a new tag and no date.
+        assertThat(notModified).isFalse();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotEqualTo(tag);
+        assertThat(response.getHeader(HttpHeaders.LAST_MODIFIED)).isNull();
+    }
+
+    @Test
+    public void listIsNotModifiedWithoutWrite() {
+        // Given - The tag of the list of movies.
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest("GET", "/movies/"), response);
+        this.entityTagService.checkNotModified(request, Movie.class);
+        String tag = response.getHeader(HttpHeaders.ETAG);
+
+        // When - The list is requested again with its tag, the movies being only read meanwhile.
+        this.movieRepository.findAll();
+        response = new MockHttpServletResponse();
+        boolean notModified = this.entityTagService.checkNotModified(
+                this.request(HttpHeaders.IF_NONE_MATCH, tag, response), Movie.class);
+
+        // Then - The client has the current list.
+        assertThat(notModified).isTrue();
+        assertThat(response.getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    public void matchesIfMatch() {
+        // Given - The movie at its first version.
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When / Then - Only the current version, a wildcard or no header match.
+        assertThat(this.entityTagService.matches(new ServletWebRequest(new MockHttpServletRequest()), this.movie))
+                .isTrue();
+        assertThat(this.entityTagService.matches(this.request(HttpHeaders.IF_MATCH, "*", response), this.movie))
+                .isTrue();
+        assertThat(this.entityTagService.matches(this.request(HttpHeaders.IF_MATCH, "\"3\", \"0\"", response),
+                                                 this.movie)).isTrue();
+        assertThat(this.entityTagService.matches(this.request(HttpHeaders.IF_MATCH, "\"1\"", response), this.movie))
+                .isFalse();
+    }
+
+    @Test
+    public void staleUpdateIsRejected() {
+        // Given - Two copies of the first version of the movie.
+        Movie first = new Movie(this.movie);
+        first.setVersion(this.movie.getVersion());
+        Movie second = new Movie(this.movie);
+        second.setVersion(this.movie.getVersion());
+
+        // When - The first copy is saved.
+        first.setTitle("Heat (1995)");
+        this.movieRepository.save(first);
+
+        // Then - The second copy can't overwrite it.
+        second.setTitle("Heat (1996)");
+        assertThatThrownBy(() -> this.movieRepository.save(second))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(this.movieRepository.findOne(this.movie.getId()).getTitle()).isEqualTo("Heat (1995)");
+    }
+
+    private Movie movie(String title) {
+        return new Movie(title, title, "Synopsis", new HashSet<>(), new HashSet<>(), new HashSet<>(),
+                         new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+                         LocalDate.of(1995, 12, 15), 170);
+    }
+
+    private ServletWebRequest request(String header, String value, MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/movies/");
+        request.addHeader(header, value);
+        return new ServletWebRequest(request, response);
+    }
+}
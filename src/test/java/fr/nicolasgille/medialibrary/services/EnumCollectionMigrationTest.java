@@ -0,0 +1,119 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.services;
+
+import com.neovisionaries.i18n.LanguageCode;
+import fr.nicolasgille.medialibrary.models.components.genre.VideoGenre;
+import fr.nicolasgille.medialibrary.models.video.Movie;
+import fr.nicolasgille.medialibrary.repositories.video.MovieRepository;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test for EnumCollectionMigration class.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@Import(EnumCollectionMigration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:hsqldb:mem:migration;sql.syntax_mys=true",
+        "spring.datasource.username=sa",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.HSQLDialect",
+        "spring.jpa.show-sql=false",
+        "media-library.migrate-enum-collections=true"
+})
+public class EnumCollectionMigrationTest {
+
+    @Autowired
+    private EnumCollectionMigration migration;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @After
+    public void tearDown() {
+        this.movieRepository.deleteAll();
+        this.jdbcTemplate.execute("DROP TABLE IF EXISTS movie_genres");
+        this.jdbcTemplate.execute("DROP TABLE IF EXISTS movie_subtitles");
+    }
+
+    @Test
+    public void migrateMediaSavedEmptyAndIgnoreUnknownNames() {
+        // Given - A movie saved without genre nor subtitle by the new version, and his values on the old tables.
+        long id = this.movieRepository.save(this.movie()).getId();
+        this.jdbcTemplate.execute("CREATE TABLE movie_genres (movie_id BIGINT, genres VARCHAR(255))");
+        this.jdbcTemplate.execute("CREATE TABLE movie_subtitles (movie_id BIGINT, subtitles VARCHAR(255))");
+        this.jdbcTemplate.update("INSERT INTO movie_genres VALUES (?, ?), (?, ?)",
+                                 id, "ACTION", id, "WESTERN_SPAGHETTI");
+        this.jdbcTemplate.update("INSERT INTO movie_subtitles VALUES (?, ?), (?, ?)", id, "fr", id, "klingon");
+
+        // When - Run the migration.
+        this.migration.run(null);
+
+        // Then - The empty columns are filled with the known values.
+        Movie movie = this.movieRepository.findOne(id);
+        assertThat(movie.getGenres()).containsExactly(VideoGenre.ACTION);
+        assertThat(movie.getSubtitles()).containsExactly(LanguageCode.fr);
+    }
+
+    @Test
+    public void storeAllLanguages() {
+        // Given - A movie with subtitles in all languages.
+        Movie movie = this.movie();
+        movie.setSubtitles(Arrays.asList(LanguageCode.values()));
+
+        // When - Save it.
+        long id = this.movieRepository.save(movie).getId();
+
+        // Then - The column is long enough for all languages.
+        assertThat(this.movieRepository.findOne(id).getSubtitles()).containsExactly(LanguageCode.values());
+    }
+
+    private Movie movie() {
+        return new Movie("Heat", "Heat", "Synopsis", new HashSet<>(), new HashSet<>(), new HashSet<>(),
+                         new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+                         LocalDate.of(1995, 12, 15), 170);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.nicolasgille.medialibrary.models.MediaSummary;
+import fr.nicolasgille.medialibrary.repositories.book.BookRepository;
+import fr.nicolasgille.medialibrary.repositories.book.ComicRepository;
+import fr.nicolasgille.medialibrary.repositories.game.VideoGameRepository;
+import fr.nicolasgille.medialibrary.repositories.music.AlbumRepository;
+import fr.nicolasgille.medialibrary.repositories.video.AnimeRepository;
+import fr.nicolasgille.medialibrary.repositories.video.CartoonRepository;
+import fr.nicolasgille.medialibrary.repositories.video.MovieRepository;
+import fr.nicolasgille.medialibrary.repositories.video.SeriesRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test for HomePageService class.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+public class HomePageServiceTest {
+
+    private HomePageService homePageService;
+
+    private MovieRepository movieRepository;
+
+    private BookRepository bookRepository;
+
+    @Before
+    public void setUp() {
+        this.movieRepository = Mockito.mock(MovieRepository.class);
+        this.bookRepository = Mockito.mock(BookRepository.class);
+
+        // The queries run on the thread of the test, and the repositories not mocked return no media.
+        this.homePageService = new HomePageService();
+        ReflectionTestUtils.setField(this.homePageService, "animesRepository", Mockito.mock(AnimeRepository.class));
+        ReflectionTestUtils.setField(this.homePageService, "cartoonsRepository",
+                                     Mockito.mock(CartoonRepository.class));
+        ReflectionTestUtils.setField(this.homePageService, "moviesRepository", this.movieRepository);
+        ReflectionTestUtils.setField(this.homePageService, "seriesRepository", Mockito.mock(SeriesRepository.class));
+        ReflectionTestUtils.setField(this.homePageService, "booksRepository", this.bookRepository);
+        ReflectionTestUtils.setField(this.homePageService, "comicsRepository", Mockito.mock(ComicRepository.class));
+        ReflectionTestUtils.setField(this.homePageService, "videoGamesRepository",
+                                     Mockito.mock(VideoGameRepository.class));
+        ReflectionTestUtils.setField(this.homePageService, "albumsRepository", Mockito.mock(AlbumRepository.class));
+        ReflectionTestUtils.setField(this.homePageService, "homePageExecutor", (Executor) Runnable::run);
+        ReflectionTestUtils.setField(this.homePageService, "objectMapper", new ObjectMapper());
+        this.homePageService.init();
+    }
+
+    @Test
+    public void summaryHomePageIsCachedUntilWrite() {
+        // Given - A summary home page already read, without any movie.
+        String before = new String(this.homePageService.getSummaryHomePage(), StandardCharsets.UTF_8);
+        when(this.movieRepository.findLatestSummaries(any(Pageable.class)))
+                .thenReturn(Collections.singletonList(new MediaSummary(1, "Alien", LocalDate.of(1979, 5, 25),
+                                                                       "movie")));
+
+        // When - Read the summary home page again, then write a movie.
+        String cached = new String(this.homePageService.getSummaryHomePage(), StandardCharsets.UTF_8);
+        this.homePageService.invalidate(HomePageService.MOVIES);
+        String after = new String(this.homePageService.getSummaryHomePage(), StandardCharsets.UTF_8);
+
+        // Then - The page is kept until the write, then only the movies are requested again.
+        assertThat(before).doesNotContain("Alien");
+        assertThat(cached).isEqualTo(before);
+        assertThat(after).contains("\"title\":\"Alien\"");
+        verify(this.movieRepository, times(2)).findLatestSummaries(any(Pageable.class));
+        verify(this.bookRepository, times(1)).findLatestSummaries(any(Pageable.class));
+    }
+
+    @Test
+    public void writeInvalidatesBothHomePages() {
+        // Given - Both home pages already read.
+        this.homePageService.getHomePage();
+        this.homePageService.getSummaryHomePage();
+
+        // When - Write a book and read both home pages again.
+        this.homePageService.invalidate(HomePageService.BOOKS);
+        this.homePageService.getHomePage();
+        this.homePageService.getSummaryHomePage();
+
+        // Then - The books are requested again for each home page.
+        verify(this.bookRepository, times(2)).findAllByOrderByIdDesc(any(Pageable.class));
+        verify(this.bookRepository, times(2)).findLatestSummaries(any(Pageable.class));
+        verify(this.movieRepository, times(1)).findLatestSummaries(any(Pageable.class));
+    }
+}
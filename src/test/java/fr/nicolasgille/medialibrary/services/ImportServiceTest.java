@@ -0,0 +1,160 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package fr.nicolasgille.medialibrary.services;
+
+import fr.nicolasgille.medialibrary.builders.video.MovieBuilder;
+import fr.nicolasgille.medialibrary.models.video.Movie;
+import fr.nicolasgille.medialibrary.parser.TsvParser;
+import fr.nicolasgille.medialibrary.repositories.video.MovieRepository;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test for ImportService class.
+ *
+ * @author Nicolas GILLE
+ * @version 1.2
+ * @since Media-Library 1.1
+ */
+public class ImportServiceTest {
+
+    private ImportService importService;
+
+    private BatchCreateService batchCreateService;
+
+    private List<List<String>> chunks;
+
+    private Path file;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws IOException {
+        this.chunks = new ArrayList<>();
+        this.batchCreateService = Mockito.mock(BatchCreateService.class);
+        // The movies titled "Duplicate" are already present on Database.
+        when(this.batchCreateService.persist(anyListOf(Movie.class), any(), any(), any(), any(), anyString()))
+                .thenAnswer(invocation -> {
+                    List<Movie> chunk = invocation.getArgumentAt(0, List.class);
+                    List<String> titles = new ArrayList<>();
+                    boolean[] conflicts = new boolean[chunk.size()];
+                    for (int i = 0; i < chunk.size(); i++) {
+                        titles.add(chunk.get(i).getTitle());
+                        conflicts[i] = chunk.get(i).getTitle().equals("Duplicate");
+                    }
+                    this.chunks.add(titles);
+                    return conflicts;
+                });
+
+        this.importService = new ImportService();
+        ReflectionTestUtils.setField(this.importService, "batchCreateService", this.batchCreateService);
+        ReflectionTestUtils.setField(this.importService, "personResolver", new PersonResolver());
+        ReflectionTestUtils.setField(this.importService, "chunkSize", 2);
+        ReflectionTestUtils.setField(this.importService, "queueSize", 1);
+        this.file = Files.createTempFile("movies", ".tsv");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.file);
+    }
+
+    @Test
+    public void recordsAreBuiltAndSavedByChunks() throws IOException {
+        // Given - A file with five movies, one of them already present on Database.
+        Files.write(this.file, Arrays.asList(this.movie("First", "100"), this.movie("Second", "100"),
+                                             this.movie("Duplicate", "100"), this.movie("Fourth", "100"),
+                                             this.movie("Fifth", "100")), StandardCharsets.UTF_8);
+
+        // When - Import the file.
+        Map<String, Object> report = this.importService.importFile(this.file, new TsvParser(), new MovieBuilder(),
+                                                                   Movie.class, Mockito.mock(MovieRepository.class),
+                                                                   m -> false, Movie::getTitle, ms -> {},
+                                                                   HomePageService.MOVIES);
+
+        // Then - The movies are saved in order by chunks of two, and the duplicate is counted as conflict.
+        assertThat(this.chunks).containsExactly(Arrays.asList("First", "Second"), Arrays.asList("Duplicate", "Fourth"),
+                                                Arrays.asList("Fifth"));
+        assertThat(report).containsEntry("read", 5).containsEntry("created", 4).containsEntry("conflicts", 1)
+                          .containsEntry("failed", 0);
+    }
+
+    @Test
+    public void recordsWhoCantBeBuiltAreReported() throws IOException {
+        // Given - A file with a movie whose runtime is not a number, and a record without enough columns.
+        Files.write(this.file, Arrays.asList(this.movie("First", "100"), this.movie("Broken", "long"), "Short",
+                                             this.movie("Fourth", "100")), StandardCharsets.UTF_8);
+
+        // When - Import the file.
+        Map<String, Object> report = this.importService.importFile(this.file, new TsvParser(), new MovieBuilder(),
+                                                                   Movie.class, Mockito.mock(MovieRepository.class),
+                                                                   m -> false, Movie::getTitle, ms -> {},
+                                                                   HomePageService.MOVIES);
+
+        // Then - The other records are imported and the errors give the line of each broken record.
+        assertThat(this.chunks).containsExactly(Arrays.asList("First", "Fourth"));
+        assertThat(report).containsEntry("read", 4).containsEntry("created", 2).containsEntry("failed", 2);
+        assertThat((List<?>) report.get("errors")).extracting("line").containsExactly(2L, 3L);
+    }
+
+    @Test
+    public void recordsWithMalformedDateAreReported() throws IOException {
+        // Given - A file with a movie whose date of release doesn't follow the format.
+        Files.write(this.file, Arrays.asList(this.movie("First", "100"), this.movie("Broken", "100", "1999-05-16"),
+                                             this.movie("Third", "100")), StandardCharsets.UTF_8);
+
+        // When - Import the file.
+        Map<String, Object> report = this.importService.importFile(this.file, new TsvParser(), new MovieBuilder(),
+                                                                   Movie.class, Mockito.mock(MovieRepository.class),
+                                                                   m -> false, Movie::getTitle, ms -> {},
+                                                                   HomePageService.MOVIES);
+
+        // Then - The movie is not created with another date, and the error gives its line.
+        assertThat(this.chunks).containsExactly(Arrays.asList("First", "Third"));
+        assertThat(report).containsEntry("read", 3).containsEntry("created", 2).containsEntry("failed", 1);
+        assertThat((List<?>) report.get("errors")).extracting("line").containsExactly(2L);
+    }
+
+    private String movie(String title, String runtime) {
+        return this.movie(title, runtime, "16/05/1999");
+    }
+
+    private String movie(String title, String runtime, String releaseDate) {
+        return String.join("\t", title, title, "Synopsis", "Action", "DVD", "fr", "en", runtime, releaseDate,
+                           "Liam Neeson", "George Lucas", "Rick McCallum");
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.services;
+
+import fr.nicolasgille.medialibrary.models.components.MediaSupport;
+import fr.nicolasgille.medialibrary.models.video.Movie;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test for MediaFacetService class.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+public class MediaFacetServiceTest {
+
+    @Test
+    public void indexIsReadyOnlyOnceBuilt() {
+        // Given - A service whose index is being built.
+        MediaFacetService mediaFacetService = new MediaFacetService();
+        mediaFacetService.clear();
+        Movie movie = new Movie();
+        movie.setId(1);
+        movie.setSupports(Collections.singletonList(MediaSupport.DVD));
+        mediaFacetService.index(movie);
+        boolean whileBuilding = mediaFacetService.isReady();
+
+        // When - Mark the index as ready, then clear it for a rebuild.
+        mediaFacetService.markReady();
+        boolean built = mediaFacetService.isReady();
+        Map<String, List<String>> filters = Collections.singletonMap(MediaFacetService.SUPPORT,
+                                                                     Collections.singletonList("DVD"));
+        Object total = mediaFacetService.facets(filters).get("total");
+        mediaFacetService.clear();
+
+        // Then - The index is ready only between the end of the build and the next rebuild.
+        assertThat(whileBuilding).isFalse();
+        assertThat(built).isTrue();
+        assertThat(total).isEqualTo(1);
+        assertThat(mediaFacetService.isReady()).isFalse();
+    }
+}
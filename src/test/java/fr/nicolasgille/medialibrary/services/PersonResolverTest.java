@@ -0,0 +1,260 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.services;
+
+import fr.nicolasgille.medialibrary.models.common.company.Publisher;
+import fr.nicolasgille.medialibrary.models.common.person.Actor;
+import fr.nicolasgille.medialibrary.models.video.Movie;
+import fr.nicolasgille.medialibrary.repositories.common.company.PublisherRepository;
+import fr.nicolasgille.medialibrary.repositories.common.person.ActorRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.stat.Statistics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test for PersonResolver class.
+ *
+ * @author Nicolas GILLE
+ * @version 1.4
+ * @since Media-Library 1.1
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@Import({PersonResolver.class, EntityTagService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:hsqldb:mem:resolver;sql.syntax_mys=true;sql.ignore_case=true",
+        "spring.datasource.username=sa",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.HSQLDialect",
+        "media-library.cache.statistics=true",
+        "spring.jpa.show-sql=false"
+})
+public class PersonResolverTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PersonResolver personResolver;
+
+    @Autowired
+    private EntityTagService entityTagService;
+
+    @Autowired
+    private ActorRepository actorRepository;
+
+    @Autowired
+    private PublisherRepository publisherRepository;
+
+    private Statistics statistics;
+
+    private Actor existing;
+
+    @Before
+    public void setUp() {
+        this.entityManagerFactory.getCache().evictAll();
+        this.existing = this.actorRepository.save(new Actor("Tom", "Hanks"));
+
+        this.statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.clear();
+    }
+
+    @After
+    public void tearDown() {
+        this.actorRepository.deleteAll();
+        this.publisherRepository.deleteAll();
+    }
+
+    @Test
+    public void personsResolvedDuringScopeAreNotSearchedAgain() {
+        try (PersonResolver.Scope scope = this.personResolver.openScope()) {
+            // Given - Actors resolved once during a scope, one of them created.
+            List<Actor> first = new ArrayList<>(this.personResolver.persons(
+                    Actor.class, Arrays.asList(new Actor("Tom", "Hanks"), new Actor("Meg", "Ryan"))));
+            this.statistics.clear();
+
+            // When - Resolve the same actors on another transaction of the scope.
+            Set<Actor> resolved = this.personResolver.persons(Actor.class, Arrays.asList(new Actor("Meg", "Ryan"),
+                                                                                          new Actor("Tom", "Hanks")));
+
+            // Then - The actors are references on the same identifiers, without query.
+            assertThat(resolved).extracting(a -> ((HibernateProxy) a).getHibernateLazyInitializer().getIdentifier())
+                                .containsExactly(first.get(1).getId(), first.get(0).getId());
+            assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    public void personsAreFoundAndCreatedWithThreeQueries() {
+        // Given - Forty actors, one of them already stored on Database.
+        List<Actor> actors = new ArrayList<>();
+        actors.add(new Actor("Tom", "Hanks"));
+        for (int i = 0; i < 39; i++) {
+            actors.add(new Actor("Actor", "Number " + i));
+        }
+
+        // When - Resolve the actors.
+        Set<Actor> resolved = this.personResolver.persons(Actor.class, actors);
+
+        // Then - The actors are found, inserted and read again.
+        assertThat(resolved).hasSize(40);
+        assertThat(resolved.iterator().next().getId()).isEqualTo(this.existing.getId());
+        assertThat(resolved).allMatch(a -> a.getId() > 0);
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(this.actorRepository.count()).isEqualTo(40);
+    }
+
+    @Test
+    public void personWithoutFirstNameIsCreatedOnce() {
+        // Given - The same actor without first name twice.
+        List<Actor> actors = Arrays.asList(new Actor(null, "Madonna"), new Actor(null, "Madonna"));
+
+        // When - Resolve the actors twice.
+        Set<Actor> created = this.personResolver.persons(Actor.class, actors);
+        Set<Actor> found = this.personResolver.persons(Actor.class, actors);
+
+        // Then - The actor is created once and found the second time.
+        assertThat(created).hasSize(1);
+        assertThat(found).hasSize(1);
+        assertThat(found.iterator().next().getId()).isEqualTo(created.iterator().next().getId());
+        assertThat(this.actorRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    public void companiesAreFoundByName() {
+        // Given - A publisher stored on Database.
+        Publisher publisher = this.publisherRepository.save(new Publisher("Glenat"));
+
+        // When - Resolve the publisher and a new one.
+        Set<Publisher> resolved = this.personResolver.companies(Publisher.class,
+                Arrays.asList(new Publisher("Glenat"), new Publisher("Kana")));
+
+        // Then - The publisher stored is used and the other one created.
+        assertThat(resolved).extracting(Publisher::getName).containsExactly("Glenat", "Kana");
+        assertThat(resolved.iterator().next().getId()).isEqualTo(publisher.getId());
+        assertThat(this.publisherRepository.findByName("Kana")).isNotNull();
+    }
+
+    @Test
+    public void creationInvalidatesCachedLookups() {
+        // Given - An actor searched before his creation.
+        assertThat(this.actorRepository.findByFirstNameAndLastName("Meg", "Ryan")).isNull();
+
+        // When - Create the actor with the resolver.
+        this.personResolver.persons(Actor.class, Arrays.asList(new Actor("Meg", "Ryan")));
+
+        // Then - The result cached before the creation is not used.
+        assertThat(this.actorRepository.findByFirstNameAndLastName("Meg", "Ryan")).isNotNull();
+    }
+
+    @Test
+    public void creationChangesTagOfList() {
+        // Given - The tag of the list of actors.
+        String tag = this.listTag();
+
+        // When - Create an actor with the resolver, whose insert is not seen by Hibernate.
+        this.personResolver.persons(Actor.class, Arrays.asList(new Actor("Meg", "Ryan")));
+
+        // Then - The list of actors has a new tag.
+        assertThat(this.listTag()).isNotEqualTo(tag);
+    }
+
+    @Test
+    public void personWithAnotherCaseIsFound() {
+        // Given - An actor stored on Database written with another case, and a new actor written twice.
+        List<Actor> actors = Arrays.asList(new Actor("tom", "HANKS "), new Actor("Meg", "Ryan"),
+                                           new Actor("meg", "ryan"));
+
+        // When - Resolve the actors.
+        Set<Actor> resolved = this.personResolver.persons(Actor.class, actors);
+
+        // Then - The actor stored is used, and the new actor is created once.
+        assertThat(resolved).hasSize(2);
+        assertThat(resolved.iterator().next().getId()).isEqualTo(this.existing.getId());
+        assertThat(this.actorRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    public void creationKeepsCachedPersons() {
+        // Given - An actor read once, so kept on the second-level cache.
+        this.actorRepository.findOne(this.existing.getId());
+        this.statistics.clear();
+
+        // When - Create another actor with the resolver, then read the first actor again.
+        this.personResolver.persons(Actor.class, Arrays.asList(new Actor("Meg", "Ryan")));
+        Actor actor = this.actorRepository.findOne(this.existing.getId());
+
+        // Then - The first actor is still read from the cache.
+        assertThat(actor.getLastName()).isEqualTo("Hanks");
+        assertThat(this.statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void personsOfSeveralMediaAreResolvedTogether() {
+        // Given - Two movies who share an actor, one of their actors already stored on Database.
+        Movie first = new Movie();
+        first.setMainActors(new HashSet<>(Arrays.asList(new Actor("Tom", "Hanks"), new Actor("Meg", "Ryan"))));
+        Movie second = new Movie();
+        second.setMainActors(new HashSet<>(Arrays.asList(new Actor("Meg", "Ryan"), new Actor("Bill", "Pullman"))));
+
+        // When - Resolve the actors of both movies.
+        this.personResolver.persons(Actor.class, Arrays.asList(first, second), Movie::getMainActors,
+                                    Movie::setMainActors);
+
+        // Then - The actors are resolved with three queries and the shared actor is the same entity.
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(this.actorRepository.count()).isEqualTo(3);
+        Actor meg = first.getMainActors().stream().filter(a -> "Meg".equals(a.getFirstName())).findFirst().get();
+        assertThat(second.getMainActors()).contains(meg).allMatch(a -> a.getId() > 0);
+        assertThat(first.getMainActors()).extracting(Actor::getId).contains(this.existing.getId());
+    }
+
+    private String listTag() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest("GET", "/actors/"), response);
+        this.entityTagService.checkNotModified(request, Actor.class);
+        return response.getHeader(HttpHeaders.ETAG);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package fr.nicolasgille.medialibrary.utils;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test for DateFormatter util class.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+public class DateFormatterTest {
+
+    @Test
+    public void formatFrenchAndIsoDates() {
+        // Given - A date with a day and a month of a single digit.
+        LocalDate date = LocalDate.of(1999, 5, 9);
+
+        // When / Then - The day and the month are written on two digits.
+        assertThat(DateFormatter.frenchDate(date)).isEqualTo("09/05/1999");
+        assertThat(DateFormatter.isoDate(date)).isEqualTo("1999-05-09").isEqualTo(date.toString());
+        assertThat(DateFormatter.isoDate(LocalDate.of(42, 12, 31))).isEqualTo("0042-12-31");
+    }
+
+    @Test
+    public void formatMissingOrLargeDates() {
+        // Given / When / Then - A missing date and a year of more than four digits are formatted by LocalDate.
+        assertThat(DateFormatter.frenchDate(null)).isEqualTo("null");
+        assertThat(DateFormatter.isoDate(LocalDate.of(12345, 1, 2))).isEqualTo("+12345-01-02");
+    }
+}
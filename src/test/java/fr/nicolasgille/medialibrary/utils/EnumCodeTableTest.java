@@ -0,0 +1,94 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.utils;
+
+import fr.nicolasgille.medialibrary.models.components.MediaSupport;
+import fr.nicolasgille.medialibrary.models.components.VideoGamePlatform;
+import fr.nicolasgille.medialibrary.models.components.genre.BookGenre;
+import fr.nicolasgille.medialibrary.models.components.genre.MusicGenre;
+import fr.nicolasgille.medialibrary.models.components.genre.VideoGameGenre;
+import fr.nicolasgille.medialibrary.models.components.genre.VideoGenre;
+import fr.nicolasgille.medialibrary.models.converters.BookGenreMaskConverter;
+import fr.nicolasgille.medialibrary.models.converters.MediaSupportMaskConverter;
+import fr.nicolasgille.medialibrary.models.converters.MusicGenreMaskConverter;
+import fr.nicolasgille.medialibrary.models.converters.VideoGameGenreMaskConverter;
+import fr.nicolasgille.medialibrary.models.converters.VideoGamePlatformMaskConverter;
+import fr.nicolasgille.medialibrary.models.converters.VideoGenreMaskConverter;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit test for EnumCodeTable class.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+public class EnumCodeTableTest {
+
+    @Test
+    public void encodeAndDecodeWithCodesIndependentOfOrdinal() {
+        // Given - A table where the codes are not in the order of the enumeration.
+        EnumCodeTable<MediaSupport> codes = new EnumCodeTable<>(MediaSupport.class,
+                "DIGITAL", "CD", "DVD", "BLU_RAY", "PAPER", "AUDIO_TAPE", "VYNIL", "VIDEO_TAPE", "ROM_CARTRIDGE");
+
+        // When - Encode some supports.
+        long mask = codes.encode(Arrays.asList(MediaSupport.DVD, MediaSupport.DIGITAL, MediaSupport.DVD));
+
+        // Then - The bits are the codes of the table and the supports are decoded in order of code.
+        assertThat(mask).isEqualTo(0b101L);
+        assertThat(codes.decode(mask)).containsExactly(MediaSupport.DIGITAL, MediaSupport.DVD);
+        assertThat(codes.decode(0L)).isEmpty();
+    }
+
+    @Test
+    public void removedValueKeepsItsCode() {
+        // Given - A table with the name of a value removed from the enumeration.
+        EnumCodeTable<MediaSupport> codes = new EnumCodeTable<>(MediaSupport.class,
+                "LASER_DISC", "VIDEO_TAPE", "DVD", "BLU_RAY", "PAPER", "AUDIO_TAPE", "VYNIL", "CD", "ROM_CARTRIDGE",
+                "DIGITAL");
+
+        // When / Then - The code of the removed value is never reused and his bit is ignored.
+        assertThat(codes.code(MediaSupport.VIDEO_TAPE)).isEqualTo(1);
+        assertThat(codes.decode(0b111L)).containsExactly(MediaSupport.VIDEO_TAPE, MediaSupport.DVD);
+    }
+
+    @Test
+    public void valueWithoutCodeIsRejected() {
+        // When / Then - A value of the enumeration absent from the table can't be stored.
+        assertThatThrownBy(() -> new EnumCodeTable<>(MediaSupport.class, "DVD", "BLU_RAY"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("has no code");
+    }
+
+    @Test
+    public void converterTablesContainsAllValues() {
+        // When / Then - The table of each converter is checked when his class is loaded.
+        assertThat(new BookGenreMaskConverter().getCodes().code(BookGenre.ACTION)).isEqualTo(0);
+        assertThat(new MusicGenreMaskConverter().getCodes().code(MusicGenre.ALTERNATIVE_METAL)).isEqualTo(0);
+        assertThat(new VideoGameGenreMaskConverter().getCodes().code(VideoGameGenre.ACTION)).isEqualTo(0);
+        assertThat(new VideoGenreMaskConverter().getCodes().code(VideoGenre.ACTION)).isEqualTo(0);
+        assertThat(new VideoGamePlatformMaskConverter().getCodes().code(VideoGamePlatform.NES)).isEqualTo(0);
+        assertThat(new MediaSupportMaskConverter().convertToEntityAttribute(null)).isEmpty();
+    }
+}
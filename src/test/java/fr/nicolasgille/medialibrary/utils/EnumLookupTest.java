@@ -0,0 +1,77 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package fr.nicolasgille.medialibrary.utils;
+
+import com.neovisionaries.i18n.LanguageCode;
+import fr.nicolasgille.medialibrary.models.components.MediaSupport;
+import fr.nicolasgille.medialibrary.models.components.genre.VideoGenre;
+import org.junit.Test;
+
+import java.nio.CharBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test for EnumLookup class.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+public class EnumLookupTest {
+
+    @Test
+    public void everyValueIsFoundByName() {
+        // Given - The lookups of an enumeration by display name and of a large enumeration by constant name.
+        EnumLookup<VideoGenre> genres = new EnumLookup<>(VideoGenre.class, VideoGenre::getName);
+        EnumLookup<LanguageCode> languages = new EnumLookup<>(LanguageCode.class, LanguageCode::name);
+
+        // When / Then - Each value is found from his name.
+        for (VideoGenre genre : VideoGenre.values()) {
+            assertThat(genres.get(genre.getName())).isEqualTo(genre);
+        }
+        for (LanguageCode language : LanguageCode.values()) {
+            assertThat(languages.get(language.name())).isEqualTo(language);
+        }
+    }
+
+    @Test
+    public void rangeIsTrimmedAndComparedInPlace() {
+        // Given - A list of names who is not a String.
+        EnumLookup<MediaSupport> supports = new EnumLookup<>(MediaSupport.class, MediaSupport::getName);
+        CharSequence text = CharBuffer.wrap(MediaSupport.DVD.getName() + ",  " + MediaSupport.CD.getName() + " ");
+        int comma = text.toString().indexOf(',');
+
+        // When / Then - The names are found between the commas, without the whitespace around them.
+        assertThat(supports.get(text, 0, comma)).isEqualTo(MediaSupport.DVD);
+        assertThat(supports.get(text, comma + 1, text.length())).isEqualTo(MediaSupport.CD);
+    }
+
+    @Test
+    public void unknownNameReturnNull() {
+        // Given - A lookup of the genres.
+        EnumLookup<VideoGenre> genres = new EnumLookup<>(VideoGenre.class, VideoGenre::getName);
+
+        // When / Then - A name unknown, a constant name or an empty name have no value.
+        assertThat(genres.get("Unknown")).isNull();
+        assertThat(genres.get("SCIENCE_FICTION")).isNull();
+        assertThat(genres.get("  ")).isNull();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package fr.nicolasgille.medialibrary.utils;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test for LogSamplingFilter class.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+public class LogSamplingFilterTest {
+
+    @Test
+    public void sampleInfoByLogger() {
+        // Given - A filter who write one message of three.
+        LogSamplingFilter filter = new LogSamplingFilter();
+        filter.setRate(3);
+
+        // When - Six messages of a logger and one message of another logger are filtered.
+        List<FilterReply> replies = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            replies.add(filter.decide(this.event("movies", Level.INFO)));
+        }
+        FilterReply other = filter.decide(this.event("books", Level.INFO));
+
+        // Then - The first and the fourth messages are written, and the other logger has his own count.
+        assertThat(replies).containsExactly(FilterReply.NEUTRAL, FilterReply.DENY, FilterReply.DENY,
+                                            FilterReply.NEUTRAL, FilterReply.DENY, FilterReply.DENY);
+        assertThat(other).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    public void neverSampleWarningsAndErrors() {
+        // Given - A filter who write one message of a hundred.
+        LogSamplingFilter filter = new LogSamplingFilter();
+        filter.setRate(100);
+
+        // When / Then - All warnings and errors are written.
+        for (int i = 0; i < 5; i++) {
+            assertThat(filter.decide(this.event("movies", Level.WARN))).isEqualTo(FilterReply.NEUTRAL);
+            assertThat(filter.decide(this.event("movies", Level.ERROR))).isEqualTo(FilterReply.NEUTRAL);
+        }
+    }
+
+    private LoggingEvent event(String logger, Level level) {
+        LoggingEvent event = new LoggingEvent();
+        event.setLoggerName(logger);
+        event.setLevel(level);
+        return event;
+    }
+}
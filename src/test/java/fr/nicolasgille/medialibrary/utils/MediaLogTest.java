@@ -0,0 +1,73 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package fr.nicolasgille.medialibrary.utils;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import fr.nicolasgille.medialibrary.models.common.person.Actor;
+import fr.nicolasgille.medialibrary.models.video.Movie;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test for MediaLog util class.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+public class MediaLogTest {
+
+    @Test
+    public void summaryContainsIdentifierAndSizes() {
+        // Given - A movie with two actors and without directors.
+        Movie movie = new Movie();
+        movie.setId(42);
+        movie.setTitle("Alien");
+        movie.setMainActors(new HashSet<>(Arrays.asList(new Actor("Sigourney", "Weaver"), new Actor("Ian", "Holm"))));
+
+        // When - Summarize it.
+        String summary = MediaLog.summary(movie);
+
+        // Then - The persons are counted instead of written.
+        assertThat(summary).startsWith("Movie{id=42, title=Alien").contains("mainActors=2").contains("directors=0")
+                           .doesNotContain("Weaver");
+    }
+
+    @Test
+    public void mediaIsWrittenWholeOnlyOnDebug() {
+        // Given - A logger and a movie.
+        Logger logger = (Logger) LoggerFactory.getLogger(MediaLogTest.class);
+        Movie movie = new Movie();
+        movie.setTitle("Alien");
+        movie.setMainActors(new HashSet<>(Arrays.asList(new Actor("Sigourney", "Weaver"))));
+        Object log = MediaLog.of(logger, movie);
+
+        // When / Then - The level of the logger is read when the message is written.
+        logger.setLevel(Level.INFO);
+        assertThat(log.toString()).isEqualTo(MediaLog.summary(movie));
+        logger.setLevel(Level.DEBUG);
+        assertThat(log.toString()).isEqualTo(movie.toString()).contains("Weaver");
+        logger.setLevel(null);
+    }
+}
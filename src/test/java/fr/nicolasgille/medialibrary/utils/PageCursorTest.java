@@ -0,0 +1,83 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.utils;
+
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test for PageCursor util class.
+ *
+ * @author Nicolas GILLE
+ * @version 1.0
+ * @since Media-Library 1.1
+ */
+public class PageCursorTest {
+
+    @Test
+    public void encodeAndDecodeCursor() {
+        // Given - Identifier of the last element of a page.
+        long id = 4242;
+
+        // When - Encode it and decode it.
+        String cursor = PageCursor.encode(id);
+
+        // Then - The cursor is opaque and return the same identifier.
+        assertThat(cursor).doesNotContain("4242");
+        assertThat(PageCursor.decode(cursor)).isEqualTo(id);
+    }
+
+    @Test
+    public void decodeMissingOrInvalidCursor() {
+        // Given / When / Then - Missing cursor is the first page and bad cursors are invalid.
+        assertThat(PageCursor.decode(null)).isEqualTo(0);
+        assertThat(PageCursor.decode("")).isEqualTo(0);
+        assertThat(PageCursor.decode("!!")).isEqualTo(PageCursor.INVALID_CURSOR);
+        assertThat(PageCursor.decode(PageCursor.encode(-5))).isEqualTo(PageCursor.INVALID_CURSOR);
+    }
+
+    @Test
+    public void limitIsBounded() {
+        // Given / When / Then - The limit stay between 1 and MAX_LIMIT.
+        assertThat(PageCursor.limit(null)).isEqualTo(PageCursor.DEFAULT_LIMIT);
+        assertThat(PageCursor.limit(0)).isEqualTo(1);
+        assertThat(PageCursor.limit(10)).isEqualTo(10);
+        assertThat(PageCursor.limit(100000)).isEqualTo(PageCursor.MAX_LIMIT);
+    }
+
+    @Test
+    public void nextCursorOnlyOnFullPage() {
+        // Given - A full page and a partial page.
+        List<Long> fullPage = Arrays.asList(3L, 7L);
+        List<Long> lastPage = Arrays.asList(9L);
+
+        // When - Build headers of each page.
+        HttpHeaders full = PageCursor.nextPageHeaders(fullPage, 2, Long::longValue);
+        HttpHeaders last = PageCursor.nextPageHeaders(lastPage, 2, Long::longValue);
+
+        // Then - Only the full page give a cursor on the last identifier.
+        assertThat(PageCursor.decode(full.getFirst(PageCursor.NEXT_CURSOR_HEADER))).isEqualTo(7L);
+        assertThat(last.containsKey(PageCursor.NEXT_CURSOR_HEADER)).isFalse();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * MediaLibrary.
+ * Copyright (C) 2017 Nicolas GILLE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package fr.nicolasgille.medialibrary.utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.neovisionaries.i18n.LanguageCode;
+import fr.nicolasgille.medialibrary.models.components.MediaSupport;
+import fr.nicolasgille.medialibrary.models.components.genre.VideoGenre;
+import fr.nicolasgille.medialibrary.models.video.Movie;
+import org.junit.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test for SmileHttpMessageConverter class.
+ *
+ * @author Nicolas GILLE
+ * @version 1.1
+ * @since Media-Library 1.1
+ */
+public class SmileHttpMessageConverterTest {
+
+    @Test
+    public void writeMoviesSmallerThanJson() throws Exception {
+        // Given - Movies who share their genres, supports and languages.
+        List<Movie> movies = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            movies.add(new Movie(i, "Movie " + i, "Movie " + i, "Synopsis", new HashSet<>(), new HashSet<>(),
+                                 new HashSet<>(), Arrays.asList(VideoGenre.ACTION, VideoGenre.SCIENCE_FICTION),
+                                 Arrays.asList(MediaSupport.DVD), Arrays.asList(LanguageCode.fr, LanguageCode.en),
+                                 Arrays.asList(LanguageCode.fr), LocalDate.of(1999, 5, 19), 136));
+        }
+
+        // When - Write them as Smile and as JSON.
+        MockHttpOutputMessage smile = new MockHttpOutputMessage();
+        new SmileHttpMessageConverter(Jackson2ObjectMapperBuilder.json())
+                .write(movies, SmileHttpMessageConverter.APPLICATION_SMILE, smile);
+        MockHttpOutputMessage json = new MockHttpOutputMessage();
+        new MappingJackson2HttpMessageConverter().write(movies, null, json);
+
+        // Then - The names and values are written once and the movies read back as on JSON.
+        assertThat(smile.getHeaders().getContentType()).isEqualTo(SmileHttpMessageConverter.APPLICATION_SMILE);
+        assertThat(smile.getBodyAsBytes().length).isLessThan(json.getBodyAsBytes().length / 2);
+        List<Movie> read = SmileHttpMessageConverter.objectMapper(Jackson2ObjectMapperBuilder.json())
+                .readValue(smile.getBodyAsBytes(), new TypeReference<List<Movie>>() {});
+        assertThat(read).hasSize(50);
+        assertThat(read.get(49).getTitle()).isEqualTo("Movie 49");
+        assertThat(read.get(49).getGenres()).containsExactly(VideoGenre.ACTION, VideoGenre.SCIENCE_FICTION);
+        assertThat(read.get(49).getReleaseDate()).isEqualTo(LocalDate.of(1999, 5, 19));
+    }
+
+    @Test
+    public void objectMapperConfiguredByBuilder() throws Exception {
+        // Given - A builder who name the properties in snake case, like spring.jackson.property-naming-strategy.
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .propertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE);
+
+        // When - Create the ObjectMapper of Smile with the builder.
+        ObjectMapper objectMapper = SmileHttpMessageConverter.objectMapper(builder);
+
+        // Then - The ObjectMapper write Smile with the configuration of the builder.
+        assertThat(objectMapper.getFactory()).isInstanceOf(SmileFactory.class);
+        assertThat(objectMapper.getSerializationConfig().getPropertyNamingStrategy())
+                .isSameAs(PropertyNamingStrategy.SNAKE_CASE);
+        byte[] smile = objectMapper.writeValueAsBytes(Collections.singletonMap("original_title", "Heat"));
+        Movie movie = objectMapper.readValue(smile, Movie.class);
+        assertThat(movie.getOriginalTitle()).isEqualTo("Heat");
+    }
+}